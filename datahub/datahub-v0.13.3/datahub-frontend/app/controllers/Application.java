@@ -5,11 +5,16 @@ import static auth.AuthUtils.SESSION_COOKIE_GMS_TOKEN_NAME;
 
 import akka.actor.ActorSystem;
 import akka.stream.ActorMaterializer;
+import akka.stream.Attributes;
 import akka.stream.Materializer;
+import akka.stream.javadsl.Source;
 import akka.util.ByteString;
 import auth.Authenticator;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.datahub.authentication.AuthenticationConstants;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.util.Pair;
 import com.typesafe.config.Config;
 import java.io.InputStream;
@@ -20,6 +25,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -28,10 +35,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.Environment;
 import play.http.HttpEntity;
+import play.libs.F;
 import play.libs.Json;
-import play.libs.ws.InMemoryBodyWritable;
+import play.libs.streams.Accumulator;
+import play.libs.ws.SourceBodyWritable;
 import play.libs.ws.StandaloneWSClient;
+import play.libs.ws.StandaloneWSRequest;
 import play.libs.ws.ahc.StandaloneAhcWSClient;
+import play.mvc.BodyParser;
 import play.mvc.Controller;
 import play.mvc.Http;
 import play.mvc.ResponseHeader;
@@ -48,12 +59,25 @@ public class Application extends Controller {
   private final Config _config;
   private final StandaloneWSClient _ws;
   private final Environment _environment;
+  private final long _proxyMaxInFlightBytes;
+
+  private final Counter _proxiedRequestBytes =
+      MetricUtils.counter(Application.class, "proxiedRequestBytes");
+  private final Counter _proxiedResponseBytes =
+      MetricUtils.counter(Application.class, "proxiedResponseBytes");
+  private final Timer _proxyTimeToFirstByte =
+      MetricUtils.timer(Application.class, "proxyTimeToFirstByte");
 
   @Inject
   public Application(Environment environment, @Nonnull Config config) {
     _config = config;
     _ws = createWsClient();
     _environment = environment;
+    _proxyMaxInFlightBytes =
+        ConfigUtil.getBytes(
+            _config,
+            ConfigUtil.PROXY_MAX_IN_FLIGHT_BYTES_CONFIG_PATH,
+            ConfigUtil.DEFAULT_PROXY_MAX_IN_FLIGHT_BYTES);
   }
 
   /**
@@ -92,9 +116,13 @@ public class Application extends Controller {
   /**
    * Proxies requests to the Metadata Service
    *
+   * <p>Request and response bodies are streamed rather than buffered, at most {@code
+   * proxy.maxInFlightBytes} of each body are read ahead of the receiving side.
+   *
    * <p>TODO: Investigate using mutual SSL authentication to call Metadata Service.
    */
   @Security.Authenticated(Authenticator.class)
+  @BodyParser.Of(StreamingBodyParser.class)
   public CompletableFuture<Result> proxy(String path, Http.Request request)
       throws ExecutionException, InterruptedException {
     final String authorizationHeaderValue = getAuthorizationHeaderValueToProxy(request);
@@ -132,34 +160,60 @@ public class Application extends Controller {
       headers.put(Http.HeaderNames.X_FORWARDED_PROTO, List.of(schema));
     }
 
-    return _ws.url(
-            String.format(
-                "%s://%s:%s%s", protocol, metadataServiceHost, metadataServicePort, resolvedUri))
-        .setMethod(request.method())
-        .setHeaders(
-            headers.entrySet().stream()
-                // Remove X-DataHub-Actor to prevent malicious delegation.
-                .filter(
-                    entry ->
-                        !AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER.equalsIgnoreCase(
-                            entry.getKey()))
-                .filter(entry -> !Http.HeaderNames.CONTENT_LENGTH.equalsIgnoreCase(entry.getKey()))
-                .filter(entry -> !Http.HeaderNames.CONTENT_TYPE.equalsIgnoreCase(entry.getKey()))
-                .filter(entry -> !Http.HeaderNames.AUTHORIZATION.equalsIgnoreCase(entry.getKey()))
-                // Remove Host s.th. service meshes do not route to wrong host
-                .filter(entry -> !Http.HeaderNames.HOST.equalsIgnoreCase(entry.getKey()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
-        .addHeader(Http.HeaderNames.AUTHORIZATION, authorizationHeaderValue)
-        .addHeader(
-            AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER, getDataHubActorHeader(request))
-        .setBody(
-            new InMemoryBodyWritable(
-                ByteString.fromByteBuffer(request.body().asBytes().asByteBuffer()),
-                "application/json"))
-        .setRequestTimeout(Duration.ofSeconds(120))
-        .execute()
+    final StandaloneWSRequest proxyRequest =
+        _ws.url(
+                String.format(
+                    "%s://%s:%s%s",
+                    protocol, metadataServiceHost, metadataServicePort, resolvedUri))
+            .setMethod(request.method())
+            .setHeaders(
+                headers.entrySet().stream()
+                    // Remove X-DataHub-Actor to prevent malicious delegation.
+                    .filter(
+                        entry ->
+                            !AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER
+                                .equalsIgnoreCase(entry.getKey()))
+                    .filter(
+                        entry -> !Http.HeaderNames.CONTENT_LENGTH.equalsIgnoreCase(entry.getKey()))
+                    .filter(
+                        entry -> !Http.HeaderNames.CONTENT_TYPE.equalsIgnoreCase(entry.getKey()))
+                    .filter(
+                        entry -> !Http.HeaderNames.AUTHORIZATION.equalsIgnoreCase(entry.getKey()))
+                    // Remove Host s.th. service meshes do not route to wrong host
+                    .filter(entry -> !Http.HeaderNames.HOST.equalsIgnoreCase(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+            .addHeader(Http.HeaderNames.AUTHORIZATION, authorizationHeaderValue)
+            .addHeader(
+                AuthenticationConstants.LEGACY_X_DATAHUB_ACTOR_HEADER,
+                getDataHubActorHeader(request))
+            .setRequestTimeout(Duration.ofSeconds(120));
+
+    if (request.hasBody()) {
+      @SuppressWarnings("unchecked")
+      final Source<ByteString, ?> streamedBody = request.body().as(Source.class);
+      final Source<ByteString, ?> requestBody =
+          limitInFlight(streamedBody)
+              .map(
+                  bytes -> {
+                    _proxiedRequestBytes.inc(bytes.size());
+                    return bytes;
+                  });
+      proxyRequest.setBody(
+          new SourceBodyWritable(requestBody) {
+            @Override
+            public String contentType() {
+              return "application/json";
+            }
+          });
+    }
+
+    final long start = System.nanoTime();
+    return proxyRequest
+        .stream()
         .thenApply(
             apiResponse -> {
+              // The response completes once its headers arrived, the body is streamed after
+              _proxyTimeToFirstByte.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
               final ResponseHeader header =
                   new ResponseHeader(
                       apiResponse.getStatus(),
@@ -172,15 +226,60 @@ public class Application extends Controller {
                                   !Http.HeaderNames.CONTENT_TYPE.equalsIgnoreCase(entry.getKey()))
                           .map(entry -> Pair.of(entry.getKey(), String.join(";", entry.getValue())))
                           .collect(Collectors.toMap(Pair::getFirst, Pair::getSecond)));
+              final Source<ByteString, ?> responseBody =
+                  limitInFlight(apiResponse.getBodyAsSource())
+                      .map(
+                          bytes -> {
+                            _proxiedResponseBytes.inc(bytes.size());
+                            return bytes;
+                          });
               final HttpEntity body =
-                  new HttpEntity.Strict(
-                      apiResponse.getBodyAsBytes(),
+                  new HttpEntity.Streamed(
+                      responseBody,
+                      apiResponse
+                          .getSingleHeader(Http.HeaderNames.CONTENT_LENGTH)
+                          .map(Long::parseLong),
                       Optional.ofNullable(apiResponse.getContentType()));
               return new Result(header, body);
             })
         .toCompletableFuture();
   }
 
+  /**
+   * Bounds the bytes of a proxied body buffered between its two connections. Chunks are combined
+   * while the receiving side is slower, up to the limit, after which the sending side is
+   * backpressured.
+   */
+  private Source<ByteString, ?> limitInFlight(@Nonnull Source<ByteString, ?> body) {
+    return body.batchWeighted(
+            _proxyMaxInFlightBytes,
+            bytes -> (long) bytes.size(),
+            bytes -> bytes,
+            ByteString::concat)
+        // Keep the stages' own element buffers from holding more than the limit
+        .addAttributes(Attributes.inputBuffer(1, 1));
+  }
+
+  /**
+   * Passes the request body to the action as a stream, so that proxied requests are not buffered
+   * in memory.
+   */
+  public static class StreamingBodyParser implements BodyParser<Source<ByteString, ?>> {
+    private final Executor _executor;
+
+    @Inject
+    public StreamingBodyParser(Executor executor) {
+      _executor = executor;
+    }
+
+    @Override
+    public Accumulator<ByteString, F.Either<Result, Source<ByteString, ?>>> apply(
+        Http.RequestHeader request) {
+      return Accumulator.<ByteString>source()
+          .map(body -> F.Either.<Result, Source<ByteString, ?>>Right(body), _executor);
+    }
+  }
+
   /**
    * Creates a wrapping ObjectNode containing config information
    *
@@ -13,6 +13,7 @@ public class ConfigUtil {
   public static final String METADATA_SERVICE_USE_SSL_CONFIG_PATH = "metadataService.useSsl";
   public static final String METADATA_SERVICE_SSL_PROTOCOL_CONFIG_PATH =
       "metadataService.sslProtocol";
+  public static final String PROXY_MAX_IN_FLIGHT_BYTES_CONFIG_PATH = "proxy.maxInFlightBytes";
 
   // Legacy env-var based config values, for backwards compatibility:
   public static final String GMS_HOST_ENV_VAR = "DATAHUB_GMS_HOST";
@@ -33,6 +34,7 @@ public class ConfigUtil {
       Boolean.parseBoolean(Configuration.getEnvironmentVariable(GMS_USE_SSL_ENV_VAR, "False"));
   public static final String DEFAULT_METADATA_SERVICE_SSL_PROTOCOL =
       Configuration.getEnvironmentVariable(GMS_SSL_PROTOCOL_VAR);
+  public static final long DEFAULT_PROXY_MAX_IN_FLIGHT_BYTES = 256 * 1024;
 
   public static boolean getBoolean(Config config, String key) {
     return config.hasPath(key) && config.getBoolean(key);
@@ -46,6 +48,10 @@ public class ConfigUtil {
     return config.hasPath(key) ? config.getInt(key) : defaultValue;
   }
 
+  public static long getBytes(Config config, String key, long defaultValue) {
+    return config.hasPath(key) ? config.getBytes(key) : defaultValue;
+  }
+
   public static String getString(Config config, String key, String defaultValue) {
     return config.hasPath(key) ? config.getString(key) : defaultValue;
   }
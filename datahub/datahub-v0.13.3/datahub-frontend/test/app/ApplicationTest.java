@@ -1,12 +1,22 @@
 package app;
 
+import static auth.AuthUtils.ACCESS_TOKEN;
+import static auth.AuthUtils.ACTOR;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static play.mvc.Http.Status.NOT_FOUND;
 import static play.mvc.Http.Status.OK;
+import static play.mvc.Http.Status.UNAUTHORIZED;
 import static play.test.Helpers.fakeRequest;
 import static play.test.Helpers.route;
 
+import akka.stream.Attributes;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.SinkQueueWithCancel;
+import akka.util.ByteString;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
@@ -14,13 +24,24 @@ import controllers.routes;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import no.nav.security.mock.oauth2.MockOAuth2Server;
 import no.nav.security.mock.oauth2.token.DefaultOAuth2TokenCallback;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.awaitility.Awaitility;
 import org.awaitility.Durations;
 import org.junit.jupiter.api.AfterAll;
@@ -33,6 +54,7 @@ import org.openqa.selenium.htmlunit.HtmlUnitDriver;
 import play.Application;
 import play.Environment;
 import play.Mode;
+import play.http.HttpEntity;
 import play.inject.guice.GuiceApplicationBuilder;
 import play.mvc.Http;
 import play.mvc.Result;
@@ -87,6 +109,7 @@ public class ApplicationTest extends WithBrowser {
 
   private static final String TEST_USER = "urn:li:corpuser:testUser@myCompany.com";
   private static final String TEST_TOKEN = "faketoken_YCpYIrjQH4sD3_rAc3VPPFg4";
+  private static final int LARGE_BODY_SIZE = 4 * 1024 * 1024;
 
   @BeforeAll
   public void init() throws IOException {
@@ -218,4 +241,171 @@ public class ApplicationTest extends WithBrowser {
     browser.goTo("/authenticate?redirect_uri=localhost%3A9002%2Flogin");
     assertEquals("", browser.url());
   }
+
+  @Test
+  public void testProxyStreamsLargeRequestBody() throws InterruptedException {
+    byte[] body = largeBody();
+    BlockingQueue<RecordedRequest> proxied = new LinkedBlockingQueue<>();
+
+    Result result =
+        withGmsResponse(
+            "/api/graphql",
+            request -> {
+              proxied.add(request);
+              return new MockResponse().setBody("{}");
+            },
+            () -> route(app, authenticatedRequest("POST", "/api/v2/graphql").bodyRaw(body)));
+
+    assertEquals(OK, result.status());
+    RecordedRequest request = proxied.poll(10, TimeUnit.SECONDS);
+    assertEquals("POST", request.getMethod());
+    assertArrayEquals(body, request.getBody().readByteArray());
+    assertEquals("application/json", request.getHeader(Http.HeaderNames.CONTENT_TYPE));
+    // Forwarded as it is read rather than with the length of a buffered body
+    assertEquals("chunked", request.getHeader(Http.HeaderNames.TRANSFER_ENCODING));
+  }
+
+  @Test
+  public void testProxyHeaders() throws InterruptedException {
+    BlockingQueue<RecordedRequest> proxied = new LinkedBlockingQueue<>();
+
+    Result result =
+        withGmsResponse(
+            "/openapi/v2/entity/dataset",
+            request -> {
+              proxied.add(request);
+              return new MockResponse().setBody("{}");
+            },
+            () ->
+                route(
+                    app,
+                    authenticatedRequest("GET", "/openapi/v2/entity/dataset")
+                        .host("datahub.example.com")
+                        .header("X-DataHub-Actor", "urn:li:corpuser:someoneElse")
+                        .header("X-Custom-Header", "value")));
+
+    assertEquals(OK, result.status());
+    RecordedRequest request = proxied.poll(10, TimeUnit.SECONDS);
+    assertEquals("Bearer " + TEST_TOKEN, request.getHeader(Http.HeaderNames.AUTHORIZATION));
+    assertEquals(TEST_USER, request.getHeader("X-DataHub-Actor"));
+    assertEquals("datahub.example.com", request.getHeader(Http.HeaderNames.X_FORWARDED_HOST));
+    assertEquals("http", request.getHeader(Http.HeaderNames.X_FORWARDED_PROTO));
+    assertEquals("localhost:" + gmsServerPort(), request.getHeader(Http.HeaderNames.HOST));
+    assertEquals("value", request.getHeader("X-Custom-Header"));
+  }
+
+  @Test
+  public void testProxyStreamsLargeResponseBody() {
+    byte[] body = largeBody();
+    long proxiedBytes = proxiedResponseBytes();
+
+    Result result =
+        withGmsResponse(
+            "/openapi/v2/entity/dataset",
+            request ->
+                new MockResponse()
+                    .setResponseCode(201)
+                    .setHeader(Http.HeaderNames.CONTENT_TYPE, "application/json")
+                    .setHeader("X-Custom-Header", "value")
+                    .setBody(new Buffer().write(body)),
+            () -> route(app, authenticatedRequest("GET", "/openapi/v2/entity/dataset")));
+
+    assertEquals(201, result.status());
+    assertTrue(result.body() instanceof HttpEntity.Streamed);
+    assertEquals(Optional.of((long) body.length), result.body().contentLength());
+    assertEquals(Optional.of("application/json"), result.contentType());
+    assertEquals(Optional.of("value"), result.header("X-Custom-Header"));
+    assertArrayEquals(body, Helpers.contentAsBytes(result, materializer()).toArray());
+    assertEquals(proxiedBytes + body.length, proxiedResponseBytes());
+  }
+
+  @Test
+  public void testProxyBoundsBufferedResponseBytes() throws Exception {
+    byte[] body = largeBody();
+    long maxInFlightBytes = app.config().getBytes("proxy.maxInFlightBytes");
+
+    Result result =
+        withGmsResponse(
+            "/openapi/v2/entity/dataset",
+            request -> new MockResponse().setBody(new Buffer().write(body)),
+            () -> route(app, authenticatedRequest("GET", "/openapi/v2/entity/dataset")));
+
+    // Read one chunk at a time, pausing after the first one so that Metadata Service gets ahead
+    SinkQueueWithCancel<ByteString> queue =
+        result
+            .body()
+            .dataStream()
+            .runWith(
+                Sink.<ByteString>queue().addAttributes(Attributes.inputBuffer(1, 1)),
+                materializer());
+    List<ByteString> chunks = new ArrayList<>();
+    Optional<ByteString> chunk = queue.pull().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    Thread.sleep(500);
+    while (chunk.isPresent()) {
+      chunks.add(chunk.get());
+      chunk = queue.pull().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    // Chunks read ahead are combined, but never beyond the limit
+    int largestChunk = chunks.stream().mapToInt(ByteString::size).max().orElse(0);
+    assertTrue(largestChunk <= maxInFlightBytes, "Largest chunk was " + largestChunk);
+    assertTrue(largestChunk > maxInFlightBytes / 2, "Largest chunk was " + largestChunk);
+    assertArrayEquals(
+        body, chunks.stream().reduce(ByteString.emptyByteString(), ByteString::concat).toArray());
+  }
+
+  @Test
+  public void testProxyRequiresAuthentication() {
+    Http.RequestBuilder request = fakeRequest("GET", "/openapi/v2/entity/dataset");
+
+    Result result = route(app, request);
+    assertEquals(UNAUTHORIZED, result.status());
+  }
+
+  /** A request carrying the session of a user who logged in. */
+  private static Http.RequestBuilder authenticatedRequest(String method, String uri) {
+    return fakeRequest(method, uri)
+        .session(ACTOR, TEST_USER)
+        .session(ACCESS_TOKEN, TEST_TOKEN)
+        .cookie(Http.Cookie.builder(ACTOR, TEST_USER).build());
+  }
+
+  /**
+   * Answers the Metadata Service requests to the path while the call runs, without touching the
+   * responses queued for other tests.
+   */
+  private Result withGmsResponse(
+      String path,
+      Function<RecordedRequest, MockResponse> response,
+      Supplier<Result> call) {
+    Dispatcher previous = _gmsServer.getDispatcher();
+    _gmsServer.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            return path.equals(request.getPath())
+                ? response.apply(request)
+                : new MockResponse().setResponseCode(404);
+          }
+        });
+    try {
+      return call.get();
+    } finally {
+      _gmsServer.setDispatcher(previous);
+    }
+  }
+
+  private Materializer materializer() {
+    return app.asScala().materializer();
+  }
+
+  private static long proxiedResponseBytes() {
+    return MetricUtils.counter(controllers.Application.class, "proxiedResponseBytes").getCount();
+  }
+
+  private static byte[] largeBody() {
+    byte[] body = new byte[LARGE_BODY_SIZE];
+    new Random(0).nextBytes(body);
+    return body;
+  }
 }
@@ -4,6 +4,7 @@ import static com.linkedin.datahub.graphql.Constants.*;
 import static com.linkedin.metadata.Constants.*;
 import static graphql.scalars.ExtendedScalars.*;
 
+import com.codahale.metrics.MetricRegistry;
 import com.datahub.authentication.AuthenticationConfiguration;
 import com.datahub.authentication.group.GroupService;
 import com.datahub.authentication.invite.InviteTokenService;
@@ -22,6 +23,7 @@ import com.linkedin.datahub.graphql.analytics.resolver.GetHighlightsResolver;
 import com.linkedin.datahub.graphql.analytics.resolver.GetMetadataAnalyticsResolver;
 import com.linkedin.datahub.graphql.analytics.resolver.IsAnalyticsEnabledResolver;
 import com.linkedin.datahub.graphql.analytics.service.AnalyticsService;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.featureflags.FeatureFlags;
 import com.linkedin.datahub.graphql.generated.AccessToken;
 import com.linkedin.datahub.graphql.generated.AccessTokenMetadata;
@@ -331,6 +333,8 @@ import com.linkedin.datahub.graphql.types.ermodelrelationship.UpdateERModelRelat
 import com.linkedin.datahub.graphql.types.form.FormType;
 import com.linkedin.datahub.graphql.types.glossary.GlossaryNodeType;
 import com.linkedin.datahub.graphql.types.glossary.GlossaryTermType;
+import com.linkedin.datahub.graphql.types.health.AssertionsHealthType;
+import com.linkedin.datahub.graphql.types.health.IncidentsHealthType;
 import com.linkedin.datahub.graphql.types.incident.IncidentType;
 import com.linkedin.datahub.graphql.types.mlmodel.MLFeatureTableType;
 import com.linkedin.datahub.graphql.types.mlmodel.MLFeatureType;
@@ -348,6 +352,7 @@ import com.linkedin.datahub.graphql.types.schemafield.SchemaFieldType;
 import com.linkedin.datahub.graphql.types.structuredproperty.StructuredPropertyType;
 import com.linkedin.datahub.graphql.types.tag.TagType;
 import com.linkedin.datahub.graphql.types.test.TestType;
+import com.linkedin.datahub.graphql.types.usage.UsageStatsType;
 import com.linkedin.datahub.graphql.types.view.DataHubViewType;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.entity.client.SystemEntityClient;
@@ -377,6 +382,7 @@ import com.linkedin.metadata.service.SettingsService;
 import com.linkedin.metadata.service.ViewService;
 import com.linkedin.metadata.timeline.TimelineService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.metadata.version.GitVersion;
 import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetcher;
@@ -394,7 +400,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -477,6 +482,9 @@ public class GmsGraphQLEngine {
   private final GlossaryTermType glossaryTermType;
   private final GlossaryNodeType glossaryNodeType;
   private final AspectType aspectType;
+  private final UsageStatsType usageStatsType;
+  private final AssertionsHealthType assertionsHealthType;
+  private final IncidentsHealthType incidentsHealthType;
   private final DataHubConnectionType connectionType;
   private final ContainerType containerType;
   private final DomainType domainType;
@@ -504,6 +512,8 @@ public class GmsGraphQLEngine {
   private final int graphQLQueryComplexityLimit;
   private final int graphQLQueryDepthLimit;
   private final boolean graphQLQueryIntrospectionEnabled;
+  private final long graphQLSlowQueryThresholdMs;
+  private final double graphQLSlowQuerySampleRate;
 
   private final BusinessAttributeType businessAttributeType;
 
@@ -595,6 +605,9 @@ public class GmsGraphQLEngine {
     this.glossaryTermType = new GlossaryTermType(entityClient);
     this.glossaryNodeType = new GlossaryNodeType(entityClient);
     this.aspectType = new AspectType(entityClient);
+    this.usageStatsType = new UsageStatsType(usageClient);
+    this.assertionsHealthType = new AssertionsHealthType(graphClient, timeseriesAspectService);
+    this.incidentsHealthType = new IncidentsHealthType(entityClient);
     this.connectionType = new DataHubConnectionType(entityClient, secretService);
     this.containerType = new ContainerType(entityClient);
     this.domainType = new DomainType(entityClient);
@@ -622,6 +635,11 @@ public class GmsGraphQLEngine {
     this.graphQLQueryComplexityLimit = args.graphQLQueryComplexityLimit;
     this.graphQLQueryDepthLimit = args.graphQLQueryDepthLimit;
     this.graphQLQueryIntrospectionEnabled = args.graphQLQueryIntrospectionEnabled;
+    this.graphQLSlowQueryThresholdMs = args.graphQLSlowQueryThresholdMs;
+    this.graphQLSlowQuerySampleRate = args.graphQLSlowQuerySampleRate;
+    if (args.graphQLResolverExecutor != null) {
+      GraphQLConcurrencyUtils.install(args.graphQLResolverExecutor);
+    }
 
     this.businessAttributeType = new BusinessAttributeType(entityClient);
     // Init Lists
@@ -830,9 +848,17 @@ public class GmsGraphQLEngine {
     builder
         .addDataLoaders(loaderSuppliers(loadableTypes))
         .addDataLoader("Aspect", context -> createDataLoader(aspectType, context))
+        // Batch the usage stats and health of the entities of search results
+        .addDataLoader(usageStatsType.name(), context -> createDataLoader(usageStatsType, context))
+        .addDataLoader(
+            assertionsHealthType.name(), context -> createDataLoader(assertionsHealthType, context))
+        .addDataLoader(
+            incidentsHealthType.name(), context -> createDataLoader(incidentsHealthType, context))
         .setGraphQLQueryComplexityLimit(graphQLQueryComplexityLimit)
         .setGraphQLQueryDepthLimit(graphQLQueryDepthLimit)
         .setGraphQLQueryIntrospectionEnabled(graphQLQueryIntrospectionEnabled)
+        .setGraphQLSlowQueryThresholdMs(graphQLSlowQueryThresholdMs)
+        .setGraphQLSlowQuerySampleRate(graphQLSlowQuerySampleRate)
         .configureRuntimeWiring(this::configureRuntimeWiring);
     return builder;
   }
@@ -2899,27 +2925,32 @@ public class GmsGraphQLEngine {
     DataLoaderOptions loaderOptions =
         DataLoaderOptions.newOptions().setBatchLoaderContextProvider(contextProvider);
     return DataLoader.newDataLoader(
-        (keys, context) ->
-            CompletableFuture.supplyAsync(
-                () -> {
-                  try {
-                    log.debug(
-                        String.format(
-                            "Batch loading entities of type: %s, keys: %s",
-                            graphType.name(), keys));
-                    return graphType.batchLoad(keys, context.getContext());
-                  } catch (Exception e) {
-                    log.error(
-                        String.format(
-                                "Failed to load Entities of type: %s, keys: %s",
-                                graphType.name(), keys)
-                            + " "
-                            + e.getMessage());
-                    throw new RuntimeException(
-                        String.format("Failed to retrieve entities of type %s", graphType.name()),
-                        e);
-                  }
-                }),
+        (keys, context) -> {
+          // Small batches of a type point at resolvers loading entities one at a time
+          MetricUtils.get()
+              .histogram(MetricRegistry.name(this.getClass(), "batchSize", graphType.name()))
+              .update(keys.size());
+          return GraphQLConcurrencyUtils.supplyAsync(
+              () -> {
+                try {
+                  log.debug(
+                      String.format(
+                          "Batch loading entities of type: %s, keys: %s",
+                          graphType.name(), keys));
+                  return graphType.batchLoad(keys, context.getContext());
+                } catch (Exception e) {
+                  log.error(
+                      String.format(
+                              "Failed to load Entities of type: %s, keys: %s",
+                              graphType.name(), keys)
+                          + " "
+                          + e.getMessage());
+                  throw new RuntimeException(
+                      String.format("Failed to retrieve entities of type %s", graphType.name()),
+                      e);
+                }
+              });
+        },
         loaderOptions);
   }
 
@@ -39,6 +39,7 @@ import com.linkedin.metadata.timeseries.TimeseriesAspectService;
 import com.linkedin.metadata.version.GitVersion;
 import io.datahubproject.metadata.services.RestrictedService;
 import io.datahubproject.metadata.services.SecretService;
+import java.util.concurrent.Executor;
 import lombok.Data;
 
 @Data
@@ -84,8 +85,11 @@ public class GmsGraphQLEngineArgs {
   int graphQLQueryComplexityLimit;
   int graphQLQueryDepthLimit;
   boolean graphQLQueryIntrospectionEnabled;
+  long graphQLSlowQueryThresholdMs;
+  double graphQLSlowQuerySampleRate;
   BusinessAttributeService businessAttributeService;
   ConnectionService connectionService;
+  Executor graphQLResolverExecutor;
 
   // any fork specific args should go below this line
 }
@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql;
 import static graphql.schema.idl.RuntimeWiring.*;
 
 import com.linkedin.datahub.graphql.exception.DataHubDataFetcherExceptionHandler;
+import com.linkedin.datahub.graphql.instrumentation.FieldTimingInstrumentation;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
@@ -10,7 +11,6 @@ import graphql.analysis.MaxQueryComplexityInstrumentation;
 import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
-import graphql.execution.instrumentation.tracing.TracingInstrumentation;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
@@ -46,6 +46,8 @@ public class GraphQLEngine {
   private final int graphQLQueryComplexityLimit;
   private final int graphQLQueryDepthLimit;
   private final boolean graphQLQueryIntrospectionEnabled;
+  private final long graphQLSlowQueryThresholdMs;
+  private final double graphQLSlowQuerySampleRate;
 
   private GraphQLEngine(
       @Nonnull final List<String> schemas,
@@ -53,10 +55,14 @@ public class GraphQLEngine {
       @Nonnull final Map<String, Function<QueryContext, DataLoader<?, ?>>> dataLoaderSuppliers,
       @Nonnull final int graphQLQueryComplexityLimit,
       @Nonnull final int graphQLQueryDepthLimit,
-      @Nonnull final boolean graphQLQueryIntrospectionEnabled) {
+      @Nonnull final boolean graphQLQueryIntrospectionEnabled,
+      final long graphQLSlowQueryThresholdMs,
+      final double graphQLSlowQuerySampleRate) {
     this.graphQLQueryComplexityLimit = graphQLQueryComplexityLimit;
     this.graphQLQueryDepthLimit = graphQLQueryDepthLimit;
     this.graphQLQueryIntrospectionEnabled = graphQLQueryIntrospectionEnabled;
+    this.graphQLSlowQueryThresholdMs = graphQLSlowQueryThresholdMs;
+    this.graphQLSlowQuerySampleRate = graphQLSlowQuerySampleRate;
 
     _dataLoaderSuppliers = dataLoaderSuppliers;
 
@@ -78,7 +84,8 @@ public class GraphQLEngine {
      * Instantiate engine
      */
     List<Instrumentation> instrumentations = new ArrayList<>(3);
-    instrumentations.add(new TracingInstrumentation());
+    instrumentations.add(
+        new FieldTimingInstrumentation(graphQLSlowQueryThresholdMs, graphQLSlowQuerySampleRate));
     instrumentations.add(new MaxQueryDepthInstrumentation(graphQLQueryDepthLimit));
     instrumentations.add(new MaxQueryComplexityInstrumentation(graphQLQueryComplexityLimit));
     ChainedInstrumentation chainedInstrumentation = new ChainedInstrumentation(instrumentations);
@@ -94,6 +101,19 @@ public class GraphQLEngine {
       @Nullable final String operationName,
       @Nullable final Map<String, Object> variables,
       @Nonnull final QueryContext context) {
+    return execute(query, operationName, variables, context, false);
+  }
+
+  /**
+   * @param tracingEnabled whether the timing of all fields is returned in the tracing extension,
+   *     see {@link FieldTimingInstrumentation}
+   */
+  public ExecutionResult execute(
+      @Nonnull final String query,
+      @Nullable final String operationName,
+      @Nullable final Map<String, Object> variables,
+      @Nonnull final QueryContext context,
+      final boolean tracingEnabled) {
     /*
      * Init DataLoaderRegistry - should be created for each request.
      */
@@ -109,6 +129,7 @@ public class GraphQLEngine {
             .variables(variables)
             .dataLoaderRegistry(register)
             .context(context)
+            .graphQLContext(Map.of(FieldTimingInstrumentation.TRACING_ENABLED_KEY, tracingEnabled))
             .build();
 
     /*
@@ -135,6 +156,8 @@ public class GraphQLEngine {
     private int graphQLQueryComplexityLimit = 2000;
     private int graphQLQueryDepthLimit = 50;
     private boolean graphQLQueryIntrospectionEnabled = true;
+    private long graphQLSlowQueryThresholdMs = 5000;
+    private double graphQLSlowQuerySampleRate = 0;
 
     /**
      * Used to add a schema file containing the GQL types resolved by the engine.
@@ -204,6 +227,16 @@ public class GraphQLEngine {
       return this;
     }
 
+    public Builder setGraphQLSlowQueryThresholdMs(final long slowQueryThresholdMs) {
+      this.graphQLSlowQueryThresholdMs = slowQueryThresholdMs;
+      return this;
+    }
+
+    public Builder setGraphQLSlowQuerySampleRate(final double slowQuerySampleRate) {
+      this.graphQLSlowQuerySampleRate = slowQuerySampleRate;
+      return this;
+    }
+
     /** Builds a {@link GraphQLEngine}. */
     public GraphQLEngine build() {
       return new GraphQLEngine(
@@ -212,7 +245,9 @@ public class GraphQLEngine {
           _loaderSuppliers,
           graphQLQueryComplexityLimit,
           graphQLQueryDepthLimit,
-          graphQLQueryIntrospectionEnabled);
+          graphQLQueryIntrospectionEnabled,
+          graphQLSlowQueryThresholdMs,
+          graphQLSlowQuerySampleRate);
     }
   }
 
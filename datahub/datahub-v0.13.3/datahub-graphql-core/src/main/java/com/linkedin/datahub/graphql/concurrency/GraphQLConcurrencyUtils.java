@@ -0,0 +1,132 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+/**
+ * Runs the blocking work of GraphQL resolvers on a dedicated executor, rather than on the JVM wide
+ * {@link ForkJoinPool#commonPool()} which is sized to the number of CPUs.
+ *
+ * <p>The executor is installed once, by the {@link com.linkedin.datahub.graphql.GmsGraphQLEngine}
+ * which owns it, the common pool is only used until then, e.g. by tests.
+ */
+public class GraphQLConcurrencyUtils {
+  private static final String LAMBDA_CLASS_SEPARATOR = "$$Lambda";
+
+  // Resolvers pass their work as lambdas, whose class names start with the resolver's
+  private static final ClassValue<String> RESOLVER_NAMES =
+      new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+          final String className = type.getName();
+          final int lambdaIndex = className.indexOf(LAMBDA_CLASS_SEPARATOR);
+          final String resolverClassName =
+              lambdaIndex < 0 ? className : className.substring(0, lambdaIndex);
+          return resolverClassName.substring(resolverClassName.lastIndexOf('.') + 1);
+        }
+      };
+
+  private static final AtomicInteger queuedTasks = new AtomicInteger();
+  private static final AtomicInteger activeTasks = new AtomicInteger();
+
+  private static volatile Executor executor = ForkJoinPool.commonPool();
+
+  static {
+    MetricUtils.gauge(
+        GraphQLConcurrencyUtils.class, "queueDepth", () -> (Gauge<Integer>) queuedTasks::get);
+    MetricUtils.gauge(
+        GraphQLConcurrencyUtils.class, "activeTasks", () -> (Gauge<Integer>) activeTasks::get);
+  }
+
+  private GraphQLConcurrencyUtils() {}
+
+  /**
+   * Installs the resolver executor of the process. Installing the same executor again is a no-op,
+   * and an executor which has been shut down may be replaced, e.g. by a new application context.
+   *
+   * @throws IllegalStateException if a different executor is still installed
+   */
+  public static synchronized void install(@Nonnull final Executor resolverExecutor) {
+    if (executor != ForkJoinPool.commonPool()
+        && executor != resolverExecutor
+        && !(executor instanceof ExecutorService && ((ExecutorService) executor).isShutdown())) {
+      throw new IllegalStateException("A different GraphQL resolver executor is already installed");
+    }
+    executor = resolverExecutor;
+  }
+
+  static synchronized void setExecutor(@Nonnull final Executor resolverExecutor) {
+    executor = resolverExecutor;
+  }
+
+  @Nonnull
+  public static Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Same as {@link CompletableFuture#supplyAsync(Supplier)}, on the resolver executor. The time
+   * spent waiting for and running on the executor is reported per resolver.
+   */
+  @Nonnull
+  public static <T> CompletableFuture<T> supplyAsync(@Nonnull final Supplier<T> supplier) {
+    return supplyAsync(RESOLVER_NAMES.get(supplier.getClass()), supplier);
+  }
+
+  /**
+   * Same as {@link CompletableFuture#runAsync(Runnable)}, on the resolver executor, e.g. for work
+   * a resolver leaves running after returning.
+   */
+  @Nonnull
+  public static CompletableFuture<Void> runAsync(@Nonnull final Runnable runnable) {
+    return supplyAsync(
+        RESOLVER_NAMES.get(runnable.getClass()),
+        () -> {
+          runnable.run();
+          return null;
+        });
+  }
+
+  @Nonnull
+  private static <T> CompletableFuture<T> supplyAsync(
+      @Nonnull final String resolverName, @Nonnull final Supplier<T> supplier) {
+    final long submittedNanos = System.nanoTime();
+    queuedTasks.incrementAndGet();
+    try {
+      return CompletableFuture.supplyAsync(
+          () -> {
+            queuedTasks.decrementAndGet();
+            activeTasks.incrementAndGet();
+            final long startedNanos = System.nanoTime();
+            timer(resolverName, "wait").update(startedNanos - submittedNanos, TimeUnit.NANOSECONDS);
+            try {
+              return supplier.get();
+            } finally {
+              activeTasks.decrementAndGet();
+              timer(resolverName, "run")
+                  .update(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+            }
+          },
+          executor);
+    } catch (RejectedExecutionException e) {
+      queuedTasks.decrementAndGet();
+      throw e;
+    }
+  }
+
+  private static Timer timer(@Nonnull final String resolverName, @Nonnull final String metricName) {
+    return MetricUtils.timer(
+        MetricRegistry.name(GraphQLConcurrencyUtils.class, resolverName, metricName));
+  }
+}
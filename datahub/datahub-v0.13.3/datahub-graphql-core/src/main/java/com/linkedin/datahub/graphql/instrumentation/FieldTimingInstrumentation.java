@@ -0,0 +1,258 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.ResultPath;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.GraphQLTypeUtil;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times the fields of GraphQL executions, replacing {@link
+ * graphql.execution.instrumentation.tracing.TracingInstrumentation} which built the full tracing of
+ * every execution.
+ *
+ * <ul>
+ *   <li>The latency of every field with a resolver, i.e. not a plain property, is reported per
+ *       type and per field.
+ *   <li>A sample of the executions slower than a threshold is logged, with the shape of their
+ *       variables and the timing of their fields.
+ *   <li>Executions opting in with {@link #TRACING_ENABLED_KEY} get the timing of all of their
+ *       fields in the tracing extension, in the Apollo tracing format.
+ * </ul>
+ *
+ * <p>The tracing extension of other executions only has their duration and root fields.
+ */
+@Slf4j
+public class FieldTimingInstrumentation extends SimplePerformantInstrumentation {
+
+  /** GraphQL context key enabling the tracing of all fields for an execution. */
+  public static final String TRACING_ENABLED_KEY = "datahub.tracingEnabled";
+
+  public static final String TRACING_EXTENSION = "tracing";
+
+  private static final int MAX_LOGGED_FIELDS = 500;
+
+  private final long slowQueryThresholdNanos;
+  private final double slowQuerySampleRate;
+
+  public FieldTimingInstrumentation(
+      final long slowQueryThresholdMs, final double slowQuerySampleRate) {
+    this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMs);
+    this.slowQuerySampleRate = slowQuerySampleRate;
+  }
+
+  @Override
+  public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+    final ExecutionInput executionInput = parameters.getExecutionInput();
+    final boolean tracingEnabled =
+        Boolean.TRUE.equals(executionInput.getGraphQLContext().get(TRACING_ENABLED_KEY));
+    // Sampled up front, so that the fields of most executions are not kept
+    final boolean sampled =
+        slowQuerySampleRate > 0 && ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate;
+    return new TimingState(tracingEnabled, sampled);
+  }
+
+  @Override
+  public InstrumentationContext<Object> beginFieldFetch(
+      InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+    final TimingState timingState = (TimingState) state;
+    final ExecutionStepInfo stepInfo = parameters.getExecutionStepInfo();
+    final boolean rootField = stepInfo.getPath().getLevel() == 1;
+    final boolean trivial = parameters.isTrivialDataFetcher();
+    if (trivial && !rootField && !timingState.tracingEnabled) {
+      return SimpleInstrumentationContext.noOp();
+    }
+
+    final long startNanos = System.nanoTime();
+    return SimpleInstrumentationContext.whenCompleted(
+        (result, throwable) -> {
+          final long durationNanos = System.nanoTime() - startNanos;
+          final FieldTiming fieldTiming =
+              new FieldTiming(
+                  stepInfo.getPath(),
+                  GraphQLTypeUtil.simplePrint(stepInfo.getParent().getUnwrappedNonNullType()),
+                  GraphQLTypeUtil.simplePrint(stepInfo.getType()),
+                  parameters.getField().getName(),
+                  startNanos - timingState.startNanos,
+                  durationNanos);
+          if (!trivial) {
+            MetricUtils.timer(
+                    MetricRegistry.name(
+                        this.getClass(), "field", fieldTiming.parentType, fieldTiming.fieldName))
+                .update(durationNanos, TimeUnit.NANOSECONDS);
+            MetricUtils.timer(MetricRegistry.name(this.getClass(), "type", fieldTiming.parentType))
+                .update(durationNanos, TimeUnit.NANOSECONDS);
+          }
+          if (rootField) {
+            timingState.rootFields.add(fieldTiming);
+          }
+          if (timingState.tracingEnabled || timingState.sampled) {
+            timingState.fields.add(fieldTiming);
+          }
+        });
+  }
+
+  @Override
+  public CompletableFuture<ExecutionResult> instrumentExecutionResult(
+      ExecutionResult executionResult,
+      InstrumentationExecutionParameters parameters,
+      InstrumentationState state) {
+    final TimingState timingState = (TimingState) state;
+    final long durationNanos = System.nanoTime() - timingState.startNanos;
+
+    if (timingState.sampled && durationNanos >= slowQueryThresholdNanos) {
+      MetricUtils.counter(this.getClass(), "slowQuery").inc();
+      log.warn(
+          "Slow GraphQL operation {} took {} ms, variables: {}, fields:\n{}",
+          parameters.getOperation(),
+          TimeUnit.NANOSECONDS.toMillis(durationNanos),
+          getShape(parameters.getVariables()),
+          getTimingTree(timingState.fields));
+    }
+
+    final Collection<FieldTiming> tracedFields =
+        timingState.tracingEnabled ? timingState.fields : timingState.rootFields;
+    // A mutable copy, as TracingInstrumentation returned it
+    final Map<Object, Object> extensions = new LinkedHashMap<>();
+    if (executionResult.getExtensions() != null) {
+      extensions.putAll(executionResult.getExtensions());
+    }
+    extensions.put(TRACING_EXTENSION, getTracing(timingState, durationNanos, tracedFields));
+    return CompletableFuture.completedFuture(
+        new ExecutionResultImpl(
+            executionResult.getData(), executionResult.getErrors(), extensions));
+  }
+
+  /** Same format as {@link graphql.execution.instrumentation.tracing.TracingSupport}. */
+  private static Map<String, Object> getTracing(
+      @Nonnull TimingState timingState,
+      long durationNanos,
+      @Nonnull Collection<FieldTiming> fields) {
+    final List<Map<String, Object>> resolvers = new ArrayList<>(fields.size());
+    for (FieldTiming fieldTiming : fields) {
+      final Map<String, Object> resolver = new LinkedHashMap<>();
+      resolver.put("path", fieldTiming.path.toList());
+      resolver.put("parentType", fieldTiming.parentType);
+      resolver.put("returnType", fieldTiming.returnType);
+      resolver.put("fieldName", fieldTiming.fieldName);
+      resolver.put("startOffset", fieldTiming.startOffsetNanos);
+      resolver.put("duration", fieldTiming.durationNanos);
+      resolvers.add(resolver);
+    }
+
+    final Map<String, Object> tracing = new LinkedHashMap<>();
+    tracing.put("version", 1L);
+    tracing.put("startTime", timingState.startTime.toString());
+    tracing.put("endTime", timingState.startTime.plusNanos(durationNanos).toString());
+    tracing.put("duration", durationNanos);
+    tracing.put("execution", Map.of("resolvers", resolvers));
+    return tracing;
+  }
+
+  /** The types of the variables, without their values which may be sensitive. */
+  @Nullable
+  private static Object getShape(@Nullable Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Map) {
+      final Map<String, Object> shape = new LinkedHashMap<>();
+      ((Map<?, ?>) value).forEach((key, entry) -> shape.put(String.valueOf(key), getShape(entry)));
+      return shape;
+    }
+    if (value instanceof Collection) {
+      final Collection<?> values = (Collection<?>) value;
+      return values.isEmpty()
+          ? "[]"
+          : List.of(getShape(values.iterator().next()), "x" + values.size());
+    }
+    return value.getClass().getSimpleName();
+  }
+
+  private static String getTimingTree(@Nonnull Collection<FieldTiming> fields) {
+    final List<FieldTiming> sortedFields =
+        fields.stream()
+            .sorted(Comparator.comparing(fieldTiming -> fieldTiming.path.toString()))
+            .collect(Collectors.toList());
+    final StringBuilder tree = new StringBuilder();
+    sortedFields.stream()
+        .limit(MAX_LOGGED_FIELDS)
+        .forEach(
+            fieldTiming ->
+                tree.append("  ".repeat(fieldTiming.path.getLevel()))
+                    .append(fieldTiming.path)
+                    .append(" +")
+                    .append(TimeUnit.NANOSECONDS.toMillis(fieldTiming.startOffsetNanos))
+                    .append(" ms, ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(fieldTiming.durationNanos))
+                    .append(" ms\n"));
+    if (sortedFields.size() > MAX_LOGGED_FIELDS) {
+      tree.append("  ... ").append(sortedFields.size() - MAX_LOGGED_FIELDS).append(" more\n");
+    }
+    return tree.toString();
+  }
+
+  private static class TimingState implements InstrumentationState {
+    private final Instant startTime = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final boolean tracingEnabled;
+    private final boolean sampled;
+    // Fields are completed on the resolver threads. All fields are only kept when traced or sampled
+    private final Collection<FieldTiming> fields = new ConcurrentLinkedQueue<>();
+    private final Collection<FieldTiming> rootFields = new ConcurrentLinkedQueue<>();
+
+    private TimingState(boolean tracingEnabled, boolean sampled) {
+      this.tracingEnabled = tracingEnabled;
+      this.sampled = sampled;
+    }
+  }
+
+  private static class FieldTiming {
+    private final ResultPath path;
+    private final String parentType;
+    private final String returnType;
+    private final String fieldName;
+    private final long startOffsetNanos;
+    private final long durationNanos;
+
+    private FieldTiming(
+        ResultPath path,
+        String parentType,
+        String returnType,
+        String fieldName,
+        long startOffsetNanos,
+        long durationNanos) {
+      this.path = path;
+      this.parentType = parentType;
+      this.returnType = returnType;
+      this.fieldName = fieldName;
+      this.startOffsetNanos = startOffsetNanos;
+      this.durationNanos = durationNanos;
+    }
+  }
+}
@@ -1,7 +1,12 @@
 package com.linkedin.datahub.graphql.resolvers;
 
 import com.google.common.collect.Iterables;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.types.LoadableType;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -36,4 +41,28 @@ public class BatchLoadUtils {
     }
     return loader.loadMany(keyList);
   }
+
+  /**
+   * Loads a key with the {@link DataLoader} of the type, in a batch with the keys loaded by the
+   * other fields of the query. Loads it on its own where the loader is not registered.
+   */
+  public static <T, K> CompletableFuture<T> load(
+      DataFetchingEnvironment environment, LoadableType<T, K> loadableType, K key) {
+    final DataLoaderRegistry dataLoaderRegistry = environment.getDataLoaderRegistry();
+    final DataLoader<K, DataFetcherResult<T>> loader =
+        dataLoaderRegistry != null ? dataLoaderRegistry.getDataLoader(loadableType.name()) : null;
+    if (loader != null) {
+      return loader.load(key).thenApply(DataFetcherResult::getData);
+    }
+    final QueryContext context = environment.getContext();
+    return GraphQLConcurrencyUtils.supplyAsync(
+        () -> {
+          try {
+            return loadableType.load(key, context).getData();
+          } catch (Exception e) {
+            throw new RuntimeException(
+                String.format("Failed to load %s for key %s", loadableType.name(), key), e);
+          }
+        });
+  }
 }
@@ -2,11 +2,12 @@ package com.linkedin.datahub.graphql.resolvers.dataset;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
-import com.linkedin.datahub.graphql.QueryContext;
-import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
 import com.linkedin.datahub.graphql.generated.CorpUser;
 import com.linkedin.datahub.graphql.generated.DatasetStatsSummary;
 import com.linkedin.datahub.graphql.generated.Entity;
+import com.linkedin.datahub.graphql.resolvers.BatchLoadUtils;
+import com.linkedin.datahub.graphql.types.usage.UsageStatsKey;
+import com.linkedin.datahub.graphql.types.usage.UsageStatsType;
 import com.linkedin.metadata.client.UsageStatsJavaClient;
 import com.linkedin.usage.UsageTimeRange;
 import com.linkedin.usage.UserUsageCounts;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -29,58 +31,58 @@ public class DatasetStatsSummaryResolver
   // The maximum number of top users to show in the summary stats
   private static final Integer MAX_TOP_USERS = 5;
 
-  private final UsageStatsJavaClient usageClient;
+  private final UsageStatsType usageStatsType;
 
   public DatasetStatsSummaryResolver(final UsageStatsJavaClient usageClient) {
-    this.usageClient = usageClient;
+    this.usageStatsType = new UsageStatsType(usageClient);
   }
 
   @Override
   public CompletableFuture<DatasetStatsSummary> get(DataFetchingEnvironment environment)
       throws Exception {
-    final QueryContext context = environment.getContext();
     final Urn resourceUrn = UrnUtils.getUrn(((Entity) environment.getSource()).getUrn());
 
-    return CompletableFuture.supplyAsync(
-        () -> {
-          try {
-            if (!AuthorizationUtils.isViewDatasetUsageAuthorized(context, resourceUrn)) {
-              log.debug(
-                  "User {} is not authorized to view profile information for dataset {}",
-                  context.getActorUrn(),
-                  resourceUrn.toString());
-              return null;
-            }
-
-            com.linkedin.usage.UsageQueryResult usageQueryResult =
-                usageClient.getUsageStats(
-                    context.getOperationContext(), resourceUrn.toString(), UsageTimeRange.MONTH);
+    try {
+      // Loaded together with the usage stats of the other datasets of the query, null when the
+      // actor may not view the usage of the dataset
+      return BatchLoadUtils.load(
+              environment,
+              usageStatsType,
+              new UsageStatsKey(resourceUrn.toString(), UsageTimeRange.MONTH))
+          .thenApply(this::toStatsSummary)
+          .exceptionally(e -> logFailure(resourceUrn, e));
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(logFailure(resourceUrn, e));
+    }
+  }
 
-            final DatasetStatsSummary result = new DatasetStatsSummary();
-            result.setQueryCountLast30Days(usageQueryResult.getAggregations().getTotalSqlQueries());
-            result.setUniqueUserCountLast30Days(
-                usageQueryResult.getAggregations().getUniqueUserCount());
-            if (usageQueryResult.getAggregations().hasUsers()) {
-              result.setTopUsersLast30Days(
-                  trimUsers(
-                      usageQueryResult.getAggregations().getUsers().stream()
-                          .filter(UserUsageCounts::hasUser)
-                          .sorted((a, b) -> (b.getCount() - a.getCount()))
-                          .map(
-                              userCounts ->
-                                  createPartialUser(Objects.requireNonNull(userCounts.getUser())))
-                          .collect(Collectors.toList())));
-            }
+  private DatasetStatsSummary toStatsSummary(
+      @Nullable final com.linkedin.usage.UsageQueryResult usageQueryResult) {
+    if (usageQueryResult == null) {
+      return null;
+    }
+    final DatasetStatsSummary result = new DatasetStatsSummary();
+    result.setQueryCountLast30Days(usageQueryResult.getAggregations().getTotalSqlQueries());
+    result.setUniqueUserCountLast30Days(usageQueryResult.getAggregations().getUniqueUserCount());
+    if (usageQueryResult.getAggregations().hasUsers()) {
+      result.setTopUsersLast30Days(
+          trimUsers(
+              usageQueryResult.getAggregations().getUsers().stream()
+                  .filter(UserUsageCounts::hasUser)
+                  .sorted((a, b) -> (b.getCount() - a.getCount()))
+                  .map(
+                      userCounts ->
+                          createPartialUser(Objects.requireNonNull(userCounts.getUser())))
+                  .collect(Collectors.toList())));
+    }
+    return result;
+  }
 
-            return result;
-          } catch (Exception e) {
-            log.error(
-                String.format(
-                    "Failed to load Usage Stats summary for resource %s", resourceUrn.toString()),
-                e);
-            return null; // Do not throw when loading usage summary fails.
-          }
-        });
+  private DatasetStatsSummary logFailure(final Urn resourceUrn, final Throwable e) {
+    log.error(
+        String.format("Failed to load Usage Stats summary for resource %s", resourceUrn.toString()),
+        e);
+    return null; // Do not throw when loading usage summary fails.
   }
 
   private List<CorpUser> trimUsers(final List<CorpUser> originalUsers) {
@@ -1,13 +1,14 @@
 package com.linkedin.datahub.graphql.resolvers.dataset;
 
-import static com.linkedin.datahub.graphql.authorization.AuthorizationUtils.isViewDatasetUsageAuthorized;
-
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.UsageQueryResult;
+import com.linkedin.datahub.graphql.resolvers.BatchLoadUtils;
 import com.linkedin.datahub.graphql.types.usage.UsageQueryResultMapper;
+import com.linkedin.datahub.graphql.types.usage.UsageStatsKey;
+import com.linkedin.datahub.graphql.types.usage.UsageStatsType;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.usage.UsageClient;
 import com.linkedin.usage.UsageTimeRange;
@@ -19,10 +20,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DatasetUsageStatsResolver implements DataFetcher<CompletableFuture<UsageQueryResult>> {
 
-  private final UsageClient usageClient;
+  private final UsageStatsType usageStatsType;
 
   public DatasetUsageStatsResolver(final UsageClient usageClient) {
-    this.usageClient = usageClient;
+    this.usageStatsType = new UsageStatsType(usageClient);
   }
 
   @Override
@@ -32,26 +33,21 @@ public class DatasetUsageStatsResolver implements DataFetcher<CompletableFuture<
     final Urn resourceUrn = UrnUtils.getUrn(((Entity) environment.getSource()).getUrn());
     final UsageTimeRange range = UsageTimeRange.valueOf(environment.getArgument("range"));
 
-    return CompletableFuture.supplyAsync(
-        () -> {
-          if (!isViewDatasetUsageAuthorized(context, resourceUrn)) {
-            log.debug(
-                "User {} is not authorized to view usage information for dataset {}",
-                context.getActorUrn(),
-                resourceUrn.toString());
-            return null;
-          }
-          try {
-            com.linkedin.usage.UsageQueryResult usageQueryResult =
-                usageClient.getUsageStats(
-                    context.getOperationContext(), resourceUrn.toString(), range);
-            return UsageQueryResultMapper.map(context, usageQueryResult);
-          } catch (Exception e) {
-            log.error(String.format("Failed to load Usage Stats for resource %s", resourceUrn), e);
-            MetricUtils.counter(this.getClass(), "usage_stats_dropped").inc();
-          }
-
-          return UsageQueryResultMapper.EMPTY;
-        });
+    // Loaded together with the usage stats of the other datasets of the query, null when the
+    // actor may not view the usage of the dataset
+    return BatchLoadUtils.load(
+            environment, usageStatsType, new UsageStatsKey(resourceUrn.toString(), range))
+        .thenApply(
+            usageQueryResult ->
+                usageQueryResult == null
+                    ? null
+                    : UsageQueryResultMapper.map(context, usageQueryResult))
+        .exceptionally(
+            e -> {
+              log.error(
+                  String.format("Failed to load Usage Stats for resource %s", resourceUrn), e);
+              MetricUtils.counter(this.getClass(), "usage_stats_dropped").inc();
+              return UsageQueryResultMapper.EMPTY;
+            });
   }
 }
@@ -5,6 +5,7 @@ import static com.linkedin.datahub.graphql.resolvers.ResolverUtils.bindArgument;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.FormPromptType;
 import com.linkedin.datahub.graphql.generated.SubmitFormPromptInput;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.FormUtils;
@@ -36,7 +37,7 @@ public class SubmitFormPromptResolver implements DataFetcher<CompletableFuture<B
     final Urn formUrn = UrnUtils.getUrn(input.getFormUrn());
     final String fieldPath = input.getFieldPath();
 
-    return CompletableFuture.supplyAsync(
+    return GraphQLConcurrencyUtils.supplyAsync(
         () -> {
           try {
             if (input.getType().equals(FormPromptType.STRUCTURED_PROPERTY)) {
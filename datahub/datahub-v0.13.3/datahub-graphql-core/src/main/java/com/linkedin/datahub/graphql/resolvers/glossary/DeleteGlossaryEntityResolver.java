@@ -2,6 +2,7 @@ package com.linkedin.datahub.graphql.resolvers.glossary;
 
 import com.linkedin.common.urn.Urn;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.resolvers.mutate.util.GlossaryUtils;
 import com.linkedin.entity.client.EntityClient;
@@ -30,7 +31,7 @@ public class DeleteGlossaryEntityResolver implements DataFetcher<CompletableFutu
     final Urn entityUrn = Urn.createFromString(environment.getArgument("urn"));
     final Urn parentNodeUrn = GlossaryUtils.getParentUrn(entityUrn, context, _entityClient);
 
-    return CompletableFuture.supplyAsync(
+    return GraphQLConcurrencyUtils.supplyAsync(
         () -> {
           if (GlossaryUtils.canManageChildrenEntities(context, parentNodeUrn, _entityClient)) {
             if (!_entityService.exists(context.getOperationContext(), entityUrn, true)) {
@@ -41,7 +42,7 @@ public class DeleteGlossaryEntityResolver implements DataFetcher<CompletableFutu
               _entityClient.deleteEntity(context.getOperationContext(), entityUrn);
 
               // Asynchronously Delete all references to the entity (to return quickly)
-              CompletableFuture.runAsync(
+              GraphQLConcurrencyUtils.runAsync(
                   () -> {
                     try {
                       _entityClient.deleteEntityReferences(
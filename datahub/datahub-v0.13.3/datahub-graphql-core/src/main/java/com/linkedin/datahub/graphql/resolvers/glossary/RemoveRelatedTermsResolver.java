@@ -7,6 +7,7 @@ import com.linkedin.common.GlossaryTermUrnArray;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.datahub.graphql.generated.RelatedTermsInput;
 import com.linkedin.datahub.graphql.generated.TermRelationshipType;
@@ -39,7 +40,7 @@ public class RemoveRelatedTermsResolver implements DataFetcher<CompletableFuture
         bindArgument(environment.getArgument("input"), RelatedTermsInput.class);
     final Urn urn = Urn.createFromString(input.getUrn());
 
-    return CompletableFuture.supplyAsync(
+    return GraphQLConcurrencyUtils.supplyAsync(
         () -> {
           final Urn parentUrn = GlossaryUtils.getParentUrn(urn, context, _entityClient);
           if (GlossaryUtils.canManageChildrenEntities(context, parentUrn, _entityClient)) {
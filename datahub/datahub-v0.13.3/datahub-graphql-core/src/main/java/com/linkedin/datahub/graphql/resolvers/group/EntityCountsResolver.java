@@ -3,6 +3,7 @@ package com.linkedin.datahub.graphql.resolvers.group;
 import static com.linkedin.datahub.graphql.resolvers.ResolverUtils.*;
 
 import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.generated.EntityCountInput;
 import com.linkedin.datahub.graphql.generated.EntityCountResult;
 import com.linkedin.datahub.graphql.generated.EntityCountResults;
@@ -39,7 +40,7 @@ public class EntityCountsResolver implements DataFetcher<CompletableFuture<Entit
         bindArgument(environment.getArgument("input"), EntityCountInput.class);
     final EntityCountResults results = new EntityCountResults();
 
-    return CompletableFuture.supplyAsync(
+    return GraphQLConcurrencyUtils.supplyAsync(
         () -> {
           try {
             // First, get all counts
@@ -4,6 +4,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.authorization.AuthorizationUtils;
+import com.linkedin.datahub.graphql.concurrency.GraphQLConcurrencyUtils;
 import com.linkedin.datahub.graphql.exception.AuthorizationException;
 import com.linkedin.entity.client.EntityClient;
 import graphql.schema.DataFetcher;
@@ -28,7 +29,7 @@ public class DeleteTagResolver implements DataFetcher<CompletableFuture<Boolean>
     final String tagUrn = environment.getArgument("urn");
     final Urn urn = Urn.createFromString(tagUrn);
 
-    return CompletableFuture.supplyAsync(
+    return GraphQLConcurrencyUtils.supplyAsync(
         () -> {
           if (AuthorizationUtils.canManageTags(context)
               || AuthorizationUtils.canDeleteEntity(UrnUtils.getUrn(tagUrn), context)) {
@@ -36,7 +37,7 @@ public class DeleteTagResolver implements DataFetcher<CompletableFuture<Boolean>
               _entityClient.deleteEntity(context.getOperationContext(), urn);
 
               // Asynchronously Delete all references to the entity (to return quickly)
-              CompletableFuture.runAsync(
+              GraphQLConcurrencyUtils.runAsync(
                   () -> {
                     try {
                       _entityClient.deleteEntityReferences(context.getOperationContext(), urn);
@@ -0,0 +1,239 @@
+package com.linkedin.datahub.graphql.types.health;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.EntityRelationships;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Health;
+import com.linkedin.datahub.graphql.generated.HealthStatus;
+import com.linkedin.datahub.graphql.generated.HealthStatusType;
+import com.linkedin.datahub.graphql.types.LoadableType;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.graph.GraphClient;
+import com.linkedin.metadata.query.filter.Condition;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.CriterionArray;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.timeseries.AggregationSpec;
+import com.linkedin.timeseries.AggregationType;
+import com.linkedin.timeseries.GenericTable;
+import com.linkedin.timeseries.GroupingBucket;
+import com.linkedin.timeseries.GroupingBucketType;
+import graphql.execution.DataFetcherResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Loads the "assertions health" of assets, which is currently a static function of whether the most
+ * recent run of all asset assertions has succeeded.
+ *
+ * <p>The latest runs of the assertions of all the assets of a query are fetched with a single
+ * aggregation. Active (non-deleted) assertions are only fetched for the assets with assertion runs.
+ *
+ * <p>TODO: Replace this with the assertions summary aspect.
+ */
+public class AssertionsHealthType implements LoadableType<Health, String> {
+  private static final String ASSERTS_RELATIONSHIP_NAME = "Asserts";
+  private static final String ASSERTION_RUN_EVENT_SUCCESS_TYPE = "SUCCESS";
+  private static final String ASSERTEE_URN_FIELD_NAME = "asserteeUrn";
+
+  private final GraphClient _graphClient;
+  private final TimeseriesAspectService _timeseriesAspectService;
+
+  public AssertionsHealthType(
+      @Nonnull final GraphClient graphClient,
+      @Nonnull final TimeseriesAspectService timeseriesAspectService) {
+    _graphClient = graphClient;
+    _timeseriesAspectService = timeseriesAspectService;
+  }
+
+  @Override
+  public Class<Health> objectClass() {
+    return Health.class;
+  }
+
+  @Override
+  public String name() {
+    return AssertionsHealthType.class.getSimpleName();
+  }
+
+  /**
+   * Computes the assertions health of a list of entity urns. The list returned is of the same
+   * length as the list of urns, with null health for assets without assertions or assertion runs.
+   *
+   * @param entityUrns the assets to compute health for
+   * @param context the query context
+   */
+  @Override
+  public List<DataFetcherResult<Health>> batchLoad(
+      @Nonnull List<String> entityUrns, @Nonnull QueryContext context) throws Exception {
+    final Map<String, List<StringArray>> assertionRunsByEntity =
+        getAssertionRuns(context, entityUrns);
+    return entityUrns.stream()
+        .map(
+            entityUrn -> {
+              final List<StringArray> assertionRuns = assertionRunsByEntity.get(entityUrn);
+              // No assertion run results found. Return empty health!
+              final Health health =
+                  assertionRuns == null
+                      ? null
+                      : computeAssertionHealthForAsset(entityUrn, assertionRuns, context);
+              return DataFetcherResult.<Health>newResult().data(health).build();
+            })
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @param entityUrn the entity to compute health for
+   * @param assertionRuns the latest run of each assertion of the entity
+   * @param context the query context
+   * @return an instance of {@link Health} for the asset, null if one cannot be computed.
+   */
+  @Nullable
+  private Health computeAssertionHealthForAsset(
+      final String entityUrn, final List<StringArray> assertionRuns, final QueryContext context) {
+    // Get active assertion urns
+    final EntityRelationships relationships =
+        _graphClient.getRelatedEntities(
+            entityUrn,
+            ImmutableList.of(ASSERTS_RELATIONSHIP_NAME),
+            RelationshipDirection.INCOMING,
+            0,
+            500,
+            context.getActorUrn());
+
+    if (relationships.getTotal() > 0) {
+
+      // If there are assertions defined, then we should return a non-null health for this asset.
+      final Set<String> activeAssertionUrns =
+          relationships.getRelationships().stream()
+              .map(relationship -> relationship.getEntity().toString())
+              .collect(Collectors.toSet());
+
+      final List<String> failingAssertionUrns =
+          resultToFailedAssertionUrns(assertionRuns, activeAssertionUrns);
+
+      // Finally compute & return the health.
+      final Health health = new Health();
+      health.setType(HealthStatusType.ASSERTIONS);
+      if (failingAssertionUrns.size() > 0) {
+        health.setStatus(HealthStatus.FAIL);
+        health.setMessage(
+            String.format(
+                "%s of %s assertions are failing",
+                failingAssertionUrns.size(), activeAssertionUrns.size()));
+        health.setCauses(failingAssertionUrns);
+      } else {
+        health.setStatus(HealthStatus.PASS);
+        health.setMessage("All assertions are passing");
+      }
+      return health;
+    }
+    return null;
+  }
+
+  /** Returns the latest run of each assertion, by assertee urn. */
+  private Map<String, List<StringArray>> getAssertionRuns(
+      @Nonnull final QueryContext context, @Nonnull final List<String> asserteeUrns) {
+    final GenericTable assertionRunResults =
+        _timeseriesAspectService.getAggregatedStats(
+            context.getOperationContext(),
+            Constants.ASSERTION_ENTITY_NAME,
+            Constants.ASSERTION_RUN_EVENT_ASPECT_NAME,
+            createAssertionAggregationSpecs(),
+            createAssertionsFilter(asserteeUrns),
+            createAssertionGroupingBuckets());
+
+    final Map<String, List<StringArray>> assertionRuns = new HashMap<>();
+    if (!assertionRunResults.hasRows()) {
+      return assertionRuns;
+    }
+    for (StringArray row : assertionRunResults.getRows()) {
+      // Result structure should be asserteeUrn, assertionUrn, event.result.type, timestampMillis
+      if (row.size() != 4) {
+        throw new RuntimeException(
+            String.format(
+                "Failed to fetch assertion run events from Timeseries index! Expected row of size 4, found %s",
+                row.size()));
+      }
+      assertionRuns.computeIfAbsent(row.get(0), asserteeUrn -> new ArrayList<>()).add(row);
+    }
+    return assertionRuns;
+  }
+
+  private Filter createAssertionsFilter(final List<String> asserteeUrns) {
+    final Filter filter = new Filter();
+    final ArrayList<Criterion> criteria = new ArrayList<>();
+
+    // Add filter for asserteeUrn in asserteeUrns
+    Criterion asserteeUrnCriterion =
+        new Criterion()
+            .setField(ASSERTEE_URN_FIELD_NAME)
+            .setCondition(Condition.EQUAL)
+            .setValue("")
+            .setValues(new StringArray(asserteeUrns));
+    criteria.add(asserteeUrnCriterion);
+
+    // Add filter for result == result
+    Criterion startTimeCriterion =
+        new Criterion()
+            .setField("status")
+            .setCondition(Condition.EQUAL)
+            .setValue(Constants.ASSERTION_RUN_EVENT_STATUS_COMPLETE);
+    criteria.add(startTimeCriterion);
+
+    filter.setOr(
+        new ConjunctiveCriterionArray(
+            ImmutableList.of(new ConjunctiveCriterion().setAnd(new CriterionArray(criteria)))));
+    return filter;
+  }
+
+  private AggregationSpec[] createAssertionAggregationSpecs() {
+    // Simply fetch the timestamp, result type for the assertion URN.
+    AggregationSpec resultTypeAggregation =
+        new AggregationSpec().setAggregationType(AggregationType.LATEST).setFieldPath("type");
+    AggregationSpec timestampAggregation =
+        new AggregationSpec()
+            .setAggregationType(AggregationType.LATEST)
+            .setFieldPath("timestampMillis");
+    return new AggregationSpec[] {resultTypeAggregation, timestampAggregation};
+  }
+
+  private GroupingBucket[] createAssertionGroupingBuckets() {
+    // String grouping buckets on "asserteeUrn", then "assertionUrn"
+    GroupingBucket asserteeUrnBucket = new GroupingBucket();
+    asserteeUrnBucket
+        .setKey(ASSERTEE_URN_FIELD_NAME)
+        .setType(GroupingBucketType.STRING_GROUPING_BUCKET);
+    GroupingBucket assertionUrnBucket = new GroupingBucket();
+    assertionUrnBucket.setKey("assertionUrn").setType(GroupingBucketType.STRING_GROUPING_BUCKET);
+    return new GroupingBucket[] {asserteeUrnBucket, assertionUrnBucket};
+  }
+
+  private List<String> resultToFailedAssertionUrns(
+      final List<StringArray> rows, final Set<String> activeAssertionUrns) {
+    final List<String> failedAssertionUrns = new ArrayList<>();
+    for (StringArray row : rows) {
+      final String assertionUrn = row.get(1);
+      final String resultType = row.get(2);
+
+      // If assertion is "active" (not deleted) & is failing, then we report a degradation in
+      // health.
+      if (activeAssertionUrns.contains(assertionUrn)
+          && !ASSERTION_RUN_EVENT_SUCCESS_TYPE.equals(resultType)) {
+        failedAssertionUrns.add(assertionUrn);
+      }
+    }
+    return failedAssertionUrns;
+  }
+}
@@ -0,0 +1,185 @@
+package com.linkedin.datahub.graphql.types.health;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Health;
+import com.linkedin.datahub.graphql.generated.HealthStatus;
+import com.linkedin.datahub.graphql.generated.HealthStatusType;
+import com.linkedin.datahub.graphql.generated.IncidentState;
+import com.linkedin.datahub.graphql.types.LoadableType;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.incident.IncidentInfo;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.query.filter.Condition;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.utils.QueryUtils;
+import com.linkedin.r2.RemoteInvocationException;
+import graphql.execution.DataFetcherResult;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the "incidents health" of assets, which is currently a static function of whether there
+ * are any active incidents open on an asset.
+ *
+ * <p>The active incidents of all the assets of a query are searched for at once, and counted per
+ * asset from their {@link IncidentInfo}.
+ */
+@Slf4j
+public class IncidentsHealthType implements LoadableType<Health, String> {
+  private static final String INCIDENT_ENTITIES_SEARCH_INDEX_FIELD_NAME = "entities.keyword";
+  private static final String INCIDENT_STATE_SEARCH_INDEX_FIELD_NAME = "state";
+  // Beyond this many active incidents, they are counted by a search per asset instead
+  private static final int MAX_INCIDENTS = 1000;
+
+  private final EntityClient _entityClient;
+
+  public IncidentsHealthType(@Nonnull final EntityClient entityClient) {
+    _entityClient = entityClient;
+  }
+
+  @Override
+  public Class<Health> objectClass() {
+    return Health.class;
+  }
+
+  @Override
+  public String name() {
+    return IncidentsHealthType.class.getSimpleName();
+  }
+
+  /**
+   * Computes the incidents health of a list of entity urns. The list returned is of the same length
+   * as the list of urns, with null health if it cannot be computed.
+   *
+   * @param entityUrns the assets to compute health for
+   * @param context the query context
+   */
+  @Override
+  public List<DataFetcherResult<Health>> batchLoad(
+      @Nonnull List<String> entityUrns, @Nonnull QueryContext context) throws Exception {
+    Map<String, Integer> activeIncidentCounts;
+    try {
+      activeIncidentCounts = getActiveIncidentCounts(entityUrns, context);
+    } catch (RemoteInvocationException | URISyntaxException e) {
+      log.error("Failed to compute incident health status!", e);
+      activeIncidentCounts = null;
+    }
+    final Map<String, Integer> counts = activeIncidentCounts;
+    return entityUrns.stream()
+        .map(
+            entityUrn ->
+                DataFetcherResult.<Health>newResult()
+                    .data(counts == null ? null : toHealth(counts.getOrDefault(entityUrn, 0)))
+                    .build())
+        .collect(Collectors.toList());
+  }
+
+  private Map<String, Integer> getActiveIncidentCounts(
+      @Nonnull final List<String> entityUrns, @Nonnull final QueryContext context)
+      throws RemoteInvocationException, URISyntaxException {
+    if (entityUrns.size() == 1) {
+      return getActiveIncidentCount(entityUrns.get(0), context);
+    }
+
+    final SearchResult searchResult =
+        _entityClient.filter(
+            context.getOperationContext(),
+            Constants.INCIDENT_ENTITY_NAME,
+            buildIncidentsEntityFilter(entityUrns, IncidentState.ACTIVE.toString()),
+            null,
+            0,
+            MAX_INCIDENTS);
+    final Map<String, Integer> activeIncidentCounts = new HashMap<>();
+    if (searchResult.getNumEntities() > searchResult.getEntities().size()) {
+      for (String entityUrn : entityUrns) {
+        activeIncidentCounts.putAll(getActiveIncidentCount(entityUrn, context));
+      }
+      return activeIncidentCounts;
+    }
+    if (searchResult.getEntities().isEmpty()) {
+      return activeIncidentCounts;
+    }
+
+    // An incident may be open on several of the assets
+    final Set<Urn> incidentUrns =
+        searchResult.getEntities().stream()
+            .map(SearchEntity::getEntity)
+            .collect(Collectors.toSet());
+    final Map<Urn, EntityResponse> incidents =
+        _entityClient.batchGetV2(
+            context.getOperationContext(),
+            Constants.INCIDENT_ENTITY_NAME,
+            incidentUrns,
+            ImmutableSet.of(Constants.INCIDENT_INFO_ASPECT_NAME));
+    final Set<String> requestedUrns = Set.copyOf(entityUrns);
+    for (EntityResponse incident : incidents.values()) {
+      final EnvelopedAspect incidentInfoAspect =
+          incident.getAspects().get(Constants.INCIDENT_INFO_ASPECT_NAME);
+      if (incidentInfoAspect == null) {
+        continue;
+      }
+      final IncidentInfo incidentInfo = new IncidentInfo(incidentInfoAspect.getValue().data());
+      incidentInfo.getEntities().stream()
+          .map(Urn::toString)
+          .filter(requestedUrns::contains)
+          .distinct()
+          .forEach(entityUrn -> activeIncidentCounts.merge(entityUrn, 1, Integer::sum));
+    }
+    return activeIncidentCounts;
+  }
+
+  private Map<String, Integer> getActiveIncidentCount(
+      @Nonnull final String entityUrn, @Nonnull final QueryContext context)
+      throws RemoteInvocationException {
+    final SearchResult searchResult =
+        _entityClient.filter(
+            context.getOperationContext(),
+            Constants.INCIDENT_ENTITY_NAME,
+            buildIncidentsEntityFilter(
+                ImmutableList.of(entityUrn), IncidentState.ACTIVE.toString()),
+            null,
+            0,
+            1);
+    return Map.of(entityUrn, searchResult.getNumEntities());
+  }
+
+  private Health toHealth(final int activeIncidentCount) {
+    if (activeIncidentCount > 0) {
+      // There are active incidents.
+      return new Health(
+          HealthStatusType.INCIDENTS,
+          HealthStatus.FAIL,
+          String.format(
+              "%s active incident%s", activeIncidentCount, activeIncidentCount > 1 ? "s" : ""),
+          ImmutableList.of("ACTIVE_INCIDENTS"));
+    }
+    // Report pass if there are no active incidents.
+    return new Health(HealthStatusType.INCIDENTS, HealthStatus.PASS, null, null);
+  }
+
+  private Filter buildIncidentsEntityFilter(final List<String> entityUrns, final String state) {
+    return QueryUtils.getFilterFromCriteria(
+        ImmutableList.of(
+            new Criterion()
+                .setField(INCIDENT_ENTITIES_SEARCH_INDEX_FIELD_NAME)
+                .setCondition(Condition.EQUAL)
+                .setValue("")
+                .setValues(new StringArray(entityUrns)),
+            QueryUtils.newCriterion(INCIDENT_STATE_SEARCH_INDEX_FIELD_NAME, state)));
+  }
+}
@@ -0,0 +1,15 @@
+package com.linkedin.datahub.graphql.types.usage;
+
+import com.linkedin.usage.UsageTimeRange;
+import lombok.Data;
+
+@Data
+public class UsageStatsKey {
+  private String urn;
+  private UsageTimeRange range;
+
+  public UsageStatsKey(String urn, UsageTimeRange range) {
+    this.urn = urn;
+    this.range = range;
+  }
+}
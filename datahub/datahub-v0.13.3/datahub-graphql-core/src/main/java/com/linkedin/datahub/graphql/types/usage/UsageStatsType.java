@@ -0,0 +1,103 @@
+package com.linkedin.datahub.graphql.types.usage;
+
+import static com.linkedin.datahub.graphql.authorization.AuthorizationUtils.isViewDatasetUsageAuthorized;
+
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.types.LoadableType;
+import com.linkedin.usage.UsageClient;
+import com.linkedin.usage.UsageQueryResult;
+import com.linkedin.usage.UsageTimeRange;
+import graphql.execution.DataFetcherResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the usage stats of the datasets of a query together, rather than one dataset at a time.
+ *
+ * <p>The usage of datasets the actor may not view is not loaded, and resolves to null. Checking it
+ * here keeps the authorization calls off the thread resolving the query.
+ */
+@Slf4j
+public class UsageStatsType implements LoadableType<UsageQueryResult, UsageStatsKey> {
+  private final UsageClient _usageClient;
+
+  public UsageStatsType(final UsageClient usageClient) {
+    _usageClient = usageClient;
+  }
+
+  @Override
+  public Class<UsageQueryResult> objectClass() {
+    return UsageQueryResult.class;
+  }
+
+  @Override
+  public String name() {
+    return UsageStatsType.class.getSimpleName();
+  }
+
+  /**
+   * Retrieves the usage stats of a list of {@link UsageStatsKey}s. The list returned is of the
+   * same length as the list of keys, holding null for the datasets whose usage may not be viewed.
+   *
+   * @param keys to retrieve
+   * @param context the {@link QueryContext} corresponding to the request.
+   */
+  @Override
+  public List<DataFetcherResult<UsageQueryResult>> batchLoad(
+      @Nonnull List<UsageStatsKey> keys, @Nonnull QueryContext context) throws Exception {
+    final Set<String> authorizedUrns =
+        keys.stream()
+            .map(UsageStatsKey::getUrn)
+            .distinct()
+            .filter(urn -> isAuthorized(context, urn))
+            .collect(Collectors.toSet());
+    final Map<UsageTimeRange, List<String>> urnsByRange =
+        keys.stream()
+            .filter(key -> authorizedUrns.contains(key.getUrn()))
+            .collect(
+                Collectors.groupingBy(
+                    UsageStatsKey::getRange,
+                    Collectors.mapping(UsageStatsKey::getUrn, Collectors.toList())));
+    final Map<UsageTimeRange, Map<String, UsageQueryResult>> resultsByRange =
+        urnsByRange.entrySet().stream()
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> getUsageStats(context, entry.getValue(), entry.getKey())));
+    return keys.stream()
+        .map(
+            key ->
+                DataFetcherResult.<UsageQueryResult>newResult()
+                    .data(
+                        authorizedUrns.contains(key.getUrn())
+                            ? resultsByRange.get(key.getRange()).get(key.getUrn())
+                            : null)
+                    .build())
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isAuthorized(@Nonnull QueryContext context, @Nonnull String urn) {
+    if (!isViewDatasetUsageAuthorized(context, UrnUtils.getUrn(urn))) {
+      log.debug(
+          "User {} is not authorized to view usage information for dataset {}",
+          context.getActorUrn(),
+          urn);
+      return false;
+    }
+    return true;
+  }
+
+  private Map<String, UsageQueryResult> getUsageStats(
+      @Nonnull QueryContext context, @Nonnull List<String> urns, @Nonnull UsageTimeRange range) {
+    if (urns.size() == 1) {
+      final String urn = urns.get(0);
+      return Map.of(urn, _usageClient.getUsageStats(context.getOperationContext(), urn, range));
+    }
+    return _usageClient.batchGetUsageStats(context.getOperationContext(), urns, range);
+  }
+}
@@ -0,0 +1,82 @@
+package com.linkedin.datahub.graphql.concurrency;
+
+import static org.testng.Assert.*;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+public class GraphQLConcurrencyUtilsTest {
+
+  @Test
+  public void testSupplyAsyncOnResolverExecutor() {
+    final Executor previousExecutor = GraphQLConcurrencyUtils.getExecutor();
+    final AtomicInteger executions = new AtomicInteger();
+    GraphQLConcurrencyUtils.setExecutor(
+        runnable -> {
+          executions.incrementAndGet();
+          runnable.run();
+        });
+    try {
+      assertEquals(GraphQLConcurrencyUtils.supplyAsync(() -> "result").join(), "result");
+      assertEquals(executions.get(), 1);
+    } finally {
+      GraphQLConcurrencyUtils.setExecutor(previousExecutor);
+    }
+
+    // Reported under the class submitting the work
+    assertTrue(
+        MetricUtils.get()
+            .getTimers()
+            .containsKey(
+                MetricRegistry.name(
+                    GraphQLConcurrencyUtils.class, "GraphQLConcurrencyUtilsTest", "run")));
+  }
+
+  @Test
+  public void testRunAsyncOnResolverExecutor() {
+    final Executor previousExecutor = GraphQLConcurrencyUtils.getExecutor();
+    final AtomicInteger executions = new AtomicInteger();
+    final AtomicInteger runs = new AtomicInteger();
+    GraphQLConcurrencyUtils.setExecutor(
+        runnable -> {
+          executions.incrementAndGet();
+          runnable.run();
+        });
+    try {
+      GraphQLConcurrencyUtils.runAsync(runs::incrementAndGet).join();
+      assertEquals(runs.get(), 1);
+      assertEquals(executions.get(), 1);
+    } finally {
+      GraphQLConcurrencyUtils.setExecutor(previousExecutor);
+    }
+  }
+
+  @Test
+  public void testInstallSingleOwner() {
+    final Executor previousExecutor = GraphQLConcurrencyUtils.getExecutor();
+    final ExecutorService installed = Executors.newSingleThreadExecutor();
+    final ExecutorService other = Executors.newSingleThreadExecutor();
+    GraphQLConcurrencyUtils.setExecutor(ForkJoinPool.commonPool());
+    try {
+      GraphQLConcurrencyUtils.install(installed);
+      GraphQLConcurrencyUtils.install(installed);
+      assertSame(GraphQLConcurrencyUtils.getExecutor(), installed);
+      assertThrows(IllegalStateException.class, () -> GraphQLConcurrencyUtils.install(other));
+
+      // Replaces an executor which has been shut down
+      installed.shutdown();
+      GraphQLConcurrencyUtils.install(other);
+      assertSame(GraphQLConcurrencyUtils.getExecutor(), other);
+    } finally {
+      GraphQLConcurrencyUtils.setExecutor(previousExecutor);
+      installed.shutdown();
+      other.shutdown();
+    }
+  }
+}
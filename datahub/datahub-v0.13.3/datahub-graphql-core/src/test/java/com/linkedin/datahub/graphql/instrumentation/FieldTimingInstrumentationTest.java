@@ -0,0 +1,75 @@
+package com.linkedin.datahub.graphql.instrumentation;
+
+import static graphql.schema.idl.RuntimeWiring.*;
+import static org.testng.Assert.*;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.annotations.Test;
+
+public class FieldTimingInstrumentationTest {
+
+  private static final String SCHEMA =
+      "type Query { entity: Entity }\ntype Entity { urn: String, name: String }";
+
+  private static final GraphQL GRAPHQL =
+      GraphQL.newGraphQL(
+              new SchemaGenerator()
+                  .makeExecutableSchema(
+                      new SchemaParser().parse(SCHEMA),
+                      newRuntimeWiring()
+                          .type(
+                              "Query",
+                              typeWiring ->
+                                  typeWiring.dataFetcher(
+                                      "entity", environment -> Map.of("urn", "urn:li:test")))
+                          .type(
+                              "Entity",
+                              typeWiring -> typeWiring.dataFetcher("name", environment -> "name"))
+                          .build()))
+          .instrumentation(new FieldTimingInstrumentation(5000, 0))
+          .build();
+
+  @Test
+  public void testRootFieldsTraced() {
+    final ExecutionResult result = GRAPHQL.execute("{ entity { urn name } }");
+
+    assertEquals(getTracedFields(result), List.of("entity"));
+    assertTrue((Long) getTracing(result).get("duration") > 0);
+  }
+
+  @Test
+  public void testAllFieldsTracedWhenEnabled() {
+    final ExecutionResult result =
+        GRAPHQL.execute(
+            ExecutionInput.newExecutionInput()
+                .query("{ entity { urn name } }")
+                .graphQLContext(Map.of(FieldTimingInstrumentation.TRACING_ENABLED_KEY, true))
+                .build());
+
+    assertEquals(
+        getTracedFields(result).stream().sorted().collect(Collectors.toList()),
+        List.of("entity", "name", "urn"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> getTracing(ExecutionResult result) {
+    return (Map<String, Object>)
+        result.getExtensions().get(FieldTimingInstrumentation.TRACING_EXTENSION);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> getTracedFields(ExecutionResult result) {
+    final Map<String, Object> execution = (Map<String, Object>) getTracing(result).get("execution");
+    return ((List<Map<String, Object>>) execution.get("resolvers"))
+        .stream()
+        .map(resolver -> (String) resolver.get("fieldName"))
+        .collect(Collectors.toList());
+  }
+}
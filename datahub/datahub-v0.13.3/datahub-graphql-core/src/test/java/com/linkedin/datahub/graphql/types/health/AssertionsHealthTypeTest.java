@@ -0,0 +1,118 @@
+package com.linkedin.datahub.graphql.types.health;
+
+import static com.linkedin.datahub.graphql.TestUtils.getMockAllowContext;
+import static org.mockito.ArgumentMatchers.any;
+import static org.testng.Assert.*;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.EntityRelationship;
+import com.linkedin.common.EntityRelationshipArray;
+import com.linkedin.common.EntityRelationships;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.data.template.StringArrayArray;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Health;
+import com.linkedin.datahub.graphql.generated.HealthStatus;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.graph.GraphClient;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.timeseries.GenericTable;
+import graphql.execution.DataFetcherResult;
+import java.util.List;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+public class AssertionsHealthTypeTest {
+
+  private static final String TEST_DATASET_URN = "urn:li:dataset:(test,test,test)";
+  private static final String TEST_DATASET_URN_2 = "urn:li:dataset:(test,test2,test)";
+  private static final String TEST_DATASET_URN_3 = "urn:li:dataset:(test,test3,test)";
+  private static final String TEST_ASSERTION_URN = "urn:li:assertion:test-guid";
+  private static final String TEST_ASSERTION_URN_2 = "urn:li:assertion:test-guid-2";
+
+  @Test
+  public void testBatchLoad() throws Exception {
+    GraphClient graphClient = Mockito.mock(GraphClient.class);
+    TimeseriesAspectService mockAspectService = Mockito.mock(TimeseriesAspectService.class);
+
+    mockActiveAssertions(graphClient, TEST_DATASET_URN, TEST_ASSERTION_URN);
+    mockActiveAssertions(graphClient, TEST_DATASET_URN_2, TEST_ASSERTION_URN_2);
+
+    // The latest runs of the assertions of all the datasets, the third dataset has none
+    Mockito.when(
+            mockAspectService.getAggregatedStats(
+                any(),
+                Mockito.eq(Constants.ASSERTION_ENTITY_NAME),
+                Mockito.eq(Constants.ASSERTION_RUN_EVENT_ASPECT_NAME),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any()))
+        .thenReturn(
+            new GenericTable()
+                .setColumnNames(
+                    new StringArray(
+                        ImmutableList.of("asserteeUrn", "assertionUrn", "type", "timestampMillis")))
+                .setColumnTypes(new StringArray("string", "string", "string", "long"))
+                .setRows(
+                    new StringArrayArray(
+                        ImmutableList.of(
+                            new StringArray(
+                                ImmutableList.of(
+                                    TEST_DATASET_URN, TEST_ASSERTION_URN, "SUCCESS", "0")),
+                            new StringArray(
+                                ImmutableList.of(
+                                    TEST_DATASET_URN_2, TEST_ASSERTION_URN_2, "FAILURE", "0"))))));
+
+    AssertionsHealthType type = new AssertionsHealthType(graphClient, mockAspectService);
+    QueryContext mockContext = getMockAllowContext();
+
+    List<DataFetcherResult<Health>> results =
+        type.batchLoad(
+            ImmutableList.of(TEST_DATASET_URN, TEST_DATASET_URN_2, TEST_DATASET_URN_3),
+            mockContext);
+
+    assertEquals(results.size(), 3);
+    assertEquals(results.get(0).getData().getStatus(), HealthStatus.PASS);
+    assertEquals(results.get(1).getData().getStatus(), HealthStatus.FAIL);
+    assertEquals(results.get(1).getData().getCauses(), ImmutableList.of(TEST_ASSERTION_URN_2));
+    assertNull(results.get(2).getData());
+
+    // A single aggregation for all the datasets, and no graph query for the one without runs
+    Mockito.verify(mockAspectService, Mockito.times(1))
+        .getAggregatedStats(
+            any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    Mockito.verify(graphClient, Mockito.times(0))
+        .getRelatedEntities(
+            Mockito.eq(TEST_DATASET_URN_3),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any());
+  }
+
+  private static void mockActiveAssertions(
+      GraphClient graphClient, String datasetUrn, String assertionUrn) {
+    Mockito.when(
+            graphClient.getRelatedEntities(
+                Mockito.eq(datasetUrn),
+                Mockito.eq(ImmutableList.of("Asserts")),
+                Mockito.eq(RelationshipDirection.INCOMING),
+                Mockito.eq(0),
+                Mockito.eq(500),
+                Mockito.any()))
+        .thenReturn(
+            new EntityRelationships()
+                .setStart(0)
+                .setCount(1)
+                .setTotal(1)
+                .setRelationships(
+                    new EntityRelationshipArray(
+                        ImmutableList.of(
+                            new EntityRelationship()
+                                .setEntity(UrnUtils.getUrn(assertionUrn))
+                                .setType("Asserts")))));
+  }
+}
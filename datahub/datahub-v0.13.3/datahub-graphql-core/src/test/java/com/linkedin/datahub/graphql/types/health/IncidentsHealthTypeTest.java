@@ -0,0 +1,159 @@
+package com.linkedin.datahub.graphql.types.health;
+
+import static com.linkedin.datahub.graphql.TestUtils.getMockAllowContext;
+import static org.mockito.ArgumentMatchers.any;
+import static org.testng.Assert.*;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.datahub.graphql.generated.Health;
+import com.linkedin.datahub.graphql.generated.HealthStatus;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClient;
+import com.linkedin.incident.IncidentInfo;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchEntityArray;
+import com.linkedin.metadata.search.SearchResult;
+import graphql.execution.DataFetcherResult;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+public class IncidentsHealthTypeTest {
+
+  private static final Urn TEST_DATASET_URN = UrnUtils.getUrn("urn:li:dataset:(test,test,test)");
+  private static final Urn TEST_DATASET_URN_2 =
+      UrnUtils.getUrn("urn:li:dataset:(test,test2,test)");
+  private static final Urn TEST_DATASET_URN_3 =
+      UrnUtils.getUrn("urn:li:dataset:(test,test3,test)");
+  private static final Urn TEST_INCIDENT_URN = UrnUtils.getUrn("urn:li:incident:test-guid");
+  private static final Urn TEST_INCIDENT_URN_2 = UrnUtils.getUrn("urn:li:incident:test-guid-2");
+
+  @Test
+  public void testBatchLoad() throws Exception {
+    EntityClient mockClient = Mockito.mock(EntityClient.class);
+
+    // The first incident is open on the first two datasets, the second on the first one only
+    Mockito.when(
+            mockClient.filter(
+                any(),
+                Mockito.eq(Constants.INCIDENT_ENTITY_NAME),
+                any(),
+                Mockito.eq(null),
+                Mockito.eq(0),
+                Mockito.eq(1000)))
+        .thenReturn(searchResult(2, TEST_INCIDENT_URN, TEST_INCIDENT_URN_2));
+    Mockito.when(
+            mockClient.batchGetV2(
+                any(),
+                Mockito.eq(Constants.INCIDENT_ENTITY_NAME),
+                Mockito.eq(ImmutableSet.of(TEST_INCIDENT_URN, TEST_INCIDENT_URN_2)),
+                Mockito.eq(ImmutableSet.of(Constants.INCIDENT_INFO_ASPECT_NAME))))
+        .thenReturn(
+            ImmutableMap.of(
+                TEST_INCIDENT_URN,
+                incidentResponse(TEST_INCIDENT_URN, TEST_DATASET_URN, TEST_DATASET_URN_2),
+                TEST_INCIDENT_URN_2,
+                incidentResponse(TEST_INCIDENT_URN_2, TEST_DATASET_URN)));
+
+    IncidentsHealthType type = new IncidentsHealthType(mockClient);
+    QueryContext mockContext = getMockAllowContext();
+
+    List<DataFetcherResult<Health>> results =
+        type.batchLoad(
+            ImmutableList.of(
+                TEST_DATASET_URN.toString(),
+                TEST_DATASET_URN_2.toString(),
+                TEST_DATASET_URN_3.toString()),
+            mockContext);
+
+    assertEquals(results.size(), 3);
+    assertEquals(results.get(0).getData().getStatus(), HealthStatus.FAIL);
+    assertEquals(results.get(0).getData().getMessage(), "2 active incidents");
+    assertEquals(results.get(1).getData().getStatus(), HealthStatus.FAIL);
+    assertEquals(results.get(1).getData().getMessage(), "1 active incident");
+    assertEquals(results.get(2).getData().getStatus(), HealthStatus.PASS);
+
+    // A single search for all the datasets
+    Mockito.verify(mockClient, Mockito.times(1))
+        .filter(any(), any(), any(), any(), Mockito.anyInt(), Mockito.anyInt());
+  }
+
+  @Test
+  public void testBatchLoadTooManyIncidents() throws Exception {
+    EntityClient mockClient = Mockito.mock(EntityClient.class);
+
+    // More active incidents than a single search returns, each dataset is counted on its own
+    Mockito.when(
+            mockClient.filter(
+                any(),
+                Mockito.eq(Constants.INCIDENT_ENTITY_NAME),
+                any(),
+                Mockito.eq(null),
+                Mockito.eq(0),
+                Mockito.eq(1000)))
+        .thenReturn(searchResult(1001, TEST_INCIDENT_URN));
+    Mockito.when(
+            mockClient.filter(
+                any(),
+                Mockito.eq(Constants.INCIDENT_ENTITY_NAME),
+                any(),
+                Mockito.eq(null),
+                Mockito.eq(0),
+                Mockito.eq(1)))
+        .thenReturn(searchResult(1001, TEST_INCIDENT_URN), searchResult(0));
+
+    IncidentsHealthType type = new IncidentsHealthType(mockClient);
+    QueryContext mockContext = getMockAllowContext();
+
+    List<DataFetcherResult<Health>> results =
+        type.batchLoad(
+            ImmutableList.of(TEST_DATASET_URN.toString(), TEST_DATASET_URN_2.toString()),
+            mockContext);
+
+    assertEquals(results.size(), 2);
+    assertEquals(results.get(0).getData().getStatus(), HealthStatus.FAIL);
+    assertEquals(results.get(0).getData().getMessage(), "1001 active incidents");
+    assertEquals(results.get(1).getData().getStatus(), HealthStatus.PASS);
+
+    Mockito.verify(mockClient, Mockito.times(0)).batchGetV2(any(), any(), any(), any());
+  }
+
+  private static SearchResult searchResult(int numEntities, Urn... incidentUrns) {
+    return new SearchResult()
+        .setFrom(0)
+        .setPageSize(incidentUrns.length)
+        .setNumEntities(numEntities)
+        .setEntities(
+            new SearchEntityArray(
+                Arrays.stream(incidentUrns)
+                    .map(urn -> new SearchEntity().setEntity(urn))
+                    .collect(Collectors.toList())));
+  }
+
+  private static EntityResponse incidentResponse(Urn incidentUrn, Urn... entityUrns) {
+    IncidentInfo incidentInfo =
+        new IncidentInfo().setEntities(new UrnArray(ImmutableList.copyOf(entityUrns)));
+    return new EntityResponse()
+        .setEntityName(Constants.INCIDENT_ENTITY_NAME)
+        .setUrn(incidentUrn)
+        .setAspects(
+            new EnvelopedAspectMap(
+                ImmutableMap.of(
+                    Constants.INCIDENT_INFO_ASPECT_NAME,
+                    new EnvelopedAspect()
+                        .setName(Constants.INCIDENT_INFO_ASPECT_NAME)
+                        .setValue(new Aspect(incidentInfo.data())))));
+  }
+}
@@ -0,0 +1,90 @@
+package com.linkedin.datahub.graphql.types.usage;
+
+import static com.linkedin.datahub.graphql.TestUtils.getMockAllowContext;
+import static com.linkedin.datahub.graphql.TestUtils.getMockDenyContext;
+import static org.testng.Assert.*;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.linkedin.datahub.graphql.QueryContext;
+import com.linkedin.usage.UsageClient;
+import com.linkedin.usage.UsageQueryResult;
+import com.linkedin.usage.UsageQueryResultAggregations;
+import com.linkedin.usage.UsageTimeRange;
+import graphql.execution.DataFetcherResult;
+import java.util.List;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+public class UsageStatsTypeTest {
+
+  private static final String TEST_DATASET_URN = "urn:li:dataset:(test,test,test)";
+  private static final String TEST_DATASET_URN_2 = "urn:li:dataset:(test,test2,test)";
+
+  @Test
+  public void testBatchLoadByRange() throws Exception {
+    UsageClient mockClient = Mockito.mock(UsageClient.class);
+    UsageQueryResult monthResult = usageQueryResult(10);
+    UsageQueryResult monthResult2 = usageQueryResult(20);
+    UsageQueryResult weekResult = usageQueryResult(5);
+
+    Mockito.when(
+            mockClient.batchGetUsageStats(
+                Mockito.any(),
+                Mockito.eq(ImmutableList.of(TEST_DATASET_URN, TEST_DATASET_URN_2)),
+                Mockito.eq(UsageTimeRange.MONTH)))
+        .thenReturn(
+            ImmutableMap.of(TEST_DATASET_URN, monthResult, TEST_DATASET_URN_2, monthResult2));
+    Mockito.when(
+            mockClient.getUsageStats(
+                Mockito.any(), Mockito.eq(TEST_DATASET_URN), Mockito.eq(UsageTimeRange.WEEK)))
+        .thenReturn(weekResult);
+
+    UsageStatsType type = new UsageStatsType(mockClient);
+    QueryContext mockContext = getMockAllowContext();
+
+    List<DataFetcherResult<UsageQueryResult>> results =
+        type.batchLoad(
+            ImmutableList.of(
+                new UsageStatsKey(TEST_DATASET_URN, UsageTimeRange.MONTH),
+                new UsageStatsKey(TEST_DATASET_URN, UsageTimeRange.WEEK),
+                new UsageStatsKey(TEST_DATASET_URN_2, UsageTimeRange.MONTH)),
+            mockContext);
+
+    assertEquals(results.size(), 3);
+    assertEquals(results.get(0).getData(), monthResult);
+    assertEquals(results.get(1).getData(), weekResult);
+    assertEquals(results.get(2).getData(), monthResult2);
+
+    // The datasets sharing a range are loaded at once
+    Mockito.verify(mockClient, Mockito.times(1))
+        .batchGetUsageStats(Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testBatchLoadUnauthorized() throws Exception {
+    UsageClient mockClient = Mockito.mock(UsageClient.class);
+
+    UsageStatsType type = new UsageStatsType(mockClient);
+    QueryContext mockContext = getMockDenyContext();
+
+    List<DataFetcherResult<UsageQueryResult>> results =
+        type.batchLoad(
+            ImmutableList.of(
+                new UsageStatsKey(TEST_DATASET_URN, UsageTimeRange.MONTH),
+                new UsageStatsKey(TEST_DATASET_URN_2, UsageTimeRange.MONTH)),
+            mockContext);
+
+    assertEquals(results.size(), 2);
+    assertNull(results.get(0).getData());
+    assertNull(results.get(1).getData());
+
+    // The usage of datasets which may not be viewed is not loaded
+    Mockito.verifyNoInteractions(mockClient);
+  }
+
+  private static UsageQueryResult usageQueryResult(int totalSqlQueries) {
+    return new UsageQueryResult()
+        .setAggregations(new UsageQueryResultAggregations().setTotalSqlQueries(totalSqlQueries));
+  }
+}
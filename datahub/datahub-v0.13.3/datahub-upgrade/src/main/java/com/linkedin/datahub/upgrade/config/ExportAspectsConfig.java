@@ -0,0 +1,29 @@
+package com.linkedin.datahub.upgrade.config;
+
+import com.linkedin.datahub.upgrade.exportaspects.ExportAspects;
+import com.linkedin.metadata.entity.AspectDao;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class ExportAspectsConfig {
+
+  @Bean(name = "exportAspects")
+  @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
+  @Nonnull
+  public ExportAspects createInstance(final AspectDao aspectDao) {
+    return new ExportAspects(aspectDao);
+  }
+
+  @Bean(name = "exportAspects")
+  @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
+  @Nonnull
+  public ExportAspects createNotImplInstance() {
+    log.warn("exportAspects is not supported for cassandra!");
+    return new ExportAspects(null);
+  }
+}
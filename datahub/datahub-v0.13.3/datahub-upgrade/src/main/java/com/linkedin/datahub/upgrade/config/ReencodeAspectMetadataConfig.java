@@ -0,0 +1,38 @@
+package com.linkedin.datahub.upgrade.config;
+
+import com.linkedin.datahub.upgrade.system.NonBlockingSystemUpgrade;
+import com.linkedin.datahub.upgrade.system.aspectencoding.ReencodeAspectMetadata;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
+import com.linkedin.metadata.entity.EntityService;
+import io.ebean.Database;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Conditional(SystemUpdateCondition.NonBlockingSystemUpdateCondition.class)
+@ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
+public class ReencodeAspectMetadataConfig {
+
+  @Bean
+  public NonBlockingSystemUpgrade reencodeAspectMetadata(
+      final EntityService<?> entityService,
+      final Database ebeanServer,
+      @Value("${ebean.metadataEncoding:JSON}") final String metadataEncoding,
+      @Value("${systemUpdate.aspectMetadataEncoding.enabled}") final boolean enabled,
+      @Value("${systemUpdate.aspectMetadataEncoding.reprocess.enabled}")
+          final boolean reprocessEnabled,
+      @Value("${systemUpdate.aspectMetadataEncoding.batchSize}") final Integer batchSize,
+      @Value("${systemUpdate.aspectMetadataEncoding.delayMs}") final Integer delayMs) {
+    return new ReencodeAspectMetadata(
+        entityService,
+        ebeanServer,
+        AspectMetadataEncoding.fromConfig(metadataEncoding),
+        enabled,
+        reprocessEnabled,
+        batchSize,
+        delayMs);
+  }
+}
@@ -0,0 +1,47 @@
+package com.linkedin.datahub.upgrade.exportaspects;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeCleanupStep;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.metadata.entity.AspectDao;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Exports the latest version of aspects from the local database to a file, as newline delimited
+ * JSON or as Parquet which {@link com.linkedin.datahub.upgrade.restorebackup.RestoreBackup} can
+ * restore.
+ */
+public class ExportAspects implements Upgrade {
+  public static final String OUTPUT_PATH_ARG_NAME = "outputPath";
+  public static final String FORMAT_ARG_NAME = "format";
+  public static final String ENTITY_NAMES_ARG_NAME = "entityNames";
+  public static final String ASPECT_NAMES_ARG_NAME = "aspectNames";
+  public static final String BATCH_SIZE_ARG_NAME = "batchSize";
+
+  private final List<UpgradeStep> _steps;
+
+  public ExportAspects(@Nullable final AspectDao aspectDao) {
+    if (aspectDao != null) {
+      _steps = ImmutableList.of(new ExportAspectsStep(aspectDao));
+    } else {
+      _steps = List.of();
+    }
+  }
+
+  @Override
+  public String id() {
+    return "ExportAspects";
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+
+  @Override
+  public List<UpgradeCleanupStep> cleanupSteps() {
+    return ImmutableList.of();
+  }
+}
@@ -0,0 +1,150 @@
+package com.linkedin.datahub.upgrade.exportaspects;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.export.AspectExporter;
+import com.linkedin.metadata.entity.export.AspectWriter;
+import com.linkedin.metadata.entity.export.NdjsonAspectWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ExportAspectsStep implements UpgradeStep {
+
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+
+  enum Format {
+    /** Newline delimited JSON, gzipped when the output path ends with .gz */
+    NDJSON,
+    /** Snappy compressed Parquet, as read by RestoreBackup */
+    PARQUET
+  }
+
+  private final AspectDao _aspectDao;
+
+  public ExportAspectsStep(final AspectDao aspectDao) {
+    _aspectDao = aspectDao;
+  }
+
+  @Override
+  public String id() {
+    return "ExportAspectsStep";
+  }
+
+  @Override
+  public int retryCount() {
+    return 0;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      final Map<String, Optional<String>> parsedArgs = context.parsedArgs();
+      final Optional<String> outputPath = getArg(parsedArgs, ExportAspects.OUTPUT_PATH_ARG_NAME);
+      if (outputPath.isEmpty()) {
+        context.report().addLine("outputPath must be set to export aspects");
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+      }
+      final Optional<String> formatArg = getArg(parsedArgs, ExportAspects.FORMAT_ARG_NAME);
+      final Format format;
+      try {
+        format =
+            formatArg
+                .map(value -> Format.valueOf(value.trim().toUpperCase()))
+                .orElse(Format.NDJSON);
+      } catch (IllegalArgumentException e) {
+        context
+            .report()
+            .addLine(
+                String.format(
+                    "Unknown format %s, valid formats are %s",
+                    formatArg.get(), Arrays.toString(Format.values())));
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+      }
+      final List<String> entityNames = getList(parsedArgs, ExportAspects.ENTITY_NAMES_ARG_NAME);
+      final List<String> aspectNames = getList(parsedArgs, ExportAspects.ASPECT_NAMES_ARG_NAME);
+      final Optional<String> batchSizeArg = getArg(parsedArgs, ExportAspects.BATCH_SIZE_ARG_NAME);
+      final int batchSize;
+      try {
+        batchSize =
+            batchSizeArg.map(value -> Integer.parseInt(value.trim())).orElse(DEFAULT_BATCH_SIZE);
+      } catch (NumberFormatException e) {
+        context
+            .report()
+            .addLine(String.format("batchSize must be a number, got %s", batchSizeArg.get()));
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+      }
+
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Exporting aspects %s of entities %s to %s as %s",
+                  aspectNames.isEmpty() ? "(all)" : aspectNames,
+                  entityNames.isEmpty() ? "(all)" : entityNames,
+                  outputPath.get(),
+                  format));
+      try (AspectWriter writer = createWriter(format, outputPath.get())) {
+        final long count =
+            new AspectExporter(_aspectDao).export(entityNames, aspectNames, batchSize, writer);
+        context.report().addLine(String.format("Exported %d aspects", count));
+      } catch (IOException e) {
+        log.error("Failed to export aspects to {}", outputPath.get(), e);
+        context.report().addLine("Failed to export aspects", e);
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+      } catch (UnsupportedOperationException e) {
+        // Aspect DAOs which cannot scan the aspect table, e.g. Cassandra's
+        log.error("Failed to export aspects", e);
+        context.report().addLine(e.getMessage());
+        return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+      }
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+    };
+  }
+
+  private static AspectWriter createWriter(@Nonnull Format format, @Nonnull String outputPath)
+      throws IOException {
+    if (format == Format.PARQUET) {
+      return new ParquetAspectWriter(outputPath);
+    }
+    OutputStream outputStream =
+        new BufferedOutputStream(Files.newOutputStream(Paths.get(outputPath)));
+    if (outputPath.endsWith(".gz")) {
+      outputStream = new GZIPOutputStream(outputStream);
+    }
+    return new NdjsonAspectWriter(new JsonFactory(), outputStream);
+  }
+
+  private static Optional<String> getArg(
+      @Nonnull Map<String, Optional<String>> parsedArgs, @Nonnull String argName) {
+    return parsedArgs.getOrDefault(argName, Optional.empty()).filter(value -> !value.isBlank());
+  }
+
+  private static List<String> getList(
+      @Nonnull Map<String, Optional<String>> parsedArgs, @Nonnull String argName) {
+    return getArg(parsedArgs, argName)
+        .map(
+            value ->
+                Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toList()))
+        .orElse(List.of());
+  }
+}
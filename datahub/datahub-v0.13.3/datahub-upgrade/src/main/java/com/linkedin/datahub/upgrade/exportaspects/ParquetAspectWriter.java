@@ -0,0 +1,75 @@
+package com.linkedin.datahub.upgrade.exportaspects;
+
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.export.AspectWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+
+/**
+ * Writes aspects to a Snappy compressed Parquet file, with the columns of the aspect table read by
+ * {@link com.linkedin.datahub.upgrade.restorebackup.backupreader.ParquetReaderWrapper}.
+ */
+public class ParquetAspectWriter implements AspectWriter {
+  static final Schema SCHEMA =
+      SchemaBuilder.record("metadata_aspect_v2")
+          .fields()
+          .requiredString("urn")
+          .requiredString("aspect")
+          .requiredLong("version")
+          .requiredString("metadata")
+          .optionalString("systemmetadata")
+          // In microseconds, as read back by RestoreBackup
+          .requiredLong("createdon")
+          .requiredString("createdby")
+          .optionalString("createdfor")
+          .endRecord();
+
+  private final ParquetWriter<GenericRecord> _writer;
+
+  public ParquetAspectWriter(@Nonnull String path) throws IOException {
+    // Same workaround as LocalParquetReader for the hadoop path class failing to login on linux
+    UserGroupInformation.setLoginUser(UserGroupInformation.createRemoteUser("hduser"));
+    _writer =
+        AvroParquetWriter.<GenericRecord>builder(new Path(path))
+            .withSchema(SCHEMA)
+            .withCompressionCodec(CompressionCodecName.SNAPPY)
+            .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+            .build();
+  }
+
+  @Override
+  public void write(@Nonnull EbeanAspectV2 aspect) throws IOException {
+    final GenericRecord record = new GenericData.Record(SCHEMA);
+    record.put("urn", aspect.getUrn());
+    record.put("aspect", aspect.getAspect());
+    record.put("version", aspect.getVersion());
+    record.put("metadata", AspectMetadataEncoding.decode(aspect.getMetadata()));
+    record.put("systemmetadata", aspect.getSystemMetadata());
+    record.put("createdon", TimeUnit.MILLISECONDS.toMicros(aspect.getCreatedOn().getTime()));
+    record.put("createdby", aspect.getCreatedBy());
+    record.put("createdfor", aspect.getCreatedFor());
+    _writer.write(record);
+  }
+
+  @Override
+  public void flush() {
+    // Row groups are written out as they fill up
+  }
+
+  @Override
+  public void close() throws IOException {
+    _writer.close();
+  }
+}
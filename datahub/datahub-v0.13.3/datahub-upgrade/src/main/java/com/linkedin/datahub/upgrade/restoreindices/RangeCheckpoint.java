@@ -0,0 +1,219 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import static com.linkedin.metadata.Constants.DATA_HUB_UPGRADE_ENTITY_NAME;
+import static com.linkedin.metadata.Constants.DATA_HUB_UPGRADE_RESULT_ASPECT_NAME;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.utils.AuditStampUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import io.datahubproject.metadata.context.OperationContext;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists the progress of a range partitioned restore in the {@link DataHubUpgradeResult} aspect
+ * so that an interrupted restore resumes each range from its last keyset cursor.
+ *
+ * <p>The checkpoint is keyed by a fingerprint of the restore filters. A checkpoint written for
+ * different filters, or one where every range is done, is ignored and a fresh split is computed.
+ *
+ * <p>Progress is written every few batches or seconds, whichever comes first, and whenever a range
+ * completes. A resumed restore may therefore send some batches again. The checkpoint is written
+ * without emitting a MetadataChangeLog, it is only ever read back by this class.
+ */
+@Slf4j
+public class RangeCheckpoint {
+  static final String UPGRADE_ID = "RestoreIndices-ranges";
+  static final int DEFAULT_WRITE_EVERY_BATCHES = 10;
+  static final long DEFAULT_WRITE_INTERVAL_MS = 30_000;
+
+  private static final String FINGERPRINT_KEY = "fingerprint";
+  private static final String NUM_RANGES_KEY = "numRanges";
+  private static final String LOWER_URN_KEY = "lowerUrn";
+  private static final String UPPER_URN_KEY = "upperUrn";
+  private static final String LAST_URN_KEY = "lastUrn";
+  private static final String LAST_ASPECT_KEY = "lastAspect";
+  private static final String DONE_KEY = "done";
+
+  private final OperationContext opContext;
+  private final EntityService<?> entityService;
+  private final Urn upgradeUrn;
+  private final String fingerprint;
+  private final int writeEveryBatches;
+  private final long writeIntervalMs;
+  private final Clock clock;
+
+  // Latest snapshot of every range, indexed by range index. Guarded by this.
+  private final List<UrnRange> ranges = new ArrayList<>();
+  private int batchesSinceWrite = 0;
+  private long lastWriteMs;
+
+  public RangeCheckpoint(
+      @Nonnull OperationContext opContext,
+      @Nonnull EntityService<?> entityService,
+      @Nonnull RestoreIndicesArgs args,
+      int numPartitions) {
+    this(
+        opContext,
+        entityService,
+        args,
+        numPartitions,
+        DEFAULT_WRITE_EVERY_BATCHES,
+        DEFAULT_WRITE_INTERVAL_MS,
+        Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  RangeCheckpoint(
+      @Nonnull OperationContext opContext,
+      @Nonnull EntityService<?> entityService,
+      @Nonnull RestoreIndicesArgs args,
+      int numPartitions,
+      int writeEveryBatches,
+      long writeIntervalMs,
+      @Nonnull Clock clock) {
+    this.opContext = opContext;
+    this.entityService = entityService;
+    this.writeEveryBatches = Math.max(1, writeEveryBatches);
+    this.writeIntervalMs = writeIntervalMs;
+    this.clock = clock;
+    this.lastWriteMs = clock.millis();
+    this.upgradeUrn = BootstrapStep.getUpgradeUrn(UPGRADE_ID);
+    this.fingerprint =
+        String.format(
+            "aspectName=%s,urn=%s,urnLike=%s,numPartitions=%d",
+            args.aspectName, args.urn, args.urnLike, numPartitions);
+  }
+
+  /**
+   * @return the ranges of a previous, unfinished restore with the same filters, otherwise an empty
+   *     list
+   */
+  @Nonnull
+  public List<UrnRange> resume() {
+    final DataHubUpgradeResult previous =
+        (DataHubUpgradeResult)
+            entityService.getLatestAspect(
+                opContext, upgradeUrn, DATA_HUB_UPGRADE_RESULT_ASPECT_NAME);
+    if (previous == null
+        || !previous.hasResult()
+        || !fingerprint.equals(previous.getResult().get(FINGERPRINT_KEY))) {
+      return Collections.emptyList();
+    }
+
+    final StringMap state = previous.getResult();
+    final int numRanges = Integer.parseInt(state.getOrDefault(NUM_RANGES_KEY, "0"));
+    final List<UrnRange> resumed = new ArrayList<>(numRanges);
+    for (int i = 0; i < numRanges; i++) {
+      resumed.add(
+          new UrnRange(
+              i,
+              state.get(key(i, LOWER_URN_KEY)),
+              state.get(key(i, UPPER_URN_KEY)),
+              state.get(key(i, LAST_URN_KEY)),
+              state.get(key(i, LAST_ASPECT_KEY)),
+              Boolean.parseBoolean(state.get(key(i, DONE_KEY)))));
+    }
+    if (resumed.stream().allMatch(UrnRange::isDone)) {
+      return Collections.emptyList();
+    }
+
+    synchronized (this) {
+      this.ranges.clear();
+      this.ranges.addAll(resumed);
+    }
+    return resumed;
+  }
+
+  /** Starts tracking a freshly computed set of ranges and writes the initial checkpoint. */
+  public synchronized void start(@Nonnull List<UrnRange> ranges) {
+    this.ranges.clear();
+    this.ranges.addAll(ranges);
+    write();
+  }
+
+  /**
+   * Records the progress of one range, replacing its previous snapshot. Called by the range
+   * workers after every batch, the checkpoint is only written once enough batches or time have
+   * gone by, or when the range is done.
+   */
+  public synchronized void update(@Nonnull UrnRange range) {
+    ranges.set(range.getIndex(), range);
+    batchesSinceWrite++;
+    if (range.isDone()
+        || batchesSinceWrite >= writeEveryBatches
+        || clock.millis() - lastWriteMs >= writeIntervalMs) {
+      write();
+      log.debug(
+          "Checkpointed range {} at {} - {}, done: {}",
+          range.getIndex(),
+          range.getLastUrn(),
+          range.getLastAspect(),
+          range.isDone());
+    }
+  }
+
+  /** Writes any progress which was recorded since the last write. */
+  public synchronized void flush() {
+    if (batchesSinceWrite > 0) {
+      write();
+    }
+  }
+
+  private void write() {
+    final StringMap state = new StringMap();
+    state.put(FINGERPRINT_KEY, fingerprint);
+    state.put(NUM_RANGES_KEY, String.valueOf(ranges.size()));
+    for (UrnRange range : ranges) {
+      putIfNotNull(state, key(range.getIndex(), LOWER_URN_KEY), range.getLowerUrn());
+      putIfNotNull(state, key(range.getIndex(), UPPER_URN_KEY), range.getUpperUrn());
+      putIfNotNull(state, key(range.getIndex(), LAST_URN_KEY), range.getLastUrn());
+      putIfNotNull(state, key(range.getIndex(), LAST_ASPECT_KEY), range.getLastAspect());
+      state.put(key(range.getIndex(), DONE_KEY), String.valueOf(range.isDone()));
+    }
+
+    final DataHubUpgradeResult upgradeResult =
+        new DataHubUpgradeResult().setTimestampMs(System.currentTimeMillis()).setResult(state);
+    final MetadataChangeProposal upgradeProposal = new MetadataChangeProposal();
+    upgradeProposal.setEntityUrn(upgradeUrn);
+    upgradeProposal.setEntityType(DATA_HUB_UPGRADE_ENTITY_NAME);
+    upgradeProposal.setAspectName(DATA_HUB_UPGRADE_RESULT_ASPECT_NAME);
+    upgradeProposal.setAspect(GenericRecordUtils.serializeAspect(upgradeResult));
+    upgradeProposal.setChangeType(ChangeType.UPSERT);
+    entityService.ingestAspects(
+        opContext,
+        AspectsBatchImpl.builder()
+            .mcps(
+                List.of(upgradeProposal),
+                AuditStampUtils.createDefaultAuditStamp(),
+                opContext.getRetrieverContext().get())
+            .build(),
+        false,
+        true);
+    batchesSinceWrite = 0;
+    lastWriteMs = clock.millis();
+  }
+
+  private static String key(int index, String field) {
+    return String.format("range.%d.%s", index, field);
+  }
+
+  private static void putIfNotNull(StringMap state, String key, String value) {
+    if (value != null) {
+      state.put(key, value);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.datahub.upgrade.restoreindices;
 
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
@@ -15,13 +16,16 @@ import io.ebean.ExpressionList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -33,6 +37,7 @@ public class SendMAEStep implements UpgradeStep {
   private static final int DEFAULT_STARTING_OFFSET = 0;
   private static final int DEFAULT_THREADS = 1;
   private static final boolean DEFAULT_URN_BASED_PAGINATION = false;
+  private static final int DEFAULT_NUM_PARTITIONS = 1;
 
   private final Database _server;
   private final EntityService<?> _entityService;
@@ -125,21 +130,173 @@ public class SendMAEStep implements UpgradeStep {
   }
 
   private int getRowCount(RestoreIndicesArgs args) {
-    ExpressionList<EbeanAspectV2> countExp =
-        _server
-            .find(EbeanAspectV2.class)
-            .where()
-            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
+    return applyFilters(_server.find(EbeanAspectV2.class).where(), args).findCount();
+  }
+
+  private static ExpressionList<EbeanAspectV2> applyFilters(
+      ExpressionList<EbeanAspectV2> exp, RestoreIndicesArgs args) {
+    exp = exp.eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
     if (args.aspectName != null) {
-      countExp = countExp.eq(EbeanAspectV2.ASPECT_COLUMN, args.aspectName);
+      exp = exp.eq(EbeanAspectV2.ASPECT_COLUMN, args.aspectName);
     }
     if (args.urn != null) {
-      countExp = countExp.eq(EbeanAspectV2.URN_COLUMN, args.urn);
+      exp = exp.eq(EbeanAspectV2.URN_COLUMN, args.urn);
     }
     if (args.urnLike != null) {
-      countExp = countExp.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
+      exp = exp.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
+    }
+    return exp;
+  }
+
+  /**
+   * Splits the urn keyspace into roughly equally sized ranges. Boundaries are sampled by stepping
+   * through the (urn, aspect) index from the previous boundary, so sampling reads the index once in
+   * total rather than once per boundary.
+   */
+  @VisibleForTesting
+  List<UrnRange> computeRanges(RestoreIndicesArgs args, int numPartitions, int rowCount) {
+    final int step = rowCount / numPartitions;
+    final List<String> boundaries = new ArrayList<>();
+    if (step > 0) {
+      String previous = null;
+      for (int i = 1; i < numPartitions; i++) {
+        ExpressionList<EbeanAspectV2> exp =
+            applyFilters(
+                _server.find(EbeanAspectV2.class).select(EbeanAspectV2.URN_COLUMN).where(), args);
+        if (previous != null) {
+          exp = exp.ge(EbeanAspectV2.URN_COLUMN, previous);
+        }
+        final String boundary =
+            exp.orderBy()
+                .asc(EbeanAspectV2.URN_COLUMN)
+                .orderBy()
+                .asc(EbeanAspectV2.ASPECT_COLUMN)
+                .setFirstRow(step)
+                .setMaxRows(1)
+                .findSingleAttribute();
+        if (boundary == null) {
+          break;
+        }
+        // Ranges are cut on urn, an urn with many aspects may swallow a boundary
+        if (!boundary.equals(previous)) {
+          boundaries.add(boundary);
+        }
+        previous = boundary;
+      }
+    }
+
+    final List<UrnRange> ranges = new ArrayList<>(boundaries.size() + 1);
+    String lower = null;
+    for (String upper : boundaries) {
+      ranges.add(new UrnRange(ranges.size(), lower, upper));
+      lower = upper;
+    }
+    ranges.add(new UrnRange(ranges.size(), lower, null));
+    return ranges;
+  }
+
+  private boolean restoreRanges(
+      UpgradeContext context,
+      RestoreIndicesArgs args,
+      int numPartitions,
+      ExecutorService executor,
+      RestoreIndicesResult finalJobResult,
+      int rowCount,
+      long startTime) {
+    final RangeCheckpoint checkpoint =
+        new RangeCheckpoint(context.opContext(), _entityService, args, numPartitions);
+    List<UrnRange> ranges = checkpoint.resume();
+    if (ranges.isEmpty()) {
+      ranges = computeRanges(args, numPartitions, rowCount);
+      checkpoint.start(ranges);
+      context.report().addLine(String.format("Split urn keyspace into %d ranges", ranges.size()));
+    } else {
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Resuming %d unfinished of %d ranges from checkpoint",
+                  ranges.stream().filter(range -> !range.isDone()).count(), ranges.size()));
+    }
+
+    final List<Future<?>> futures =
+        ranges.stream()
+            .filter(range -> !range.isDone())
+            .map(
+                range ->
+                    executor.submit(
+                        () ->
+                            restoreRange(
+                                context,
+                                args,
+                                range,
+                                checkpoint,
+                                finalJobResult,
+                                rowCount,
+                                startTime)))
+            .collect(Collectors.toList());
+
+    boolean success = true;
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException | ExecutionException e) {
+        log.error("Error restoring urn range", e);
+        success = false;
+      }
+    }
+    // Keep the progress of ranges which failed, or had not written their last batches yet
+    checkpoint.flush();
+    return success;
+  }
+
+  private void restoreRange(
+      UpgradeContext context,
+      RestoreIndicesArgs args,
+      UrnRange initialRange,
+      RangeCheckpoint checkpoint,
+      RestoreIndicesResult finalJobResult,
+      int rowCount,
+      long startTime) {
+    UrnRange range = initialRange;
+    while (!range.isDone()) {
+      RestoreIndicesArgs rangeArgs = args.clone();
+      rangeArgs.start = 0;
+      rangeArgs.urnBasedPagination = true;
+      rangeArgs.urnUpperBound = range.getUpperUrn();
+      if (range.getLastUrn() != null) {
+        rangeArgs.lastUrn = range.getLastUrn();
+        rangeArgs.lastAspect = range.getLastAspect();
+      } else {
+        rangeArgs.lastUrn = range.getLowerUrn();
+        rangeArgs.lastAspect = "";
+      }
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Range %d: getting next batch of urns + aspects, starting with %s - %s",
+                  range.getIndex(), rangeArgs.lastUrn, rangeArgs.lastAspect));
+
+      int rowsProcessed = 0;
+      RestoreIndicesResult lastResult = null;
+      for (RestoreIndicesResult result :
+          _entityService.restoreIndices(context.opContext(), rangeArgs, context.report()::addLine)) {
+        reportStats(context, finalJobResult, result, rowCount, startTime);
+        rowsProcessed += result.rowsMigrated + result.ignored;
+        lastResult = result;
+      }
+
+      if (rowsProcessed == 0
+          || lastResult.lastUrn == null
+          || (lastResult.lastUrn.equals(rangeArgs.lastUrn)
+              && Objects.equals(lastResult.lastAspect, rangeArgs.lastAspect))) {
+        range = range.complete();
+      } else {
+        range = range.advance(lastResult.lastUrn, lastResult.lastAspect);
+      }
+      checkpoint.update(range);
     }
-    return countExp.findCount();
   }
 
   @Override
@@ -147,6 +304,8 @@ public class SendMAEStep implements UpgradeStep {
     return (context) -> {
       RestoreIndicesResult finalJobResult = new RestoreIndicesResult();
       RestoreIndicesArgs args = getArgs(context);
+      final int numPartitions = getNumPartitions(context.parsedArgs());
+      context.report().addLine(String.format("numPartitions is %d", numPartitions));
       ThreadPoolExecutor executor =
           (ThreadPoolExecutor) Executors.newFixedThreadPool(args.numThreads);
 
@@ -163,7 +322,13 @@ public class SendMAEStep implements UpgradeStep {
 
       List<Future<RestoreIndicesResult>> futures = new ArrayList<>();
       startTime = System.currentTimeMillis();
-      if (args.urnBasedPagination) {
+      if (numPartitions > 1) {
+        if (!restoreRanges(
+            context, args, numPartitions, executor, finalJobResult, rowCount, startTime)) {
+          executor.shutdown();
+          return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.FAILED);
+        }
+      } else if (args.urnBasedPagination) {
         RestoreIndicesResult previousResult = null;
         int rowsProcessed = 1;
         while (rowsProcessed > 0) {
@@ -223,7 +388,7 @@ public class SendMAEStep implements UpgradeStep {
     };
   }
 
-  private static void reportStats(
+  private static synchronized void reportStats(
       UpgradeContext context,
       RestoreIndicesResult finalResult,
       RestoreIndicesResult tmpResult,
@@ -287,6 +452,10 @@ public class SendMAEStep implements UpgradeStep {
     return getInt(parsedArgs, DEFAULT_THREADS, RestoreIndices.NUM_THREADS_ARG_NAME);
   }
 
+  private int getNumPartitions(final Map<String, Optional<String>> parsedArgs) {
+    return getInt(parsedArgs, DEFAULT_NUM_PARTITIONS, RestoreIndices.NUM_PARTITIONS_ARG_NAME);
+  }
+
   private boolean getUrnBasedPagination(final Map<String, Optional<String>> parsedArgs) {
     boolean urnBasedPagination = DEFAULT_URN_BASED_PAGINATION;
     if (containsKey(parsedArgs, RestoreIndices.URN_BASED_PAGINATION_ARG_NAME)) {
@@ -0,0 +1,44 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * A contiguous slice of the urn keyspace of the aspects table, restored by a single worker using
+ * keyset pagination. A null bound means the range is unbounded on that side.
+ *
+ * <p>Instances are immutable, progress is recorded by replacing the snapshot of a range, so the
+ * keyset cursor is always read as a consistent (urn, aspect) pair.
+ */
+@Value
+@AllArgsConstructor
+public class UrnRange {
+  int index;
+  // Inclusive
+  @Nullable String lowerUrn;
+  // Exclusive
+  @Nullable String upperUrn;
+
+  // Keyset cursor, the last (urn, aspect) pair which was restored
+  @Nullable String lastUrn;
+  @Nullable String lastAspect;
+  boolean done;
+
+  public UrnRange(int index, @Nullable String lowerUrn, @Nullable String upperUrn) {
+    this(index, lowerUrn, upperUrn, null, null, false);
+  }
+
+  /** @return this range with its cursor moved to the given (urn, aspect) pair */
+  @Nonnull
+  public UrnRange advance(@Nonnull String lastUrn, @Nullable String lastAspect) {
+    return new UrnRange(index, lowerUrn, upperUrn, lastUrn, lastAspect, false);
+  }
+
+  /** @return this range, marked as fully restored */
+  @Nonnull
+  public UrnRange complete() {
+    return new UrnRange(index, lowerUrn, upperUrn, lastUrn, lastAspect, true);
+  }
+}
@@ -0,0 +1,47 @@
+package com.linkedin.datahub.upgrade.system.aspectencoding;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.system.NonBlockingSystemUpgrade;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
+import com.linkedin.metadata.entity.EntityService;
+import io.ebean.Database;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * A job that re-encodes the stored aspects of the aspect table to the configured metadata
+ * encoding. New writes already use that encoding, this converts the rows written before.
+ */
+public class ReencodeAspectMetadata implements NonBlockingSystemUpgrade {
+
+  private final List<UpgradeStep> _steps;
+
+  public ReencodeAspectMetadata(
+      EntityService<?> entityService,
+      Database server,
+      @Nonnull AspectMetadataEncoding encoding,
+      boolean enabled,
+      boolean reprocessEnabled,
+      Integer batchSize,
+      Integer batchDelayMs) {
+    if (enabled) {
+      _steps =
+          ImmutableList.of(
+              new ReencodeAspectMetadataStep(
+                  entityService, server, encoding, reprocessEnabled, batchSize, batchDelayMs));
+    } else {
+      _steps = ImmutableList.of();
+    }
+  }
+
+  @Override
+  public String id() {
+    return this.getClass().getName();
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+}
@@ -0,0 +1,202 @@
+package com.linkedin.datahub.upgrade.system.aspectencoding;
+
+import static com.linkedin.metadata.Constants.DATA_HUB_UPGRADE_RESULT_ASPECT_NAME;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import io.ebean.Database;
+import io.ebean.ExpressionList;
+import io.ebean.SqlUpdate;
+import io.ebean.Transaction;
+import java.util.List;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rewrites the metadata column of every aspect row which is not yet stored in the configured
+ * {@link AspectMetadataEncoding}, e.g. compresses legacy plain JSON rows, or restores plain JSON
+ * before downgrading.
+ *
+ * <p>Rows are visited in primary key order with keyset pagination, one transaction per batch. A
+ * row is only rewritten if its metadata did not change since it was read, so aspects written
+ * concurrently by GMS are never overwritten with a stale value.
+ */
+@Slf4j
+public class ReencodeAspectMetadataStep implements UpgradeStep {
+  private static final String UPGRADE_ID_PREFIX = "ReencodeAspectMetadataStep_";
+  private static final String UPDATE_SQL =
+      "UPDATE metadata_aspect_v2 SET metadata = :encoded "
+          + "WHERE urn = :urn AND aspect = :aspect AND version = :version AND metadata = :stored";
+
+  private final EntityService<?> entityService;
+  private final Database server;
+  private final AspectMetadataEncoding encoding;
+  private final boolean reprocessEnabled;
+  private final int batchSize;
+  private final int batchDelayMs;
+  private final Urn upgradeIdUrn;
+
+  public ReencodeAspectMetadataStep(
+      EntityService<?> entityService,
+      Database server,
+      AspectMetadataEncoding encoding,
+      boolean reprocessEnabled,
+      Integer batchSize,
+      Integer batchDelayMs) {
+    this.entityService = entityService;
+    this.server = server;
+    this.encoding = encoding;
+    this.reprocessEnabled = reprocessEnabled;
+    this.batchSize = batchSize;
+    this.batchDelayMs = batchDelayMs;
+    this.upgradeIdUrn = BootstrapStep.getUpgradeUrn(id());
+  }
+
+  @Override
+  public String id() {
+    // Switching to another encoding runs the step again
+    return UPGRADE_ID_PREFIX + encoding.name();
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      EbeanAspectV2.PrimaryKey cursor = null;
+      long scanned = 0;
+      long rewritten = 0;
+      List<EbeanAspectV2> batch;
+      do {
+        batch = nextBatch(cursor);
+        if (batch.isEmpty()) {
+          break;
+        }
+        rewritten += reencode(batch);
+        scanned += batch.size();
+        cursor = batch.get(batch.size() - 1).getKey();
+        log.info(
+            "Re-encoded {} of {} aspect rows to {}, last urn: {}",
+            rewritten,
+            scanned,
+            encoding,
+            cursor.getUrn());
+
+        if (batchDelayMs > 0) {
+          try {
+            Thread.sleep(batchDelayMs);
+          } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        }
+      } while (batch.size() == batchSize);
+
+      BootstrapStep.setUpgradeResult(context.opContext(), upgradeIdUrn, entityService);
+      context
+          .report()
+          .addLine(String.format("Re-encoded %s aspect rows to %s", rewritten, encoding));
+      return new DefaultUpgradeStepResult(id(), UpgradeStepResult.Result.SUCCEEDED);
+    };
+  }
+
+  /** Next batch of rows not stored in the target encoding, after the cursor. */
+  @Nonnull
+  private List<EbeanAspectV2> nextBatch(EbeanAspectV2.PrimaryKey cursor) {
+    ExpressionList<EbeanAspectV2> exp =
+        server
+            .find(EbeanAspectV2.class)
+            .select(
+                String.format(
+                    "%s, %s, %s, %s",
+                    EbeanAspectV2.URN_COLUMN,
+                    EbeanAspectV2.ASPECT_COLUMN,
+                    EbeanAspectV2.VERSION_COLUMN,
+                    EbeanAspectV2.METADATA_COLUMN))
+            .where();
+
+    if (encoding == AspectMetadataEncoding.JSON) {
+      exp = exp.startsWith(EbeanAspectV2.METADATA_COLUMN, AspectMetadataEncoding.ZSTD_JSON_MARKER);
+    } else {
+      // Plain JSON rows, rows kept as plain JSON because they were too small are visited again
+      // on a rerun but left unchanged
+      exp = exp.startsWith(EbeanAspectV2.METADATA_COLUMN, "{");
+    }
+
+    if (cursor != null) {
+      exp =
+          exp.ge(EbeanAspectV2.URN_COLUMN, cursor.getUrn())
+              .or()
+              .gt(EbeanAspectV2.URN_COLUMN, cursor.getUrn())
+              .gt(EbeanAspectV2.ASPECT_COLUMN, cursor.getAspect())
+              .and()
+              .eq(EbeanAspectV2.ASPECT_COLUMN, cursor.getAspect())
+              .gt(EbeanAspectV2.VERSION_COLUMN, cursor.getVersion())
+              .endAnd()
+              .endOr();
+    }
+
+    return exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .asc(EbeanAspectV2.ASPECT_COLUMN)
+        .asc(EbeanAspectV2.VERSION_COLUMN)
+        .setMaxRows(batchSize)
+        .findList();
+  }
+
+  /** @return the number of rows rewritten */
+  private int reencode(@Nonnull List<EbeanAspectV2> batch) {
+    int rewritten = 0;
+    try (Transaction tx = server.beginTransaction()) {
+      for (EbeanAspectV2 row : batch) {
+        final String stored = row.getMetadata();
+        final String encoded = encoding.encode(AspectMetadataEncoding.decode(stored));
+        if (encoded.equals(stored)) {
+          continue;
+        }
+        final SqlUpdate update =
+            server
+                .sqlUpdate(UPDATE_SQL)
+                .setParameter("encoded", encoded)
+                .setParameter("urn", row.getKey().getUrn())
+                .setParameter("aspect", row.getKey().getAspect())
+                .setParameter("version", row.getKey().getVersion())
+                .setParameter("stored", stored);
+        rewritten += server.execute(update, tx);
+      }
+      tx.commit();
+    }
+    return rewritten;
+  }
+
+  /** The job is long running and can resume from the start at any point, failures are retried. */
+  @Override
+  public int retryCount() {
+    return 2;
+  }
+
+  @Override
+  public boolean isOptional() {
+    return true;
+  }
+
+  @Override
+  public boolean skip(UpgradeContext context) {
+    if (reprocessEnabled) {
+      return false;
+    }
+
+    boolean previouslyRun =
+        entityService.exists(
+            context.opContext(), upgradeIdUrn, DATA_HUB_UPGRADE_RESULT_ASPECT_NAME, true);
+    if (previouslyRun) {
+      log.info("{} was already run. Skipping.", id());
+    }
+    return previouslyRun;
+  }
+}
@@ -0,0 +1,83 @@
+package com.linkedin.datahub.upgrade.exportaspects;
+
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.metadata.entity.AspectDao;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class ExportAspectsStepTest {
+
+  private AspectDao aspectDao;
+  private UpgradeReport report;
+  private UpgradeContext context;
+
+  @BeforeMethod
+  public void setup() {
+    aspectDao = mock(AspectDao.class);
+    report = mock(UpgradeReport.class);
+    context = mock(UpgradeContext.class);
+    when(context.report()).thenReturn(report);
+  }
+
+  @Test
+  public void testUnknownFormat() throws Exception {
+    Path outputPath = Files.createTempFile("aspects", ".json");
+    when(context.parsedArgs())
+        .thenReturn(
+            Map.of(
+                ExportAspects.OUTPUT_PATH_ARG_NAME,
+                Optional.of(outputPath.toString()),
+                ExportAspects.FORMAT_ARG_NAME,
+                Optional.of("csv")));
+
+    UpgradeStepResult result = new ExportAspectsStep(aspectDao).executable().apply(context);
+
+    assertEquals(result.result(), UpgradeStepResult.Result.FAILED);
+    verify(report).addLine(contains("[NDJSON, PARQUET]"));
+    verifyNoInteractions(aspectDao);
+  }
+
+  @Test
+  public void testInvalidBatchSize() throws Exception {
+    Path outputPath = Files.createTempFile("aspects", ".json");
+    when(context.parsedArgs())
+        .thenReturn(
+            Map.of(
+                ExportAspects.OUTPUT_PATH_ARG_NAME,
+                Optional.of(outputPath.toString()),
+                ExportAspects.BATCH_SIZE_ARG_NAME,
+                Optional.of("many")));
+
+    UpgradeStepResult result = new ExportAspectsStep(aspectDao).executable().apply(context);
+
+    assertEquals(result.result(), UpgradeStepResult.Result.FAILED);
+    verify(report).addLine(contains("batchSize"));
+    verifyNoInteractions(aspectDao);
+  }
+
+  @Test
+  public void testUnsupportedAspectDao() throws Exception {
+    Path outputPath = Files.createTempFile("aspects", ".json");
+    when(context.parsedArgs())
+        .thenReturn(Map.of(ExportAspects.OUTPUT_PATH_ARG_NAME, Optional.of(outputPath.toString())));
+
+    // Aspect DAOs which cannot stream the aspect table return no stream
+    UpgradeStepResult result = new ExportAspectsStep(aspectDao).executable().apply(context);
+
+    assertEquals(result.result(), UpgradeStepResult.Result.FAILED);
+    verify(report).addLine(contains("not supported"));
+  }
+}
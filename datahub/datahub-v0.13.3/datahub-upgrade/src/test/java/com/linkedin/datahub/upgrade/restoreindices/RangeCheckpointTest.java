@@ -0,0 +1,228 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RangeCheckpointTest {
+  private static final int NUM_PARTITIONS = 3;
+
+  private OperationContext opContext;
+  private EntityService<?> entityService;
+  private AtomicLong now;
+  private Clock clock;
+  // Every checkpoint which was written, in order
+  private List<DataHubUpgradeResult> writes;
+
+  @BeforeMethod
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    entityService = mock(EntityService.class);
+    writes = new CopyOnWriteArrayList<>();
+    when(entityService.ingestAspects(
+            any(OperationContext.class), any(AspectsBatch.class), anyBoolean(), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              AspectsBatch batch = invocation.getArgument(1);
+              writes.add(
+                  batch.getItems().iterator().next().getAspect(DataHubUpgradeResult.class));
+              return List.of();
+            });
+    now = new AtomicLong(0);
+    clock = mock(Clock.class);
+    when(clock.millis()).thenAnswer(invocation -> now.get());
+  }
+
+  @Test
+  public void testWritesEveryNBatches() {
+    RangeCheckpoint checkpoint = checkpoint(3, Long.MAX_VALUE);
+    List<UrnRange> ranges = ranges();
+    checkpoint.start(ranges);
+    assertEquals(writes.size(), 1);
+
+    checkpoint.update(ranges.get(0).advance("urn:li:corpuser:a1", "status"));
+    checkpoint.update(ranges.get(1).advance("urn:li:corpuser:h1", "status"));
+    assertEquals(writes.size(), 1);
+
+    checkpoint.update(ranges.get(0).advance("urn:li:corpuser:a2", "corpUserInfo"));
+    assertEquals(writes.size(), 2);
+    // Every range is written with its latest snapshot
+    assertEquals(writes.get(1).getResult().get("range.0.lastUrn"), "urn:li:corpuser:a2");
+    assertEquals(writes.get(1).getResult().get("range.0.lastAspect"), "corpUserInfo");
+    assertEquals(writes.get(1).getResult().get("range.1.lastUrn"), "urn:li:corpuser:h1");
+  }
+
+  @Test
+  public void testWritesAfterInterval() {
+    RangeCheckpoint checkpoint = checkpoint(100, 1000);
+    List<UrnRange> ranges = ranges();
+    checkpoint.start(ranges);
+
+    now.addAndGet(999);
+    checkpoint.update(ranges.get(0).advance("urn:li:corpuser:a1", "status"));
+    assertEquals(writes.size(), 1);
+
+    now.addAndGet(1);
+    checkpoint.update(ranges.get(0).advance("urn:li:corpuser:a2", "status"));
+    assertEquals(writes.size(), 2);
+
+    // The interval restarts from the last write
+    now.addAndGet(999);
+    checkpoint.update(ranges.get(0).advance("urn:li:corpuser:a3", "status"));
+    assertEquals(writes.size(), 2);
+  }
+
+  @Test
+  public void testWritesCompletedRange() {
+    RangeCheckpoint checkpoint = checkpoint(100, Long.MAX_VALUE);
+    List<UrnRange> ranges = ranges();
+    checkpoint.start(ranges);
+
+    checkpoint.update(ranges.get(2).advance("urn:li:corpuser:z", "status").complete());
+
+    assertEquals(writes.size(), 2);
+    assertEquals(writes.get(1).getResult().get("range.2.done"), "true");
+    assertEquals(writes.get(1).getResult().get("range.0.done"), "false");
+  }
+
+  @Test
+  public void testFlushWritesPendingProgressOnly() {
+    RangeCheckpoint checkpoint = checkpoint(100, Long.MAX_VALUE);
+    List<UrnRange> ranges = ranges();
+    checkpoint.start(ranges);
+
+    checkpoint.flush();
+    assertEquals(writes.size(), 1);
+
+    checkpoint.update(ranges.get(1).advance("urn:li:corpuser:h1", "status"));
+    checkpoint.flush();
+    assertEquals(writes.size(), 2);
+    assertEquals(writes.get(1).getResult().get("range.1.lastUrn"), "urn:li:corpuser:h1");
+
+    checkpoint.flush();
+    assertEquals(writes.size(), 2);
+  }
+
+  @Test
+  public void testWritesWithoutMetadataChangeLog() {
+    RangeCheckpoint checkpoint = checkpoint(1, Long.MAX_VALUE);
+    List<UrnRange> ranges = ranges();
+    checkpoint.start(ranges);
+    checkpoint.update(ranges.get(0).advance("urn:li:corpuser:a1", "status"));
+
+    verify(entityService, never())
+        .ingestAspects(
+            any(OperationContext.class), any(AspectsBatch.class), eq(true), anyBoolean());
+    verify(entityService, never())
+        .ingestProposal(
+            any(OperationContext.class),
+            any(MetadataChangeProposal.class),
+            any(AuditStamp.class),
+            anyBoolean());
+  }
+
+  @Test
+  public void testResume() {
+    RangeCheckpoint checkpoint = checkpoint(100, Long.MAX_VALUE);
+    List<UrnRange> ranges = ranges();
+    checkpoint.start(ranges);
+    UrnRange first = ranges.get(0).advance("urn:li:corpuser:a1", "status");
+    UrnRange last = ranges.get(2).advance("urn:li:corpuser:z", "corpUserInfo").complete();
+    checkpoint.update(first);
+    checkpoint.update(last);
+    returnLatestCheckpoint();
+
+    List<UrnRange> resumed = checkpoint(100, Long.MAX_VALUE).resume();
+
+    assertEquals(resumed, List.of(first, ranges.get(1), last));
+  }
+
+  @Test
+  public void testResumeIgnoresCheckpointOfOtherFilters() {
+    RangeCheckpoint checkpoint = checkpoint(100, Long.MAX_VALUE);
+    checkpoint.start(ranges());
+    returnLatestCheckpoint();
+
+    RestoreIndicesArgs otherArgs = args();
+    otherArgs.urnLike = "urn:li:dataset:%";
+    RangeCheckpoint other =
+        new RangeCheckpoint(
+            opContext, entityService, otherArgs, NUM_PARTITIONS, 100, Long.MAX_VALUE, clock);
+    assertTrue(other.resume().isEmpty());
+
+    RangeCheckpoint otherPartitions =
+        new RangeCheckpoint(
+            opContext, entityService, args(), NUM_PARTITIONS + 1, 100, Long.MAX_VALUE, clock);
+    assertTrue(otherPartitions.resume().isEmpty());
+  }
+
+  @Test
+  public void testResumeIgnoresFinishedRestore() {
+    RangeCheckpoint checkpoint = checkpoint(100, Long.MAX_VALUE);
+    List<UrnRange> ranges = ranges();
+    checkpoint.start(ranges);
+    for (UrnRange range : ranges) {
+      checkpoint.update(range.complete());
+    }
+    returnLatestCheckpoint();
+
+    assertTrue(checkpoint(100, Long.MAX_VALUE).resume().isEmpty());
+  }
+
+  @Test
+  public void testResumeWithoutCheckpoint() {
+    assertTrue(checkpoint(100, Long.MAX_VALUE).resume().isEmpty());
+  }
+
+  private RangeCheckpoint checkpoint(int writeEveryBatches, long writeIntervalMs) {
+    return new RangeCheckpoint(
+        opContext,
+        entityService,
+        args(),
+        NUM_PARTITIONS,
+        writeEveryBatches,
+        writeIntervalMs,
+        clock);
+  }
+
+  private void returnLatestCheckpoint() {
+    when(entityService.getLatestAspect(any(OperationContext.class), any(Urn.class), anyString()))
+        .thenAnswer(invocation -> writes.get(writes.size() - 1));
+  }
+
+  private static RestoreIndicesArgs args() {
+    RestoreIndicesArgs args = new RestoreIndicesArgs();
+    args.urnLike = "urn:li:corpuser:%";
+    return args;
+  }
+
+  private static List<UrnRange> ranges() {
+    return List.of(
+        new UrnRange(0, null, "urn:li:corpuser:h"),
+        new UrnRange(1, "urn:li:corpuser:h", "urn:li:corpuser:p"),
+        new UrnRange(2, "urn:li:corpuser:p", null));
+  }
+}
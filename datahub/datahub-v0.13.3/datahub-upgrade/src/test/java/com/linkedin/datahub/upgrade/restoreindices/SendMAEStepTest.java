@@ -0,0 +1,305 @@
+package com.linkedin.datahub.upgrade.restoreindices;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.ebean.PartitionedStream;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesResult;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SendMAEStepTest {
+  private static final String USER_URN_LIKE = "urn:li:corpuser:%";
+  private static final String DATASET_URN_LIKE = "urn:li:dataset:%";
+  private static final int NUM_USERS = 20;
+  private static final List<String> USER_ASPECTS = List.of("corpUserInfo", "status");
+  // A single urn with more aspects than there are rows in a range
+  private static final String WIDE_URN = "urn:li:dataset:wide";
+  private static final int WIDE_ASPECTS = 30;
+
+  private Database server;
+  private EbeanAspectDao aspectDao;
+  private OperationContext opContext;
+  private EntityService<?> entityService;
+  // (urn, aspect) pairs sent by restoreIndices, in the order they were sent
+  private List<String> restored;
+  // Every range checkpoint which was written, in order
+  private List<DataHubUpgradeResult> checkpoints;
+
+  @BeforeClass
+  public void setupDatabase() {
+    server = createTestServer(SendMAEStepTest.class.getSimpleName());
+    for (int i = 0; i < NUM_USERS; i++) {
+      for (String aspect : USER_ASPECTS) {
+        server.save(aspect(String.format("urn:li:corpuser:user%02d", i), aspect, 0));
+      }
+    }
+    // Older versions are never restored
+    server.save(aspect("urn:li:corpuser:user03", "status", 1));
+    for (int i = 0; i < WIDE_ASPECTS; i++) {
+      server.save(aspect(WIDE_URN, String.format("aspect%02d", i), 0));
+    }
+    aspectDao = new EbeanAspectDao(server, EbeanConfiguration.testDefault);
+    aspectDao.setConnectionValidated(true);
+  }
+
+  @BeforeMethod
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    entityService = mock(EntityService.class);
+    restored = new CopyOnWriteArrayList<>();
+    checkpoints = new CopyOnWriteArrayList<>();
+    when(entityService.restoreIndices(
+            any(OperationContext.class), any(RestoreIndicesArgs.class), any()))
+        .thenAnswer(invocation -> List.of(restore(invocation.getArgument(1))));
+    when(entityService.ingestAspects(
+            any(OperationContext.class), any(AspectsBatch.class), anyBoolean(), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              AspectsBatch batch = invocation.getArgument(1);
+              checkpoints.add(
+                  batch.getItems().iterator().next().getAspect(DataHubUpgradeResult.class));
+              return List.of();
+            });
+  }
+
+  @Test
+  public void testComputeRangesCoversKeyspace() {
+    SendMAEStep step = new SendMAEStep(server, entityService);
+    RestoreIndicesArgs args = args(USER_URN_LIKE);
+    List<String> rows = latestRows(USER_URN_LIKE);
+
+    List<UrnRange> ranges = step.computeRanges(args, 4, rows.size());
+
+    assertEquals(ranges.size(), 4);
+    assertContiguous(ranges);
+    assertCoveredOnce(ranges, rows);
+    // Boundaries are evenly spaced in rows
+    for (UrnRange range : ranges) {
+      assertEquals(rowsIn(range, rows).size(), rows.size() / 4);
+    }
+  }
+
+  @Test
+  public void testComputeRangesWithWideUrn() {
+    SendMAEStep step = new SendMAEStep(server, entityService);
+    RestoreIndicesArgs args = args(DATASET_URN_LIKE);
+    List<String> rows = latestRows(DATASET_URN_LIKE);
+
+    List<UrnRange> ranges = step.computeRanges(args, 4, rows.size());
+
+    // Every boundary falls on the same urn, an urn is never split across ranges
+    assertEquals(ranges.size(), 2);
+    assertEquals(ranges.get(0).getUpperUrn(), WIDE_URN);
+    assertContiguous(ranges);
+    assertCoveredOnce(ranges, rows);
+  }
+
+  @Test
+  public void testComputeRangesWithFewerRowsThanPartitions() {
+    SendMAEStep step = new SendMAEStep(server, entityService);
+    RestoreIndicesArgs args = args(USER_URN_LIKE);
+
+    List<UrnRange> ranges = step.computeRanges(args, 4, 3);
+
+    assertEquals(ranges, List.of(new UrnRange(0, null, null)));
+  }
+
+  @Test
+  public void testRestoresEveryRowOnce() {
+    UpgradeStepResult result =
+        new SendMAEStep(server, entityService).executable().apply(context(USER_URN_LIKE, 3));
+
+    assertEquals(result.result(), UpgradeStepResult.Result.SUCCEEDED);
+    assertEquals(restored.size(), new HashSet<>(restored).size());
+    assertEquals(sorted(restored), latestRows(USER_URN_LIKE));
+    // The final checkpoint marks every range done
+    DataHubUpgradeResult last = checkpoints.get(checkpoints.size() - 1);
+    for (int i = 0; i < Integer.parseInt(last.getResult().get("numRanges")); i++) {
+      assertEquals(last.getResult().get("range." + i + ".done"), "true");
+    }
+    // Checkpoints are written without MetadataChangeLogs
+    verify(entityService, never())
+        .ingestAspects(
+            any(OperationContext.class), any(AspectsBatch.class), eq(true), anyBoolean());
+    verify(entityService, never())
+        .ingestProposal(
+            any(OperationContext.class),
+            any(MetadataChangeProposal.class),
+            any(AuditStamp.class),
+            anyBoolean());
+  }
+
+  @Test
+  public void testResumesFromCheckpoint() {
+    SendMAEStep step = new SendMAEStep(server, entityService);
+    RestoreIndicesArgs args = args(USER_URN_LIKE);
+    List<String> rows = latestRows(USER_URN_LIKE);
+    List<UrnRange> ranges = step.computeRanges(args, 3, rows.size());
+
+    // A previous run got part way through the first range and finished the second
+    List<String> firstRows = rowsIn(ranges.get(0), rows);
+    String[] cursor = firstRows.get(2).split("/");
+    RangeCheckpoint previous = new RangeCheckpoint(opContext, entityService, args, 3);
+    previous.start(ranges);
+    previous.update(ranges.get(0).advance(cursor[0], cursor[1]));
+    previous.update(ranges.get(1).complete());
+    DataHubUpgradeResult checkpoint = checkpoints.get(checkpoints.size() - 1);
+    when(entityService.getLatestAspect(any(OperationContext.class), any(Urn.class), anyString()))
+        .thenReturn(checkpoint);
+
+    UpgradeStepResult result = step.executable().apply(context(USER_URN_LIKE, 3));
+
+    assertEquals(result.result(), UpgradeStepResult.Result.SUCCEEDED);
+    List<String> expected = new ArrayList<>(firstRows.subList(3, firstRows.size()));
+    expected.addAll(rowsIn(ranges.get(2), rows));
+    assertEquals(sorted(restored), sorted(expected));
+  }
+
+  private RestoreIndicesResult restore(RestoreIndicesArgs args) {
+    RestoreIndicesResult result = new RestoreIndicesResult();
+    try (PartitionedStream<EbeanAspectV2> stream = aspectDao.streamAspectBatches(args)) {
+      stream
+          .partition(args.batchSize)
+          .findFirst()
+          .ifPresent(
+              batch ->
+                  batch.forEach(
+                      aspect -> {
+                        restored.add(aspect.getUrn() + "/" + aspect.getAspect());
+                        result.rowsMigrated++;
+                        result.lastUrn = aspect.getUrn();
+                        result.lastAspect = aspect.getAspect();
+                      }));
+    }
+    return result;
+  }
+
+  private UpgradeContext context(String urnLike, int numPartitions) {
+    UpgradeContext context = mock(UpgradeContext.class);
+    when(context.opContext()).thenReturn(opContext);
+    when(context.report()).thenReturn(mock(UpgradeReport.class));
+    when(context.parsedArgs())
+        .thenReturn(
+            Map.of(
+                RestoreIndices.URN_LIKE_ARG_NAME, Optional.of(urnLike),
+                RestoreIndices.NUM_PARTITIONS_ARG_NAME, Optional.of(String.valueOf(numPartitions)),
+                RestoreIndices.BATCH_SIZE_ARG_NAME, Optional.of("4"),
+                RestoreIndices.NUM_THREADS_ARG_NAME, Optional.of("2"),
+                RestoreIndices.BATCH_DELAY_MS_ARG_NAME, Optional.of("0")));
+    return context;
+  }
+
+  private static RestoreIndicesArgs args(String urnLike) {
+    RestoreIndicesArgs args = new RestoreIndicesArgs();
+    args.urnLike = urnLike;
+    return args;
+  }
+
+  /** The latest (urn, aspect) pairs matching the filter, in keyset order. */
+  private List<String> latestRows(String urnLike) {
+    return server
+        .find(EbeanAspectV2.class)
+        .where()
+        .eq(EbeanAspectV2.VERSION_COLUMN, 0L)
+        .like(EbeanAspectV2.URN_COLUMN, urnLike)
+        .findList()
+        .stream()
+        .map(aspect -> aspect.getUrn() + "/" + aspect.getAspect())
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> rowsIn(UrnRange range, List<String> rows) {
+    return rows.stream()
+        .filter(
+            row -> {
+              String urn = row.split("/")[0];
+              return (range.getLowerUrn() == null || urn.compareTo(range.getLowerUrn()) >= 0)
+                  && (range.getUpperUrn() == null || urn.compareTo(range.getUpperUrn()) < 0);
+            })
+        .collect(Collectors.toList());
+  }
+
+  private static void assertContiguous(List<UrnRange> ranges) {
+    assertEquals(ranges.get(0).getLowerUrn(), null);
+    assertEquals(ranges.get(ranges.size() - 1).getUpperUrn(), null);
+    for (int i = 0; i < ranges.size(); i++) {
+      assertEquals(ranges.get(i).getIndex(), i);
+      if (i > 0) {
+        assertEquals(ranges.get(i).getLowerUrn(), ranges.get(i - 1).getUpperUrn());
+      }
+      if (i > 1) {
+        // No empty ranges between repeated boundaries
+        assertTrue(ranges.get(i).getLowerUrn().compareTo(ranges.get(i - 1).getLowerUrn()) > 0);
+      }
+    }
+  }
+
+  private static void assertCoveredOnce(List<UrnRange> ranges, List<String> rows) {
+    List<String> covered =
+        ranges.stream().flatMap(range -> rowsIn(range, rows).stream()).collect(Collectors.toList());
+    assertEquals(covered, rows);
+  }
+
+  private static List<String> sorted(List<String> rows) {
+    return rows.stream().sorted().collect(Collectors.toList());
+  }
+
+  private static EbeanAspectV2 aspect(String urn, String aspect, long version) {
+    return new EbeanAspectV2(
+        urn, aspect, version, "{}", new Timestamp(0), "urn:li:corpuser:tester", null, null);
+  }
+
+  private static Database createTestServer(String instanceId) {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl(
+        String.format("jdbc:h2:mem:%s;IGNORECASE=TRUE;mode=mysql;", instanceId));
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    DatabaseConfig serverConfig = new DatabaseConfig();
+    serverConfig.setName("gma");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+    return DatabaseFactory.create(serverConfig);
+  }
+}
@@ -0,0 +1,224 @@
+package com.linkedin.datahub.upgrade.system.aspectencoding;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class ReencodeAspectMetadataStepTest {
+  private static final int BATCH_SIZE = 3;
+
+  private Database server;
+  private OperationContext opContext;
+  private EntityService<?> entityService;
+  private UpgradeReport report;
+  // The plain JSON of every row, by "<urn>/<aspect>/<version>"
+  private Map<String, String> original;
+
+  @BeforeClass
+  public void setupDatabase() {
+    server = createTestServer(ReencodeAspectMetadataStepTest.class.getSimpleName());
+  }
+
+  @BeforeMethod
+  public void setup() {
+    server.find(EbeanAspectV2.class).delete();
+    original = new LinkedHashMap<>();
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    entityService = mock(EntityService.class);
+    report = mock(UpgradeReport.class);
+  }
+
+  @Test
+  public void testBatchBoundariesWithinOneAspect() {
+    // Batches end between versions of the same aspect and between aspects of the same urn
+    for (long version = 0; version < 4; version++) {
+      save("urn:li:corpuser:a", "corpUserInfo", version, largeJson("a" + version));
+    }
+    save("urn:li:corpuser:a", "status", 0, largeJson("a-status"));
+    save("urn:li:corpuser:b", "corpUserInfo", 0, largeJson("b"));
+    save("urn:li:corpuser:b", "status", 0, largeJson("b-status"));
+
+    run(AspectMetadataEncoding.ZSTD_JSON);
+
+    assertAllEncoded(AspectMetadataEncoding.ZSTD_JSON);
+    verify(report).addLine("Re-encoded 7 aspect rows to ZSTD_JSON");
+  }
+
+  @Test
+  public void testRowCountMultipleOfBatchSize() {
+    for (int i = 0; i < BATCH_SIZE * 2; i++) {
+      save("urn:li:corpuser:user" + i, "corpUserInfo", 0, largeJson("user" + i));
+    }
+
+    run(AspectMetadataEncoding.ZSTD_JSON);
+
+    assertAllEncoded(AspectMetadataEncoding.ZSTD_JSON);
+    verify(report).addLine("Re-encoded 6 aspect rows to ZSTD_JSON");
+  }
+
+  @Test
+  public void testSmallRowsAreKeptAsJson() {
+    save("urn:li:corpuser:a", "status", 0, "{\"removed\":false}");
+    save("urn:li:corpuser:b", "corpUserInfo", 0, largeJson("b"));
+    save("urn:li:corpuser:c", "status", 0, "{\"removed\":true}");
+    save("urn:li:corpuser:d", "status", 0, "{\"removed\":false}");
+    save("urn:li:corpuser:e", "corpUserInfo", 0, largeJson("e"));
+
+    run(AspectMetadataEncoding.ZSTD_JSON);
+
+    Map<String, String> stored = stored();
+    assertEquals(stored.get("urn:li:corpuser:a/status/0"), "{\"removed\":false}");
+    assertEquals(
+        AspectMetadataEncoding.of(stored.get("urn:li:corpuser:b/corpUserInfo/0")),
+        AspectMetadataEncoding.ZSTD_JSON);
+    assertEquals(
+        AspectMetadataEncoding.of(stored.get("urn:li:corpuser:e/corpUserInfo/0")),
+        AspectMetadataEncoding.ZSTD_JSON);
+    assertDecodesToOriginal(stored);
+    verify(report).addLine("Re-encoded 2 aspect rows to ZSTD_JSON");
+  }
+
+  @Test
+  public void testRerunIsIdempotent() {
+    for (int i = 0; i < 5; i++) {
+      save("urn:li:corpuser:user" + i, "corpUserInfo", 0, largeJson("user" + i));
+    }
+    save("urn:li:corpuser:small", "status", 0, "{\"removed\":false}");
+    run(AspectMetadataEncoding.ZSTD_JSON);
+    Map<String, String> afterFirstRun = stored();
+
+    run(AspectMetadataEncoding.ZSTD_JSON);
+
+    assertEquals(stored(), afterFirstRun);
+    verify(report).addLine("Re-encoded 0 aspect rows to ZSTD_JSON");
+  }
+
+  @Test
+  public void testRestoresJson() {
+    for (int i = 0; i < 5; i++) {
+      save("urn:li:corpuser:user" + i, "corpUserInfo", 0, largeJson("user" + i));
+    }
+    run(AspectMetadataEncoding.ZSTD_JSON);
+
+    run(AspectMetadataEncoding.JSON);
+
+    assertEquals(stored(), original);
+    verify(report).addLine("Re-encoded 5 aspect rows to JSON");
+  }
+
+  @Test
+  public void testSkipsWhenPreviouslyRun() {
+    when(entityService.exists(
+            any(OperationContext.class), any(Urn.class), anyString(), anyBoolean()))
+        .thenReturn(true);
+
+    assertTrue(step(AspectMetadataEncoding.ZSTD_JSON, false).skip(context()));
+    assertFalse(step(AspectMetadataEncoding.ZSTD_JSON, true).skip(context()));
+  }
+
+  @Test
+  public void testEncodingIsPartOfTheUpgradeId() {
+    assertNotEquals(
+        step(AspectMetadataEncoding.ZSTD_JSON, false).id(),
+        step(AspectMetadataEncoding.JSON, false).id());
+  }
+
+  private void run(AspectMetadataEncoding encoding) {
+    UpgradeStepResult result = step(encoding, false).executable().apply(context());
+    assertEquals(result.result(), UpgradeStepResult.Result.SUCCEEDED);
+  }
+
+  private ReencodeAspectMetadataStep step(
+      AspectMetadataEncoding encoding, boolean reprocessEnabled) {
+    return new ReencodeAspectMetadataStep(
+        entityService, server, encoding, reprocessEnabled, BATCH_SIZE, 0);
+  }
+
+  private UpgradeContext context() {
+    UpgradeContext context = mock(UpgradeContext.class);
+    when(context.opContext()).thenReturn(opContext);
+    when(context.report()).thenReturn(report);
+    return context;
+  }
+
+  private void save(String urn, String aspect, long version, String json) {
+    server.save(
+        new EbeanAspectV2(
+            urn, aspect, version, json, new Timestamp(0), "urn:li:corpuser:tester", null, null));
+    original.put(urn + "/" + aspect + "/" + version, json);
+  }
+
+  /** The stored metadata of every row, by "<urn>/<aspect>/<version>". */
+  private Map<String, String> stored() {
+    return server.find(EbeanAspectV2.class).findList().stream()
+        .collect(
+            Collectors.toMap(
+                row -> row.getUrn() + "/" + row.getAspect() + "/" + row.getVersion(),
+                EbeanAspectV2::getMetadata));
+  }
+
+  private void assertAllEncoded(AspectMetadataEncoding encoding) {
+    Map<String, String> stored = stored();
+    assertEquals(stored.keySet(), original.keySet());
+    stored.values().forEach(value -> assertEquals(AspectMetadataEncoding.of(value), encoding));
+    assertDecodesToOriginal(stored);
+  }
+
+  private void assertDecodesToOriginal(Map<String, String> stored) {
+    assertEquals(
+        stored.entrySet().stream()
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey, entry -> AspectMetadataEncoding.decode(entry.getValue()))),
+        original);
+  }
+
+  /** JSON large enough to be stored compressed. */
+  private static String largeJson(String value) {
+    return String.format("{\"description\":\"%s %s\"}", value, "lorem ipsum ".repeat(50));
+  }
+
+  private static Database createTestServer(String instanceId) {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl(
+        String.format("jdbc:h2:mem:%s;IGNORECASE=TRUE;mode=mysql;", instanceId));
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    DatabaseConfig serverConfig = new DatabaseConfig();
+    serverConfig.setName("gma");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+    return DatabaseFactory.create(serverConfig);
+  }
+}
@@ -0,0 +1,249 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static com.fasterxml.jackson.databind.node.JsonNodeFactory.instance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+
+/**
+ * Applies a {@link JsonPatch} (RFC 6902) directly on a Jackson tree, modifying it in place.
+ *
+ * <p>Patching the template trees this way avoids rendering them to text and parsing them into
+ * jakarta JSON objects, which copy the whole aspect for every patch. Operations follow the jakarta
+ * implementation, failures are reported with the same {@link JsonException}.
+ */
+public class JsonNodePatch {
+  private static final Pattern ARRAY_INDEX = Pattern.compile("0|[1-9][0-9]*");
+  private static final String END_OF_ARRAY = "-";
+
+  // Numbers are equal by value, as in jakarta JSON, regardless of their representation
+  private static final Comparator<JsonNode> VALUE_COMPARATOR =
+      (a, b) -> {
+        if (a.isNumber() && b.isNumber()) {
+          return a.decimalValue().compareTo(b.decimalValue());
+        }
+        return a.equals(b) ? 0 : 1;
+      };
+
+  private JsonNodePatch() {}
+
+  /**
+   * @param document the tree to patch, modified in place
+   * @param jsonPatch the operations to apply in order
+   * @return the patched tree, only a different node than the document if the whole document was
+   *     replaced
+   */
+  @Nonnull
+  public static JsonNode apply(@Nonnull JsonNode document, @Nonnull JsonPatch jsonPatch) {
+    JsonNode root = document;
+    for (JsonValue operation : jsonPatch.toJsonArray()) {
+      root = applyOperation(root, operation.asJsonObject());
+    }
+    return root;
+  }
+
+  private static JsonNode applyOperation(JsonNode root, JsonObject operation) {
+    final String op = operation.getString("op");
+    final String path = operation.getString("path");
+    final List<String> tokens = parsePointer(path);
+    switch (op) {
+      case "add":
+        return add(root, path, tokens, toJsonNode(getValue(operation)));
+      case "remove":
+        remove(root, path, tokens);
+        return root;
+      case "replace":
+        return replace(root, path, tokens, toJsonNode(getValue(operation)));
+      case "move":
+        {
+          final String from = operation.getString("from");
+          if (path.startsWith(from + "/")) {
+            throw new JsonException(
+                String.format(
+                    "The JSON Patch path %s is a child of the move source %s", path, from));
+          }
+          return add(root, path, tokens, remove(root, from, parsePointer(from)));
+        }
+      case "copy":
+        {
+          final String from = operation.getString("from");
+          return add(root, path, tokens, get(root, from, parsePointer(from)).deepCopy());
+        }
+      case "test":
+        if (!get(root, path, tokens).equals(VALUE_COMPARATOR, toJsonNode(getValue(operation)))) {
+          throw new JsonException(String.format("The JSON Patch test of %s failed", path));
+        }
+        return root;
+      default:
+        throw new JsonException(String.format("Unsupported JSON Patch operation: `%s`", op));
+    }
+  }
+
+  private static JsonNode add(JsonNode root, String path, List<String> tokens, JsonNode value) {
+    if (tokens.isEmpty()) {
+      return value;
+    }
+    final JsonNode parent = getParent(root, path, tokens);
+    final String key = tokens.get(tokens.size() - 1);
+    if (parent instanceof ObjectNode) {
+      ((ObjectNode) parent).set(key, value);
+    } else if (parent instanceof ArrayNode) {
+      final ArrayNode array = (ArrayNode) parent;
+      if (END_OF_ARRAY.equals(key)) {
+        array.add(value);
+      } else {
+        array.insert(getIndex(path, key, array.size() + 1), value);
+      }
+    } else {
+      throw pathNotFound(path);
+    }
+    return root;
+  }
+
+  private static JsonNode remove(JsonNode root, String path, List<String> tokens) {
+    if (tokens.isEmpty()) {
+      throw new JsonException("The JSON Patch cannot remove the whole document");
+    }
+    final JsonNode parent = getParent(root, path, tokens);
+    final String key = tokens.get(tokens.size() - 1);
+    if (parent instanceof ObjectNode && parent.has(key)) {
+      return ((ObjectNode) parent).remove(key);
+    } else if (parent instanceof ArrayNode) {
+      return ((ArrayNode) parent).remove(getIndex(path, key, parent.size()));
+    }
+    throw pathNotFound(path);
+  }
+
+  private static JsonNode replace(JsonNode root, String path, List<String> tokens, JsonNode value) {
+    if (tokens.isEmpty()) {
+      return value;
+    }
+    final JsonNode parent = getParent(root, path, tokens);
+    final String key = tokens.get(tokens.size() - 1);
+    if (parent instanceof ObjectNode && parent.has(key)) {
+      ((ObjectNode) parent).set(key, value);
+    } else if (parent instanceof ArrayNode) {
+      ((ArrayNode) parent).set(getIndex(path, key, parent.size()), value);
+    } else {
+      throw pathNotFound(path);
+    }
+    return root;
+  }
+
+  private static JsonNode getParent(JsonNode root, String path, List<String> tokens) {
+    return get(root, path, tokens.subList(0, tokens.size() - 1));
+  }
+
+  private static JsonNode get(JsonNode root, String path, List<String> tokens) {
+    JsonNode node = root;
+    for (String token : tokens) {
+      if (node instanceof ObjectNode) {
+        node = node.get(token);
+      } else if (node instanceof ArrayNode) {
+        node = node.get(getIndex(path, token, node.size()));
+      } else {
+        node = null;
+      }
+      if (node == null) {
+        throw pathNotFound(path);
+      }
+    }
+    return node;
+  }
+
+  /** @param size the exclusive upper bound of the index */
+  private static int getIndex(String path, String token, int size) {
+    if (!ARRAY_INDEX.matcher(token).matches()) {
+      throw pathNotFound(path);
+    }
+    final int index;
+    try {
+      index = Integer.parseInt(token);
+    } catch (NumberFormatException e) {
+      throw pathNotFound(path);
+    }
+    if (index >= size) {
+      throw pathNotFound(path);
+    }
+    return index;
+  }
+
+  private static List<String> parsePointer(String pointer) {
+    final List<String> tokens = new ArrayList<>();
+    if (pointer.isEmpty()) {
+      return tokens;
+    }
+    if (pointer.charAt(0) != '/') {
+      throw new JsonException(String.format("Invalid JSON Pointer: `%s`", pointer));
+    }
+    // Keys may be empty, so trailing empty tokens are kept
+    for (String token : pointer.substring(1).split("/", -1)) {
+      tokens.add(token.replace("~1", "/").replace("~0", "~"));
+    }
+    return tokens;
+  }
+
+  private static JsonValue getValue(JsonObject operation) {
+    final JsonValue value = operation.get("value");
+    if (value == null) {
+      throw new JsonException(
+          String.format("The JSON Patch operation is missing a value: %s", operation));
+    }
+    return value;
+  }
+
+  private static JsonException pathNotFound(String path) {
+    return new JsonException(String.format("The JSON Patch path %s does not exist", path));
+  }
+
+  /**
+   * Converts a jakarta JSON value to a Jackson node, with numbers represented as Jackson would
+   * parse them.
+   */
+  @Nonnull
+  static JsonNode toJsonNode(@Nonnull JsonValue value) {
+    switch (value.getValueType()) {
+      case OBJECT:
+        final ObjectNode objectNode = instance.objectNode();
+        value.asJsonObject().forEach((key, field) -> objectNode.set(key, toJsonNode(field)));
+        return objectNode;
+      case ARRAY:
+        final ArrayNode arrayNode = instance.arrayNode();
+        value.asJsonArray().forEach(element -> arrayNode.add(toJsonNode(element)));
+        return arrayNode;
+      case STRING:
+        return instance.textNode(((JsonString) value).getString());
+      case NUMBER:
+        final JsonNumber number = (JsonNumber) value;
+        if (!number.isIntegral()) {
+          return instance.numberNode(number.doubleValue());
+        }
+        final BigInteger integer = number.bigIntegerValue();
+        if (integer.bitLength() < Integer.SIZE) {
+          return instance.numberNode(integer.intValue());
+        } else if (integer.bitLength() < Long.SIZE) {
+          return instance.numberNode(integer.longValue());
+        }
+        return instance.numberNode(integer);
+      case TRUE:
+        return instance.booleanNode(true);
+      case FALSE:
+        return instance.booleanNode(false);
+      default:
+        return instance.nullNode();
+    }
+  }
+}
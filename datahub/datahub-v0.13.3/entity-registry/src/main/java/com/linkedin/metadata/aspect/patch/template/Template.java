@@ -1,16 +1,11 @@
 package com.linkedin.metadata.aspect.patch.template;
 
-import static com.linkedin.metadata.aspect.patch.template.TemplateUtil.OBJECT_MAPPER;
 import static com.linkedin.metadata.aspect.patch.template.TemplateUtil.populateTopLevelKeys;
 
-import com.datahub.util.RecordUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedin.data.template.RecordTemplate;
-import jakarta.json.Json;
-import jakarta.json.JsonObject;
 import jakarta.json.JsonPatch;
-import java.io.StringReader;
 import javax.annotation.Nonnull;
 
 public interface Template<T extends RecordTemplate> {
@@ -53,21 +48,7 @@ public interface Template<T extends RecordTemplate> {
     TemplateUtil.validatePatch(jsonPatch);
 
     JsonNode transformed = populateTopLevelKeys(preprocessTemplate(recordTemplate), jsonPatch);
-    try {
-      // Hack in a more efficient patcher. Even with the serialization overhead 140% faster
-      JsonObject patched =
-          jsonPatch.apply(
-              Json.createReader(new StringReader(OBJECT_MAPPER.writeValueAsString(transformed)))
-                  .readObject());
-      JsonNode postProcessed = rebaseFields(OBJECT_MAPPER.readTree(patched.toString()));
-      return RecordUtils.toRecordTemplate(getTemplateType(), postProcessed.toString());
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(
-          String.format(
-              "Error performing JSON PATCH on aspect %s. Patch: %s Target: %s",
-              recordTemplate.schema().getName(), jsonPatch, transformed.toString()),
-          e);
-    }
+    return TemplateUtil.applyPatch(this, transformed, jsonPatch);
   }
 
   /**
@@ -81,8 +62,7 @@ public interface Template<T extends RecordTemplate> {
   default JsonNode preprocessTemplate(RecordTemplate recordTemplate)
       throws JsonProcessingException {
     T subtype = getSubtype(recordTemplate);
-    JsonNode baseNode = OBJECT_MAPPER.readTree(RecordUtils.toJsonString(subtype));
-    return transformFields(baseNode);
+    return transformFields(TemplateUtil.toJsonNode(subtype.data()));
   }
 
   /**
@@ -4,16 +4,25 @@ import static com.fasterxml.jackson.databind.node.JsonNodeFactory.instance;
 import static com.linkedin.metadata.Constants.INGESTION_MAX_SERIALIZED_STRING_LENGTH;
 import static com.linkedin.metadata.Constants.MAX_JACKSON_STRING_SIZE;
 
+import com.datahub.util.RecordUtils;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.aspect.patch.PatchOperationType;
 import com.linkedin.util.Pair;
 import jakarta.json.JsonPatch;
 import jakarta.json.JsonValue;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
 
 public class TemplateUtil {
 
@@ -31,6 +40,96 @@ public class TemplateUtil {
         .setStreamReadConstraints(StreamReadConstraints.builder().maxStringLength(maxSize).build());
   }
 
+  /**
+   * Applies a patch to a transformed template tree and rebuilds the record from it, without
+   * rendering the tree to text at any point.
+   *
+   * @param template the template the tree was transformed with
+   * @param transformed transformed tree with top level keys populated, modified in place
+   * @param jsonPatch patch to apply
+   * @return the patched record
+   */
+  @Nonnull
+  public static <T extends RecordTemplate> T applyPatch(
+      @Nonnull Template<T> template, @Nonnull JsonNode transformed, @Nonnull JsonPatch jsonPatch) {
+    final JsonNode patched = JsonNodePatch.apply(transformed, jsonPatch);
+    return RecordUtils.toRecordTemplate(
+        template.getTemplateType(), (DataMap) toData(template.rebaseFields(patched)));
+  }
+
+  /**
+   * Converts Pegasus data to a Jackson tree, represented as if the data had been rendered with the
+   * Pegasus JSON codec and parsed by Jackson.
+   */
+  @Nonnull
+  public static JsonNode toJsonNode(@Nonnull Object data) {
+    if (data instanceof DataMap) {
+      final ObjectNode objectNode = instance.objectNode();
+      for (Map.Entry<String, Object> field : ((DataMap) data).entrySet()) {
+        objectNode.set(field.getKey(), toJsonNode(field.getValue()));
+      }
+      return objectNode;
+    } else if (data instanceof DataList) {
+      final ArrayNode arrayNode = instance.arrayNode();
+      for (Object element : (DataList) data) {
+        arrayNode.add(toJsonNode(element));
+      }
+      return arrayNode;
+    } else if (data instanceof String) {
+      return instance.textNode((String) data);
+    } else if (data instanceof Integer) {
+      return instance.numberNode((Integer) data);
+    } else if (data instanceof Long) {
+      return instance.numberNode((Long) data);
+    } else if (data instanceof Float) {
+      // Rendered as the shortest decimal of the float and parsed back as a double
+      return instance.numberNode(Double.parseDouble(data.toString()));
+    } else if (data instanceof Double) {
+      return instance.numberNode((Double) data);
+    } else if (data instanceof Boolean) {
+      return instance.booleanNode((Boolean) data);
+    } else if (data instanceof ByteString) {
+      return instance.textNode(((ByteString) data).asAvroString());
+    } else if (data == Data.NULL) {
+      return instance.nullNode();
+    }
+    throw new IllegalArgumentException("Unsupported Pegasus data type: " + data.getClass());
+  }
+
+  /**
+   * Converts a Jackson tree to Pegasus data, with the same types as the Pegasus JSON codec parses
+   * them into. All floating point numbers become doubles.
+   */
+  @Nonnull
+  public static Object toData(@Nonnull JsonNode node) {
+    switch (node.getNodeType()) {
+      case OBJECT:
+        final DataMap dataMap = new DataMap();
+        node.fields()
+            .forEachRemaining(field -> dataMap.put(field.getKey(), toData(field.getValue())));
+        return dataMap;
+      case ARRAY:
+        final DataList dataList = new DataList();
+        node.elements().forEachRemaining(element -> dataList.add(toData(element)));
+        return dataList;
+      case NUMBER:
+        if (node.isInt() || node.isShort()) {
+          return node.intValue();
+        } else if (node.isLong() || (node.isBigInteger() && node.canConvertToLong())) {
+          return node.longValue();
+        } else if (node.isFloat()) {
+          return Double.parseDouble(node.asText());
+        }
+        return node.doubleValue();
+      case BOOLEAN:
+        return node.booleanValue();
+      case NULL:
+        return Data.NULL;
+      default:
+        return node.asText();
+    }
+  }
+
   public static List<Pair<PatchOperationType, String>> getPaths(JsonPatch jsonPatch) {
     List<Pair<PatchOperationType, String>> paths = new ArrayList<>();
     jsonPatch.toJsonArray().stream()
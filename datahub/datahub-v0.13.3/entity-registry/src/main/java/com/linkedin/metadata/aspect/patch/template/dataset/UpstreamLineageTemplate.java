@@ -110,16 +110,14 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
     if (!(fineGrainedLineages instanceof ArrayNode) || fineGrainedLineages.isEmpty()) {
       return mapNode;
     }
-    JsonNode lineageCopy = fineGrainedLineages.deepCopy();
-
-    lineageCopy
+    // Lineages are only read, the map is built from new nodes
+    fineGrainedLineages
         .elements()
         .forEachRemaining(
             node -> {
-              JsonNode nodeClone = node.deepCopy();
               String transformationOperation =
-                  nodeClone.has(FINE_GRAINED_TRANSFORMATION_OPERATION)
-                      ? nodeClone.get(FINE_GRAINED_TRANSFORMATION_OPERATION).asText()
+                  node.has(FINE_GRAINED_TRANSFORMATION_OPERATION)
+                      ? node.get(FINE_GRAINED_TRANSFORMATION_OPERATION).asText()
                       : NONE_TRANSFORMATION_TYPE;
 
               if (!mapNode.has(transformationOperation)) {
@@ -129,8 +127,8 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
                   (ObjectNode) mapNode.get(transformationOperation);
 
               ArrayNode downstreams =
-                  nodeClone.has(FINE_GRAINED_DOWNSTREAMS)
-                      ? (ArrayNode) nodeClone.get(FINE_GRAINED_DOWNSTREAMS)
+                  node.has(FINE_GRAINED_DOWNSTREAMS)
+                      ? (ArrayNode) node.get(FINE_GRAINED_DOWNSTREAMS)
                       : null;
 
               if (downstreams == null || downstreams.size() != 1) {
@@ -141,26 +139,26 @@ public class UpstreamLineageTemplate extends CompoundKeyTemplate<UpstreamLineage
               }
 
               Float confidenceScore =
-                  nodeClone.has(FINE_GRAINED_CONFIDENCE_SCORE)
-                      ? nodeClone.get(FINE_GRAINED_CONFIDENCE_SCORE).floatValue()
+                  node.has(FINE_GRAINED_CONFIDENCE_SCORE)
+                      ? node.get(FINE_GRAINED_CONFIDENCE_SCORE).floatValue()
                       : DEFAULT_CONFIDENCE_SCORE;
 
               String upstreamType =
-                  nodeClone.has(FINE_GRAINED_UPSTREAM_TYPE)
-                      ? nodeClone.get(FINE_GRAINED_UPSTREAM_TYPE).asText()
+                  node.has(FINE_GRAINED_UPSTREAM_TYPE)
+                      ? node.get(FINE_GRAINED_UPSTREAM_TYPE).asText()
                       : null;
               String downstreamType =
-                  nodeClone.has(FINE_GRAINED_DOWNSTREAM_TYPE)
-                      ? nodeClone.get(FINE_GRAINED_DOWNSTREAM_TYPE).asText()
+                  node.has(FINE_GRAINED_DOWNSTREAM_TYPE)
+                      ? node.get(FINE_GRAINED_DOWNSTREAM_TYPE).asText()
                       : null;
               ArrayNode upstreams =
-                  nodeClone.has(FINE_GRAINED_UPSTREAMS)
-                      ? (ArrayNode) nodeClone.get(FINE_GRAINED_UPSTREAMS)
+                  node.has(FINE_GRAINED_UPSTREAMS)
+                      ? (ArrayNode) node.get(FINE_GRAINED_UPSTREAMS)
                       : null;
 
               String queryId =
-                  nodeClone.has(FINE_GRAINED_QUERY_ID)
-                      ? nodeClone.get(FINE_GRAINED_QUERY_ID).asText()
+                  node.has(FINE_GRAINED_QUERY_ID)
+                      ? node.get(FINE_GRAINED_QUERY_ID).asText()
                       : DEFAULT_QUERY_ID;
 
               if (upstreamType == null) {
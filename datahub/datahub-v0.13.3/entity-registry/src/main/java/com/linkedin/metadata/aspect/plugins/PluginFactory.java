@@ -7,15 +7,19 @@ import com.linkedin.metadata.aspect.plugins.hooks.MCLSideEffect;
 import com.linkedin.metadata.aspect.plugins.hooks.MCPSideEffect;
 import com.linkedin.metadata.aspect.plugins.hooks.MutationHook;
 import com.linkedin.metadata.aspect.plugins.validation.AspectPayloadValidator;
+import com.linkedin.metadata.models.registry.config.EntityRegistryIndex;
 import com.linkedin.metadata.models.registry.config.EntityRegistryLoadResult;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.MethodInfo;
 import io.github.classgraph.ScanResult;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -116,6 +120,11 @@ public class PluginFactory {
           pluginCache.computeIfAbsent(
               key,
               k -> {
+                Optional<List<PluginSpec>> indexedPlugins =
+                    initIndexedPlugins(classLoaders, baseClazz, configs);
+                if (indexedPlugins.isPresent()) {
+                  return indexedPlugins.get();
+                }
                 try {
                   ClassGraph classGraph =
                       new ClassGraph()
@@ -174,6 +183,58 @@ public class PluginFactory {
     }
   }
 
+  /**
+   * Instantiates plugins directly, without a classpath scan, if the {@link EntityRegistryIndex}
+   * lists all of their classes. Plugins from custom class loaders are never indexed.
+   *
+   * @return the plugins, empty if they have to be scanned for
+   */
+  private static <T extends PluginSpec> Optional<List<T>> initIndexedPlugins(
+      @Nonnull List<ClassLoader> classLoaders,
+      @Nonnull Class<?> baseClazz,
+      @Nonnull List<AspectPluginConfig> configs) {
+    if (!classLoaders.isEmpty()) {
+      return Optional.empty();
+    }
+    Set<String> indexedClassNames =
+        EntityRegistryIndex.getDefault()
+            .flatMap(index -> Optional.ofNullable(index.getPluginClasses()))
+            .map(pluginClasses -> pluginClasses.get(baseClazz.getName()))
+            .<Set<String>>map(HashSet::new)
+            .orElse(Collections.emptySet());
+    if (!configs.stream()
+        .map(AspectPluginConfig::getClassName)
+        .allMatch(indexedClassNames::contains)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        configs.stream()
+            .map(
+                config -> {
+                  try {
+                    Class<?> clazz = Class.forName(config.getClassName());
+                    if (!baseClazz.isAssignableFrom(clazz)) {
+                      throw new IllegalStateException(
+                          String.format(
+                              "The following class is not a %s: %s",
+                              baseClazz.getName(), config.getClassName()));
+                    }
+                    return (T)
+                        ((T) clazz.getDeclaredConstructor().newInstance()).setConfig(config);
+                  } catch (Exception e) {
+                    log.error(
+                        "Error constructing entity registry plugin class: {}",
+                        config.getClassName(),
+                        e);
+                    return (T) null;
+                  }
+                })
+            .filter(Objects::nonNull)
+            .filter(PluginSpec::enabled)
+            .collect(Collectors.toList()));
+  }
+
   /**
    * Returns applicable {@link AspectPayloadValidator} implementations given the change type and
    * entity/aspect information.
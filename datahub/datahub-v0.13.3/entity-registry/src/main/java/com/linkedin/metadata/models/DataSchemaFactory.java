@@ -1,11 +1,13 @@
 package com.linkedin.metadata.models;
 
 import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.NamedDataSchema;
 import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.metadata.models.annotation.AspectAnnotation;
 import com.linkedin.metadata.models.annotation.EntityAnnotation;
 import com.linkedin.metadata.models.annotation.EventAnnotation;
+import com.linkedin.metadata.models.registry.config.EntityRegistryIndex;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
@@ -20,6 +22,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.reflections.Reflections;
@@ -38,7 +41,6 @@ public class DataSchemaFactory {
 
   private static final String NAME_FIELD = "name";
 
-  private static final DataSchemaFactory INSTANCE = new DataSchemaFactory();
   private static final String[] DEFAULT_TOP_LEVEL_NAMESPACES =
       new String[] {"com", "org", "io", "datahub"};
 
@@ -63,7 +65,7 @@ public class DataSchemaFactory {
   public static DataSchemaFactory withCustomClasspath(Path pluginLocation) throws IOException {
     if (pluginLocation == null) {
       // no custom classpath, just return the default factory
-      return INSTANCE;
+      return getInstance();
     }
 
     return new DataSchemaFactory(
@@ -172,6 +174,47 @@ public class DataSchemaFactory {
     }
   }
 
+  private DataSchemaFactory(
+      Map<String, DataSchema> entitySchemas,
+      Map<String, DataSchema> aspectSchemas,
+      Map<String, DataSchema> eventSchemas,
+      Map<String, Class> aspectClasses) {
+    this.entitySchemas = entitySchemas;
+    this.aspectSchemas = aspectSchemas;
+    this.eventSchemas = eventSchemas;
+    this.aspectClasses = aspectClasses;
+  }
+
+  /**
+   * Construct a DataSchemaFactory from the classes listed in a build time {@link
+   * EntityRegistryIndex}, loading them directly instead of scanning the classpath.
+   *
+   * @throws ClassNotFoundException if an indexed class is not on the classpath
+   */
+  public static DataSchemaFactory fromIndex(@Nonnull EntityRegistryIndex index)
+      throws ClassNotFoundException {
+    final Map<String, DataSchema> entitySchemas = new HashMap<>();
+    for (Map.Entry<String, String> entry : index.getEntitySchemaClasses().entrySet()) {
+      entitySchemas.put(entry.getKey(), DataTemplateUtil.getSchema(loadClass(entry.getValue())));
+    }
+    final Map<String, DataSchema> aspectSchemas = new HashMap<>();
+    final Map<String, Class> aspectClasses = new HashMap<>();
+    for (Map.Entry<String, String> entry : index.getAspectClasses().entrySet()) {
+      final Class<?> aspectClass = loadClass(entry.getValue());
+      aspectSchemas.put(entry.getKey(), DataTemplateUtil.getSchema(aspectClass));
+      aspectClasses.put(entry.getKey(), aspectClass);
+    }
+    final Map<String, DataSchema> eventSchemas = new HashMap<>();
+    for (Map.Entry<String, String> entry : index.getEventSchemaClasses().entrySet()) {
+      eventSchemas.put(entry.getKey(), DataTemplateUtil.getSchema(loadClass(entry.getValue())));
+    }
+    return new DataSchemaFactory(entitySchemas, aspectSchemas, eventSchemas, aspectClasses);
+  }
+
+  private static Class<?> loadClass(String className) throws ClassNotFoundException {
+    return Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+  }
+
   private Optional<String> getName(DataSchema dataSchema, String annotationName) {
     return Optional.ofNullable(dataSchema.getProperties().get(annotationName))
         .filter(obj -> Map.class.isAssignableFrom(obj.getClass()))
@@ -194,7 +237,36 @@ public class DataSchemaFactory {
     return Optional.ofNullable(aspectClasses.get(aspectName));
   }
 
+  /** The class names of the entity schemas by entity name, for the {@link EntityRegistryIndex} */
+  public Map<String, String> getEntitySchemaClassNames() {
+    return getClassNames(entitySchemas);
+  }
+
+  /** The class names of the aspects by aspect name, for the {@link EntityRegistryIndex} */
+  public Map<String, String> getAspectClassNames() {
+    return aspectClasses.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getName()));
+  }
+
+  /** The class names of the event schemas by event name, for the {@link EntityRegistryIndex} */
+  public Map<String, String> getEventSchemaClassNames() {
+    return getClassNames(eventSchemas);
+  }
+
+  // Generated record templates are named after their schema
+  private static Map<String, String> getClassNames(Map<String, DataSchema> schemas) {
+    return schemas.entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey, entry -> ((NamedDataSchema) entry.getValue()).getFullName()));
+  }
+
   public static DataSchemaFactory getInstance() {
-    return INSTANCE;
+    return InstanceHolder.INSTANCE;
+  }
+
+  // Scanning the classpath is slow, only done once the default factory is needed
+  private static class InstanceHolder {
+    private static final DataSchemaFactory INSTANCE = new DataSchemaFactory();
   }
 }
@@ -19,6 +19,7 @@ import com.linkedin.metadata.models.EventSpec;
 import com.linkedin.metadata.models.EventSpecBuilder;
 import com.linkedin.metadata.models.registry.config.Entities;
 import com.linkedin.metadata.models.registry.config.Entity;
+import com.linkedin.metadata.models.registry.config.EntityRegistryIndex;
 import com.linkedin.metadata.models.registry.config.Event;
 import com.linkedin.util.Pair;
 import java.io.FileInputStream;
@@ -79,7 +80,9 @@ public class ConfigEntityRegistry implements EntityRegistry {
           BiFunction<PluginConfiguration, List<ClassLoader>, PluginFactory> pluginFactoryProvider)
       throws IOException {
     this(
-        DataSchemaFactory.withCustomClasspath(configFileClassPathPair.getSecond()),
+        configFileClassPathPair.getSecond() == null
+            ? null
+            : DataSchemaFactory.withCustomClasspath(configFileClassPathPair.getSecond()),
         DataSchemaFactory.getClassLoader(configFileClassPathPair.getSecond())
             .map(Stream::of)
             .orElse(Stream.empty())
@@ -139,15 +142,11 @@ public class ConfigEntityRegistry implements EntityRegistry {
       InputStream configFileInputStream,
       @Nullable
           BiFunction<PluginConfiguration, List<ClassLoader>, PluginFactory> pluginFactoryProvider) {
-    this(
-        DataSchemaFactory.getInstance(),
-        Collections.emptyList(),
-        configFileInputStream,
-        pluginFactoryProvider);
+    this(null, Collections.emptyList(), configFileInputStream, pluginFactoryProvider);
   }
 
   public ConfigEntityRegistry(
-      DataSchemaFactory dataSchemaFactory,
+      @Nullable DataSchemaFactory dataSchemaFactory,
       List<ClassLoader> classLoaders,
       Path configFilePath,
       @Nullable
@@ -167,16 +166,27 @@ public class ConfigEntityRegistry implements EntityRegistry {
     this(dataSchemaFactory, classLoaders, configFileStream, null);
   }
 
+  /**
+   * @param dataSchemaFactory the factory of the schemas, null for the default factory which is
+   *     loaded from the {@link EntityRegistryIndex} if it was generated from this config
+   */
   public ConfigEntityRegistry(
-      DataSchemaFactory dataSchemaFactory,
+      @Nullable DataSchemaFactory dataSchemaFactory,
       List<ClassLoader> classLoaders,
       InputStream configFileStream,
       @Nullable
           BiFunction<PluginConfiguration, List<ClassLoader>, PluginFactory> pluginFactoryProvider) {
-    this.dataSchemaFactory = dataSchemaFactory;
     Entities entities;
     try {
-      entities = OBJECT_MAPPER.readValue(configFileStream, Entities.class);
+      final byte[] config = configFileStream.readAllBytes();
+      entities = parseConfig(config);
+      this.dataSchemaFactory =
+          dataSchemaFactory != null
+              ? dataSchemaFactory
+              : getDefaultDataSchemaFactory(
+                  classLoaders.isEmpty()
+                      ? EntityRegistryIndex.forConfig(config).orElse(null)
+                      : null);
       if (pluginFactoryProvider != null) {
         this.pluginFactory = pluginFactoryProvider.apply(entities.getPlugins(), classLoaders);
       } else {
@@ -229,6 +239,22 @@ public class ConfigEntityRegistry implements EntityRegistry {
     _aspectNameToSpec = populateAspectMap(entitySpecs);
   }
 
+  static Entities parseConfig(@Nonnull byte[] config) throws IOException {
+    return OBJECT_MAPPER.readValue(config, Entities.class);
+  }
+
+  private static DataSchemaFactory getDefaultDataSchemaFactory(
+      @Nullable EntityRegistryIndex index) {
+    if (index != null) {
+      try {
+        return DataSchemaFactory.fromIndex(index);
+      } catch (ClassNotFoundException | RuntimeException e) {
+        log.warn("Failed to load the entity registry index classes, scanning the classpath", e);
+      }
+    }
+    return DataSchemaFactory.getInstance();
+  }
+
   @Override
   public String getIdentifier() {
     return this.identifier;
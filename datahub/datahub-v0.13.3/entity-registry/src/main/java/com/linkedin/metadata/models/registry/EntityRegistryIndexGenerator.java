@@ -0,0 +1,94 @@
+package com.linkedin.metadata.models.registry;
+
+import com.linkedin.metadata.aspect.plugins.config.AspectPluginConfig;
+import com.linkedin.metadata.aspect.plugins.config.PluginConfiguration;
+import com.linkedin.metadata.aspect.plugins.hooks.MCLSideEffect;
+import com.linkedin.metadata.aspect.plugins.hooks.MCPSideEffect;
+import com.linkedin.metadata.aspect.plugins.hooks.MutationHook;
+import com.linkedin.metadata.aspect.plugins.validation.AspectPayloadValidator;
+import com.linkedin.metadata.models.DataSchemaFactory;
+import com.linkedin.metadata.models.registry.config.Entities;
+import com.linkedin.metadata.models.registry.config.EntityRegistryIndex;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates the {@link EntityRegistryIndex} of an entity registry config at build time, by scanning
+ * the classpath the way the registry would at startup.
+ *
+ * <p>Usage: {@code EntityRegistryIndexGenerator <entity registry yaml> <index json>}
+ */
+@Slf4j
+public class EntityRegistryIndexGenerator {
+
+  private EntityRegistryIndexGenerator() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException(
+          "Usage: EntityRegistryIndexGenerator <entity registry yaml> <index json>");
+    }
+    EntityRegistryIndex index = generate(Files.readAllBytes(Paths.get(args[0])));
+    index.write(Paths.get(args[1]));
+    log.info(
+        "Wrote entity registry index of {} aspects to {}", index.getAspectClasses().size(), args[1]);
+  }
+
+  @Nonnull
+  public static EntityRegistryIndex generate(@Nonnull byte[] config) throws IOException {
+    final Entities entities = ConfigEntityRegistry.parseConfig(config);
+    final DataSchemaFactory dataSchemaFactory = new DataSchemaFactory();
+
+    final PluginConfiguration plugins =
+        Optional.ofNullable(entities.getPlugins()).orElse(PluginConfiguration.EMPTY);
+    final Map<String, List<String>> pluginClasses = new HashMap<>();
+    pluginClasses.put(
+        AspectPayloadValidator.class.getName(),
+        getPluginClasses(AspectPayloadValidator.class, plugins.getAspectPayloadValidators()));
+    pluginClasses.put(
+        MutationHook.class.getName(),
+        getPluginClasses(MutationHook.class, plugins.getMutationHooks()));
+    pluginClasses.put(
+        MCLSideEffect.class.getName(),
+        getPluginClasses(MCLSideEffect.class, plugins.getMclSideEffects()));
+    pluginClasses.put(
+        MCPSideEffect.class.getName(),
+        getPluginClasses(MCPSideEffect.class, plugins.getMcpSideEffects()));
+
+    return EntityRegistryIndex.builder()
+        .checksum(EntityRegistryIndex.checksum(config))
+        .entitySchemaClasses(dataSchemaFactory.getEntitySchemaClassNames())
+        .aspectClasses(dataSchemaFactory.getAspectClassNames())
+        .eventSchemaClasses(dataSchemaFactory.getEventSchemaClassNames())
+        .pluginClasses(pluginClasses)
+        .build();
+  }
+
+  /** Only plugin classes which are on the classpath are indexed, the rest is still scanned for. */
+  private static List<String> getPluginClasses(
+      @Nonnull Class<?> baseClazz, @Nonnull List<AspectPluginConfig> configs) {
+    return configs.stream()
+        .map(AspectPluginConfig::getClassName)
+        .distinct()
+        .filter(
+            className -> {
+              try {
+                return baseClazz.isAssignableFrom(
+                    Class.forName(
+                        className, false, EntityRegistryIndexGenerator.class.getClassLoader()));
+              } catch (ClassNotFoundException e) {
+                log.warn("Plugin class {} is not on the classpath, it is not indexed", className);
+                return false;
+              }
+            })
+        .collect(Collectors.toList());
+  }
+}
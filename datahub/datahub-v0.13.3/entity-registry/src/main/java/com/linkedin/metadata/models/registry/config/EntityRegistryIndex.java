@@ -0,0 +1,90 @@
+package com.linkedin.metadata.models.registry.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Index of the classes the default entity registry is built from, generated at build time, so that
+ * they are loaded directly at startup instead of being found by scanning the classpath.
+ *
+ * <p>An index only applies to the exact registry config it was generated from, identified by its
+ * checksum. Any other config is loaded by scanning, as before.
+ */
+@Slf4j
+@Value
+@Builder
+@NoArgsConstructor(force = true, access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class EntityRegistryIndex {
+  public static final String RESOURCE_NAME = "entity-registry-index.json";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  String checksum;
+  Map<String, String> entitySchemaClasses;
+  Map<String, String> aspectClasses;
+  Map<String, String> eventSchemaClasses;
+  // Plugin classes by the name of the plugin base class they extend
+  Map<String, List<String>> pluginClasses;
+
+  @Nonnull
+  public static String checksum(@Nonnull byte[] config) {
+    return Hashing.sha256().hashBytes(config).toString();
+  }
+
+  /**
+   * @param config the raw entity registry config
+   * @return the index on the classpath, if it was generated from the config
+   */
+  @Nonnull
+  public static Optional<EntityRegistryIndex> forConfig(@Nonnull byte[] config) {
+    final Optional<EntityRegistryIndex> index = getDefault();
+    if (index.isPresent() && !checksum(config).equals(index.get().getChecksum())) {
+      log.info("Entity registry index checksum does not match the config, scanning the classpath");
+      return Optional.empty();
+    }
+    return index;
+  }
+
+  /** @return the index on the classpath, if any */
+  @Nonnull
+  public static Optional<EntityRegistryIndex> getDefault() {
+    return DefaultHolder.INDEX;
+  }
+
+  public void write(@Nonnull Path path) throws IOException {
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    OBJECT_MAPPER.writeValue(path.toFile(), this);
+  }
+
+  private static Optional<EntityRegistryIndex> read() {
+    try (InputStream stream =
+        EntityRegistryIndex.class.getClassLoader().getResourceAsStream(RESOURCE_NAME)) {
+      if (stream == null) {
+        return Optional.empty();
+      }
+      return Optional.of(OBJECT_MAPPER.readValue(stream, EntityRegistryIndex.class));
+    } catch (IOException e) {
+      log.warn("Failed to read the entity registry index {}", RESOURCE_NAME, e);
+      return Optional.empty();
+    }
+  }
+
+  private static class DefaultHolder {
+    private static final Optional<EntityRegistryIndex> INDEX = read();
+  }
+}
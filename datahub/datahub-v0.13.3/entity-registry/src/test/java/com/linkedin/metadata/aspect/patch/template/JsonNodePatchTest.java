@@ -0,0 +1,73 @@
+package com.linkedin.metadata.aspect.patch.template;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonReader;
+import java.io.StringReader;
+import org.testng.annotations.Test;
+
+public class JsonNodePatchTest {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  public void testMatchesJakartaPatch() throws Exception {
+    String document = "{\"a\":{\"b\":[1,2,3]},\"c\":\"x\",\"d\":{\"e~f/g\":true}}";
+    JsonPatch patch =
+        Json.createPatchBuilder()
+            .add("/a/b/1", 5)
+            .add("/a/b/-", 0.5)
+            .remove("/a/b/0")
+            .replace("/c", "y")
+            .add("/h", Json.createObjectBuilder().add("i", 1).build())
+            .copy("/j", "/h")
+            .move("/k", "/d/e~0f~1g")
+            .test("/a/b/0", 5)
+            .build();
+
+    JsonNode patched = JsonNodePatch.apply(OBJECT_MAPPER.readTree(document), patch);
+
+    try (JsonReader reader = Json.createReader(new StringReader(document))) {
+      assertEquals(
+          patched, OBJECT_MAPPER.readTree(patch.apply(reader.readObject()).toString()));
+    }
+  }
+
+  @Test
+  public void testMissingPathsFail() throws Exception {
+    JsonNode document = OBJECT_MAPPER.readTree("{\"a\":[1]}");
+
+    assertThrows(
+        JsonException.class,
+        () -> JsonNodePatch.apply(document, Json.createPatchBuilder().remove("/b").build()));
+    assertThrows(
+        JsonException.class,
+        () -> JsonNodePatch.apply(document, Json.createPatchBuilder().replace("/a/1", 2).build()));
+    assertThrows(
+        JsonException.class,
+        () -> JsonNodePatch.apply(document, Json.createPatchBuilder().add("/b/c", 2).build()));
+  }
+
+  @Test
+  public void testDataConversionMatchesJsonCodec() {
+    DataMap dataMap = new DataMap();
+    dataMap.put("int", 1);
+    dataMap.put("long", 1L << 40);
+    dataMap.put("float", 0.1f);
+    dataMap.put("string", "value");
+    dataMap.put("list", new DataList());
+
+    DataMap expected = new DataMap(dataMap);
+    // The JSON codec parses all floating point numbers as doubles
+    expected.put("float", 0.1);
+
+    assertEquals(TemplateUtil.toData(TemplateUtil.toJsonNode(dataMap)), expected);
+  }
+}
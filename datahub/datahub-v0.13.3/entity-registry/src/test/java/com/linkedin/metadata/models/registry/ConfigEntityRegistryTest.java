@@ -4,9 +4,15 @@ import static org.testng.Assert.*;
 
 import com.datahub.test.TestEntityProfile;
 import com.linkedin.data.schema.annotation.PathSpecBasedSchemaAnnotationVisitor;
+import com.linkedin.metadata.models.DataSchemaFactory;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.EventSpec;
+import com.linkedin.metadata.models.registry.config.EntityRegistryIndex;
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
 import java.util.Map;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
@@ -64,4 +70,26 @@ public class ConfigEntityRegistryTest {
                 .getResourceAsStream("test-entity-registry.yml"));
     assertEquals(configEntityRegistry.getIdentifier(), "test-registry");
   }
+
+  @Test
+  public void testEntityRegistryFromIndex() throws IOException, ClassNotFoundException {
+    byte[] config;
+    try (InputStream stream =
+        TestEntityProfile.class.getClassLoader().getResourceAsStream("test-entity-registry.yml")) {
+      config = stream.readAllBytes();
+    }
+    EntityRegistryIndex index = EntityRegistryIndexGenerator.generate(config);
+    assertEquals(index.getChecksum(), EntityRegistryIndex.checksum(config));
+
+    ConfigEntityRegistry scanned = new ConfigEntityRegistry(new ByteArrayInputStream(config));
+    ConfigEntityRegistry indexed =
+        new ConfigEntityRegistry(
+            DataSchemaFactory.fromIndex(index),
+            Collections.emptyList(),
+            new ByteArrayInputStream(config));
+
+    assertEquals(indexed.getAspectSpecs(), scanned.getAspectSpecs());
+    assertEquals(indexed.getEntitySpecs().keySet(), scanned.getEntitySpecs().keySet());
+    assertEquals(indexed.getEventSpecs().keySet(), scanned.getEventSpecs().keySet());
+  }
 }
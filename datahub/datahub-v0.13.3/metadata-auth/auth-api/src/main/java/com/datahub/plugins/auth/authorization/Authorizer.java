@@ -36,6 +36,20 @@ public interface Authorizer extends Plugin {
     return new AuthorizationResult(request, AuthorizationResult.Type.DENY, "Not Implemented.");
   }
 
+  /**
+   * Returns an authorizer for the checks of a single request, which may reuse whatever it resolves
+   * across those checks. Authorizers without request state return themselves.
+   */
+  default Authorizer forRequest() {
+    return this;
+  }
+
+  /**
+   * Hints that the given resources are about to be authorized, e.g. a page of search results, so
+   * that their fields may be fetched in a single batch. Ignored by default.
+   */
+  default void prefetch(@Nonnull final Collection<EntitySpec> resourceSpecs) {}
+
   /**
    * Retrieves the current list of actors authorized to for a particular privilege against an
    * optional resource
@@ -0,0 +1,92 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.entity.Aspect;
+import com.linkedin.entity.EntityResponse;
+import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
+import com.linkedin.entity.client.EntityClientCache;
+import com.linkedin.metadata.TestEntityUtil;
+import com.linkedin.metadata.config.cache.client.EntityClientCacheConfig;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Batch reads served entirely from a warm {@link EntityClientCache}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityClientCacheBenchmark {
+  private static final String ASPECT_NAME = "testEntityInfo";
+
+  @Param({"1", "100"})
+  private int batchSize;
+
+  private OperationContext opContext;
+  private EntityClientCache cache;
+  private Set<Urn> urns;
+
+  @Setup
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    urns =
+        IntStream.range(0, batchSize)
+            .mapToObj(
+                i ->
+                    UrnUtils.getUrn(
+                        String.format(
+                            "urn:li:dataset:(urn:li:dataPlatform:hive,benchmark.table_%d,PROD)",
+                            i)))
+            .collect(Collectors.toSet());
+
+    EntityClientCacheConfig config = new EntityClientCacheConfig();
+    config.setEnabled(true);
+    config.setDefaultTTLSeconds(3600);
+    config.setMaxBytes(100 * 1024 * 1024);
+
+    cache =
+        EntityClientCache.builder()
+            .config(config)
+            .build(
+                collectionKey ->
+                    collectionKey.getUrns().stream()
+                        .collect(
+                            Collectors.toMap(
+                                Function.identity(), EntityClientCacheBenchmark::response)),
+                EntityClientCacheBenchmark.class);
+    // warm up the cache
+    cache.batchGetV2(opContext, urns, Set.of(ASPECT_NAME));
+  }
+
+  @Benchmark
+  public Map<Urn, EntityResponse> batchGetV2() {
+    return cache.batchGetV2(opContext, urns, Set.of(ASPECT_NAME));
+  }
+
+  private static EntityResponse response(Urn urn) {
+    EnvelopedAspectMap aspects = new EnvelopedAspectMap();
+    aspects.put(
+        ASPECT_NAME,
+        new EnvelopedAspect()
+            .setName(ASPECT_NAME)
+            .setValue(new Aspect(TestEntityUtil.getTestEntityInfo(urn).data())));
+    return new EntityResponse()
+        .setUrn(urn)
+        .setEntityName(urn.getEntityType())
+        .setAspects(aspects);
+  }
+}
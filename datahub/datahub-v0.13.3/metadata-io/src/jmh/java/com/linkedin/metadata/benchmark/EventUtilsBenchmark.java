@@ -0,0 +1,54 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.TestEntityUtil;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.SystemMetadata;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Avro conversion of MetadataChangeLog events, run on both ends of the MCL topic. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventUtilsBenchmark {
+  private MetadataChangeLog pegasusMCL;
+  private GenericRecord avroMCL;
+
+  @Setup
+  public void setup() throws Exception {
+    Urn urn = TestEntityUtil.getTestEntityUrn();
+    pegasusMCL =
+        new MetadataChangeLog()
+            .setEntityType(urn.getEntityType())
+            .setEntityUrn(urn)
+            .setChangeType(ChangeType.UPSERT)
+            .setAspectName("testEntityInfo")
+            .setAspect(GenericRecordUtils.serializeAspect(TestEntityUtil.getTestEntityInfo(urn)))
+            .setPreviousAspectValue(
+                GenericRecordUtils.serializeAspect(TestEntityUtil.getTestEntityInfo(urn)))
+            .setSystemMetadata(
+                new SystemMetadata().setRunId("benchmark").setLastObserved(1700000000000L));
+    avroMCL = EventUtils.pegasusToAvroMCL(pegasusMCL);
+  }
+
+  @Benchmark
+  public GenericRecord pegasusToAvroMCL() throws Exception {
+    return EventUtils.pegasusToAvroMCL(pegasusMCL);
+  }
+
+  @Benchmark
+  public MetadataChangeLog avroToPegasusMCL() throws Exception {
+    return EventUtils.avroToPegasusMCL(avroMCL);
+  }
+}
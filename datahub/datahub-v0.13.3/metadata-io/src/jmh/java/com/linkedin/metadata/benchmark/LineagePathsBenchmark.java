@@ -0,0 +1,80 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.graph.elastic.ESGraphQueryDAO;
+import com.linkedin.metadata.graph.elastic.LineagePaths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Path bookkeeping of a three level lineage walk: the root has {@code fanOut} upstreams, each of
+ * which shares the same {@code fanOut} upstreams, so every entity on the last level is reached
+ * through {@code fanOut} paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineagePathsBenchmark {
+  @Param({"10", "100"})
+  private int fanOut;
+
+  private Urn root;
+  private Urn[] firstHop;
+  private Urn[] secondHop;
+
+  @Setup
+  public void setup() {
+    root = dataset("root");
+    firstHop = new Urn[fanOut];
+    secondHop = new Urn[fanOut];
+    for (int i = 0; i < fanOut; i++) {
+      firstHop[i] = dataset("first_" + i);
+      secondHop[i] = dataset("second_" + i);
+    }
+  }
+
+  @Benchmark
+  public Map<Urn, UrnArrayArray> addEdgeToPaths() {
+    Map<Urn, UrnArrayArray> paths = new HashMap<>();
+    for (Urn first : firstHop) {
+      ESGraphQueryDAO.addEdgeToPaths(paths, root, first);
+    }
+    for (Urn first : firstHop) {
+      for (Urn second : secondHop) {
+        ESGraphQueryDAO.addEdgeToPaths(paths, first, second);
+      }
+    }
+    return paths;
+  }
+
+  /** The same walk on the interned path forest, urn ids are the positions in the walk. */
+  @Benchmark
+  public LineagePaths lineagePaths() {
+    LineagePaths paths = new LineagePaths();
+    for (int first = 1; first <= fanOut; first++) {
+      paths.addEdge(0, LineagePaths.NONE, first);
+    }
+    for (int first = 1; first <= fanOut; first++) {
+      for (int second = fanOut + 1; second <= 2 * fanOut; second++) {
+        paths.addEdge(first, LineagePaths.NONE, second);
+      }
+    }
+    return paths;
+  }
+
+  private static Urn dataset(String name) {
+    return UrnUtils.getUrn(
+        String.format("urn:li:dataset:(urn:li:dataPlatform:hive,benchmark.%s,PROD)", name));
+  }
+}
@@ -0,0 +1,48 @@
+package com.linkedin.metadata.benchmark;
+
+import com.datahub.test.TestEntityInfo;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.TestEntitySpecBuilder;
+import com.linkedin.metadata.TestEntityUtil;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Transforming an aspect into its search document, run for every searchable aspect write. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchDocumentTransformerBenchmark {
+  private SearchDocumentTransformer transformer;
+  private OperationContext opContext;
+  private Urn urn;
+  private TestEntityInfo aspect;
+  private AspectSpec aspectSpec;
+
+  @Setup
+  public void setup() {
+    transformer = new SearchDocumentTransformer(1000, 1000, 1000);
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    urn = TestEntityUtil.getTestEntityUrn();
+    aspect = TestEntityUtil.getTestEntityInfo(urn);
+    EntitySpec entitySpec = TestEntitySpecBuilder.getSpec();
+    aspectSpec = entitySpec.getAspectSpec("testEntityInfo");
+  }
+
+  @Benchmark
+  public Optional<ObjectNode> transformAspect() throws Exception {
+    return transformer.transformAspect(opContext, urn, aspect, aspectSpec, false);
+  }
+}
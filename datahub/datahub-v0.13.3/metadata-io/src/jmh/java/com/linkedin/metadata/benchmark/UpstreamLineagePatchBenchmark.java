@@ -0,0 +1,71 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.aspect.patch.template.dataset.UpstreamLineageTemplate;
+import jakarta.json.Json;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPatchBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Applying a fine-grained lineage patch to an {@link UpstreamLineage} which already holds as many
+ * fine-grained edges as the patch adds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UpstreamLineagePatchBenchmark {
+  private static final String UPSTREAM_DATASET =
+      "urn:li:dataset:(urn:li:dataPlatform:bigquery,upstream_table,PROD)";
+  private static final String DOWNSTREAM_DATASET =
+      "urn:li:dataset:(urn:li:dataPlatform:bigquery,downstream_table,PROD)";
+
+  @Param({"10", "1000"})
+  private int numFields;
+
+  private UpstreamLineageTemplate template;
+  private UpstreamLineage existing;
+  private JsonPatch patch;
+
+  @Setup
+  public void setup() throws Exception {
+    template = new UpstreamLineageTemplate();
+    existing = template.applyPatch(template.getDefault(), fineGrainedPatch("existing_", 0));
+    patch = fineGrainedPatch("column_", numFields);
+  }
+
+  @Benchmark
+  public UpstreamLineage applyPatch() throws Exception {
+    return template.applyPatch(existing, patch);
+  }
+
+  private JsonPatch fineGrainedPatch(String prefix, int offset) {
+    JsonPatchBuilder builder = Json.createPatchBuilder();
+    builder.add(
+        "/upstreams/" + UPSTREAM_DATASET,
+        Json.createObjectBuilder()
+            .add("dataset", UPSTREAM_DATASET)
+            .add("type", "TRANSFORMED")
+            .add(
+                "auditStamp",
+                Json.createObjectBuilder().add("time", 0).add("actor", "urn:li:corpuser:unknown"))
+            .build());
+    for (int i = offset; i < offset + numFields; i++) {
+      String downstream =
+          String.format("urn:li:schemaField:(%s,%s%d)", DOWNSTREAM_DATASET, prefix, i);
+      String upstream = String.format("urn:li:schemaField:(%s,%s%d)", UPSTREAM_DATASET, prefix, i);
+      builder.add(
+          "/fineGrainedLineages/TRANSFORM/" + downstream + "/NONE/" + upstream,
+          Json.createObjectBuilder().add("confidenceScore", 1.0).build());
+    }
+    return builder.build();
+  }
+}
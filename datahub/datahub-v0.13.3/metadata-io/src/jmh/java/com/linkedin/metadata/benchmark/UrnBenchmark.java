@@ -0,0 +1,29 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.urn.Urn;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/** Urn parsing, from a flat urn to a schema field urn nesting a dataset urn. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UrnBenchmark {
+  @Param({
+    "urn:li:corpuser:datahub",
+    "urn:li:dataset:(urn:li:dataPlatform:snowflake,analytics.prod.orders,PROD)",
+    "urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:snowflake,analytics.prod.orders,PROD),customer_id)"
+  })
+  private String urn;
+
+  @Benchmark
+  public Urn createFromString() throws Exception {
+    return Urn.createFromString(urn);
+  }
+}
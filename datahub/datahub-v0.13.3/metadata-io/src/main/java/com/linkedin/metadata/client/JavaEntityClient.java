@@ -24,6 +24,7 @@ import com.linkedin.metadata.aspect.EnvelopedAspect;
 import com.linkedin.metadata.aspect.EnvelopedAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.aspect.batch.MCPItem;
 import com.linkedin.metadata.browse.BrowseResult;
 import com.linkedin.metadata.browse.BrowseResultV2;
 import com.linkedin.metadata.entity.DeleteEntityService;
@@ -60,8 +61,10 @@ import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -769,6 +772,58 @@ public class JavaEntityClient implements EntityClient {
     return urn.toString();
   }
 
+  /** Ingests all proposals as a single {@link AspectsBatch}, i.e. in one transaction */
+  @Override
+  public List<String> batchIngestProposals(
+      @Nonnull OperationContext opContext,
+      @Nonnull final Collection<MetadataChangeProposal> metadataChangeProposals,
+      final boolean async)
+      throws RemoteInvocationException {
+    if (metadataChangeProposals.isEmpty()) {
+      return List.of();
+    }
+    String actorUrnStr =
+        opContext.getSessionAuthentication().getActor() != null
+            ? opContext.getSessionAuthentication().getActor().toUrnStr()
+            : Constants.UNKNOWN_ACTOR;
+    final AuditStamp auditStamp =
+        new AuditStamp().setTime(_clock.millis()).setActor(UrnUtils.getUrn(actorUrnStr));
+
+    AspectsBatch batch =
+        AspectsBatchImpl.builder()
+            .mcps(
+                new ArrayList<>(metadataChangeProposals),
+                auditStamp,
+                opContext.getRetrieverContext().get())
+            .build();
+
+    // Key based proposals have no entity urn, take it from the item built for the proposal
+    final Map<MetadataChangeProposal, Urn> urnByProposal = new IdentityHashMap<>();
+    batch
+        .getMCPItems()
+        .forEach(item -> urnByProposal.put(item.getMetadataChangeProposal(), item.getUrn()));
+
+    // Results are unordered, map them back to the proposal which produced them
+    final Map<MetadataChangeProposal, IngestResult> resultByProposal = new IdentityHashMap<>();
+    entityService.ingestProposal(opContext, batch, async).stream()
+        .filter(result -> result.getRequest() instanceof MCPItem)
+        .forEach(
+            result ->
+                resultByProposal.putIfAbsent(
+                    ((MCPItem) result.getRequest()).getMetadataChangeProposal(), result));
+
+    final List<String> urns = new ArrayList<>(metadataChangeProposals.size());
+    for (MetadataChangeProposal proposal : metadataChangeProposals) {
+      final Urn urn = urnByProposal.get(proposal);
+      final IngestResult result = resultByProposal.get(proposal);
+      if (result != null && result.shouldIndexRunId()) {
+        tryIndexRunId(opContext, urn, proposal.getSystemMetadata());
+      }
+      urns.add(urn.toString());
+    }
+    return urns;
+  }
+
   @SneakyThrows
   @Override
   @Deprecated
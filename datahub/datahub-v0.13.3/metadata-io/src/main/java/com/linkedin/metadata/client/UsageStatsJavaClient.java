@@ -13,6 +13,11 @@ import com.linkedin.usage.UsageQueryResult;
 import com.linkedin.usage.UsageTimeRange;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 public class UsageStatsJavaClient implements UsageClient {
@@ -40,6 +45,24 @@ public class UsageStatsJavaClient implements UsageClient {
                     throw new RuntimeException(e);
                   }
                 })
+            .batchLoadFunction(
+                (List<UsageClientCache.Key> cacheKeys) -> {
+                  UsageClientCache.Key firstKey = cacheKeys.get(0);
+                  Map<String, UsageQueryResult> results =
+                      UsageServiceUtil.batchQueryRange(
+                          operationContextMap.getIfPresent(firstKey.getContextId()),
+                          timeseriesAspectService,
+                          cacheKeys.stream()
+                              .map(UsageClientCache.Key::getResource)
+                              .collect(Collectors.toList()),
+                          WindowDuration.DAY,
+                          firstKey.getRange());
+                  return cacheKeys.stream()
+                      .collect(
+                          Collectors.toMap(
+                              Function.identity(),
+                              cacheKey -> results.get(cacheKey.getResource())));
+                })
             .build();
   }
 
@@ -53,6 +76,17 @@ public class UsageStatsJavaClient implements UsageClient {
     return usageClientCache.getUsageStats(opContext, resource, range);
   }
 
+  /** Queries the usage stats of the resources missing from the cache at once. */
+  @Nonnull
+  @Override
+  public Map<String, UsageQueryResult> batchGetUsageStats(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> resources,
+      @Nonnull UsageTimeRange range) {
+    operationContextMap.put(opContext.getEntityContextId(), opContext);
+    return usageClientCache.batchGetUsageStats(opContext, resources, range);
+  }
+
   @Nonnull
   @Override
   public UsageQueryResult getUsageStatsNoCache(
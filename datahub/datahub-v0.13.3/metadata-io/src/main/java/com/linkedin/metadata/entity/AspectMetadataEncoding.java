@@ -0,0 +1,64 @@
+package com.linkedin.metadata.entity;
+
+import com.github.luben.zstd.Zstd;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Encodings of the serialized aspect stored in the metadata column of the aspect table.
+ *
+ * <p>Legacy rows hold the plain Pegasus JSON of the aspect, which always starts with an opening
+ * brace. Encoded rows start with a format marker instead, followed by the encoded bytes in Base64
+ * so that they still fit the existing text column. Reads detect the encoding from the stored
+ * value, so rows of every encoding can be mixed in the same table.
+ */
+public enum AspectMetadataEncoding {
+  /** Plain Pegasus JSON, readable by every DataHub version. */
+  JSON,
+  /** Zstandard compressed Pegasus JSON, a multiple smaller for large aspects. */
+  ZSTD_JSON;
+
+  public static final String ZSTD_JSON_MARKER = "$zstd1$";
+
+  private static final int ZSTD_LEVEL = 3;
+
+  /**
+   * Encodes the JSON of an aspect for storage. Small aspects, for which the marker and Base64
+   * overhead outweigh compression, are stored as plain JSON.
+   */
+  @Nonnull
+  public String encode(@Nonnull String json) {
+    if (this == JSON) {
+      return json;
+    }
+    final byte[] compressed = Zstd.compress(json.getBytes(StandardCharsets.UTF_8), ZSTD_LEVEL);
+    final String encoded = ZSTD_JSON_MARKER + Base64.getEncoder().encodeToString(compressed);
+    return encoded.length() < json.length() ? encoded : json;
+  }
+
+  /** @return the JSON of an aspect stored with any encoding */
+  @Nullable
+  public static String decode(@Nullable String stored) {
+    if (of(stored) != ZSTD_JSON) {
+      return stored;
+    }
+    final byte[] compressed =
+        Base64.getDecoder().decode(stored.substring(ZSTD_JSON_MARKER.length()));
+    final byte[] json = Zstd.decompress(compressed, (int) Zstd.decompressedSize(compressed));
+    return new String(json, StandardCharsets.UTF_8);
+  }
+
+  /** @return the encoding of a stored value */
+  @Nonnull
+  public static AspectMetadataEncoding of(@Nullable String stored) {
+    return stored != null && stored.startsWith(ZSTD_JSON_MARKER) ? ZSTD_JSON : JSON;
+  }
+
+  /** @return the configured encoding, plain JSON when none is set */
+  @Nonnull
+  public static AspectMetadataEncoding fromConfig(@Nullable String name) {
+    return name == null || name.isBlank() ? JSON : valueOf(name.trim().toUpperCase());
+  }
+}
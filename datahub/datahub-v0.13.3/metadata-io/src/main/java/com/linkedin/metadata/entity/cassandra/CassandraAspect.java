@@ -1,6 +1,7 @@
 package com.linkedin.metadata.entity.cassandra;
 
 import com.datastax.oss.driver.api.core.cql.Row;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import java.sql.Timestamp;
@@ -58,7 +59,7 @@ public class CassandraAspect {
         row.getString(CassandraAspect.URN_COLUMN),
         row.getString(CassandraAspect.ASPECT_COLUMN),
         row.getLong(CassandraAspect.VERSION_COLUMN),
-        row.getString(CassandraAspect.METADATA_COLUMN),
+        AspectMetadataEncoding.decode(row.getString(CassandraAspect.METADATA_COLUMN)),
         row.getString(CassandraAspect.SYSTEM_METADATA_COLUMN),
         row.getInstant(CassandraAspect.CREATED_ON_COLUMN) == null
             ? null
@@ -15,6 +15,7 @@ import com.linkedin.metadata.aspect.batch.AspectsBatch;
 import com.linkedin.metadata.aspect.batch.MCPItem;
 import com.linkedin.metadata.config.EbeanConfiguration;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
 import com.linkedin.metadata.entity.AspectMigrationsDao;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
@@ -38,6 +39,7 @@ import io.ebean.Query;
 import io.ebean.RawSql;
 import io.ebean.RawSqlBuilder;
 import io.ebean.Transaction;
+import io.ebean.TransactionCallbackAdapter;
 import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
 import java.net.URISyntaxException;
@@ -57,6 +59,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -83,6 +86,15 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   // more testing.
   private int _queryKeysCount = 375; // 0 means no pagination on keys
 
+  // Encoding of newly written aspects, rows of any encoding are read
+  private final AspectMetadataEncoding _metadataEncoding;
+
+  // Shares in flight reads of the same aspect rows between concurrent callers, null if disabled
+  @Nullable private final SingleFlight<EntityAspectIdentifier, EntityAspect> _readFlights;
+
+  // Latest aspects kept in process, null if disabled
+  @Nullable private final LatestAspectCache _latestAspectCache;
+
   /**
    * Used to control write concurrency when an entity key aspect is present. If a batch contains an
    * entity key aspect, only allow a single execution per URN
@@ -90,7 +102,27 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   private final LoadingCache<String, Lock> locks;
 
   public EbeanAspectDao(@Nonnull final Database server, EbeanConfiguration ebeanConfiguration) {
+    this(server, ebeanConfiguration, null);
+  }
+
+  public EbeanAspectDao(
+      @Nonnull final Database server,
+      EbeanConfiguration ebeanConfiguration,
+      @Nullable LatestAspectCache latestAspectCache) {
     _server = server;
+    _latestAspectCache = latestAspectCache;
+    _metadataEncoding =
+        AspectMetadataEncoding.fromConfig(ebeanConfiguration.getMetadataEncoding());
+    if (ebeanConfiguration.isReadCoalescingEnabled()) {
+      // The share of coalesced reads is the ratio of the rates of both counters
+      _readFlights =
+          new SingleFlight<>(
+              LatestAspectCache::copy,
+              MetricUtils.counter(this.getClass(), "read_requested_key_count"),
+              MetricUtils.counter(this.getClass(), "read_coalesced_key_count"));
+    } else {
+      _readFlights = null;
+    }
     if (ebeanConfiguration.getLocking().isEnabled()) {
       this.locks =
           CacheBuilder.newBuilder()
@@ -212,7 +244,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
     final EbeanAspectV2 aspect = new EbeanAspectV2();
     aspect.setKey(new EbeanAspectV2.PrimaryKey(urn, aspectName, version));
-    aspect.setMetadata(aspectMetadata);
+    aspect.setMetadata(_metadataEncoding.encode(aspectMetadata));
     aspect.setSystemMetadata(systemMetadata);
     aspect.setCreatedOn(timestamp);
     aspect.setCreatedBy(actor);
@@ -226,13 +258,14 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public void saveAspect(
       @Nullable Transaction tx, @Nonnull final EntityAspect aspect, final boolean insert) {
-    EbeanAspectV2 ebeanAspect = EbeanAspectV2.fromEntityAspect(aspect);
+    EbeanAspectV2 ebeanAspect = EbeanAspectV2.fromEntityAspect(aspect, _metadataEncoding);
     saveEbeanAspect(tx, ebeanAspect, insert);
   }
 
   private void saveEbeanAspect(
       @Nullable Transaction tx, @Nonnull final EbeanAspectV2 ebeanAspect, final boolean insert) {
     validateConnection();
+    invalidateReads(tx, ebeanAspect.getKey().getUrn(), ebeanAspect.getKey().getAspect());
     if (insert) {
       _server.insert(ebeanAspect, tx);
     } else {
@@ -244,6 +277,32 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   public Map<String, Map<String, EntityAspect>> getLatestAspects(
       @Nonnull Map<String, Set<String>> urnAspects) {
     validateConnection();
+    if (_latestAspectCache != null && _server.currentTransaction() == null) {
+      return _latestAspectCache.get(urnAspects, this::loadLatestAspects);
+    }
+    return loadLatestAspects(urnAspects);
+  }
+
+  @Nonnull
+  private Map<String, Map<String, EntityAspect>> loadLatestAspects(
+      @Nonnull Map<String, Set<String>> urnAspects) {
+    if (shouldCoalesceReads()) {
+      final Set<EntityAspectIdentifier> keys =
+          urnAspects.entrySet().stream()
+              .flatMap(
+                  entry ->
+                      entry.getValue().stream()
+                          .map(
+                              aspect ->
+                                  new EntityAspectIdentifier(
+                                      entry.getKey(), aspect, ASPECT_LATEST_VERSION)))
+              .collect(Collectors.toSet());
+      return _readFlights.get(keys, this::findByKeys).values().stream()
+          .collect(
+              Collectors.groupingBy(
+                  EntityAspect::getUrn,
+                  Collectors.toMap(EntityAspect::getAspect, Function.identity())));
+    }
 
     List<EbeanAspectV2.PrimaryKey> keys =
         urnAspects.entrySet().stream()
@@ -301,6 +360,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public void deleteAspect(@Nullable Transaction tx, @Nonnull final EntityAspect aspect) {
     validateConnection();
+    invalidateReads(tx, aspect.getUrn(), aspect.getAspect());
     EbeanAspectV2 ebeanAspect = EbeanAspectV2.fromEntityAspect(aspect);
     _server.delete(ebeanAspect, tx);
   }
@@ -308,6 +368,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public int deleteUrn(@Nullable Transaction tx, @Nonnull final String urn) {
     validateConnection();
+    invalidateReads(tx, urn, null);
     return _server
         .createQuery(EbeanAspectV2.class)
         .where()
@@ -323,7 +384,15 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     if (keys.isEmpty()) {
       return Collections.emptyMap();
     }
+    if (shouldCoalesceReads()) {
+      return _readFlights.get(keys, this::batchGetUncoalesced);
+    }
+    return batchGetUncoalesced(keys);
+  }
 
+  @Nonnull
+  private Map<EntityAspectIdentifier, EntityAspect> batchGetUncoalesced(
+      @Nonnull final Set<EntityAspectIdentifier> keys) {
     final Set<EbeanAspectV2.PrimaryKey> ebeanKeys =
         keys.stream()
             .map(EbeanAspectV2.PrimaryKey::fromAspectIdentifier)
@@ -340,6 +409,69 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
                 record -> record.getKey().toAspectIdentifier(), EbeanAspectV2::toEntityAspect));
   }
 
+  @Nonnull
+  private Map<EntityAspectIdentifier, EntityAspect> findByKeys(
+      @Nonnull final Set<EntityAspectIdentifier> keys) {
+    final List<EbeanAspectV2.PrimaryKey> ebeanKeys =
+        keys.stream()
+            .map(EbeanAspectV2.PrimaryKey::fromAspectIdentifier)
+            .collect(Collectors.toList());
+    return _server.find(EbeanAspectV2.class).where().idIn(ebeanKeys).findList().stream()
+        .collect(
+            Collectors.toMap(
+                record -> record.getKey().toAspectIdentifier(), EbeanAspectV2::toEntityAspect));
+  }
+
+  /**
+   * Reads inside a transaction must see its own writes and respect its isolation, so only reads
+   * outside of one are shared.
+   */
+  private boolean shouldCoalesceReads() {
+    return _readFlights != null && _server.currentTransaction() == null;
+  }
+
+  /**
+   * Readers arriving after a write must not be handed a load which started before it, neither
+   * before nor after the write's transaction commits. A reader outside the transaction may still
+   * load and cache the previous value until the commit, so the cache is invalidated again after.
+   *
+   * @param aspectName the written aspect, null for all aspects of the urn
+   */
+  private void invalidateReads(
+      @Nullable Transaction tx, @Nonnull String urn, @Nullable String aspectName) {
+    if (_readFlights == null && _latestAspectCache == null) {
+      return;
+    }
+    final Predicate<EntityAspectIdentifier> written =
+        key ->
+            key.getUrn().equals(urn) && (aspectName == null || key.getAspect().equals(aspectName));
+    final Runnable invalidate =
+        () -> {
+          if (_readFlights != null) {
+            _readFlights.evict(written);
+          }
+          if (_latestAspectCache != null) {
+            if (aspectName == null) {
+              _latestAspectCache.invalidateUrn(urn);
+            } else {
+              _latestAspectCache.invalidate(urn, Set.of(aspectName));
+            }
+          }
+        };
+    invalidate.run();
+
+    final Transaction active = tx != null ? tx : _server.currentTransaction();
+    if (active != null) {
+      active.register(
+          new TransactionCallbackAdapter() {
+            @Override
+            public void postCommit() {
+              invalidate.run();
+            }
+          });
+    }
+  }
+
   /**
    * BatchGet that allows pagination on keys to avoid large queries. TODO: can further improve by
    * running the sub queries in parallel
@@ -512,6 +644,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     if (args.aspectName != null) {
       exp = exp.eq(EbeanAspectV2.ASPECT_COLUMN, args.aspectName);
     }
+    if (args.aspectNames != null && !args.aspectNames.isEmpty()) {
+      exp = exp.in(EbeanAspectV2.ASPECT_COLUMN, args.aspectNames);
+    }
     if (args.urn != null) {
       exp = exp.eq(EbeanAspectV2.URN_COLUMN, args.urn);
     }
@@ -547,6 +682,10 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       }
     }
 
+    if (args.urnUpperBound != null && !args.urnUpperBound.isEmpty()) {
+      exp = exp.where().lt(EbeanAspectV2.URN_COLUMN, args.urnUpperBound);
+    }
+
     if (args.limit > 0) {
       exp = exp.setMaxRows(args.limit);
     }
@@ -627,7 +766,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
             .findPagedList();
 
     final List<String> aspects =
-        pagedList.getList().stream().map(EbeanAspectV2::getMetadata).collect(Collectors.toList());
+        pagedList.getList().stream()
+            .map(aspect -> AspectMetadataEncoding.decode(aspect.getMetadata()))
+            .collect(Collectors.toList());
     final ListResultMetadata listResultMetadata =
         toListResultMetadata(
             pagedList.getList().stream()
@@ -1,5 +1,6 @@
 package com.linkedin.metadata.entity.ebean;
 
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
 import com.linkedin.metadata.entity.EntityAspect;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import io.ebean.Model;
@@ -88,6 +89,7 @@ public class EbeanAspectV2 extends Model {
   @Column(name = VERSION_COLUMN, nullable = false)
   private long version;
 
+  /** The serialized aspect, see {@link AspectMetadataEncoding} for the formats it is stored in. */
   @NonNull
   @Lob
   @Column(name = METADATA_COLUMN, nullable = false)
@@ -134,7 +136,7 @@ public class EbeanAspectV2 extends Model {
         getKey().getUrn(),
         getKey().getAspect(),
         getKey().getVersion(),
-        getMetadata(),
+        AspectMetadataEncoding.decode(getMetadata()),
         getSystemMetadata(),
         getCreatedOn(),
         getCreatedBy(),
@@ -142,11 +144,16 @@ public class EbeanAspectV2 extends Model {
   }
 
   public static EbeanAspectV2 fromEntityAspect(EntityAspect aspect) {
+    return fromEntityAspect(aspect, AspectMetadataEncoding.JSON);
+  }
+
+  public static EbeanAspectV2 fromEntityAspect(
+      EntityAspect aspect, AspectMetadataEncoding metadataEncoding) {
     return new EbeanAspectV2(
         aspect.getUrn(),
         aspect.getAspect(),
         aspect.getVersion(),
-        aspect.getMetadata(),
+        metadataEncoding.encode(aspect.getMetadata()),
         aspect.getCreatedOn(),
         aspect.getCreatedBy(),
         aspect.getCreatedFor(),
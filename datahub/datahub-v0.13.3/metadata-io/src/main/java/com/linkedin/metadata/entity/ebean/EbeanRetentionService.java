@@ -6,6 +6,7 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.aspect.batch.AspectsBatch;
 import com.linkedin.metadata.aspect.batch.ChangeMCP;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
 import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
@@ -325,7 +326,9 @@ public class EbeanRetentionService<U extends ChangeMCP> extends RetentionService
             Collectors.toMap(
                 EbeanAspectV2::getUrn,
                 row ->
-                    RecordUtils.toRecordTemplate(DataHubRetentionConfig.class, row.getMetadata())));
+                    RecordUtils.toRecordTemplate(
+                        DataHubRetentionConfig.class,
+                        AspectMetadataEncoding.decode(row.getMetadata()))));
   }
 
   private ExpressionList<EbeanAspectV2> queryCandidates(
@@ -0,0 +1,168 @@
+package com.linkedin.metadata.entity.ebean;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.linkedin.metadata.entity.EntityAspect;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Bounded, byte weighted in process cache of latest (version 0) aspects, keyed by urn and aspect
+ * name. Absent aspects are cached as well, most entities only have a few of their aspects.
+ *
+ * <p>Entries are invalidated when an aspect is written, locally by {@link EbeanAspectDao} and for
+ * writes of other instances from the MetadataChangeLog. A load which overlaps an invalidation of
+ * the same urn is returned to its caller but not kept, tracked with a generation per urn stripe,
+ * so that a value read before a write can never outlive the write's invalidation.
+ */
+public class LatestAspectCache {
+  private static final int STRIPES = 4096;
+  // Rough per entry overhead of the key, the entry and the cached object headers in bytes
+  private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+  private final Cache<EntityAspectIdentifier, Optional<EntityAspect>> cache;
+  private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+  public LatestAspectCache(long maxBytes, long ttlSeconds) {
+    CacheBuilder<EntityAspectIdentifier, Optional<EntityAspect>> builder =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher(LatestAspectCache::weigh)
+            .recordStats();
+    if (ttlSeconds > 0) {
+      // Bounds staleness should an invalidation event ever be missed
+      builder = builder.expireAfterWrite(ttlSeconds, TimeUnit.SECONDS);
+    }
+    cache = builder.build();
+
+    MetricUtils.gauge(
+        this.getClass(), "hitRate", () -> (Gauge<Double>) () -> cache.stats().hitRate());
+    MetricUtils.gauge(
+        this.getClass(), "evictionCount", () -> (Gauge<Long>) () -> cache.stats().evictionCount());
+    MetricUtils.gauge(this.getClass(), "size", () -> (Gauge<Long>) cache::size);
+  }
+
+  /**
+   * @param urnAspects the aspect names to get per urn
+   * @param loader loads the latest aspects of the urns and aspect names which are not cached
+   * @return the latest aspects per urn, urns without any of the aspects are left out
+   */
+  @Nonnull
+  public Map<String, Map<String, EntityAspect>> get(
+      @Nonnull Map<String, Set<String>> urnAspects,
+      @Nonnull
+          Function<Map<String, Set<String>>, Map<String, Map<String, EntityAspect>>> loader) {
+    final Map<String, Map<String, EntityAspect>> result = new HashMap<>();
+    final Map<String, Set<String>> missing = new HashMap<>();
+    final Map<String, Long> missingGenerations = new HashMap<>();
+
+    urnAspects.forEach(
+        (urn, aspectNames) ->
+            aspectNames.forEach(
+                aspectName -> {
+                  final Optional<EntityAspect> cached =
+                      cache.getIfPresent(latestKey(urn, aspectName));
+                  if (cached == null) {
+                    missing.computeIfAbsent(urn, k -> new HashSet<>()).add(aspectName);
+                    missingGenerations.computeIfAbsent(urn, k -> generations.get(stripe(k)));
+                  } else {
+                    cached.ifPresent(
+                        aspect ->
+                            result
+                                .computeIfAbsent(urn, k -> new HashMap<>())
+                                .put(aspectName, copy(aspect)));
+                  }
+                }));
+
+    if (missing.isEmpty()) {
+      return result;
+    }
+
+    final Map<String, Map<String, EntityAspect>> loaded = loader.apply(missing);
+    missing.forEach(
+        (urn, aspectNames) -> {
+          final Map<String, EntityAspect> loadedAspects = loaded.getOrDefault(urn, Map.of());
+          aspectNames.forEach(
+              aspectName -> {
+                final EntityAspect aspect = loadedAspects.get(aspectName);
+                cache.put(
+                    latestKey(urn, aspectName),
+                    Optional.ofNullable(aspect).map(LatestAspectCache::copy));
+                if (aspect != null) {
+                  result.computeIfAbsent(urn, k -> new HashMap<>()).put(aspectName, aspect);
+                }
+              });
+          // Invalidations bump the generation before evicting, so either the invalidation runs
+          // after the puts above, or the changed generation is seen here
+          if (generations.get(stripe(urn)) != missingGenerations.get(urn)) {
+            invalidate(urn, aspectNames);
+          }
+        });
+    return result;
+  }
+
+  /** Invalidates the cached latest aspects of an urn. */
+  public void invalidate(@Nonnull String urn, @Nonnull Collection<String> aspectNames) {
+    generations.incrementAndGet(stripe(urn));
+    aspectNames.forEach(aspectName -> cache.invalidate(latestKey(urn, aspectName)));
+  }
+
+  /** Invalidates every cached latest aspect of an urn, e.g. when the entity is deleted. */
+  public void invalidateUrn(@Nonnull String urn) {
+    generations.incrementAndGet(stripe(urn));
+    cache.asMap().keySet().removeIf(key -> key.getUrn().equals(urn));
+  }
+
+  private static EntityAspectIdentifier latestKey(String urn, String aspectName) {
+    return new EntityAspectIdentifier(urn, aspectName, ASPECT_LATEST_VERSION);
+  }
+
+  private static int stripe(@Nonnull String urn) {
+    return Math.floorMod(urn.hashCode(), STRIPES);
+  }
+
+  /** Callers may modify the aspects they get, so the cache only ever hands out copies. */
+  @Nonnull
+  static EntityAspect copy(@Nonnull EntityAspect aspect) {
+    return new EntityAspect(
+        aspect.getUrn(),
+        aspect.getAspect(),
+        aspect.getVersion(),
+        aspect.getMetadata(),
+        aspect.getSystemMetadata(),
+        aspect.getCreatedOn() == null ? null : new Timestamp(aspect.getCreatedOn().getTime()),
+        aspect.getCreatedBy(),
+        aspect.getCreatedFor());
+  }
+
+  private static int weigh(
+      @Nonnull EntityAspectIdentifier key, @Nonnull Optional<EntityAspect> value) {
+    long chars = key.getUrn().length() + key.getAspect().length();
+    if (value.isPresent()) {
+      final EntityAspect aspect = value.get();
+      chars += length(aspect.getMetadata()) + length(aspect.getSystemMetadata());
+      chars += length(aspect.getCreatedBy()) + length(aspect.getCreatedFor());
+    }
+    // Strings of the Latin-1 range, which serialized aspects mostly are, take a byte per char
+    return (int) Math.min(Integer.MAX_VALUE, chars + ENTRY_OVERHEAD_BYTES);
+  }
+
+  private static int length(@Nullable String value) {
+    return value == null ? 0 : value.length();
+  }
+}
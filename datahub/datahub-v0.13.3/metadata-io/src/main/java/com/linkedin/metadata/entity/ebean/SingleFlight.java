@@ -0,0 +1,111 @@
+package com.linkedin.metadata.entity.ebean;
+
+import com.codahale.metrics.Counter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nonnull;
+
+/**
+ * Coalesces concurrent batch loads of overlapping keys. Every key is loaded by at most one caller
+ * at a time: a caller loads the keys no one else is loading in a single batch, and waits for the
+ * in flight loads of the remaining keys instead of loading them again.
+ *
+ * <p>Nothing is cached, a key is only shared while its load is in flight. Callers which would
+ * otherwise observe a load started before a write can {@link #evict} the written keys.
+ *
+ * <p>Callers may modify the values they get, so every caller joining a load gets its own copy.
+ */
+final class SingleFlight<K, V> {
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final UnaryOperator<V> copy;
+  private final Counter requestedKeys;
+  private final Counter coalescedKeys;
+
+  /**
+   * @param copy copies a loaded value
+   * @param requestedKeys counts every requested key
+   * @param coalescedKeys counts the requested keys which were served by another caller's load
+   */
+  SingleFlight(
+      @Nonnull UnaryOperator<V> copy,
+      @Nonnull Counter requestedKeys,
+      @Nonnull Counter coalescedKeys) {
+    this.copy = copy;
+    this.requestedKeys = requestedKeys;
+    this.coalescedKeys = coalescedKeys;
+  }
+
+  /**
+   * @param loader loads a batch of keys, keys without a value are left out of the result
+   * @return the values of all requested keys which have one
+   */
+  @Nonnull
+  Map<K, V> get(@Nonnull Set<K> keys, @Nonnull Function<Set<K>, Map<K, V>> loader) {
+    final Map<K, CompletableFuture<V>> owned = new HashMap<>();
+    final Map<K, CompletableFuture<V>> joined = new HashMap<>();
+    for (K key : keys) {
+      final CompletableFuture<V> future = new CompletableFuture<>();
+      final CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+      if (existing == null) {
+        owned.put(key, future);
+      } else {
+        joined.put(key, existing);
+      }
+    }
+    requestedKeys.inc(keys.size());
+    coalescedKeys.inc(joined.size());
+
+    final Map<K, V> result = new HashMap<>();
+    if (!owned.isEmpty()) {
+      try {
+        final Map<K, V> loaded = loader.apply(new HashSet<>(owned.keySet()));
+        owned.forEach(
+            (key, future) -> {
+              final V value = loaded.get(key);
+              if (value != null) {
+                result.put(key, value);
+              }
+              // Shares a snapshot, the loading caller may modify its own value right away
+              future.complete(value == null ? null : copy.apply(value));
+            });
+      } catch (Throwable e) {
+        // Callers waiting for the owned keys load them again rather than hang
+        owned.values().forEach(future -> future.completeExceptionally(e));
+        throw e;
+      } finally {
+        owned.forEach(inFlight::remove);
+      }
+    }
+
+    // Keys whose shared load failed are loaded again by this caller
+    final Set<K> failed = new HashSet<>();
+    joined.forEach(
+        (key, future) -> {
+          try {
+            final V value = future.join();
+            if (value != null) {
+              result.put(key, copy.apply(value));
+            }
+          } catch (CompletionException e) {
+            failed.add(key);
+          }
+        });
+    if (!failed.isEmpty()) {
+      result.putAll(loader.apply(failed));
+    }
+    return result;
+  }
+
+  /** Stops sharing the in flight loads of the matching keys with callers arriving from now on. */
+  void evict(@Nonnull Predicate<K> predicate) {
+    inFlight.keySet().removeIf(predicate);
+  }
+}
@@ -0,0 +1,81 @@
+package com.linkedin.metadata.entity.export;
+
+import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.ebean.PartitionedStream;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exports the latest version of aspects with a sequential scan of the aspect table, rather than
+ * paging through search results and fetching their aspects.
+ *
+ * <p>Rows are streamed from the database in urn order and handed to an {@link AspectWriter} one
+ * batch at a time, so memory use is bounded by the batch size whatever the size of the export.
+ */
+@Slf4j
+public class AspectExporter {
+  private final AspectDao aspectDao;
+
+  public AspectExporter(@Nonnull AspectDao aspectDao) {
+    this.aspectDao = aspectDao;
+  }
+
+  /**
+   * @param entityNames the entities to export, all entities if empty
+   * @param aspectNames the aspects to export, all aspects if empty
+   * @param batchSize the number of aspects written between flushes of the writer
+   * @param writer where aspects are written, not closed
+   * @return the number of aspects written
+   */
+  public long export(
+      @Nonnull Collection<String> entityNames,
+      @Nonnull Collection<String> aspectNames,
+      int batchSize,
+      @Nonnull AspectWriter writer)
+      throws IOException {
+    final RestoreIndicesArgs args =
+        new RestoreIndicesArgs().aspectNames(new ArrayList<>(aspectNames)).batchSize(batchSize);
+    if (entityNames.isEmpty()) {
+      return export(args, writer);
+    }
+
+    long count = 0;
+    for (String entityName : entityNames) {
+      count += export(args.clone().urnLike("urn:li:" + entityName + ":%"), writer);
+    }
+    return count;
+  }
+
+  private long export(@Nonnull RestoreIndicesArgs args, @Nonnull AspectWriter writer)
+      throws IOException {
+    long count = 0;
+    try (PartitionedStream<EbeanAspectV2> stream = aspectDao.streamAspectBatches(args)) {
+      if (stream == null) {
+        throw new UnsupportedOperationException(
+            "Exporting aspects is not supported by " + aspectDao.getClass().getSimpleName());
+      }
+      final Iterator<Stream<EbeanAspectV2>> batches = stream.partition(args.batchSize).iterator();
+      while (batches.hasNext()) {
+        final Iterator<EbeanAspectV2> batch = batches.next().iterator();
+        long batchCount = 0;
+        while (batch.hasNext()) {
+          writer.write(batch.next());
+          batchCount++;
+        }
+        writer.flush();
+        count += batchCount;
+        MetricUtils.counter(this.getClass(), "exportedAspects").inc(batchCount);
+      }
+    }
+    log.info("Exported {} aspects matching urn {}", count, args.urnLike);
+    return count;
+  }
+}
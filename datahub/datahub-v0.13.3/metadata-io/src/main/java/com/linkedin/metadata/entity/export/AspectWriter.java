@@ -0,0 +1,17 @@
+package com.linkedin.metadata.entity.export;
+
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import javax.annotation.Nonnull;
+
+/** Writes the rows of the aspect table exported by {@link AspectExporter}. */
+public interface AspectWriter extends Closeable, Flushable {
+
+  /**
+   * @param aspect a row of the aspect table, whose metadata may be stored with any {@link
+   *     com.linkedin.metadata.entity.AspectMetadataEncoding}
+   */
+  void write(@Nonnull EbeanAspectV2 aspect) throws IOException;
+}
@@ -0,0 +1,61 @@
+package com.linkedin.metadata.entity.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.annotation.Nonnull;
+
+/**
+ * Writes aspects as newline delimited JSON, one aspect per line:
+ *
+ * <pre>
+ * {"urn": ..., "aspect": ..., "version": 0, "createdOn": millis, "createdBy": ...,
+ *  "createdFor": ..., "metadata": {...}, "systemMetadata": {...}}
+ * </pre>
+ *
+ * <p>The stored JSON of the aspect and its system metadata is copied as is, without being parsed.
+ */
+public class NdjsonAspectWriter implements AspectWriter {
+  private final JsonGenerator generator;
+
+  public NdjsonAspectWriter(@Nonnull JsonFactory jsonFactory, @Nonnull OutputStream outputStream)
+      throws IOException {
+    this.generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8);
+    this.generator.setRootValueSeparator(null);
+  }
+
+  @Override
+  public void write(@Nonnull EbeanAspectV2 aspect) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("urn", aspect.getUrn());
+    generator.writeStringField("aspect", aspect.getAspect());
+    generator.writeNumberField("version", aspect.getVersion());
+    generator.writeNumberField("createdOn", aspect.getCreatedOn().getTime());
+    generator.writeStringField("createdBy", aspect.getCreatedBy());
+    if (aspect.getCreatedFor() != null) {
+      generator.writeStringField("createdFor", aspect.getCreatedFor());
+    }
+    generator.writeFieldName("metadata");
+    generator.writeRawValue(AspectMetadataEncoding.decode(aspect.getMetadata()));
+    if (aspect.getSystemMetadata() != null) {
+      generator.writeFieldName("systemMetadata");
+      generator.writeRawValue(aspect.getSystemMetadata());
+    }
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  @Override
+  public void flush() throws IOException {
+    generator.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    generator.close();
+  }
+}
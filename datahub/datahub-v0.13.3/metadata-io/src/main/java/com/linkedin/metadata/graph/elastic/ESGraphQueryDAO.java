@@ -8,6 +8,7 @@ import com.datahub.util.exception.ESQueryException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.UrnArrayArray;
 import com.linkedin.common.UrnArrayMap;
@@ -36,6 +37,7 @@ import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -46,6 +48,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -80,6 +85,12 @@ public class ESGraphQueryDAO {
 
   private final GraphQueryConfiguration graphQueryConfiguration;
 
+  // Runs the one hop queries of lineage walks, which block on the search client and so are kept
+  // off the common fork join pool. Threads are started on demand and end when idle.
+  private final ExecutorService lineageExecutor =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setNameFormat("graph-lineage-%d").setDaemon(true).build());
+
   static final String SOURCE = "source";
   static final String DESTINATION = "destination";
   static final String RELATIONSHIP_TYPE = "relationshipType";
@@ -91,6 +102,11 @@ public class ESGraphQueryDAO {
   static final String PROPERTIES = "properties";
   static final String UI = "UI";
 
+  /** The executor the one hop queries of lineage walks run on. */
+  Executor getLineageExecutor() {
+    return lineageExecutor;
+  }
+
   @Nonnull
   public static void addFilterToQueryBuilder(
       @Nonnull Filter filter, @Nullable String node, BoolQueryBuilder rootQuery) {
@@ -268,6 +284,12 @@ public class ESGraphQueryDAO {
       int count,
       int maxHops,
       @Nullable LineageFlags lineageFlags) {
+    if (graphQueryConfiguration.isInternedTraversal()) {
+      return new InternedLineageTraversal(
+              this, graphQueryConfiguration, direction, graphFilters, lineageFlags)
+          .walk(entityUrn, offset, count, maxHops);
+    }
+
     Map<Urn, LineageRelationship> result = new HashMap<>();
     long currentTime = System.currentTimeMillis();
     long remainingTime = graphQueryConfiguration.getTimeoutSeconds() * 1000;
@@ -507,7 +529,8 @@ public class ESGraphQueryDAO {
                                     remainingHops,
                                     existingPaths,
                                     exploreMultiplePaths,
-                                    lineageFlags)))
+                                    lineageFlags),
+                            lineageExecutor))
                 .collect(Collectors.toList()),
             remainingTime,
             TimeUnit.MILLISECONDS)
@@ -529,27 +552,13 @@ public class ESGraphQueryDAO {
       Map<Urn, UrnArrayArray> existingPaths,
       boolean exploreMultiplePaths,
       @Nullable LineageFlags lineageFlags) {
-    Map<String, List<Urn>> urnsPerEntityType =
-        entityUrns.stream().collect(Collectors.groupingBy(Urn::getEntityType));
-    Map<String, List<EdgeInfo>> edgesPerEntityType =
-        urnsPerEntityType.keySet().stream()
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    entityType -> lineageRegistry.getLineageRelationships(entityType, direction)));
-
-    QueryBuilder finalQuery =
-        getLineageQuery(urnsPerEntityType, edgesPerEntityType, graphFilters, lineageFlags);
     SearchResponse response =
-        executeLineageSearchQuery(finalQuery, 0, graphQueryConfiguration.getMaxResult());
+        searchOneHopLineage(entityUrns, direction, graphFilters, lineageFlags);
     Set<Urn> entityUrnSet = new HashSet<>(entityUrns);
     // Get all valid edges given the set of urns to hop from
     Set<Pair<String, EdgeInfo>> validEdges =
-        edgesPerEntityType.entrySet().stream()
-            .flatMap(
-                entry ->
-                    entry.getValue().stream().map(edgeInfo -> Pair.of(entry.getKey(), edgeInfo)))
-            .collect(Collectors.toSet());
+        getValidLineageEdges(
+            entityUrns.stream().map(Urn::getEntityType).collect(Collectors.toSet()), direction);
     return extractRelationships(
         entityUrnSet,
         response,
@@ -562,6 +571,37 @@ public class ESGraphQueryDAO {
         exploreMultiplePaths);
   }
 
+  // Search the graph index for all lineage edges of the given urns, one hop in the given direction
+  SearchResponse searchOneHopLineage(
+      @Nonnull List<Urn> entityUrns,
+      @Nonnull LineageDirection direction,
+      GraphFilters graphFilters,
+      @Nullable LineageFlags lineageFlags) {
+    Map<String, List<Urn>> urnsPerEntityType =
+        entityUrns.stream().collect(Collectors.groupingBy(Urn::getEntityType));
+    Map<String, List<EdgeInfo>> edgesPerEntityType =
+        urnsPerEntityType.keySet().stream()
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    entityType -> lineageRegistry.getLineageRelationships(entityType, direction)));
+
+    QueryBuilder finalQuery =
+        getLineageQuery(urnsPerEntityType, edgesPerEntityType, graphFilters, lineageFlags);
+    return executeLineageSearchQuery(finalQuery, 0, graphQueryConfiguration.getMaxResult());
+  }
+
+  // All (entity type, edge) pairs which may be followed from the given entity types
+  Set<Pair<String, EdgeInfo>> getValidLineageEdges(
+      @Nonnull Collection<String> entityTypes, @Nonnull LineageDirection direction) {
+    return entityTypes.stream()
+        .flatMap(
+            entityType ->
+                lineageRegistry.getLineageRelationships(entityType, direction).stream()
+                    .map(edgeInfo -> Pair.of(entityType, edgeInfo)))
+        .collect(Collectors.toSet());
+  }
+
   @VisibleForTesting
   public QueryBuilder getLineageQuery(
       @Nonnull Map<String, List<Urn>> urnsPerEntityType,
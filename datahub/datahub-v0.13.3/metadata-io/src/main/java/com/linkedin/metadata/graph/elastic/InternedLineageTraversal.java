@@ -0,0 +1,604 @@
+package com.linkedin.metadata.graph.elastic;
+
+import static com.linkedin.metadata.aspect.models.graph.Edge.EDGE_FIELD_VIA;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.CREATED_ACTOR;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.CREATED_ON;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.DESTINATION;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.PROPERTIES;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.RELATIONSHIP_TYPE;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.SOURCE;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.UI;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.UPDATED_ACTOR;
+import static com.linkedin.metadata.graph.elastic.ESGraphQueryDAO.UPDATED_ON;
+import static com.linkedin.metadata.graph.elastic.LineagePaths.NONE;
+
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.UrnArrayArray;
+import com.linkedin.common.UrnArrayMap;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.IntegerArray;
+import com.linkedin.metadata.config.search.GraphQueryConfiguration;
+import com.linkedin.metadata.graph.GraphFilters;
+import com.linkedin.metadata.graph.LineageDirection;
+import com.linkedin.metadata.graph.LineageRelationship;
+import com.linkedin.metadata.models.registry.LineageRegistry.EdgeInfo;
+import com.linkedin.metadata.query.LineageFlags;
+import com.linkedin.metadata.query.filter.RelationshipDirection;
+import com.linkedin.metadata.utils.ConcurrencyUtils;
+import com.linkedin.metadata.utils.DataPlatformInstanceUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.SearchHit;
+
+/**
+ * Level-order lineage walk with the same semantics as {@link ESGraphQueryDAO#getLineage}, but which
+ * keeps all of its state in primitive structures keyed by interned urn ids:
+ *
+ * <ul>
+ *   <li>Every urn string seen in a graph edge is interned to a dense int id once. {@link Urn}
+ *       objects are only parsed for the frontier being queried and the returned page.
+ *   <li>Visited and via entities as well as per-hop frontiers are bitsets and int arrays.
+ *   <li>Paths are kept in a {@link LineagePaths} parent pointer forest instead of copied arrays.
+ *   <li>Per entity result state lives in parallel arrays, {@link LineageRelationship} objects are
+ *       only built for the requested page.
+ * </ul>
+ *
+ * The one hop graph index queries still run concurrently per batch on the lineage executor of the
+ * DAO, their hits are then processed on the calling thread in batch order. A traversal instance
+ * serves a single lineage request.
+ */
+@Slf4j
+class InternedLineageTraversal {
+  private static final int INITIAL_CAPACITY = 256;
+  private static final long NOT_SET = Long.MIN_VALUE;
+  // Degrees below this are tracked in a bitmask, larger ones in an overflow bitset
+  private static final int DEGREE_MASK_BITS = Long.SIZE;
+
+  private final ESGraphQueryDAO dao;
+  private final GraphQueryConfiguration config;
+  private final LineageDirection direction;
+  private final GraphFilters graphFilters;
+  @Nullable private final LineageFlags lineageFlags;
+  private final boolean exploreMultiplePaths;
+
+  // Urn interning, ids are dense and assigned in order of first encounter. The id table is an
+  // open addressing index over urnStrings, its slots hold id + 1 so that 0 marks an empty slot.
+  private int numIds;
+  private int[] idTable = new int[INITIAL_CAPACITY * 2];
+  private String[] urnStrings = new String[INITIAL_CAPACITY];
+  private String[] entityTypes = new String[INITIAL_CAPACITY];
+  private Urn[] urns = new Urn[INITIAL_CAPACITY];
+  // Canonical instances of the few distinct entity type and relationship type strings
+  private final Map<String, String> names = new HashMap<>();
+
+  private final BitSet visited = new BitSet();
+  private final BitSet viaEntities = new BitSet();
+  private final LineagePaths paths = new LineagePaths();
+
+  // Result state, arrays are indexed by urn id
+  private int[] resultOrder = new int[INITIAL_CAPACITY];
+  private int numResults;
+  private final BitSet hasResult = new BitSet();
+  private final BitSet explored = new BitSet();
+  private final BitSet ignoredAsHop = new BitSet();
+  private final BitSet manual = new BitSet();
+  private String[] relationshipTypes = new String[INITIAL_CAPACITY];
+  private int[] minDegree = new int[INITIAL_CAPACITY];
+  private long[] degreeMask = new long[INITIAL_CAPACITY];
+  private BitSet[] degreeOverflow = new BitSet[INITIAL_CAPACITY];
+  private long[] createdOn = new long[INITIAL_CAPACITY];
+  private long[] updatedOn = new long[INITIAL_CAPACITY];
+  private int[] createdActor = new int[INITIAL_CAPACITY];
+  private int[] updatedActor = new int[INITIAL_CAPACITY];
+  // Paths of the entity a via entity was first reached through, truncated at the via entity
+  private int[][] viaPathTails = new int[INITIAL_CAPACITY][];
+
+  InternedLineageTraversal(
+      @Nonnull ESGraphQueryDAO dao,
+      @Nonnull GraphQueryConfiguration config,
+      @Nonnull LineageDirection direction,
+      @Nonnull GraphFilters graphFilters,
+      @Nullable LineageFlags lineageFlags) {
+    this.dao = dao;
+    this.config = config;
+    this.direction = direction;
+    this.graphFilters = graphFilters;
+    this.lineageFlags = lineageFlags;
+    this.exploreMultiplePaths = config.isEnableMultiPathSearch();
+  }
+
+  @Nonnull
+  ESGraphQueryDAO.LineageResponse walk(
+      @Nonnull Urn entityUrn, int offset, int count, int maxHops) {
+    long currentTime = System.currentTimeMillis();
+    long remainingTime = config.getTimeoutSeconds() * 1000;
+    long timeoutTime = currentTime + remainingTime;
+
+    final int root = intern(entityUrn.toString());
+    urns[root] = entityUrn;
+    visited.set(root);
+    int[] currentLevel = new int[] {root};
+
+    for (int i = 0; i < maxHops; i++) {
+      if (currentLevel.length == 0) {
+        break;
+      }
+
+      if (remainingTime < 0) {
+        log.info(
+            "Timed out while fetching lineage for {} with direction {}, maxHops {}. Returning results so far",
+            entityUrn,
+            direction,
+            maxHops);
+        break;
+      }
+
+      currentLevel = processOneHopLineage(currentLevel, remainingTime, maxHops, i);
+      currentTime = System.currentTimeMillis();
+      remainingTime = timeoutTime - currentTime;
+    }
+
+    if (offset >= numResults) {
+      return new ESGraphQueryDAO.LineageResponse(numResults, Collections.emptyList());
+    }
+    final int end = Math.min(offset + count, numResults);
+    final List<LineageRelationship> page = new ArrayList<>(end - offset);
+    for (int idx = offset; idx < end; idx++) {
+      page.add(toLineageRelationship(resultOrder[idx]));
+    }
+    return new ESGraphQueryDAO.LineageResponse(numResults, page);
+  }
+
+  private int[] processOneHopLineage(
+      int[] currentLevel, long remainingTime, int maxHops, int i) {
+    int numHops = i + 1; // Zero indexed for loop counter, one indexed count
+    int remainingHops = maxHops - numHops;
+    final int[] oneHopEntities = oneHop(currentLevel, numHops, remainingHops, remainingTime);
+    int[] nextLevel = oneHopEntities;
+
+    if (lineageFlags != null) {
+      if (lineageFlags.getIgnoreAsHops() != null) {
+        final UrnArrayMap ignoreAsHops = lineageFlags.getIgnoreAsHops();
+        final int[] additionalCurrentLevel =
+            Arrays.stream(oneHopEntities)
+                .filter(id -> isIgnoredAsHop(id, ignoreAsHops))
+                .peek(ignoredAsHop::set)
+                .toArray();
+        if (additionalCurrentLevel.length > 0) {
+          final int[] ignoreAsHopEntities =
+              processOneHopLineage(additionalCurrentLevel, remainingTime, maxHops, i);
+          nextLevel = IntStream.concat(
+                  Arrays.stream(nextLevel), Arrays.stream(ignoreAsHopEntities))
+              .toArray();
+        }
+      }
+      // Only explore a limited number of entities per hop, sorted to make the truncation
+      // consistent
+      if (lineageFlags.getEntitiesExploredPerHopLimit() != null) {
+        nextLevel = sortedByUrn(nextLevel, lineageFlags.getEntitiesExploredPerHopLimit());
+      }
+      if (remainingHops > 0) {
+        Arrays.stream(nextLevel).forEach(explored::set);
+      }
+    }
+    return nextLevel;
+  }
+
+  /** @return the first {@code limit} ids in urn order, sorting the urn strings themselves */
+  private int[] sortedByUrn(int[] ids, int limit) {
+    final String[] sorted = new String[ids.length];
+    for (int idx = 0; idx < ids.length; idx++) {
+      sorted[idx] = urnStrings[ids[idx]];
+    }
+    Arrays.sort(sorted);
+    final int[] result = new int[Math.min(limit, sorted.length)];
+    for (int idx = 0; idx < result.length; idx++) {
+      result[idx] = lookup(sorted[idx]);
+    }
+    return result;
+  }
+
+  private boolean isIgnoredAsHop(int id, UrnArrayMap ignoreAsHops) {
+    final UrnArray platforms = ignoreAsHops.get(entityTypes[id]);
+    if (platforms == null && !ignoreAsHops.containsKey(entityTypes[id])) {
+      return false;
+    }
+    if (CollectionUtils.isEmpty(platforms)) {
+      return true;
+    }
+    final String platform = DataPlatformInstanceUtils.getDataPlatform(urn(id)).toString();
+    return platforms.stream().anyMatch(p -> platform.equals(p.toString()));
+  }
+
+  /** @return ids of all entities reached in this hop, in the order they were first reached */
+  private int[] oneHop(int[] currentLevel, int numHops, int remainingHops, long remainingTime) {
+    final List<CompletableFuture<Pair<int[], SearchResponse>>> futures = new ArrayList<>();
+    for (int from = 0; from < currentLevel.length; from += config.getBatchSize()) {
+      final int[] batch =
+          Arrays.copyOfRange(
+              currentLevel, from, Math.min(from + config.getBatchSize(), currentLevel.length));
+      // Urns are materialized on this thread, the interning state is not thread safe
+      final List<Urn> batchUrns =
+          Arrays.stream(batch).mapToObj(this::urn).collect(Collectors.toList());
+      futures.add(
+          CompletableFuture.supplyAsync(
+              () ->
+                  Pair.of(
+                      batch,
+                      dao.searchOneHopLineage(batchUrns, direction, graphFilters, lineageFlags)),
+              dao.getLineageExecutor()));
+    }
+
+    final BitSet reachedThisHop = new BitSet();
+    final IntStream.Builder reached = IntStream.builder();
+    for (Pair<int[], SearchResponse> result :
+        ConcurrencyUtils.getAllCompleted(futures, remainingTime, TimeUnit.MILLISECONDS)) {
+      final BitSet batchIds = new BitSet();
+      final Set<String> batchEntityTypes = new HashSet<>();
+      for (int id : result.getLeft()) {
+        batchIds.set(id);
+        batchEntityTypes.add(entityTypes[id]);
+      }
+      extractRelationships(
+          batchIds,
+          result.getRight(),
+          dao.getValidLineageEdges(batchEntityTypes, direction),
+          numHops,
+          remainingHops,
+          reachedThisHop,
+          reached);
+    }
+    return reached.build().toArray();
+  }
+
+  // Mirrors ESGraphQueryDAO.extractRelationships on interned ids
+  @SuppressWarnings("unchecked")
+  private void extractRelationships(
+      BitSet batchIds,
+      SearchResponse searchResponse,
+      Set<Pair<String, EdgeInfo>> validEdges,
+      int numHops,
+      int remainingHops,
+      BitSet reachedThisHop,
+      IntStream.Builder reached) {
+    final SearchHit[] hits = searchResponse.getHits().getHits();
+    log.debug("numHits: {}, numHops {}, remainingHops {}", hits.length, numHops, remainingHops);
+    for (SearchHit hit : hits) {
+      final Map<String, Object> document = hit.getSourceAsMap();
+      final int source =
+          intern(((Map<String, Object>) document.get(SOURCE)).get("urn").toString());
+      final int destination =
+          intern(((Map<String, Object>) document.get(DESTINATION)).get("urn").toString());
+      final String type = canonical(document.get(RELATIONSHIP_TYPE).toString());
+      if (source == destination) {
+        log.debug("Skipping a self-edge of type {} on {}", type, urnStrings[source]);
+        continue;
+      }
+      final Number createdOnNumber = (Number) document.getOrDefault(CREATED_ON, null);
+      final Number updatedOnNumber = (Number) document.getOrDefault(UPDATED_ON, null);
+      final String createdActorString = (String) document.getOrDefault(CREATED_ACTOR, null);
+      final String updatedActorString = (String) document.getOrDefault(UPDATED_ACTOR, null);
+      final Edge edge =
+          new Edge(
+              type,
+              createdOnNumber != null ? createdOnNumber.longValue() : NOT_SET,
+              createdActorString != null ? intern(createdActorString) : NONE,
+              updatedOnNumber != null ? updatedOnNumber.longValue() : NOT_SET,
+              updatedActorString != null ? intern(updatedActorString) : NONE,
+              isManual(document));
+      final String viaContent = (String) document.getOrDefault(EDGE_FIELD_VIA, null);
+      final int via = viaContent != null ? internVia(viaContent) : NONE;
+
+      // Potential outgoing edge
+      if (batchIds.get(source)
+          && (exploreMultiplePaths || !visited.get(destination))
+          && isValidEdge(validEdges, source, type, RelationshipDirection.OUTGOING, destination)) {
+        if (paths.addEdge(source, via, destination)) {
+          addRelationship(destination, edge, numHops, reachedThisHop, reached);
+          addViaRelationship(via, destination, edge, numHops, reachedThisHop, reached);
+        }
+        visited.set(destination);
+      }
+
+      // Potential incoming edge
+      if (batchIds.get(destination)
+          && (exploreMultiplePaths || !visited.get(source))
+          && isValidEdge(validEdges, destination, type, RelationshipDirection.INCOMING, source)) {
+        visited.set(source);
+        if (paths.addEdge(destination, via, source)) {
+          addRelationship(source, edge, numHops, reachedThisHop, reached);
+          addViaRelationship(via, source, edge, numHops, reachedThisHop, reached);
+        }
+      }
+    }
+  }
+
+  private boolean isValidEdge(
+      Set<Pair<String, EdgeInfo>> validEdges,
+      int from,
+      String type,
+      RelationshipDirection relationshipDirection,
+      int to) {
+    return validEdges.contains(
+        Pair.of(
+            entityTypes[from],
+            new EdgeInfo(type, relationshipDirection, entityTypes[to].toLowerCase())));
+  }
+
+  private static boolean isManual(Map<String, Object> document) {
+    if (document.get(PROPERTIES) instanceof Map) {
+      final Map<?, ?> properties = (Map<?, ?>) document.get(PROPERTIES);
+      return properties.containsKey(SOURCE) && properties.get(SOURCE).equals(UI);
+    }
+    return false;
+  }
+
+  private void addViaRelationship(
+      int via,
+      int reachedThrough,
+      Edge edge,
+      int numHops,
+      BitSet reachedThisHop,
+      IntStream.Builder reached) {
+    if (via == NONE || viaEntities.get(via)) {
+      return;
+    }
+    viaEntities.set(via);
+    viaPathTails[via] = paths.getPaths(reachedThrough);
+    addRelationship(via, edge, numHops, reachedThisHop, reached);
+  }
+
+  private void addRelationship(
+      int id, Edge edge, int numHops, BitSet reachedThisHop, IntStream.Builder reached) {
+    if (!hasResult.get(id)) {
+      hasResult.set(id);
+      if (numResults == resultOrder.length) {
+        resultOrder = Arrays.copyOf(resultOrder, numResults * 2);
+      }
+      resultOrder[numResults++] = id;
+      relationshipTypes[id] = edge.type;
+      minDegree[id] = numHops;
+      createdOn[id] = edge.createdOn;
+      createdActor[id] = edge.createdActor;
+      updatedOn[id] = edge.updatedOn;
+      updatedActor[id] = edge.updatedActor;
+      manual.set(id, edge.manual);
+    } else {
+      minDegree[id] = Math.min(minDegree[id], numHops);
+    }
+
+    if (numHops < DEGREE_MASK_BITS) {
+      degreeMask[id] |= 1L << numHops;
+    } else {
+      if (degreeOverflow[id] == null) {
+        degreeOverflow[id] = new BitSet();
+      }
+      degreeOverflow[id].set(numHops);
+    }
+
+    if (!reachedThisHop.get(id)) {
+      reachedThisHop.set(id);
+      reached.add(id);
+    }
+  }
+
+  private LineageRelationship toLineageRelationship(int id) {
+    final UrnArrayArray pathArray = new UrnArrayArray();
+    for (int path : paths.getPaths(id)) {
+      pathArray.add(toUrnArray(paths.toPath(path), NONE));
+    }
+    final int[] viaTails = viaPathTails[id];
+    if (viaTails != null) {
+      for (int path : viaTails) {
+        pathArray.add(toUrnArray(paths.toPath(path), id));
+      }
+    }
+
+    final List<Integer> degrees = new ArrayList<>();
+    for (int degree = 0; degree < DEGREE_MASK_BITS; degree++) {
+      if ((degreeMask[id] & (1L << degree)) != 0) {
+        degrees.add(degree);
+      }
+    }
+    if (degreeOverflow[id] != null) {
+      degreeOverflow[id].stream().forEach(degrees::add);
+    }
+
+    final LineageRelationship relationship =
+        new LineageRelationship()
+            .setType(relationshipTypes[id])
+            .setEntity(urn(id))
+            .setDegree(minDegree[id])
+            .setDegrees(new IntegerArray(degrees))
+            .setPaths(pathArray);
+    if (createdOn[id] != NOT_SET) {
+      relationship.setCreatedOn(createdOn[id]);
+    }
+    if (createdActor[id] != NONE) {
+      relationship.setCreatedActor(urn(createdActor[id]));
+    }
+    if (updatedOn[id] != NOT_SET) {
+      relationship.setUpdatedOn(updatedOn[id]);
+    }
+    if (updatedActor[id] != NONE) {
+      relationship.setUpdatedActor(urn(updatedActor[id]));
+    }
+    relationship.setIsManual(manual.get(id));
+    if (explored.get(id)) {
+      relationship.setExplored(true);
+    }
+    if (ignoredAsHop.get(id)) {
+      relationship.setIgnoredAsHop(true);
+    }
+    return relationship;
+  }
+
+  /** Converts a path to urns, stopping after the first occurrence of truncateAt if given. */
+  private UrnArray toUrnArray(int[] path, int truncateAt) {
+    final UrnArray urnArray = new UrnArray(path.length);
+    for (int id : path) {
+      urnArray.add(urn(id));
+      if (id == truncateAt) {
+        break;
+      }
+    }
+    return urnArray;
+  }
+
+  private int intern(@Nonnull String urnString) {
+    final int existing = lookup(urnString);
+    if (existing != NONE) {
+      return existing;
+    }
+    final String entityType = canonical(entityTypeOf(urnString));
+    final int id = numIds++;
+    ensureCapacity(numIds);
+    urnStrings[id] = urnString;
+    entityTypes[id] = entityType;
+    index(id);
+    return id;
+  }
+
+  private int internVia(@Nonnull String viaContent) {
+    final int existing = lookup(viaContent);
+    if (existing != NONE) {
+      return existing;
+    }
+    try {
+      final Urn viaUrn = Urn.createFromString(viaContent);
+      final int id = intern(viaContent);
+      urns[id] = viaUrn;
+      return id;
+    } catch (Exception e) {
+      log.warn(
+          "Failed to parse urn from via entity {}, will swallow exception and continue...",
+          viaContent);
+      return NONE;
+    }
+  }
+
+  private Urn urn(int id) {
+    Urn urn = urns[id];
+    if (urn == null) {
+      urn = UrnUtils.getUrn(urnStrings[id]);
+      urns[id] = urn;
+    }
+    return urn;
+  }
+
+  /** @return the id of the urn string, or NONE if it was not interned */
+  private int lookup(@Nonnull String urnString) {
+    final int mask = idTable.length - 1;
+    for (int slot = slot(urnString, mask); ; slot = (slot + 1) & mask) {
+      final int entry = idTable[slot];
+      if (entry == 0) {
+        return NONE;
+      }
+      if (urnStrings[entry - 1].equals(urnString)) {
+        return entry - 1;
+      }
+    }
+  }
+
+  /** Adds an interned id to the id table, keeping it at most half full. */
+  private void index(int id) {
+    if (numIds * 2 > idTable.length) {
+      idTable = new int[idTable.length * 2];
+      for (int existing = 0; existing < numIds; existing++) {
+        insert(existing);
+      }
+    } else {
+      insert(id);
+    }
+  }
+
+  private void insert(int id) {
+    final int mask = idTable.length - 1;
+    int slot = slot(urnStrings[id], mask);
+    while (idTable[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    idTable[slot] = id + 1;
+  }
+
+  private static int slot(String urnString, int mask) {
+    final int hash = urnString.hashCode() * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private String canonical(String name) {
+    return names.computeIfAbsent(name, k -> k);
+  }
+
+  /** The entity type of an urn string, without parsing the urn: urn:li:{entityType}:{key} */
+  private static String entityTypeOf(String urnString) {
+    final int namespaceEnd = urnString.indexOf(':', urnString.indexOf(':') + 1);
+    final int typeEnd = namespaceEnd < 0 ? -1 : urnString.indexOf(':', namespaceEnd + 1);
+    if (typeEnd < 0) {
+      return UrnUtils.getUrn(urnString).getEntityType();
+    }
+    return urnString.substring(namespaceEnd + 1, typeEnd);
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= minDegree.length) {
+      return;
+    }
+    final int newCapacity = Math.max(capacity, minDegree.length * 2);
+    urnStrings = Arrays.copyOf(urnStrings, newCapacity);
+    entityTypes = Arrays.copyOf(entityTypes, newCapacity);
+    urns = Arrays.copyOf(urns, newCapacity);
+    relationshipTypes = Arrays.copyOf(relationshipTypes, newCapacity);
+    minDegree = Arrays.copyOf(minDegree, newCapacity);
+    degreeMask = Arrays.copyOf(degreeMask, newCapacity);
+    createdOn = Arrays.copyOf(createdOn, newCapacity);
+    updatedOn = Arrays.copyOf(updatedOn, newCapacity);
+    createdActor = Arrays.copyOf(createdActor, newCapacity);
+    updatedActor = Arrays.copyOf(updatedActor, newCapacity);
+    degreeOverflow = Arrays.copyOf(degreeOverflow, newCapacity);
+    viaPathTails = Arrays.copyOf(viaPathTails, newCapacity);
+  }
+
+  /** Attributes of a graph edge hit, with actors as interned ids. */
+  private static final class Edge {
+    final String type;
+    final long createdOn;
+    final int createdActor;
+    final long updatedOn;
+    final int updatedActor;
+    final boolean manual;
+
+    Edge(
+        String type,
+        long createdOn,
+        int createdActor,
+        long updatedOn,
+        int updatedActor,
+        boolean manual) {
+      this.type = type;
+      this.createdOn = createdOn;
+      this.createdActor = createdActor;
+      this.updatedOn = updatedOn;
+      this.updatedActor = updatedActor;
+      this.manual = manual;
+    }
+  }
+}
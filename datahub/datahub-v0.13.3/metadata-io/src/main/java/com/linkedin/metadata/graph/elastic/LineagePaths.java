@@ -0,0 +1,186 @@
+package com.linkedin.metadata.graph.elastic;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import javax.annotation.Nonnull;
+
+/**
+ * The paths of a lineage walk, stored as a parent pointer forest over interned urn ids.
+ *
+ * <p>Every path node holds a single urn id and points at the node before it, so extending all
+ * paths to a parent by one edge allocates one node per path (plus one via entity node shared by
+ * the paths through it) instead of copying every path. Complete paths reaching the same urn are
+ * chained together and only turned into urn arrays when a result is returned.
+ *
+ * <p>Like {@link ESGraphQueryDAO#addEdgeToPaths}, edges must be added level by level outwards from
+ * the node the walk started at. Unlike it, adding the same edge twice does not duplicate paths.
+ */
+public class LineagePaths {
+  public static final int NONE = -1;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  // Path nodes
+  private int[] nodeUrn = new int[INITIAL_CAPACITY];
+  private int[] nodeParent = new int[INITIAL_CAPACITY];
+  // Next complete path ending at the same urn, only set for path tails
+  private int[] nextPath = new int[INITIAL_CAPACITY];
+  // Nodes whose path visits some urn more than once, these are never extended
+  private final BitSet cyclic = new BitSet();
+  private int numNodes;
+
+  // Indexed by urn id
+  private int[] firstPath = newFilledArray(INITIAL_CAPACITY);
+  private int[] lastPath = newFilledArray(INITIAL_CAPACITY);
+  private int[] pathCount = new int[INITIAL_CAPACITY];
+  // Single node path per urn, shared by all paths which start at it
+  private int[] rootNode = newFilledArray(INITIAL_CAPACITY);
+
+  // Path nodes by (parent node, urn), so that adding the same edge again is a hash lookup rather
+  // than a scan of all paths to the child. Via nodes are shared by the paths through them.
+  private final LongIntHashMap viaNodes = new LongIntHashMap();
+  private final LongIntHashMap tailNodes = new LongIntHashMap();
+
+  /**
+   * Extends every path reaching {@code parentUrn} by an edge to {@code childUrn}, optionally
+   * through {@code viaUrn}. If no path reaches the parent yet, the parent is treated as the start
+   * of a new path.
+   *
+   * @return whether any new path to the child was added
+   */
+  public boolean addEdge(int parentUrn, int viaUrn, int childUrn) {
+    if (parentUrn == childUrn) {
+      return false;
+    }
+    ensureUrnCapacity(Math.max(Math.max(parentUrn, viaUrn), childUrn) + 1);
+
+    if (firstPath[parentUrn] == NONE) {
+      return extend(root(parentUrn), viaUrn, childUrn);
+    }
+
+    boolean added = false;
+    for (int path = firstPath[parentUrn]; path != NONE; path = nextPath[path]) {
+      if (cyclic.get(path)) {
+        continue;
+      }
+      added |= extend(path, viaUrn, childUrn);
+    }
+    return added;
+  }
+
+  /** @return the tail nodes of all complete paths reaching the urn, in the order they were added */
+  @Nonnull
+  public int[] getPaths(int urn) {
+    if (urn >= firstPath.length || firstPath[urn] == NONE) {
+      return new int[0];
+    }
+    final int[] result = new int[pathCount[urn]];
+    int idx = 0;
+    for (int path = firstPath[urn]; path != NONE; path = nextPath[path]) {
+      result[idx++] = path;
+    }
+    return result;
+  }
+
+  /** @return the urn ids of the path ending at the given node, starting from the root */
+  @Nonnull
+  public int[] toPath(int node) {
+    int length = 0;
+    for (int current = node; current != NONE; current = nodeParent[current]) {
+      length++;
+    }
+    final int[] result = new int[length];
+    for (int current = node; current != NONE; current = nodeParent[current]) {
+      result[--length] = nodeUrn[current];
+    }
+    return result;
+  }
+
+  private boolean extend(int parentNode, int viaUrn, int childUrn) {
+    int node = parentNode;
+    if (viaUrn != NONE) {
+      node = viaNode(parentNode, viaUrn);
+    }
+    // Skip if the exact same path already reaches the child
+    final long tailKey = LongIntHashMap.key(node, childUrn);
+    if (tailNodes.get(tailKey, NONE) != NONE) {
+      return false;
+    }
+    node = newNode(childUrn, node);
+    tailNodes.put(tailKey, node);
+
+    if (lastPath[childUrn] == NONE) {
+      firstPath[childUrn] = node;
+    } else {
+      nextPath[lastPath[childUrn]] = node;
+    }
+    lastPath[childUrn] = node;
+    pathCount[childUrn]++;
+    return true;
+  }
+
+  private int viaNode(int parentNode, int viaUrn) {
+    final long viaKey = LongIntHashMap.key(parentNode, viaUrn);
+    int node = viaNodes.get(viaKey, NONE);
+    if (node == NONE) {
+      node = newNode(viaUrn, parentNode);
+      viaNodes.put(viaKey, node);
+    }
+    return node;
+  }
+
+  private int root(int urn) {
+    if (rootNode[urn] == NONE) {
+      rootNode[urn] = newNode(urn, NONE);
+    }
+    return rootNode[urn];
+  }
+
+  private int newNode(int urn, int parent) {
+    if (numNodes == nodeUrn.length) {
+      final int capacity = nodeUrn.length * 2;
+      nodeUrn = Arrays.copyOf(nodeUrn, capacity);
+      nodeParent = Arrays.copyOf(nodeParent, capacity);
+      nextPath = Arrays.copyOf(nextPath, capacity);
+    }
+    final int node = numNodes++;
+    nodeUrn[node] = urn;
+    nodeParent[node] = parent;
+    nextPath[node] = NONE;
+    if (parent != NONE && (cyclic.get(parent) || contains(parent, urn))) {
+      cyclic.set(node);
+    }
+    return node;
+  }
+
+  private boolean contains(int node, int urn) {
+    for (int current = node; current != NONE; current = nodeParent[current]) {
+      if (nodeUrn[current] == urn) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void ensureUrnCapacity(int capacity) {
+    if (capacity <= firstPath.length) {
+      return;
+    }
+    final int newCapacity = Math.max(capacity, firstPath.length * 2);
+    final int oldCapacity = firstPath.length;
+    firstPath = Arrays.copyOf(firstPath, newCapacity);
+    lastPath = Arrays.copyOf(lastPath, newCapacity);
+    rootNode = Arrays.copyOf(rootNode, newCapacity);
+    pathCount = Arrays.copyOf(pathCount, newCapacity);
+    Arrays.fill(firstPath, oldCapacity, newCapacity, NONE);
+    Arrays.fill(lastPath, oldCapacity, newCapacity, NONE);
+    Arrays.fill(rootNode, oldCapacity, newCapacity, NONE);
+  }
+
+  private static int[] newFilledArray(int capacity) {
+    final int[] array = new int[capacity];
+    Arrays.fill(array, NONE);
+    return array;
+  }
+
+}
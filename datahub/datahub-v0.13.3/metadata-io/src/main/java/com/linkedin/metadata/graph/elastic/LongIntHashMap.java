@@ -0,0 +1,79 @@
+package com.linkedin.metadata.graph.elastic;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from non-negative long keys to int values, neither of which is boxed.
+ * Used to key lineage path nodes by a (node id, urn id) pair packed into a long.
+ */
+final class LongIntHashMap {
+  private static final long EMPTY = -1L;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private long[] keys = newKeys(INITIAL_CAPACITY);
+  private int[] values = new int[INITIAL_CAPACITY];
+  private int size;
+
+  /** Packs two non-negative ints into a single non-negative key. */
+  static long key(int high, int low) {
+    return ((long) high << Integer.SIZE) | (low & 0xFFFFFFFFL);
+  }
+
+  /** @return the value of the key, or {@code missing} if it has none */
+  int get(long key, int missing) {
+    final int mask = keys.length - 1;
+    for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return values[slot];
+      }
+      if (keys[slot] == EMPTY) {
+        return missing;
+      }
+    }
+  }
+
+  void put(long key, int value) {
+    if ((size + 1) * 2 > keys.length) {
+      resize(keys.length * 2);
+    }
+    final int mask = keys.length - 1;
+    int slot = slot(key, mask);
+    while (keys[slot] != EMPTY && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    if (keys[slot] == EMPTY) {
+      size++;
+    }
+    keys[slot] = key;
+    values[slot] = value;
+  }
+
+  private void resize(int capacity) {
+    final long[] oldKeys = keys;
+    final int[] oldValues = values;
+    keys = newKeys(capacity);
+    values = new int[capacity];
+    final int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != EMPTY) {
+        int slot = slot(oldKeys[i], mask);
+        while (keys[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private static int slot(long key, int mask) {
+    // Fibonacci hashing spreads the packed ids over the high bits
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+  }
+
+  private static long[] newKeys(int capacity) {
+    final long[] array = new long[capacity];
+    Arrays.fill(array, EMPTY);
+    return array;
+  }
+}
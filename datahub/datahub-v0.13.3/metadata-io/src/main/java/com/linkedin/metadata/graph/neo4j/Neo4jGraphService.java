@@ -35,9 +35,11 @@ import com.linkedin.util.Pair;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,6 +52,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.time.StopWatch;
 import org.apache.commons.lang3.ClassUtils;
@@ -66,6 +69,10 @@ import org.neo4j.driver.types.Relationship;
 public class Neo4jGraphService implements GraphService {
 
   private static final int MAX_TRANSACTION_RETRY = 3;
+  // Maximum number of edges written by a single UNWIND statement
+  static final int EDGE_BATCH_SIZE = 1000;
+  private static final Set<String> PRESERVED_PROPERTY_KEYS =
+      Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
   private final LineageRegistry _lineageRegistry;
   private final Driver _driver;
   private SessionConfig _sessionConfig;
@@ -90,98 +97,167 @@ public class Neo4jGraphService implements GraphService {
 
   @Override
   public void addEdge(@Nonnull final Edge edge) {
+    addEdges(Collections.singletonList(edge));
+  }
 
-    log.debug(
-        String.format(
-            "Adding Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
+  @Override
+  public void upsertEdge(final Edge edge) {
+    addEdge(edge);
+  }
 
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
+  @Override
+  public void removeEdge(final Edge edge) {
+    removeEdges(Collections.singletonList(edge));
+  }
 
-    // Introduce startUrn, endUrn for real source node and destination node without consider direct
-    // or indirect pattern match
-    String endUrn = destinationUrn;
-    String startUrn = sourceUrn;
-    String endType = destinationType;
-    String startType = sourceType;
-    // Extra relationship typename start with r_ for
-    // direct-outgoing-downstream/indirect-incoming-upstream relationships
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
+  /**
+   * Adds all edges in one transaction. Labels and relationship types cannot be query parameters, so
+   * edges are grouped by source type, destination type and relationship type, and each group is
+   * written with parameterized UNWIND statements of at most {@link #EDGE_BATCH_SIZE} edges. This
+   * keeps the number of distinct query texts small so Neo4j can reuse their plans.
+   */
+  @Override
+  public void addEdges(@Nonnull final Collection<Edge> edges) {
+    if (edges.isEmpty()) {
+      return;
+    }
+    log.debug("Adding {} edges", edges.size());
+
+    final List<Statement> statements = new ArrayList<>();
+    for (Map.Entry<EdgeGroup, List<Edge>> group : groupEdges(edges).entrySet()) {
+      final EdgeGroup key = group.getKey();
+      // Create source & destination nodes if needed, then the relationship
+      final String statement =
+          String.format(
+              "UNWIND $edges AS edge "
+                  + "MERGE (source:%s {urn: edge.source}) "
+                  + "MERGE (destination:%s {urn: edge.destination}) "
+                  + "MERGE (source)-[r:%s]->(destination)",
+              key.getSourceType(),
+              key.getDestinationType(),
+              key.getRelationshipType());
+      // Extra relationship typename start with r_ for
+      // direct-outgoing-downstream/indirect-incoming-upstream relationships
+      final String statementR =
+          String.format(
+              "UNWIND $edges AS edge "
+                  + "MATCH (source:%s {urn: edge.startUrn}),(destination:%s {urn: edge.endUrn}) "
+                  + "MERGE (source)-[r:r_%s]->(destination) SET r += edge.properties",
+              key.getStartType(),
+              key.getEndType(),
+              key.getRelationshipType());
+
+      for (List<Edge> batch : Iterables.partition(group.getValue(), EDGE_BATCH_SIZE)) {
+        final List<Map<String, Object>> edgeParams =
+            batch.stream().map(edge -> toEdgeParams(edge, key)).collect(Collectors.toList());
+        statements.add(buildStatement(statement, new HashMap<>(Map.of("edges", edgeParams))));
+        statements.add(buildStatement(statementR, new HashMap<>(Map.of("edges", edgeParams))));
+      }
+    }
+    executeStatements(statements);
+  }
 
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      endType = sourceType;
-      startUrn = destinationUrn;
-      startType = destinationType;
+  @Override
+  public void upsertEdges(@Nonnull final Collection<Edge> edges) {
+    addEdges(edges);
+  }
+
+  @Override
+  public void removeEdges(@Nonnull final Collection<Edge> edges) {
+    if (edges.isEmpty()) {
+      return;
     }
+    log.debug("Deleting {} edges", edges.size());
 
     final List<Statement> statements = new ArrayList<>();
+    for (Map.Entry<EdgeGroup, List<Edge>> group : groupEdges(edges).entrySet()) {
+      final EdgeGroup key = group.getKey();
+      final String deleteRelationshipTemplate =
+          "UNWIND $edges AS edge "
+              + "MATCH (source:%s {urn: edge.%s})-[r:%s]->(destination:%s {urn: edge.%s}) DELETE r";
+      final String statement =
+          String.format(
+              deleteRelationshipTemplate,
+              key.getSourceType(),
+              "source",
+              key.getRelationshipType(),
+              key.getDestinationType(),
+              "destination");
+      final String statementR =
+          String.format(
+              deleteRelationshipTemplate,
+              key.getStartType(),
+              "startUrn",
+              "r_" + key.getRelationshipType(),
+              key.getEndType(),
+              "endUrn");
+
+      for (List<Edge> batch : Iterables.partition(group.getValue(), EDGE_BATCH_SIZE)) {
+        final List<Map<String, Object>> edgeParams =
+            batch.stream().map(edge -> toEdgeParams(edge, key)).collect(Collectors.toList());
+        statements.add(buildStatement(statement, new HashMap<>(Map.of("edges", edgeParams))));
+        statements.add(buildStatement(statementR, new HashMap<>(Map.of("edges", edgeParams))));
+      }
+    }
+    executeStatements(statements);
+  }
 
-    // Add/Update source & destination node first
-    statements.add(getOrInsertNode(edge.getSource()));
-    statements.add(getOrInsertNode(edge.getDestination()));
+  /**
+   * Groups edges by everything which has to be part of the query text, keeping the order in which
+   * groups and edges were first seen.
+   */
+  @Nonnull
+  private Map<EdgeGroup, List<Edge>> groupEdges(@Nonnull Collection<Edge> edges) {
+    final Map<EdgeGroup, List<Edge>> groups = new LinkedHashMap<>();
+    for (Edge edge : edges) {
+      final String sourceType = edge.getSource().getEntityType();
+      final String destinationType = edge.getDestination().getEntityType();
+      final EdgeGroup key =
+          new EdgeGroup(
+              sourceType,
+              destinationType,
+              edge.getRelationshipType(),
+              isSourceDestReversed(sourceType, edge.getRelationshipType()));
+      groups.computeIfAbsent(key, k -> new ArrayList<>()).add(edge);
+    }
+    return groups;
+  }
 
-    // Add/Update relationship
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: '%s'}),(destination:%s {urn: '%s'}) MERGE (source)-[r:%s]->(destination) ";
-    String statement =
-        String.format(
-            mergeRelationshipTemplate,
-            sourceType,
-            sourceUrn,
-            destinationType,
-            destinationUrn,
-            edge.getRelationshipType());
-
-    String statementR =
-        String.format(
-            mergeRelationshipTemplate,
-            startType,
-            startUrn,
-            endType,
-            endUrn,
-            reverseRelationshipType);
-
-    // Add/Update relationship properties
-    String setCreatedOnTemplate;
-    String setcreatedActorTemplate;
-    String setupdatedOnTemplate;
-    String setupdatedActorTemplate;
-    String setPropertyTemplate;
-    final StringJoiner propertiesTemplateJoiner = new StringJoiner(", ");
+  /** Parameters of one edge in an UNWIND batch. */
+  @Nonnull
+  private static Map<String, Object> toEdgeParams(@Nonnull Edge edge, @Nonnull EdgeGroup key) {
+    final String sourceUrn = edge.getSource().toString();
+    final String destinationUrn = edge.getDestination().toString();
+    // Introduce startUrn, endUrn for real source node and destination node without consider direct
+    // or indirect pattern match
+    final String startUrn = key.isReversed() ? destinationUrn : sourceUrn;
+    final String endUrn = key.isReversed() ? sourceUrn : destinationUrn;
+
+    // Relationship properties, unset values are left untouched
+    final Map<String, Object> properties = new HashMap<>();
     if (edge.getCreatedOn() != null) {
-      setCreatedOnTemplate = String.format("r.createdOn = %s", edge.getCreatedOn());
-      propertiesTemplateJoiner.add(setCreatedOnTemplate);
+      properties.put("createdOn", edge.getCreatedOn());
     }
     if (edge.getCreatedActor() != null) {
-      setcreatedActorTemplate = String.format("r.createdActor = '%s'", edge.getCreatedActor());
-      propertiesTemplateJoiner.add(setcreatedActorTemplate);
+      properties.put("createdActor", edge.getCreatedActor().toString());
     }
     if (edge.getUpdatedOn() != null) {
-      setupdatedOnTemplate = String.format("r.updatedOn = %s", edge.getUpdatedOn());
-      propertiesTemplateJoiner.add(setupdatedOnTemplate);
+      properties.put("updatedOn", edge.getUpdatedOn());
     }
     if (edge.getUpdatedActor() != null) {
-      setupdatedActorTemplate = String.format("r.updatedActor = '%s'", edge.getUpdatedActor());
-      propertiesTemplateJoiner.add(setupdatedActorTemplate);
+      properties.put("updatedActor", edge.getUpdatedActor().toString());
     }
     if (edge.getProperties() != null) {
       for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
         // Make sure extra keys in properties are not preserved
-        final Set<String> preservedKeySet =
-            Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
-        if (preservedKeySet.contains(entry.getKey())) {
+        if (PRESERVED_PROPERTY_KEYS.contains(entry.getKey())) {
           throw new UnsupportedOperationException(
               String.format(
                   "Tried setting properties on graph edge but property key is preserved. Key: %s",
                   entry.getKey()));
         }
         if (entry.getValue() instanceof String) {
-          setPropertyTemplate = String.format("r.%s = '%s'", entry.getKey(), entry.getValue());
-          propertiesTemplateJoiner.add(setPropertyTemplate);
+          properties.put(entry.getKey(), entry.getValue());
         } else {
           throw new UnsupportedOperationException(
               String.format(
@@ -190,73 +266,32 @@ public class Neo4jGraphService implements GraphService {
         }
       }
     }
-    final String setStartEndUrnTemplate =
-        String.format("r.startUrn = '%s', r.endUrn = '%s'", startUrn, endUrn);
-    propertiesTemplateJoiner.add(setStartEndUrnTemplate);
-    if (!StringUtils.isEmpty(propertiesTemplateJoiner.toString())) {
-      statementR = String.format("%s SET %s", statementR, propertiesTemplateJoiner);
-    }
+    properties.put("startUrn", startUrn);
+    properties.put("endUrn", endUrn);
 
-    statements.add(buildStatement(statement, new HashMap<>()));
-    statements.add(buildStatement(statementR, new HashMap<>()));
-    executeStatements(statements);
+    final Map<String, Object> params = new HashMap<>();
+    params.put("source", sourceUrn);
+    params.put("destination", destinationUrn);
+    params.put("startUrn", startUrn);
+    params.put("endUrn", endUrn);
+    params.put("properties", properties);
+    return params;
   }
 
-  @Override
-  public void upsertEdge(final Edge edge) {
-    addEdge(edge);
-  }
+  @Value
+  private static class EdgeGroup {
+    String sourceType;
+    String destinationType;
+    String relationshipType;
+    boolean reversed;
 
-  @Override
-  public void removeEdge(final Edge edge) {
-    log.debug(
-        String.format(
-            "Deleting Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
-
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
-
-    String endUrn = destinationUrn;
-    String startUrn = sourceUrn;
-    String endType = destinationType;
-    String startType = sourceType;
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      endType = sourceType;
-      startUrn = destinationUrn;
-      startType = destinationType;
+    String getStartType() {
+      return reversed ? destinationType : sourceType;
     }
 
-    final List<Statement> statements = new ArrayList<>();
-
-    // DELETE relationship
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: '%s'})-[r:%s]->(destination:%s {urn: '%s'}) DELETE r";
-    final String statement =
-        String.format(
-            mergeRelationshipTemplate,
-            sourceType,
-            sourceUrn,
-            edge.getRelationshipType(),
-            destinationType,
-            destinationUrn);
-    final String statementR =
-        String.format(
-            mergeRelationshipTemplate,
-            startType,
-            startUrn,
-            reverseRelationshipType,
-            endType,
-            endUrn);
-
-    statements.add(buildStatement(statement, new HashMap<>()));
-    statements.add(buildStatement(statementR, new HashMap<>()));
-    executeStatements(statements);
+    String getEndType() {
+      return reversed ? sourceType : destinationType;
+    }
   }
 
   @Nonnull
@@ -834,20 +869,6 @@ public class Neo4jGraphService implements GraphService {
     return joiner.length() <= 2 ? "" : joiner.toString();
   }
 
-  /** Gets Node based on Urn, if not exist, creates placeholder node. */
-  @Nonnull
-  private Statement getOrInsertNode(@Nonnull Urn urn) {
-    final String nodeType = urn.getEntityType();
-
-    final String mergeTemplate = "MERGE (node:%s {urn: $urn}) RETURN node";
-    final String statement = String.format(mergeTemplate, nodeType);
-
-    final Map<String, Object> params = new HashMap<>();
-    params.put("urn", urn.toString());
-
-    return buildStatement(statement, params);
-  }
-
   @Override
   public boolean supportsMultiHop() {
     return true;
@@ -0,0 +1,120 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AIMD (additive increase, multiplicative decrease) limit on the number of concurrent in-flight
+ * bulk requests.
+ *
+ * <p>Every bulk which completes within the target latency and without rejections grows the limit
+ * by roughly one request per round trip, every slow or rejected (429) bulk halves it. The limit
+ * always stays within [min, max].
+ *
+ * <p>The limit is enforced by writers waiting for capacity before they add requests, see {@link
+ * #awaitCapacity(long, TimeUnit)}.
+ */
+@Slf4j
+public class AdaptiveBulkConcurrency {
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetLatencyMs;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition permitReleased = lock.newCondition();
+  private double limit;
+  private int inFlight;
+
+  public AdaptiveBulkConcurrency(int minLimit, int maxLimit, long targetLatencyMs) {
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.targetLatencyMs = targetLatencyMs;
+    this.limit = this.maxLimit;
+  }
+
+  /**
+   * Waits until the number of in-flight bulks is below the current limit, for at most the timeout.
+   * Writers wait here before adding to the bulk processor, rather than the bulk processor waiting
+   * while it holds its own lock.
+   *
+   * @return whether the number of in-flight bulks is below the limit, false if the wait timed out
+   */
+  public boolean awaitCapacity(long timeout, TimeUnit unit) throws InterruptedException {
+    long remainingNanos = unit.toNanos(timeout);
+    lock.lock();
+    try {
+      while (inFlight >= (int) limit) {
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        remainingNanos = permitReleased.awaitNanos(remainingNanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Counts a bulk as in flight. Does not block, so writers which found capacity at the same time
+   * may briefly take the number of in-flight bulks over the limit.
+   */
+  public void acquire() {
+    lock.lock();
+    try {
+      inFlight++;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Releases a permit and adjusts the limit.
+   *
+   * @param latencyMs time the bulk took end to end
+   * @param rejected whether the cluster rejected the bulk or any of its items with a 429
+   */
+  public void release(long latencyMs, boolean rejected) {
+    lock.lock();
+    try {
+      inFlight--;
+      final double previous = limit;
+      if (rejected || latencyMs > targetLatencyMs) {
+        limit = Math.max(minLimit, limit / 2);
+      } else {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      }
+      if ((int) previous != (int) limit) {
+        log.info(
+            "Bulk concurrency limit changed from {} to {}. Latency ms: {}, rejected: {}",
+            (int) previous,
+            (int) limit,
+            latencyMs,
+            rejected);
+      }
+      permitReleased.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
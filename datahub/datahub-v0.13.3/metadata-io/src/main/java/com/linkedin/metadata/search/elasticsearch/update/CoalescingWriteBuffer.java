@@ -0,0 +1,210 @@
+package com.linkedin.metadata.search.elasticsearch.update;
+
+import static com.linkedin.metadata.Constants.INGESTION_MAX_SERIALIZED_STRING_LENGTH;
+import static com.linkedin.metadata.Constants.MAX_JACKSON_STRING_SIZE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.common.xcontent.XContentType;
+
+/**
+ * Buffers partial document upserts in front of the {@link ESBulkProcessor} and merges all upserts
+ * to the same index and document id within a flush window into a single upsert.
+ *
+ * <p>Partial documents are deep merged the same way Elasticsearch applies a partial update: nested
+ * objects are merged, any other value of a later document replaces the earlier one. A delete drops
+ * the pending upsert for its document and is forwarded immediately, so it is still applied before
+ * any upsert which arrives after it.
+ */
+@Slf4j
+public class CoalescingWriteBuffer implements Closeable {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String COALESCED_METRIC = "coalesced_updates";
+  private static final String FLUSHED_METRIC = "coalescing_flushed_documents";
+
+  static {
+    int maxSize =
+        Integer.parseInt(
+            System.getenv()
+                .getOrDefault(INGESTION_MAX_SERIALIZED_STRING_LENGTH, MAX_JACKSON_STRING_SIZE));
+    OBJECT_MAPPER
+        .getFactory()
+        .setStreamReadConstraints(StreamReadConstraints.builder().maxStringLength(maxSize).build());
+  }
+
+  private final ESBulkProcessor bulkProcessor;
+  private final int numRetries;
+  private final int maxPendingDocuments;
+  private final ScheduledExecutorService scheduler;
+
+  // Insertion ordered so that documents are flushed in the order they were first written, guarded
+  // by this buffer's monitor
+  private final Map<DocumentKey, ObjectNode> pending = new LinkedHashMap<>();
+  // Serializes hand-offs to the bulk processor, so that a drained upsert is handed over before a
+  // later delete of the same document. Upserts merged into the buffer do not wait on it.
+  private final Object handoffLock = new Object();
+
+  public CoalescingWriteBuffer(
+      @Nonnull ESBulkProcessor bulkProcessor,
+      int numRetries,
+      long flushPeriodMs,
+      int maxPendingDocuments) {
+    this.bulkProcessor = bulkProcessor;
+    this.numRetries = numRetries;
+    this.maxPendingDocuments = maxPendingDocuments;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("coalescing-write-buffer-%d")
+                .setDaemon(true)
+                .build());
+    this.scheduler.scheduleWithFixedDelay(
+        this::flushQuietly, flushPeriodMs, flushPeriodMs, TimeUnit.MILLISECONDS);
+  }
+
+  /** Buffers a partial document upsert, merging it into any pending upsert of the same document. */
+  public void upsert(@Nonnull String index, @Nonnull String docId, @Nonnull String document) {
+    final DocumentKey key = new DocumentKey(index, docId);
+    final ObjectNode node;
+    try {
+      node = (ObjectNode) OBJECT_MAPPER.readTree(document);
+    } catch (JsonProcessingException | ClassCastException e) {
+      log.warn("Unable to coalesce document {} in index {}, writing it directly", docId, index, e);
+      synchronized (handoffLock) {
+        handOff(drain(key));
+        bulkProcessor.add(toUpdateRequest(key, document));
+      }
+      return;
+    }
+
+    if (buffer(key, node)) {
+      flush();
+    }
+  }
+
+  /** Drops any pending upsert of the document and forwards the delete. */
+  public void delete(@Nonnull String index, @Nonnull String docId) {
+    synchronized (handoffLock) {
+      if (!drain(new DocumentKey(index, docId)).isEmpty()) {
+        MetricUtils.counter(this.getClass(), COALESCED_METRIC).inc();
+      }
+      bulkProcessor.add(new DeleteRequest(index).id(docId));
+    }
+  }
+
+  /**
+   * Flushes the pending upsert of a single document, used before writes which must observe it such
+   * as script updates.
+   */
+  public void flush(@Nonnull String index, @Nonnull String docId) {
+    synchronized (handoffLock) {
+      handOff(drain(new DocumentKey(index, docId)));
+    }
+  }
+
+  /** Hands every pending upsert to the bulk processor. */
+  public void flush() {
+    synchronized (handoffLock) {
+      handOff(drainAll());
+    }
+  }
+
+  /** Hands every pending upsert to the bulk processor and stops the periodic flush. */
+  @Override
+  public void close() {
+    flush();
+    scheduler.shutdown();
+  }
+
+  /** Merges the upsert into the pending one of the document, returns whether the buffer is full. */
+  private synchronized boolean buffer(DocumentKey key, ObjectNode node) {
+    final ObjectNode existing = pending.get(key);
+    if (existing != null) {
+      merge(existing, node);
+      MetricUtils.counter(this.getClass(), COALESCED_METRIC).inc();
+      return false;
+    }
+    pending.put(key, node);
+    return pending.size() >= maxPendingDocuments;
+  }
+
+  private synchronized List<UpdateRequest> drain(DocumentKey key) {
+    final ObjectNode node = pending.remove(key);
+    return node == null ? List.of() : List.of(toUpdateRequest(key, node.toString()));
+  }
+
+  private synchronized List<UpdateRequest> drainAll() {
+    final List<UpdateRequest> requests = new ArrayList<>(pending.size());
+    final Iterator<Map.Entry<DocumentKey, ObjectNode>> iterator = pending.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<DocumentKey, ObjectNode> entry = iterator.next();
+      requests.add(toUpdateRequest(entry.getKey(), entry.getValue().toString()));
+      iterator.remove();
+    }
+    return requests;
+  }
+
+  /** Called holding the hand-off lock only, the bulk processor may block on a full queue. */
+  private void handOff(List<UpdateRequest> requests) {
+    if (requests.isEmpty()) {
+      return;
+    }
+    requests.forEach(bulkProcessor::add);
+    MetricUtils.counter(this.getClass(), FLUSHED_METRIC).inc(requests.size());
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Failed to flush coalesced search document upserts", e);
+    }
+  }
+
+  private UpdateRequest toUpdateRequest(DocumentKey key, String document) {
+    return new UpdateRequest(key.getIndex(), key.getDocId())
+        .detectNoop(false)
+        .docAsUpsert(true)
+        .doc(document, XContentType.JSON)
+        .retryOnConflict(numRetries);
+  }
+
+  /** Deep merges the fields of {@code update} into {@code target}. */
+  static void merge(@Nonnull ObjectNode target, @Nonnull ObjectNode update) {
+    final Iterator<Map.Entry<String, JsonNode>> fields = update.fields();
+    while (fields.hasNext()) {
+      final Map.Entry<String, JsonNode> field = fields.next();
+      final JsonNode current = target.get(field.getKey());
+      if (current != null && current.isObject() && field.getValue().isObject()) {
+        merge((ObjectNode) current, (ObjectNode) field.getValue());
+      } else {
+        target.set(field.getKey(), field.getValue());
+      }
+    }
+  }
+
+  @Value
+  private static class DocumentKey {
+    String index;
+    String docId;
+  }
+}
@@ -1,18 +1,28 @@
 package com.linkedin.metadata.search.elasticsearch.update;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkProcessor;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.RequestOptions;
@@ -20,6 +30,10 @@ import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.tasks.TaskSubmissionResponse;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
@@ -34,6 +48,14 @@ public class ESBulkProcessor implements Closeable {
   private static final String ES_SUBMIT_REINDEX_METRIC = "reindex_submit";
   private static final String ES_REINDEX_SUCCESS_METRIC = "reindex_success";
   private static final String ES_REINDEX_FAILED_METRIC = "reindex_failed";
+  private static final String ES_QUEUE_DEPTH_METRIC = "bulk_queue_depth";
+  private static final String ES_BYTES_IN_FLIGHT_METRIC = "bulk_bytes_in_flight";
+  private static final String ES_CONCURRENCY_LIMIT_METRIC = "bulk_concurrency_limit";
+  private static final String ES_BULK_BYTES_METRIC = "bulk_bytes";
+  private static final String ES_BULK_LATENCY_METRIC = "bulk_latency";
+  private static final String ES_BULK_REJECTED_METRIC = "bulk_rejected";
+  private static final String ES_INDEX_FLUSH_METRIC = "bulk_flush";
+  private static final String ES_CONCURRENCY_TIMEOUT_METRIC = "bulk_concurrency_timeout";
 
   public static ESBulkProcessor.ESBulkProcessorBuilder builder(RestHighLevelClient searchClient) {
     return hiddenBuilder().searchClient(searchClient);
@@ -49,10 +71,26 @@ public class ESBulkProcessor implements Closeable {
   @Builder.Default private TimeValue defaultTimeout = TimeValue.timeValueMinutes(1);
   @Getter private final WriteRequest.RefreshPolicy writeRequestRefreshPolicy;
 
+  // Adaptive mode: bulks are capped by bytes as well as actions and the number of concurrent
+  // in-flight bulks is tuned between min and max concurrent requests based on latency and 429s
+  @Builder.Default @NonNull private Boolean adaptive = false;
+  @Builder.Default private Long bulkSizeBytes = new ByteSizeValue(5, ByteSizeUnit.MB).getBytes();
+  @Builder.Default private Integer minConcurrentRequests = 1;
+  @Builder.Default private Integer maxConcurrentRequests = 4;
+  @Builder.Default private Long targetLatencyMs = 5000L;
+
   @Setter(AccessLevel.NONE)
   @Getter(AccessLevel.NONE)
   private final BulkProcessor bulkProcessor;
 
+  @Setter(AccessLevel.NONE)
+  @Getter(AccessLevel.NONE)
+  private final AdaptiveBulkConcurrency concurrency;
+
+  // Actions added but not yet handed to a bulk request
+  private final AtomicLong queueDepth = new AtomicLong();
+  private final AtomicLong bytesInFlight = new AtomicLong();
+
   private ESBulkProcessor(
       @NonNull RestHighLevelClient searchClient,
       @NonNull Boolean async,
@@ -63,7 +101,13 @@ public class ESBulkProcessor implements Closeable {
       Long retryInterval,
       TimeValue defaultTimeout,
       WriteRequest.RefreshPolicy writeRequestRefreshPolicy,
-      BulkProcessor ignored) {
+      @NonNull Boolean adaptive,
+      Long bulkSizeBytes,
+      Integer minConcurrentRequests,
+      Integer maxConcurrentRequests,
+      Long targetLatencyMs,
+      BulkProcessor ignored,
+      AdaptiveBulkConcurrency ignoredConcurrency) {
     this.searchClient = searchClient;
     this.async = async;
     this.batchDelete = batchDelete;
@@ -73,13 +117,37 @@ public class ESBulkProcessor implements Closeable {
     this.retryInterval = retryInterval;
     this.defaultTimeout = defaultTimeout;
     this.writeRequestRefreshPolicy = writeRequestRefreshPolicy;
-    this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
+    this.adaptive = adaptive;
+    this.bulkSizeBytes = bulkSizeBytes;
+    this.minConcurrentRequests = minConcurrentRequests;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.targetLatencyMs = targetLatencyMs;
+    if (adaptive) {
+      this.concurrency =
+          new AdaptiveBulkConcurrency(
+              minConcurrentRequests, maxConcurrentRequests, targetLatencyMs);
+      this.bulkProcessor = toAdaptiveBulkProcessor();
+      MetricUtils.gauge(
+          this.getClass(),
+          ES_CONCURRENCY_LIMIT_METRIC,
+          () -> (Gauge<Integer>) concurrency::getLimit);
+    } else {
+      this.concurrency = null;
+      this.bulkProcessor = async ? toAsyncBulkProcessor() : toBulkProcessor();
+    }
+    MetricUtils.gauge(this.getClass(), ES_QUEUE_DEPTH_METRIC, () -> (Gauge<Long>) queueDepth::get);
+    MetricUtils.gauge(
+        this.getClass(), ES_BYTES_IN_FLIGHT_METRIC, () -> (Gauge<Long>) bytesInFlight::get);
   }
 
   public ESBulkProcessor add(DocWriteRequest<?> request) {
+    if (concurrency != null) {
+      awaitConcurrency();
+    }
     MetricUtils.counter(this.getClass(), ES_WRITES_METRIC).inc();
+    queueDepth.incrementAndGet();
     bulkProcessor.add(request);
-    log.info(
+    log.debug(
         "Added request id: {}, operation type: {}, index: {}",
         request.id(),
         request.opType(),
@@ -87,6 +155,24 @@ public class ESBulkProcessor implements Closeable {
     return this;
   }
 
+  /**
+   * Backpressure of the adaptive mode: waits for the number of in-flight bulks to drop below the
+   * limit before the request is added, as the bulk processor flushes while holding its lock. Adds
+   * the request anyway after the default timeout, so writers are slowed down but never stuck.
+   */
+  private void awaitConcurrency() {
+    try {
+      if (!concurrency.awaitCapacity(defaultTimeout.millis(), TimeUnit.MILLISECONDS)) {
+        log.warn(
+            "Timed out after {} waiting for an in-flight bulk to complete, adding request anyway",
+            defaultTimeout);
+        MetricUtils.counter(this.getClass(), ES_CONCURRENCY_TIMEOUT_METRIC).inc();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   public Optional<BulkByScrollResponse> deleteByQuery(
       QueryBuilder queryBuilder, String... indices) {
     return deleteByQuery(queryBuilder, true, bulkRequestsLimit, defaultTimeout, indices);
@@ -173,7 +259,7 @@ public class ESBulkProcessor implements Closeable {
                 throw new RuntimeException(e);
               }
             },
-            BulkListener.getInstance(writeRequestRefreshPolicy))
+            new QueueDepthListener(BulkListener.getInstance(writeRequestRefreshPolicy)))
         .setBulkActions(bulkRequestsLimit)
         .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
         // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other
@@ -188,7 +274,7 @@ public class ESBulkProcessor implements Closeable {
             (request, bulkListener) -> {
               searchClient.bulkAsync(request, RequestOptions.DEFAULT, bulkListener);
             },
-            BulkListener.getInstance(writeRequestRefreshPolicy))
+            new QueueDepthListener(BulkListener.getInstance(writeRequestRefreshPolicy)))
         .setBulkActions(bulkRequestsLimit)
         .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
         // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other
@@ -198,6 +284,103 @@ public class ESBulkProcessor implements Closeable {
         .build();
   }
 
+  /**
+   * Async bulk processor which flushes on actions, bytes or time, whichever comes first, and counts
+   * every bulk (including 429 retries of it) against the adaptive concurrency limit. It does not
+   * wait for the limit itself, writers do before adding requests.
+   */
+  private BulkProcessor toAdaptiveBulkProcessor() {
+    return BulkProcessor.builder(
+            (request, bulkListener) -> {
+              concurrency.acquire();
+              final long bytes = request.estimatedSizeInBytes();
+              final long startTime = System.currentTimeMillis();
+              bytesInFlight.addAndGet(bytes);
+              MetricUtils.get()
+                  .histogram(MetricRegistry.name(this.getClass(), ES_BULK_BYTES_METRIC))
+                  .update(bytes);
+              searchClient.bulkAsync(
+                  request,
+                  RequestOptions.DEFAULT,
+                  ActionListener.wrap(
+                      response -> {
+                        onBulkComplete(request, bytes, startTime, isRejected(response));
+                        bulkListener.onResponse(response);
+                      },
+                      e -> {
+                        onBulkComplete(
+                            request,
+                            bytes,
+                            startTime,
+                            ExceptionsHelper.status(e) == RestStatus.TOO_MANY_REQUESTS);
+                        bulkListener.onFailure(e);
+                      }));
+            },
+            new QueueDepthListener(BulkListener.getInstance(writeRequestRefreshPolicy)))
+        .setBulkActions(bulkRequestsLimit)
+        .setBulkSize(new ByteSizeValue(bulkSizeBytes))
+        // The adaptive limit does the actual gating, this is only the upper bound
+        .setConcurrentRequests(maxConcurrentRequests)
+        .setFlushInterval(TimeValue.timeValueSeconds(bulkFlushPeriod))
+        // This retry is ONLY for "resource constraints", i.e. 429 errors (each request has other
+        // retry methods)
+        .setBackoffPolicy(
+            BackoffPolicy.constantBackoff(TimeValue.timeValueSeconds(retryInterval), numRetries))
+        .build();
+  }
+
+  private void onBulkComplete(BulkRequest request, long bytes, long startTime, boolean rejected) {
+    final long latencyMs = System.currentTimeMillis() - startTime;
+    bytesInFlight.addAndGet(-bytes);
+    concurrency.release(latencyMs, rejected);
+    MetricUtils.timer(this.getClass(), ES_BULK_LATENCY_METRIC)
+        .update(latencyMs, TimeUnit.MILLISECONDS);
+    if (rejected) {
+      MetricUtils.counter(this.getClass(), ES_BULK_REJECTED_METRIC).inc();
+    }
+    final Map<String, Long> actionsByIndex =
+        request.requests().stream()
+            .collect(Collectors.groupingBy(DocWriteRequest::index, Collectors.counting()));
+    actionsByIndex.forEach(
+        (index, count) ->
+            MetricUtils.counter(
+                    this.getClass(), ES_INDEX_FLUSH_METRIC + MetricUtils.DELIMITER + index)
+                .inc(count));
+  }
+
+  private static boolean isRejected(BulkResponse response) {
+    return response.hasFailures()
+        && Arrays.stream(response.getItems())
+            .filter(BulkItemResponse::isFailed)
+            .map(BulkItemResponse::status)
+            .anyMatch(RestStatus.TOO_MANY_REQUESTS::equals);
+  }
+
+  /** Tracks the number of actions which were added but not yet handed to a bulk request. */
+  private class QueueDepthListener implements BulkProcessor.Listener {
+    private final BulkProcessor.Listener delegate;
+
+    private QueueDepthListener(BulkProcessor.Listener delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void beforeBulk(long executionId, BulkRequest request) {
+      queueDepth.addAndGet(-request.numberOfActions());
+      delegate.beforeBulk(executionId, request);
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+      delegate.afterBulk(executionId, request, response);
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+      delegate.afterBulk(executionId, request, failure);
+    }
+  }
+
   @Override
   public void close() throws IOException {
     bulkProcessor.close();
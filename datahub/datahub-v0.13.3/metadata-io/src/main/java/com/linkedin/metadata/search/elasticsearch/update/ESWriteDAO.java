@@ -3,6 +3,7 @@ package com.linkedin.metadata.search.elasticsearch.update;
 import io.datahubproject.metadata.context.OperationContext;
 import java.io.IOException;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.action.delete.DeleteRequest;
@@ -22,6 +23,13 @@ public class ESWriteDAO {
   private final RestHighLevelClient searchClient;
   private final ESBulkProcessor bulkProcessor;
   private final int numRetries;
+  // Optional, merges upserts to the same document before they reach the bulk processor
+  @Nullable private final CoalescingWriteBuffer writeBuffer;
+
+  public ESWriteDAO(
+      RestHighLevelClient searchClient, ESBulkProcessor bulkProcessor, int numRetries) {
+    this(searchClient, bulkProcessor, numRetries, null);
+  }
 
   /**
    * Updates or inserts the given search document.
@@ -35,6 +43,11 @@ public class ESWriteDAO {
       @Nonnull String entityName,
       @Nonnull String document,
       @Nonnull String docId) {
+    if (writeBuffer != null) {
+      writeBuffer.upsert(toIndexName(opContext, entityName), docId, document);
+      return;
+    }
+
     final UpdateRequest updateRequest =
         new UpdateRequest(toIndexName(opContext, entityName), docId)
             .detectNoop(false)
@@ -53,6 +66,10 @@ public class ESWriteDAO {
    */
   public void deleteDocument(
       @Nonnull OperationContext opContext, @Nonnull String entityName, @Nonnull String docId) {
+    if (writeBuffer != null) {
+      writeBuffer.delete(toIndexName(opContext, entityName), docId);
+      return;
+    }
     bulkProcessor.add(new DeleteRequest(toIndexName(opContext, entityName)).id(docId));
   }
 
@@ -68,6 +85,10 @@ public class ESWriteDAO {
             .scriptedUpsert(true)
             .retryOnConflict(numRetries)
             .script(new Script(script));
+    if (writeBuffer != null) {
+      // the script has to observe any upsert pending for the document
+      writeBuffer.flush(updateRequest.index(), docId);
+    }
     bulkProcessor.add(updateRequest);
   }
 
@@ -75,6 +96,9 @@ public class ESWriteDAO {
   public void clear(@Nonnull OperationContext opContext) {
     String[] indices =
         getIndices(opContext.getSearchContext().getIndexConvention().getAllEntityIndicesPattern());
+    if (writeBuffer != null) {
+      writeBuffer.flush();
+    }
     bulkProcessor.deleteByQuery(QueryBuilders.matchAllQuery(), indices);
   }
 
@@ -4,6 +4,7 @@ import static com.datahub.authorization.AuthUtil.VIEW_RESTRICTED_ENTITY_TYPES;
 
 import com.datahub.authentication.Authentication;
 import com.datahub.authorization.AuthUtil;
+import com.datahub.authorization.EntitySpec;
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.StringArray;
@@ -15,6 +16,7 @@ import io.datahubproject.metadata.services.RestrictedService;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,6 +46,14 @@ public class ESAccessControlUtil {
       final Authorizer authorizer = opContext.getAuthorizerContext().getAuthorizer();
 
       if (opContext.getSearchContext().isRestrictedSearch()) {
+        // Fetch the fields of the page's entities in a single batch ahead of the checks
+        authorizer.prefetch(
+            searchEntities.stream()
+                .map(SearchEntity::getEntity)
+                .filter(urn -> VIEW_RESTRICTED_ENTITY_TYPES.contains(urn.getEntityType()))
+                .map(urn -> new EntitySpec(urn.getEntityType(), urn.toString()))
+                .collect(Collectors.toList()));
+
         for (SearchEntity searchEntity : searchEntities) {
           final String entityType = searchEntity.getEntity().getEntityType();
           final com.linkedin.metadata.models.EntitySpec entitySpec =
@@ -437,7 +437,7 @@ public class UpdateIndicesService implements SearchIndicesService {
                 new Filter().setOr(new ConjunctiveCriterionArray()),
                 RelationshipDirection.OUTGOING));
       }
-      edgesToAdd.forEach(_graphService::addEdge);
+      _graphService.addEdges(edgesToAdd);
     }
   }
 
@@ -479,19 +479,19 @@ public class UpdateIndicesService implements SearchIndicesService {
     // Remove any old edges that no longer exist first
     if (subtractiveDifference.size() > 0) {
       log.debug("Removing edges: {}", subtractiveDifference);
-      subtractiveDifference.forEach(_graphService::removeEdge);
+      _graphService.removeEdges(subtractiveDifference);
     }
 
     // Then add new edges
     if (additiveDifference.size() > 0) {
       log.debug("Adding edges: {}", additiveDifference);
-      additiveDifference.forEach(_graphService::addEdge);
+      _graphService.addEdges(additiveDifference);
     }
 
     // Then update existing edges
     if (mergedEdges.size() > 0) {
       log.debug("Updating edges: {}", mergedEdges);
-      mergedEdges.forEach(_graphService::upsertEdge);
+      _graphService.upsertEdges(mergedEdges);
     }
   }
 
@@ -7,6 +7,7 @@ import com.codahale.metrics.Timer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterables;
 import com.linkedin.common.WindowDuration;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.StringArray;
@@ -39,7 +40,12 @@ import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -65,6 +71,9 @@ public class UsageServiceUtil {
   public static final String USAGE_STATS_ENTITY_NAME = "dataset";
   public static final String USAGE_STATS_ASPECT_NAME = "datasetUsageStatistics";
   private static final String ES_FIELD_TIMESTAMP = "timestampMillis";
+  private static final String ES_FIELD_URN = "urn";
+  // Resources per batch query, each with up to 1440 user buckets, under search.max_buckets
+  private static final int MAX_BATCH_SIZE = 20;
   public static final String ES_NULL_VALUE = "NULL";
 
   public static UsageQueryResult queryRange(
@@ -95,13 +104,104 @@ public class UsageServiceUtil {
       @Nullable Integer maxBuckets) {
 
     // 1. Populate the filter. This is common for all queries.
+    Filter filter = createFilter(List.of(resource), startTime, endTime);
+
+    Timer.Context timer;
+    long took;
+
+    // 2. Get buckets.
+    timer = MetricUtils.timer(UsageServiceUtil.class, "getBuckets").time();
+    UsageAggregationArray buckets =
+        getBuckets(opContext, timeseriesAspectService, filter, resource, duration);
+    took = timer.stop();
+    log.info(
+        "Usage stats for resource {} returned {} buckets in {} ms",
+        resource,
+        buckets.size(),
+        TimeUnit.NANOSECONDS.toMillis(took));
+
+    // 3. Get aggregations.
+    timer = MetricUtils.timer(UsageServiceUtil.class, "getAggregations").time();
+    UsageQueryResultAggregations aggregations =
+        getAggregations(opContext, timeseriesAspectService, filter);
+    took = timer.stop();
+    log.info(
+        "Usage stats aggregation for resource {} took {} ms",
+        resource,
+        TimeUnit.NANOSECONDS.toMillis(took));
+
+    // 4. Compute totalSqlQuery count from the buckets itself, and return the result.
+    return toUsageQueryResult(buckets, aggregations);
+  }
+
+  /**
+   * Same as {@link #queryRange} for several resources at once. Each aggregation is run once for all
+   * of the resources, grouped by resource, rather than once per resource.
+   *
+   * @return the usage of every resource, empty for resources without usage
+   */
+  public static Map<String, UsageQueryResult> batchQueryRange(
+      @Nonnull OperationContext opContext,
+      @Nonnull TimeseriesAspectService timeseriesAspectService,
+      @Nonnull Collection<String> resources,
+      @Nonnull WindowDuration duration,
+      UsageTimeRange range) {
+
+    final long now = Instant.now().toEpochMilli();
+    final Map<String, UsageQueryResult> results = new HashMap<>();
+    // The buckets of every resource are nested in those of the query
+    for (List<String> batch : Iterables.partition(new LinkedHashSet<>(resources), MAX_BATCH_SIZE)) {
+      final Filter filter = createFilter(batch, convertRangeToStartTime(range, now), now);
+
+      Timer.Context timer = MetricUtils.timer(UsageServiceUtil.class, "batchGetBuckets").time();
+      final Map<String, UsageAggregationArray> buckets =
+          batchGetBuckets(opContext, timeseriesAspectService, filter, duration);
+      long took = timer.stop();
+      log.info(
+          "Usage stats for {} resources returned {} buckets in {} ms",
+          batch.size(),
+          buckets.values().stream().mapToInt(UsageAggregationArray::size).sum(),
+          TimeUnit.NANOSECONDS.toMillis(took));
+
+      timer = MetricUtils.timer(UsageServiceUtil.class, "batchGetAggregations").time();
+      final Map<String, List<UserUsageCounts>> userUsageCounts =
+          batchGetUserUsageCounts(opContext, timeseriesAspectService, filter);
+      final Map<String, List<FieldUsageCounts>> fieldUsageCounts =
+          batchGetFieldUsageCounts(opContext, timeseriesAspectService, filter);
+      took = timer.stop();
+      log.info(
+          "Usage stats aggregation for {} resources took {} ms",
+          batch.size(),
+          TimeUnit.NANOSECONDS.toMillis(took));
+
+      for (String resource : batch) {
+        final List<UserUsageCounts> users =
+            userUsageCounts.getOrDefault(resource, Collections.emptyList());
+        final UsageQueryResultAggregations aggregations =
+            new UsageQueryResultAggregations()
+                .setUsers(new UserUsageCountsArray(users))
+                .setUniqueUserCount(users.size())
+                .setFields(
+                    new FieldUsageCountsArray(
+                        fieldUsageCounts.getOrDefault(resource, Collections.emptyList())));
+        results.put(
+            resource,
+            toUsageQueryResult(
+                buckets.getOrDefault(resource, new UsageAggregationArray()), aggregations));
+      }
+    }
+    return results;
+  }
+
+  private static Filter createFilter(
+      @Nonnull Collection<String> resources, @Nullable Long startTime, @Nullable Long endTime) {
     Filter filter = new Filter();
     ArrayList<Criterion> criteria = new ArrayList<>();
     Criterion hasUrnCriterion =
         new Criterion()
-            .setField("urn")
+            .setField(ES_FIELD_URN)
             .setCondition(Condition.EQUAL)
-            .setValues(new StringArray(resource));
+            .setValues(new StringArray(resources));
     criteria.add(hasUrnCriterion);
     if (startTime != null) {
       Criterion startTimeCriterion =
@@ -123,32 +223,11 @@ public class UsageServiceUtil {
     filter.setOr(
         new ConjunctiveCriterionArray(
             new ConjunctiveCriterion().setAnd(new CriterionArray(criteria))));
+    return filter;
+  }
 
-    Timer.Context timer;
-    long took;
-
-    // 2. Get buckets.
-    timer = MetricUtils.timer(UsageServiceUtil.class, "getBuckets").time();
-    UsageAggregationArray buckets =
-        getBuckets(opContext, timeseriesAspectService, filter, resource, duration);
-    took = timer.stop();
-    log.info(
-        "Usage stats for resource {} returned {} buckets in {} ms",
-        resource,
-        buckets.size(),
-        TimeUnit.NANOSECONDS.toMillis(took));
-
-    // 3. Get aggregations.
-    timer = MetricUtils.timer(UsageServiceUtil.class, "getAggregations").time();
-    UsageQueryResultAggregations aggregations =
-        getAggregations(opContext, timeseriesAspectService, filter);
-    took = timer.stop();
-    log.info(
-        "Usage stats aggregation for resource {} took {} ms",
-        resource,
-        TimeUnit.NANOSECONDS.toMillis(took));
-
-    // 4. Compute totalSqlQuery count from the buckets itself.
+  private static UsageQueryResult toUsageQueryResult(
+      @Nonnull UsageAggregationArray buckets, @Nonnull UsageQueryResultAggregations aggregations) {
     // We want to avoid issuing an additional query with a sum aggregation.
     Integer totalQueryCount = null;
     for (UsageAggregation bucket : buckets) {
@@ -164,7 +243,6 @@ public class UsageServiceUtil {
       aggregations.setTotalSqlQueries(totalQueryCount);
     }
 
-    // 5. Populate and return the result.
     return new UsageQueryResult().setBuckets(buckets).setAggregations(aggregations);
   }
 
@@ -184,6 +262,58 @@ public class UsageServiceUtil {
 
     // 1. Construct the aggregation specs for latest value of uniqueUserCount, totalSqlQueries &
     // topSqlQueries.
+    AggregationSpec[] aggregationSpecs = createBucketAggregationSpecs();
+
+    // 2. Construct the Grouping buckets with just the ts bucket.
+    GroupingBucket[] groupingBuckets = new GroupingBucket[] {createTimestampBucket(duration)};
+
+    // 3. Query
+    GenericTable result =
+        timeseriesAspectService.getAggregatedStats(
+            opContext,
+            USAGE_STATS_ENTITY_NAME,
+            USAGE_STATS_ASPECT_NAME,
+            aggregationSpecs,
+            filter,
+            groupingBuckets);
+
+    // 4. Populate buckets from the result.
+    UsageAggregationArray buckets = new UsageAggregationArray();
+    for (StringArray row : result.getRows()) {
+      buckets.add(toUsageAggregation(row, 0, resource, duration));
+    }
+
+    return buckets;
+  }
+
+  private static Map<String, UsageAggregationArray> batchGetBuckets(
+      @Nonnull OperationContext opContext,
+      @Nonnull TimeseriesAspectService timeseriesAspectService,
+      @Nonnull Filter filter,
+      @Nonnull WindowDuration duration) {
+    // Same as getBuckets, grouped by resource first
+    GroupingBucket[] groupingBuckets =
+        new GroupingBucket[] {createResourceBucket(), createTimestampBucket(duration)};
+
+    GenericTable result =
+        timeseriesAspectService.getAggregatedStats(
+            opContext,
+            USAGE_STATS_ENTITY_NAME,
+            USAGE_STATS_ASPECT_NAME,
+            createBucketAggregationSpecs(),
+            filter,
+            groupingBuckets);
+
+    Map<String, UsageAggregationArray> buckets = new HashMap<>();
+    for (StringArray row : result.getRows()) {
+      buckets
+          .computeIfAbsent(row.get(0), resource -> new UsageAggregationArray())
+          .add(toUsageAggregation(row, 1, row.get(0), duration));
+    }
+    return buckets;
+  }
+
+  private static AggregationSpec[] createBucketAggregationSpecs() {
     AggregationSpec uniqueUserCountAgg =
         new AggregationSpec()
             .setAggregationType(AggregationType.LATEST)
@@ -196,68 +326,63 @@ public class UsageServiceUtil {
         new AggregationSpec()
             .setAggregationType(AggregationType.LATEST)
             .setFieldPath("topSqlQueries");
-    AggregationSpec[] aggregationSpecs =
-        new AggregationSpec[] {uniqueUserCountAgg, totalSqlQueriesAgg, topSqlQueriesAgg};
-
-    // 2. Construct the Grouping buckets with just the ts bucket.
+    return new AggregationSpec[] {uniqueUserCountAgg, totalSqlQueriesAgg, topSqlQueriesAgg};
+  }
 
+  private static GroupingBucket createTimestampBucket(@Nonnull WindowDuration duration) {
     GroupingBucket timestampBucket = new GroupingBucket();
     timestampBucket
         .setKey(ES_FIELD_TIMESTAMP)
         .setType(GroupingBucketType.DATE_GROUPING_BUCKET)
         .setTimeWindowSize(new TimeWindowSize().setMultiple(1).setUnit(windowToInterval(duration)));
-    GroupingBucket[] groupingBuckets = new GroupingBucket[] {timestampBucket};
+    return timestampBucket;
+  }
 
-    // 3. Query
-    GenericTable result =
-        timeseriesAspectService.getAggregatedStats(
-            opContext,
-            USAGE_STATS_ENTITY_NAME,
-            USAGE_STATS_ASPECT_NAME,
-            aggregationSpecs,
-            filter,
-            groupingBuckets);
+  private static GroupingBucket createResourceBucket() {
+    return new GroupingBucket()
+        .setKey(ES_FIELD_URN)
+        .setType(GroupingBucketType.STRING_GROUPING_BUCKET);
+  }
 
-    // 4. Populate buckets from the result.
-    UsageAggregationArray buckets = new UsageAggregationArray();
-    for (StringArray row : result.getRows()) {
-      UsageAggregation usageAggregation = new UsageAggregation();
-      usageAggregation.setBucket(Long.valueOf(row.get(0)));
-      usageAggregation.setDuration(duration);
+  /** Reads the bucket from the columns of the row starting at the offset. */
+  private static UsageAggregation toUsageAggregation(
+      @Nonnull StringArray row,
+      int offset,
+      @Nonnull String resource,
+      @Nonnull WindowDuration duration) {
+    UsageAggregation usageAggregation = new UsageAggregation();
+    usageAggregation.setBucket(Long.valueOf(row.get(offset)));
+    usageAggregation.setDuration(duration);
+    try {
+      usageAggregation.setResource(new Urn(resource));
+    } catch (URISyntaxException e) {
+      throw new IllegalArgumentException("Invalid resource", e);
+    }
+    UsageAggregationMetrics usageAggregationMetrics = new UsageAggregationMetrics();
+    if (!row.get(offset + 1).equals(ES_NULL_VALUE)) {
       try {
-        usageAggregation.setResource(new Urn(resource));
-      } catch (URISyntaxException e) {
-        throw new IllegalArgumentException("Invalid resource", e);
+        usageAggregationMetrics.setUniqueUserCount(Integer.valueOf(row.get(offset + 1)));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Failed to convert uniqueUserCount from ES to int", e);
       }
-      UsageAggregationMetrics usageAggregationMetrics = new UsageAggregationMetrics();
-      if (!row.get(1).equals(ES_NULL_VALUE)) {
-        try {
-          usageAggregationMetrics.setUniqueUserCount(Integer.valueOf(row.get(1)));
-        } catch (NumberFormatException e) {
-          throw new IllegalArgumentException("Failed to convert uniqueUserCount from ES to int", e);
-        }
-      }
-      if (!row.get(2).equals(ES_NULL_VALUE)) {
-        try {
-          usageAggregationMetrics.setTotalSqlQueries(Integer.valueOf(row.get(2)));
-        } catch (NumberFormatException e) {
-          throw new IllegalArgumentException("Failed to convert totalSqlQueries from ES to int", e);
-        }
+    }
+    if (!row.get(offset + 2).equals(ES_NULL_VALUE)) {
+      try {
+        usageAggregationMetrics.setTotalSqlQueries(Integer.valueOf(row.get(offset + 2)));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Failed to convert totalSqlQueries from ES to int", e);
       }
-      if (!row.get(3).equals(ES_NULL_VALUE)) {
-        try {
-          usageAggregationMetrics.setTopSqlQueries(
-              OBJECT_MAPPER.readValue(row.get(3), StringArray.class));
-        } catch (JsonProcessingException e) {
-          throw new IllegalArgumentException(
-              "Failed to convert topSqlQueries from ES to object", e);
-        }
+    }
+    if (!row.get(offset + 3).equals(ES_NULL_VALUE)) {
+      try {
+        usageAggregationMetrics.setTopSqlQueries(
+            OBJECT_MAPPER.readValue(row.get(offset + 3), StringArray.class));
+      } catch (JsonProcessingException e) {
+        throw new IllegalArgumentException("Failed to convert topSqlQueries from ES to object", e);
       }
-      usageAggregation.setMetrics(usageAggregationMetrics);
-      buckets.add(usageAggregation);
     }
-
-    return buckets;
+    usageAggregation.setMetrics(usageAggregationMetrics);
+    return usageAggregation;
   }
 
   private static UsageQueryResultAggregations getAggregations(
@@ -281,6 +406,45 @@ public class UsageServiceUtil {
       @Nonnull OperationContext opContext,
       @Nonnull TimeseriesAspectService timeseriesAspectService,
       Filter filter) {
+    // Query backend
+    GenericTable result =
+        timeseriesAspectService.getAggregatedStats(
+            opContext,
+            USAGE_STATS_ENTITY_NAME,
+            USAGE_STATS_ASPECT_NAME,
+            createUserAggregationSpecs(),
+            filter,
+            new GroupingBucket[] {createUserBucket()});
+    // Process response
+    List<UserUsageCounts> userUsageCounts = new ArrayList<>();
+    for (StringArray row : result.getRows()) {
+      userUsageCounts.add(toUserUsageCounts(row, 0));
+    }
+    return userUsageCounts;
+  }
+
+  private static Map<String, List<UserUsageCounts>> batchGetUserUsageCounts(
+      @Nonnull OperationContext opContext,
+      @Nonnull TimeseriesAspectService timeseriesAspectService,
+      Filter filter) {
+    GenericTable result =
+        timeseriesAspectService.getAggregatedStats(
+            opContext,
+            USAGE_STATS_ENTITY_NAME,
+            USAGE_STATS_ASPECT_NAME,
+            createUserAggregationSpecs(),
+            filter,
+            new GroupingBucket[] {createResourceBucket(), createUserBucket()});
+    Map<String, List<UserUsageCounts>> userUsageCounts = new HashMap<>();
+    for (StringArray row : result.getRows()) {
+      userUsageCounts
+          .computeIfAbsent(row.get(0), resource -> new ArrayList<>())
+          .add(toUserUsageCounts(row, 1));
+    }
+    return userUsageCounts;
+  }
+
+  private static AggregationSpec[] createUserAggregationSpecs() {
     // Sum aggregation on userCounts.count
     AggregationSpec sumUserCountsCountAggSpec =
         new AggregationSpec()
@@ -290,94 +454,108 @@ public class UsageServiceUtil {
         new AggregationSpec()
             .setAggregationType(AggregationType.LATEST)
             .setFieldPath("userCounts.userEmail");
-    AggregationSpec[] aggregationSpecs =
-        new AggregationSpec[] {sumUserCountsCountAggSpec, latestUserEmailAggSpec};
+    return new AggregationSpec[] {sumUserCountsCountAggSpec, latestUserEmailAggSpec};
+  }
 
+  private static GroupingBucket createUserBucket() {
     // String grouping bucket on userCounts.user
-    GroupingBucket userGroupingBucket =
-        new GroupingBucket()
-            .setKey("userCounts.user")
-            .setType(GroupingBucketType.STRING_GROUPING_BUCKET);
-    GroupingBucket[] groupingBuckets = new GroupingBucket[] {userGroupingBucket};
+    return new GroupingBucket()
+        .setKey("userCounts.user")
+        .setType(GroupingBucketType.STRING_GROUPING_BUCKET);
+  }
 
+  /** Reads the user counts from the columns of the row starting at the offset. */
+  private static UserUsageCounts toUserUsageCounts(@Nonnull StringArray row, int offset) {
+    UserUsageCounts userUsageCount = new UserUsageCounts();
+    try {
+      userUsageCount.setUser(new Urn(row.get(offset)));
+    } catch (URISyntaxException e) {
+      log.error("Failed to convert {} to urn. Exception: {}", row.get(offset), e);
+    }
+    if (!row.get(offset + 1).equals(ES_NULL_VALUE)) {
+      try {
+        userUsageCount.setCount(Integer.valueOf(row.get(offset + 1)));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Failed to convert user usage count from ES to int", e);
+      }
+    }
+    if (!row.get(offset + 2).equals(ES_NULL_VALUE)) {
+      userUsageCount.setUserEmail(row.get(offset + 2));
+    }
+    return userUsageCount;
+  }
+
+  private static List<FieldUsageCounts> getFieldUsageCounts(
+      @Nonnull OperationContext opContext,
+      @Nonnull TimeseriesAspectService timeseriesAspectService,
+      Filter filter) {
     // Query backend
     GenericTable result =
         timeseriesAspectService.getAggregatedStats(
             opContext,
             USAGE_STATS_ENTITY_NAME,
             USAGE_STATS_ASPECT_NAME,
-            aggregationSpecs,
+            createFieldAggregationSpecs(),
             filter,
-            groupingBuckets);
+            new GroupingBucket[] {createFieldBucket()});
+
     // Process response
-    List<UserUsageCounts> userUsageCounts = new ArrayList<>();
+    List<FieldUsageCounts> fieldUsageCounts = new ArrayList<>();
     for (StringArray row : result.getRows()) {
-      UserUsageCounts userUsageCount = new UserUsageCounts();
-      try {
-        userUsageCount.setUser(new Urn(row.get(0)));
-      } catch (URISyntaxException e) {
-        log.error("Failed to convert {} to urn. Exception: {}", row.get(0), e);
-      }
-      if (!row.get(1).equals(ES_NULL_VALUE)) {
-        try {
-          userUsageCount.setCount(Integer.valueOf(row.get(1)));
-        } catch (NumberFormatException e) {
-          throw new IllegalArgumentException(
-              "Failed to convert user usage count from ES to int", e);
-        }
-      }
-      if (!row.get(2).equals(ES_NULL_VALUE)) {
-        userUsageCount.setUserEmail(row.get(2));
-      }
-      userUsageCounts.add(userUsageCount);
+      fieldUsageCounts.add(toFieldUsageCounts(row, 0));
     }
-    return userUsageCounts;
+    return fieldUsageCounts;
   }
 
-  private static List<FieldUsageCounts> getFieldUsageCounts(
+  private static Map<String, List<FieldUsageCounts>> batchGetFieldUsageCounts(
       @Nonnull OperationContext opContext,
       @Nonnull TimeseriesAspectService timeseriesAspectService,
       Filter filter) {
+    GenericTable result =
+        timeseriesAspectService.getAggregatedStats(
+            opContext,
+            USAGE_STATS_ENTITY_NAME,
+            USAGE_STATS_ASPECT_NAME,
+            createFieldAggregationSpecs(),
+            filter,
+            new GroupingBucket[] {createResourceBucket(), createFieldBucket()});
+    Map<String, List<FieldUsageCounts>> fieldUsageCounts = new HashMap<>();
+    for (StringArray row : result.getRows()) {
+      fieldUsageCounts
+          .computeIfAbsent(row.get(0), resource -> new ArrayList<>())
+          .add(toFieldUsageCounts(row, 1));
+    }
+    return fieldUsageCounts;
+  }
+
+  private static AggregationSpec[] createFieldAggregationSpecs() {
     // Sum aggregation on fieldCounts.count
     AggregationSpec sumFieldCountAggSpec =
         new AggregationSpec()
             .setAggregationType(AggregationType.SUM)
             .setFieldPath("fieldCounts.count");
-    AggregationSpec[] aggregationSpecs = new AggregationSpec[] {sumFieldCountAggSpec};
+    return new AggregationSpec[] {sumFieldCountAggSpec};
+  }
 
+  private static GroupingBucket createFieldBucket() {
     // String grouping bucket on fieldCounts.fieldName
-    GroupingBucket userGroupingBucket =
-        new GroupingBucket()
-            .setKey("fieldCounts.fieldPath")
-            .setType(GroupingBucketType.STRING_GROUPING_BUCKET);
-    GroupingBucket[] groupingBuckets = new GroupingBucket[] {userGroupingBucket};
-
-    // Query backend
-    GenericTable result =
-        timeseriesAspectService.getAggregatedStats(
-            opContext,
-            USAGE_STATS_ENTITY_NAME,
-            USAGE_STATS_ASPECT_NAME,
-            aggregationSpecs,
-            filter,
-            groupingBuckets);
+    return new GroupingBucket()
+        .setKey("fieldCounts.fieldPath")
+        .setType(GroupingBucketType.STRING_GROUPING_BUCKET);
+  }
 
-    // Process response
-    List<FieldUsageCounts> fieldUsageCounts = new ArrayList<>();
-    for (StringArray row : result.getRows()) {
-      FieldUsageCounts fieldUsageCount = new FieldUsageCounts();
-      fieldUsageCount.setFieldName(row.get(0));
-      if (!row.get(1).equals(ES_NULL_VALUE)) {
-        try {
-          fieldUsageCount.setCount(Integer.valueOf(row.get(1)));
-        } catch (NumberFormatException e) {
-          throw new IllegalArgumentException(
-              "Failed to convert field usage count from ES to int", e);
-        }
+  /** Reads the field counts from the columns of the row starting at the offset. */
+  private static FieldUsageCounts toFieldUsageCounts(@Nonnull StringArray row, int offset) {
+    FieldUsageCounts fieldUsageCount = new FieldUsageCounts();
+    fieldUsageCount.setFieldName(row.get(offset));
+    if (!row.get(offset + 1).equals(ES_NULL_VALUE)) {
+      try {
+        fieldUsageCount.setCount(Integer.valueOf(row.get(offset + 1)));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Failed to convert field usage count from ES to int", e);
       }
-      fieldUsageCounts.add(fieldUsageCount);
     }
-    return fieldUsageCounts;
+    return fieldUsageCount;
   }
 
   public static CalendarInterval windowToInterval(@Nonnull WindowDuration duration) {
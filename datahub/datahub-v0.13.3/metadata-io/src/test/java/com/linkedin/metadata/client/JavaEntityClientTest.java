@@ -1,13 +1,22 @@
 package com.linkedin.metadata.client;
 
+import static com.linkedin.metadata.Constants.DATASET_ENTITY_NAME;
+import static com.linkedin.metadata.Constants.STATUS_ASPECT_NAME;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertThrows;
 
 import com.codahale.metrics.Counter;
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.RequiredFieldNotPresentException;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.aspect.batch.BatchItem;
 import com.linkedin.metadata.entity.DeleteEntityService;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.IngestResult;
 import com.linkedin.metadata.event.EventProducer;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.LineageSearchService;
@@ -15,9 +24,18 @@ import com.linkedin.metadata.search.SearchService;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
 import com.linkedin.metadata.service.RollbackService;
 import com.linkedin.metadata.timeseries.TimeseriesAspectService;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.SystemMetadata;
 import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.mockito.MockedStatic;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -131,4 +149,97 @@ public class JavaEntityClientTest {
         () -> MetricUtils.counter(client.getClass(), "exception_" + e.getClass().getName()),
         times(1));
   }
+
+  @Test
+  void testBatchIngestProposalsReturnsUrnsInProposalOrder() throws Exception {
+    JavaEntityClient client = getJavaEntityClient();
+    OperationContext systemContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    Urn first = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.first,PROD)");
+    Urn second = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.second,PROD)");
+    MetadataChangeProposal firstProposal = statusProposal(first, null);
+    MetadataChangeProposal secondProposal =
+        statusProposal(second, new SystemMetadata().setRunId("run-1"));
+
+    // Results come back unordered, in the reverse order of the proposals here
+    when(_entityService.ingestProposal(
+            any(OperationContext.class), any(AspectsBatch.class), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              AspectsBatch batch = invocation.getArgument(1);
+              assertEquals(batch.getItems().size(), 2);
+              Set<IngestResult> results = new LinkedHashSet<>();
+              for (int i = batch.getItems().size() - 1; i >= 0; i--) {
+                BatchItem item = batch.getItems().get(i);
+                results.add(
+                    IngestResult.builder().urn(item.getUrn()).request(item).isUpdate(true).build());
+              }
+              return results;
+            });
+
+    List<String> urns =
+        client.batchIngestProposals(systemContext, List.of(firstProposal, secondProposal), false);
+
+    assertEquals(urns, List.of(first.toString(), second.toString()));
+    verify(_entityService, times(1))
+        .ingestProposal(any(OperationContext.class), any(AspectsBatch.class), eq(false));
+    verify(_entitySearchService, times(1))
+        .appendRunId(any(OperationContext.class), eq(DATASET_ENTITY_NAME), eq(second), eq("run-1"));
+    verifyNoMoreInteractions(_entitySearchService);
+  }
+
+  @Test
+  void testBatchIngestProposalsKeyBasedProposal() throws Exception {
+    JavaEntityClient client = getJavaEntityClient();
+    OperationContext systemContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    Urn urn = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.keyed,PROD)");
+    MetadataChangeProposal proposal =
+        statusProposal(urn, new SystemMetadata().setRunId("run-1"))
+            .setEntityKeyAspect(
+                GenericRecordUtils.serializeAspect(
+                    EntityKeyUtils.convertUrnToEntityKey(
+                        urn,
+                        systemContext
+                            .getEntityRegistry()
+                            .getEntitySpec(DATASET_ENTITY_NAME)
+                            .getKeyAspectSpec())));
+    proposal.removeEntityUrn();
+
+    // The proposal did not change the aspect, so there is nothing to index the run id on
+    when(_entityService.ingestProposal(
+            any(OperationContext.class), any(AspectsBatch.class), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              AspectsBatch batch = invocation.getArgument(1);
+              BatchItem item = batch.getItems().get(0);
+              return Set.of(IngestResult.builder().urn(item.getUrn()).request(item).build());
+            });
+
+    assertEquals(
+        client.batchIngestProposals(systemContext, List.of(proposal), false),
+        List.of(urn.toString()));
+    verifyNoInteractions(_entitySearchService);
+  }
+
+  @Test
+  void testBatchIngestProposalsEmpty() throws Exception {
+    JavaEntityClient client = getJavaEntityClient();
+
+    assertEquals(client.batchIngestProposals(opContext, List.of(), false), List.of());
+    verifyNoInteractions(_entityService);
+  }
+
+  private static MetadataChangeProposal statusProposal(
+      Urn urn, @Nullable SystemMetadata systemMetadata) {
+    MetadataChangeProposal proposal =
+        new MetadataChangeProposal()
+            .setEntityType(DATASET_ENTITY_NAME)
+            .setEntityUrn(urn)
+            .setChangeType(ChangeType.UPSERT)
+            .setAspectName(STATUS_ASPECT_NAME)
+            .setAspect(GenericRecordUtils.serializeAspect(new Status().setRemoved(false)));
+    if (systemMetadata != null) {
+      proposal.setSystemMetadata(systemMetadata);
+    }
+    return proposal;
+  }
 }
@@ -0,0 +1,71 @@
+package com.linkedin.metadata.elasticsearch.update;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.search.elasticsearch.update.AdaptiveBulkConcurrency;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+public class AdaptiveBulkConcurrencyTest {
+
+  @Test
+  public void testMultiplicativeDecrease() throws InterruptedException {
+    AdaptiveBulkConcurrency concurrency = new AdaptiveBulkConcurrency(1, 8, 1000);
+    assertEquals(concurrency.getLimit(), 8);
+
+    concurrency.acquire();
+    concurrency.release(10, true);
+    assertEquals(concurrency.getLimit(), 4);
+
+    concurrency.acquire();
+    concurrency.release(5000, false);
+    assertEquals(concurrency.getLimit(), 2);
+
+    concurrency.acquire();
+    concurrency.release(10, true);
+    concurrency.acquire();
+    concurrency.release(10, true);
+    assertEquals(concurrency.getLimit(), 1);
+    assertEquals(concurrency.getInFlight(), 0);
+  }
+
+  @Test
+  public void testAdditiveIncrease() throws InterruptedException {
+    AdaptiveBulkConcurrency concurrency = new AdaptiveBulkConcurrency(1, 3, 1000);
+    concurrency.acquire();
+    concurrency.release(10, true);
+    concurrency.acquire();
+    concurrency.release(10, true);
+    assertEquals(concurrency.getLimit(), 1);
+
+    // One fast bulk at limit 1 grows the limit by one
+    concurrency.acquire();
+    concurrency.release(10, false);
+    assertEquals(concurrency.getLimit(), 2);
+
+    for (int i = 0; i < 10; i++) {
+      concurrency.acquire();
+      concurrency.release(10, false);
+    }
+    assertEquals(concurrency.getLimit(), 3);
+  }
+
+  @Test
+  public void testAwaitCapacity() throws InterruptedException {
+    AdaptiveBulkConcurrency concurrency = new AdaptiveBulkConcurrency(1, 1, 1000);
+    assertTrue(concurrency.awaitCapacity(0, TimeUnit.MILLISECONDS));
+
+    // Counting a bulk never blocks, even over the limit, waiting for capacity times out
+    concurrency.acquire();
+    concurrency.acquire();
+    assertEquals(concurrency.getInFlight(), 2);
+    assertFalse(concurrency.awaitCapacity(10, TimeUnit.MILLISECONDS));
+
+    concurrency.release(10, false);
+    assertFalse(concurrency.awaitCapacity(10, TimeUnit.MILLISECONDS));
+    concurrency.release(10, false);
+    assertTrue(concurrency.awaitCapacity(10, TimeUnit.MILLISECONDS));
+  }
+}
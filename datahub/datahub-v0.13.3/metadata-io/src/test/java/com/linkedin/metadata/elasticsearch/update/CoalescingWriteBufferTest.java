@@ -0,0 +1,132 @@
+package com.linkedin.metadata.elasticsearch.update;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.search.elasticsearch.update.CoalescingWriteBuffer;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.testng.annotations.Test;
+
+public class CoalescingWriteBufferTest {
+
+  @Test
+  public void testUpsertsAreMerged() {
+    ESBulkProcessor bulkProcessor = mock(ESBulkProcessor.class);
+    CoalescingWriteBuffer buffer = new CoalescingWriteBuffer(bulkProcessor, 1, 60000, 1000);
+
+    buffer.upsert("datasetindex_v2", "doc1", "{\"owners\":[\"a\"],\"nested\":{\"x\":1}}");
+    buffer.upsert("datasetindex_v2", "doc1", "{\"tags\":[\"t\"],\"nested\":{\"y\":2}}");
+    buffer.upsert("datasetindex_v2", "doc1", "{\"owners\":[\"b\"]}");
+    buffer.upsert("chartindex_v2", "doc1", "{\"name\":\"chart\"}");
+    buffer.flush();
+
+    ArgumentCaptor<DocWriteRequest<?>> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(bulkProcessor, times(2)).add(captor.capture());
+    List<DocWriteRequest<?>> requests = captor.getAllValues();
+
+    UpdateRequest dataset = (UpdateRequest) requests.get(0);
+    assertEquals(dataset.index(), "datasetindex_v2");
+    assertEquals(dataset.id(), "doc1");
+    assertEquals(
+        dataset.doc().sourceAsMap(),
+        Map.of("owners", List.of("b"), "nested", Map.of("x", 1, "y", 2), "tags", List.of("t")));
+    assertEquals(requests.get(1).index(), "chartindex_v2");
+    buffer.close();
+  }
+
+  @Test
+  public void testDeleteOverridesPendingUpsert() {
+    ESBulkProcessor bulkProcessor = mock(ESBulkProcessor.class);
+    CoalescingWriteBuffer buffer = new CoalescingWriteBuffer(bulkProcessor, 1, 60000, 1000);
+
+    buffer.upsert("datasetindex_v2", "doc1", "{\"owners\":[\"a\"]}");
+    buffer.delete("datasetindex_v2", "doc1");
+    buffer.flush();
+
+    ArgumentCaptor<DocWriteRequest<?>> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(bulkProcessor, times(1)).add(captor.capture());
+    assertTrue(captor.getValue() instanceof DeleteRequest);
+    buffer.close();
+  }
+
+  @Test
+  public void testFlushOnMaxPendingDocuments() {
+    ESBulkProcessor bulkProcessor = mock(ESBulkProcessor.class);
+    CoalescingWriteBuffer buffer = new CoalescingWriteBuffer(bulkProcessor, 1, 60000, 2);
+
+    buffer.upsert("datasetindex_v2", "doc1", "{\"name\":\"a\"}");
+    buffer.upsert("datasetindex_v2", "doc2", "{\"name\":\"b\"}");
+
+    verify(bulkProcessor, times(2)).add(any());
+    buffer.close();
+  }
+
+  @Test
+  public void testCloseFlushesPendingUpserts() {
+    ESBulkProcessor bulkProcessor = mock(ESBulkProcessor.class);
+    CoalescingWriteBuffer buffer = new CoalescingWriteBuffer(bulkProcessor, 1, 60000, 1000);
+
+    buffer.upsert("datasetindex_v2", "doc1", "{\"name\":\"a\"}");
+    buffer.upsert("datasetindex_v2", "doc2", "{\"name\":\"b\"}");
+    verify(bulkProcessor, times(0)).add(any());
+
+    buffer.close();
+
+    ArgumentCaptor<DocWriteRequest<?>> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(bulkProcessor, times(2)).add(captor.capture());
+    assertEquals(captor.getAllValues().get(0).id(), "doc1");
+    assertEquals(captor.getAllValues().get(1).id(), "doc2");
+  }
+
+  @Test
+  public void testUpsertDoesNotWaitOnBlockedFlush() throws Exception {
+    ESBulkProcessor bulkProcessor = mock(ESBulkProcessor.class);
+    CountDownLatch adding = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(bulkProcessor.add(any()))
+        .thenAnswer(
+            invocation -> {
+              adding.countDown();
+              release.await();
+              return bulkProcessor;
+            });
+    CoalescingWriteBuffer buffer = new CoalescingWriteBuffer(bulkProcessor, 1, 60000, 1000);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      buffer.upsert("datasetindex_v2", "doc1", "{\"name\":\"a\"}");
+      Future<?> flush = executor.submit(() -> buffer.flush());
+      assertTrue(adding.await(10, TimeUnit.SECONDS));
+
+      // The flush is blocked in the bulk processor, buffering another upsert does not wait on it
+      buffer.upsert("datasetindex_v2", "doc2", "{\"name\":\"b\"}");
+
+      release.countDown();
+      flush.get(10, TimeUnit.SECONDS);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+
+    buffer.close();
+    ArgumentCaptor<DocWriteRequest<?>> captor = ArgumentCaptor.forClass(DocWriteRequest.class);
+    verify(bulkProcessor, times(2)).add(captor.capture());
+    assertEquals(captor.getAllValues().get(1).id(), "doc2");
+  }
+}
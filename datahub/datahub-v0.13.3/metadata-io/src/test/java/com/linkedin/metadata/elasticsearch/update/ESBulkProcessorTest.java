@@ -15,4 +15,16 @@ public class ESBulkProcessorTest {
     ESBulkProcessor test = ESBulkProcessor.builder(mock).build();
     assertNotNull(test);
   }
+
+  @Test
+  public void testAdaptiveESBulkProcessorBuilder() {
+    RestHighLevelClient mock = Mockito.mock(RestHighLevelClient.class);
+    ESBulkProcessor test =
+        ESBulkProcessor.builder(mock)
+            .adaptive(true)
+            .bulkSizeBytes(1024L)
+            .maxConcurrentRequests(2)
+            .build();
+    assertNotNull(test);
+  }
 }
@@ -0,0 +1,50 @@
+package com.linkedin.metadata.entity;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+public class AspectMetadataEncodingTest {
+  private static final String SMALL_ASPECT = "{\"removed\":false}";
+
+  @Test
+  public void testLegacyJsonIsReadAsIs() {
+    assertEquals(AspectMetadataEncoding.of(SMALL_ASPECT), AspectMetadataEncoding.JSON);
+    assertEquals(AspectMetadataEncoding.decode(SMALL_ASPECT), SMALL_ASPECT);
+    assertNull(AspectMetadataEncoding.decode(null));
+  }
+
+  @Test
+  public void testZstdRoundTrip() {
+    StringBuilder fields = new StringBuilder("{\"fields\":[");
+    for (int i = 0; i < 200; i++) {
+      fields.append(i > 0 ? "," : "");
+      fields.append(
+          String.format(
+              "{\"fieldPath\":\"column_%d\",\"nativeDataType\":\"VARCHAR(255)\",\"nullable\":true}",
+              i));
+    }
+    String json = fields.append("]}").toString();
+
+    String encoded = AspectMetadataEncoding.ZSTD_JSON.encode(json);
+    assertTrue(encoded.startsWith(AspectMetadataEncoding.ZSTD_JSON_MARKER));
+    assertTrue(encoded.length() * 3 < json.length());
+    assertEquals(AspectMetadataEncoding.of(encoded), AspectMetadataEncoding.ZSTD_JSON);
+    assertEquals(AspectMetadataEncoding.decode(encoded), json);
+  }
+
+  @Test
+  public void testSmallAspectsStayPlain() {
+    assertEquals(AspectMetadataEncoding.ZSTD_JSON.encode(SMALL_ASPECT), SMALL_ASPECT);
+    assertEquals(AspectMetadataEncoding.JSON.encode(SMALL_ASPECT), SMALL_ASPECT);
+  }
+
+  @Test
+  public void testFromConfig() {
+    assertEquals(AspectMetadataEncoding.fromConfig(null), AspectMetadataEncoding.JSON);
+    assertEquals(AspectMetadataEncoding.fromConfig(""), AspectMetadataEncoding.JSON);
+    assertEquals(AspectMetadataEncoding.fromConfig("zstd_json"), AspectMetadataEncoding.ZSTD_JSON);
+  }
+}
@@ -0,0 +1,141 @@
+package com.linkedin.metadata.entity.ebean;
+
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import io.ebean.Database;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/** The keyset pagination predicates of {@link EbeanAspectDao#streamAspectBatches}. */
+public class EbeanAspectDaoKeysetTest {
+  private static final List<String> URNS =
+      List.of(
+          "urn:li:corpuser:a",
+          "urn:li:corpuser:b",
+          "urn:li:corpuser:c",
+          "urn:li:corpuser:d",
+          "urn:li:corpuser:e");
+  private static final List<String> ASPECTS = List.of("corpUserInfo", "status");
+
+  private EbeanAspectDao dao;
+
+  @BeforeClass
+  public void setup() {
+    Database server =
+        EbeanTestUtils.createTestServer(EbeanAspectDaoKeysetTest.class.getSimpleName());
+    for (String urn : URNS) {
+      for (String aspect : ASPECTS) {
+        server.save(aspect(urn, aspect, 0));
+        // Older versions are never restored
+        server.save(aspect(urn, aspect, 1));
+      }
+    }
+    dao = new EbeanAspectDao(server, EbeanConfiguration.testDefault);
+    dao.setConnectionValidated(true);
+  }
+
+  @Test
+  public void testNoCursor() {
+    assertEquals(stream(args()).size(), URNS.size() * ASPECTS.size());
+  }
+
+  @Test
+  public void testCursorSkipsRestoredAspectsOfLastUrn() {
+    RestoreIndicesArgs args = args();
+    args.lastUrn = "urn:li:corpuser:b";
+    args.lastAspect = "corpUserInfo";
+
+    assertEquals(
+        stream(args),
+        List.of(
+            "urn:li:corpuser:b/status",
+            "urn:li:corpuser:c/corpUserInfo",
+            "urn:li:corpuser:c/status",
+            "urn:li:corpuser:d/corpUserInfo",
+            "urn:li:corpuser:d/status",
+            "urn:li:corpuser:e/corpUserInfo",
+            "urn:li:corpuser:e/status"));
+  }
+
+  @Test
+  public void testLowerBoundWithoutAspectIsInclusive() {
+    RestoreIndicesArgs args = args();
+    args.lastUrn = "urn:li:corpuser:d";
+    args.lastAspect = "";
+
+    assertEquals(
+        stream(args),
+        List.of(
+            "urn:li:corpuser:d/corpUserInfo",
+            "urn:li:corpuser:d/status",
+            "urn:li:corpuser:e/corpUserInfo",
+            "urn:li:corpuser:e/status"));
+  }
+
+  @Test
+  public void testUpperBoundIsExclusive() {
+    RestoreIndicesArgs args = args();
+    args.urnUpperBound = "urn:li:corpuser:c";
+
+    assertEquals(
+        stream(args),
+        List.of(
+            "urn:li:corpuser:a/corpUserInfo",
+            "urn:li:corpuser:a/status",
+            "urn:li:corpuser:b/corpUserInfo",
+            "urn:li:corpuser:b/status"));
+  }
+
+  @Test
+  public void testCursorWithinRange() {
+    RestoreIndicesArgs args = args();
+    args.lastUrn = "urn:li:corpuser:b";
+    args.lastAspect = "status";
+    args.urnUpperBound = "urn:li:corpuser:d";
+
+    assertEquals(
+        stream(args), List.of("urn:li:corpuser:c/corpUserInfo", "urn:li:corpuser:c/status"));
+  }
+
+  @Test
+  public void testLimit() {
+    RestoreIndicesArgs args = args();
+    args.lastUrn = "urn:li:corpuser:a";
+    args.lastAspect = "status";
+    args.limit = 3;
+
+    assertEquals(
+        stream(args),
+        List.of(
+            "urn:li:corpuser:b/corpUserInfo",
+            "urn:li:corpuser:b/status",
+            "urn:li:corpuser:c/corpUserInfo"));
+  }
+
+  private static RestoreIndicesArgs args() {
+    RestoreIndicesArgs args = new RestoreIndicesArgs().batchSize(100);
+    args.urnBasedPagination = true;
+    return args;
+  }
+
+  private List<String> stream(RestoreIndicesArgs args) {
+    try (PartitionedStream<EbeanAspectV2> stream = dao.streamAspectBatches(args)) {
+      return stream
+          .partition(args.batchSize)
+          .flatMap(batch -> batch)
+          .map(aspect -> aspect.getUrn() + "/" + aspect.getAspect())
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static EbeanAspectV2 aspect(String urn, String aspect, long version) {
+    return new EbeanAspectV2(
+        urn, aspect, version, "{}", new Timestamp(0), "urn:li:corpuser:tester", null, null);
+  }
+}
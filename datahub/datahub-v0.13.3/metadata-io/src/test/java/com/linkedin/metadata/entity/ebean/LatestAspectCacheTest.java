@@ -0,0 +1,74 @@
+package com.linkedin.metadata.entity.ebean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+import com.linkedin.metadata.entity.EntityAspect;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.Test;
+
+public class LatestAspectCacheTest {
+  private static final String URN = "urn:li:corpuser:datahub";
+
+  @Test
+  public void testHitsAndNegativeHits() {
+    LatestAspectCache cache = new LatestAspectCache(1024 * 1024, 0);
+    AtomicInteger loads = new AtomicInteger();
+    EntityAspect status = aspect("status", "{\"removed\":false}");
+
+    for (int i = 0; i < 3; i++) {
+      Map<String, Map<String, EntityAspect>> result =
+          cache.get(
+              Map.of(URN, Set.of("status", "ownership")),
+              missing -> {
+                loads.incrementAndGet();
+                return Map.of(URN, Map.of("status", status));
+              });
+      assertEquals(result, Map.of(URN, Map.of("status", status)));
+      assertNotSame(result.get(URN).get("status"), status);
+    }
+    assertEquals(loads.get(), 1);
+  }
+
+  @Test
+  public void testInvalidation() {
+    LatestAspectCache cache = new LatestAspectCache(1024 * 1024, 0);
+    cache.get(Map.of(URN, Set.of("status")), missing -> Map.of());
+
+    cache.invalidate(URN, Set.of("status"));
+    EntityAspect status = aspect("status", "{\"removed\":true}");
+    assertEquals(
+        cache.get(Map.of(URN, Set.of("status")), missing -> Map.of(URN, Map.of("status", status))),
+        Map.of(URN, Map.of("status", status)));
+
+    cache.invalidateUrn(URN);
+    assertEquals(cache.get(Map.of(URN, Set.of("status")), missing -> Map.of()), Map.of());
+  }
+
+  @Test
+  public void testLoadOverlappingInvalidationIsNotKept() {
+    LatestAspectCache cache = new LatestAspectCache(1024 * 1024, 0);
+    EntityAspect stale = aspect("status", "{\"removed\":false}");
+    EntityAspect fresh = aspect("status", "{\"removed\":true}");
+
+    // A write lands while the previous value is being read
+    Map<String, Map<String, EntityAspect>> result =
+        cache.get(
+            Map.of(URN, Set.of("status")),
+            missing -> {
+              cache.invalidate(URN, Set.of("status"));
+              return Map.of(URN, Map.of("status", stale));
+            });
+    assertEquals(result, Map.of(URN, Map.of("status", stale)));
+
+    assertEquals(
+        cache.get(Map.of(URN, Set.of("status")), missing -> Map.of(URN, Map.of("status", fresh))),
+        Map.of(URN, Map.of("status", fresh)));
+  }
+
+  private static EntityAspect aspect(String aspectName, String metadata) {
+    return new EntityAspect(URN, aspectName, 0, metadata, null, null, "urn:li:corpuser:test", null);
+  }
+}
@@ -0,0 +1,171 @@
+package com.linkedin.metadata.entity.ebean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.codahale.metrics.Counter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SingleFlightTest {
+  private Counter requestedKeys;
+  private Counter coalescedKeys;
+
+  @BeforeMethod
+  public void setup() {
+    requestedKeys = new Counter();
+    coalescedKeys = new Counter();
+  }
+
+  @Test
+  public void testConcurrentLoadsOfSameKeysAreShared() throws Exception {
+    SingleFlight<String, String> flights = flights();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loads = new AtomicInteger();
+
+    CompletableFuture<Map<String, String>> first =
+        CompletableFuture.supplyAsync(
+            () ->
+                flights.get(
+                    Set.of("a", "b"),
+                    keys -> {
+                      loads.incrementAndGet();
+                      loading.countDown();
+                      await(release);
+                      return keys.stream().collect(Collectors.toMap(k -> k, k -> k + "1"));
+                    }));
+    assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+    CompletableFuture<Map<String, String>> second =
+        CompletableFuture.supplyAsync(
+            () ->
+                flights.get(
+                    Set.of("b", "c"),
+                    keys -> {
+                      // Only the key no one else is loading
+                      assertEquals(keys, Set.of("c"));
+                      loads.incrementAndGet();
+                      return Map.of("c", "c1");
+                    }));
+    while (loads.get() < 2 && !second.isDone()) {
+      Thread.sleep(1);
+    }
+    release.countDown();
+
+    assertEquals(first.get(10, TimeUnit.SECONDS), Map.of("a", "a1", "b", "b1"));
+    assertEquals(second.get(10, TimeUnit.SECONDS), Map.of("b", "b1", "c", "c1"));
+    assertEquals(loads.get(), 2);
+    assertEquals(requestedKeys.getCount(), 4);
+    assertEquals(coalescedKeys.getCount(), 1);
+  }
+
+  @Test
+  public void testMissingAndFailedKeys() {
+    SingleFlight<String, String> flights = flights();
+    assertEquals(flights.get(Set.of("a"), keys -> Map.of()), Map.of());
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            flights.get(
+                Set.of("a"),
+                keys -> {
+                  throw new IllegalStateException("failed");
+                }));
+
+    // A failed load is not shared with later callers
+    assertEquals(flights.get(Set.of("a"), keys -> Map.of("a", "a1")), Map.of("a", "a1"));
+  }
+
+  @Test
+  public void testErrorOfSharedLoadIsNotWaitedOnForever() throws Exception {
+    SingleFlight<String, String> flights = flights();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<Map<String, String>> first =
+        CompletableFuture.supplyAsync(
+            () ->
+                flights.get(
+                    Set.of("a"),
+                    keys -> {
+                      loading.countDown();
+                      await(release);
+                      throw new AssertionError("failed");
+                    }));
+    assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+    CompletableFuture<Map<String, String>> second =
+        CompletableFuture.supplyAsync(() -> flights.get(Set.of("a"), keys -> Map.of("a", "a2")));
+    while (coalescedKeys.getCount() < 1) {
+      Thread.sleep(1);
+    }
+    release.countDown();
+
+    // The waiting caller loads the key itself
+    assertEquals(second.get(10, TimeUnit.SECONDS), Map.of("a", "a2"));
+    ExecutionException thrown =
+        expectThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+    assertTrue(thrown.getCause() instanceof AssertionError);
+  }
+
+  @Test
+  public void testEveryCallerGetsItsOwnValue() throws Exception {
+    SingleFlight<String, String> flights = flights();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<Map<String, String>> first =
+        CompletableFuture.supplyAsync(
+            () ->
+                flights.get(
+                    Set.of("a"),
+                    keys -> {
+                      loading.countDown();
+                      await(release);
+                      return Map.of("a", "a1");
+                    }));
+    assertTrue(loading.await(10, TimeUnit.SECONDS));
+    CompletableFuture<Map<String, String>> second =
+        CompletableFuture.supplyAsync(() -> flights.get(Set.of("a"), keys -> Map.of()));
+    CompletableFuture<Map<String, String>> third =
+        CompletableFuture.supplyAsync(() -> flights.get(Set.of("a"), keys -> Map.of()));
+    while (coalescedKeys.getCount() < 2) {
+      Thread.sleep(1);
+    }
+    release.countDown();
+
+    String firstValue = first.get(10, TimeUnit.SECONDS).get("a");
+    String secondValue = second.get(10, TimeUnit.SECONDS).get("a");
+    String thirdValue = third.get(10, TimeUnit.SECONDS).get("a");
+    assertEquals(secondValue, "a1");
+    assertEquals(thirdValue, "a1");
+    assertNotSame(secondValue, firstValue);
+    assertNotSame(thirdValue, firstValue);
+    assertNotSame(thirdValue, secondValue);
+  }
+
+  private SingleFlight<String, String> flights() {
+    return new SingleFlight<>(String::new, requestedKeys, coalescedKeys);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
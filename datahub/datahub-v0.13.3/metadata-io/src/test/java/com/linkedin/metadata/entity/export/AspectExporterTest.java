@@ -0,0 +1,104 @@
+package com.linkedin.metadata.entity.export;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.AspectMetadataEncoding;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.ebean.PartitionedStream;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Stream;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+public class AspectExporterTest {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String DATASET_URN = "urn:li:dataset:(urn:li:dataPlatform:hive,test,PROD)";
+  private static final String CHART_URN = "urn:li:chart:(looker,test)";
+
+  @Test
+  public void testExportNdjson() throws Exception {
+    String schema = largeSchemaMetadata();
+    AspectDao aspectDao = mock(AspectDao.class);
+    when(aspectDao.streamAspectBatches(any()))
+        .thenReturn(
+            partitionedStream(
+                aspect(
+                    DATASET_URN,
+                    "schemaMetadata",
+                    AspectMetadataEncoding.ZSTD_JSON.encode(schema),
+                    "{\"runId\":\"test\"}")),
+            partitionedStream(aspect(CHART_URN, "status", "{\"removed\":false}", null)));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    long count;
+    try (AspectWriter writer = new NdjsonAspectWriter(OBJECT_MAPPER.getFactory(), output)) {
+      count =
+          new AspectExporter(aspectDao)
+              .export(List.of("dataset", "chart"), List.of("schemaMetadata", "status"), 1, writer);
+    }
+    assertEquals(count, 2);
+
+    // One scan per entity, restricted to the aspects
+    ArgumentCaptor<RestoreIndicesArgs> args = ArgumentCaptor.forClass(RestoreIndicesArgs.class);
+    verify(aspectDao, times(2)).streamAspectBatches(args.capture());
+    assertEquals(args.getAllValues().get(0).urnLike, "urn:li:dataset:%");
+    assertEquals(args.getAllValues().get(1).urnLike, "urn:li:chart:%");
+    assertEquals(args.getAllValues().get(0).aspectNames, List.of("schemaMetadata", "status"));
+
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(lines.length, 2);
+
+    // Encoded aspects are exported as plain JSON
+    JsonNode dataset = OBJECT_MAPPER.readTree(lines[0]);
+    assertEquals(dataset.get("urn").asText(), DATASET_URN);
+    assertEquals(dataset.get("aspect").asText(), "schemaMetadata");
+    assertEquals(dataset.get("version").asLong(), 0L);
+    assertEquals(dataset.get("createdOn").asLong(), 1000L);
+    assertEquals(dataset.get("metadata"), OBJECT_MAPPER.readTree(schema));
+    assertEquals(dataset.get("systemMetadata").get("runId").asText(), "test");
+
+    JsonNode chart = OBJECT_MAPPER.readTree(lines[1]);
+    assertEquals(chart.get("urn").asText(), CHART_URN);
+    assertFalse(chart.get("metadata").get("removed").asBoolean());
+    assertFalse(chart.has("systemMetadata"));
+  }
+
+  private static PartitionedStream<EbeanAspectV2> partitionedStream(EbeanAspectV2... aspects) {
+    return PartitionedStream.<EbeanAspectV2>builder().delegateStream(Stream.of(aspects)).build();
+  }
+
+  private static EbeanAspectV2 aspect(
+      String urn, String aspectName, String metadata, String systemMetadata) {
+    return new EbeanAspectV2(
+        urn,
+        aspectName,
+        0L,
+        metadata,
+        new Timestamp(1000L),
+        "urn:li:corpuser:datahub",
+        null,
+        systemMetadata);
+  }
+
+  private static String largeSchemaMetadata() {
+    StringBuilder fields = new StringBuilder("{\"fields\":[");
+    for (int i = 0; i < 200; i++) {
+      fields.append(i > 0 ? "," : "");
+      fields.append(String.format("{\"fieldPath\":\"column_%d\",\"nullable\":true}", i));
+    }
+    return fields.append("]}").toString();
+  }
+}
@@ -8,6 +8,7 @@ import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.DataPlatformUrn;
 import com.linkedin.common.urn.DatasetUrn;
 import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.aspect.models.graph.Edge;
 import com.linkedin.metadata.aspect.models.graph.RelatedEntity;
 import com.linkedin.metadata.graph.EntityLineageResult;
@@ -21,6 +22,7 @@ import com.linkedin.metadata.models.registry.SnapshotEntityRegistry;
 import com.linkedin.metadata.query.LineageFlags;
 import com.linkedin.metadata.query.filter.RelationshipDirection;
 import com.linkedin.metadata.query.filter.RelationshipFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -31,6 +33,9 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -407,6 +412,130 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBaseNoVia {
             new UrnArray(dataset3Urn, dataset2Urn, dataJobOneUrn, dataset1Urn)));
   }
 
+  @Test
+  public void testAddEdgesMixedGroups() {
+    DatasetUrn datasetUrn =
+        new DatasetUrn(new DataPlatformUrn("snowflake"), "test", FabricType.TEST);
+    TagUrn tagUrn = new TagUrn("newTag");
+
+    // Groups of different source, destination and relationship types, interleaved
+    _client.addEdges(
+        Arrays.asList(
+            new Edge(dataJobOneUrn, dataset1Urn, consumes, 1L, null, 1L, null, null),
+            new Edge(datasetUrn, tagUrn, TAG_RELATIONSHIP, null, null, null, null, null),
+            new Edge(dataJobOneUrn, dataset2Urn, produces, 2L, null, 2L, null, null),
+            new Edge(dataJobOneUrn, dataset3Urn, consumes, 3L, null, 3L, null, null),
+            new Edge(dataset2Urn, tagUrn, TAG_RELATIONSHIP, null, null, null, null, null)));
+
+    assertEquals(countRelationships(dataJobOneUrn, consumes, dataset1Urn), 1);
+    assertEquals(countRelationships(dataJobOneUrn, consumes, dataset3Urn), 1);
+    assertEquals(countRelationships(dataJobOneUrn, produces, dataset2Urn), 1);
+    assertEquals(countRelationships(datasetUrn, TAG_RELATIONSHIP, tagUrn), 1);
+    assertEquals(countRelationships(dataset2Urn, TAG_RELATIONSHIP, tagUrn), 1);
+    assertEquals(countRelationships(dataJobOneUrn, "r_" + produces, dataset2Urn), 1);
+    assertEquals(countRelationships(datasetUrn, "r_" + TAG_RELATIONSHIP, tagUrn), 1);
+  }
+
+  @Test
+  public void testAddEdgesReversed() {
+    // The upstream of a dataset is the start of its lineage relationship
+    _client.addEdges(
+        Arrays.asList(
+            new Edge(dataset3Urn, dataset2Urn, downstreamOf, 1L, null, 1L, null, null),
+            new Edge(dataJobOneUrn, dataset1Urn, consumes, 2L, null, 2L, null, null)));
+
+    assertEquals(countRelationships(dataset3Urn, downstreamOf, dataset2Urn), 1);
+    assertEquals(countRelationships(dataset2Urn, "r_" + downstreamOf, dataset3Urn), 1);
+    assertEquals(countRelationships(dataset3Urn, "r_" + downstreamOf, dataset2Urn), 0);
+    assertEquals(countRelationships(dataJobOneUrn, consumes, dataset1Urn), 1);
+    assertEquals(countRelationships(dataset1Urn, "r_" + consumes, dataJobOneUrn), 1);
+    assertEquals(countRelationships(dataJobOneUrn, "r_" + consumes, dataset1Urn), 0);
+
+    assertEquals(
+        getPathUrnArraysFromLineageResult(
+            _client.getLineage(dataset2Urn, LineageDirection.DOWNSTREAM, 0, 1000, 1)),
+        Set.of(new UrnArray(dataset2Urn, dataset3Urn)));
+  }
+
+  @Test
+  public void testAddEdgesOverBatchSize() {
+    final List<Edge> edges = new ArrayList<>();
+    for (int i = 0; i < Neo4jGraphService.EDGE_BATCH_SIZE * 2 + 1; i++) {
+      edges.add(
+          new Edge(
+              createFromString(
+                  "urn:li:dataset:(urn:li:dataPlatform:snowflake,batch" + i + ",PROD)"),
+              dataset1Urn,
+              downstreamOf,
+              1L,
+              null,
+              1L,
+              null,
+              null));
+    }
+    _client.addEdges(edges);
+
+    assertEquals(countRelationships(downstreamOf), edges.size());
+    assertEquals(countRelationships("r_" + downstreamOf), edges.size());
+
+    // Upserting the same edges does not duplicate them
+    _client.upsertEdges(edges);
+    assertEquals(countRelationships(downstreamOf), edges.size());
+    assertEquals(countRelationships("r_" + downstreamOf), edges.size());
+
+    _client.removeEdges(edges);
+    assertEquals(countRelationships(downstreamOf), 0);
+    assertEquals(countRelationships("r_" + downstreamOf), 0);
+  }
+
+  @Test
+  public void testRemoveEdges() {
+    TagUrn tagUrn = new TagUrn("newTag");
+    Edge downstream = new Edge(dataset3Urn, dataset2Urn, downstreamOf, 1L, null, 1L, null, null);
+    Edge otherDownstream =
+        new Edge(dataset4Urn, dataset1Urn, downstreamOf, 1L, null, 1L, null, null);
+    Edge consumesEdge = new Edge(dataJobOneUrn, dataset1Urn, consumes, 1L, null, 1L, null, null);
+    Edge producesEdge = new Edge(dataJobOneUrn, dataset2Urn, produces, 1L, null, 1L, null, null);
+    Edge tagEdge = new Edge(dataset1Urn, tagUrn, TAG_RELATIONSHIP, null, null, null, null, null);
+    _client.addEdges(
+        Arrays.asList(downstream, otherDownstream, consumesEdge, producesEdge, tagEdge));
+
+    // Removes edges of several groups, reversed or not, and leaves the others
+    _client.removeEdges(Arrays.asList(downstream, consumesEdge, tagEdge));
+
+    assertEquals(countRelationships(dataset3Urn, downstreamOf, dataset2Urn), 0);
+    assertEquals(countRelationships(dataset2Urn, "r_" + downstreamOf, dataset3Urn), 0);
+    assertEquals(countRelationships(dataJobOneUrn, consumes, dataset1Urn), 0);
+    assertEquals(countRelationships(dataset1Urn, "r_" + consumes, dataJobOneUrn), 0);
+    assertEquals(countRelationships(dataset1Urn, TAG_RELATIONSHIP, tagUrn), 0);
+    assertEquals(countRelationships(dataset1Urn, "r_" + TAG_RELATIONSHIP, tagUrn), 0);
+
+    assertEquals(countRelationships(dataset4Urn, downstreamOf, dataset1Urn), 1);
+    assertEquals(countRelationships(dataset1Urn, "r_" + downstreamOf, dataset4Urn), 1);
+    assertEquals(countRelationships(dataJobOneUrn, produces, dataset2Urn), 1);
+    assertEquals(countRelationships(dataJobOneUrn, "r_" + produces, dataset2Urn), 1);
+  }
+
+  private long countRelationships(String relationshipType) {
+    return countRelationships(
+        String.format("MATCH ()-[r:%s]->() RETURN count(r) AS count", relationshipType),
+        Values.parameters());
+  }
+
+  private long countRelationships(Urn start, String relationshipType, Urn end) {
+    return countRelationships(
+        String.format(
+            "MATCH ({urn: $start})-[r:%s]->({urn: $end}) RETURN count(r) AS count",
+            relationshipType),
+        Values.parameters("start", start.toString(), "end", end.toString()));
+  }
+
+  private long countRelationships(String query, Value parameters) {
+    try (Session session = _driver.session()) {
+      return session.run(query, parameters).single().get("count").asLong();
+    }
+  }
+
   @Override
   public void testHighlyConnectedGraphWalk() throws Exception {
     // TODO: explore limit not supported for Neo4J
@@ -0,0 +1,116 @@
+package com.linkedin.metadata.graph.search;
+
+import static com.linkedin.metadata.graph.elastic.LineagePaths.NONE;
+
+import com.linkedin.metadata.graph.elastic.LineagePaths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LineagePathsTest {
+  private static final int ROOT = 0;
+  private static final int PARENT = 1;
+  private static final int CHILD = 2;
+  private static final int OTHER_PARENT = 3;
+  private static final int VIA = 4;
+
+  @Test
+  public void testAddEdgeWithoutExistingPaths() {
+    LineagePaths paths = new LineagePaths();
+    Assert.assertTrue(paths.addEdge(PARENT, NONE, CHILD));
+    Assert.assertEquals(pathsTo(paths, CHILD), List.of(List.of(PARENT, CHILD)));
+    Assert.assertTrue(pathsTo(paths, PARENT).isEmpty());
+  }
+
+  @Test
+  public void testAddEdgeExtendsAllPathsToParent() {
+    LineagePaths paths = new LineagePaths();
+    paths.addEdge(ROOT, NONE, PARENT);
+    paths.addEdge(ROOT, NONE, OTHER_PARENT);
+    paths.addEdge(OTHER_PARENT, NONE, PARENT);
+
+    Assert.assertTrue(paths.addEdge(PARENT, NONE, CHILD));
+    Assert.assertEquals(
+        pathsTo(paths, CHILD),
+        List.of(List.of(ROOT, PARENT, CHILD), List.of(ROOT, OTHER_PARENT, PARENT, CHILD)));
+  }
+
+  @Test
+  public void testAddEdgeWithVia() {
+    LineagePaths paths = new LineagePaths();
+    paths.addEdge(ROOT, NONE, PARENT);
+
+    Assert.assertTrue(paths.addEdge(PARENT, VIA, CHILD));
+    Assert.assertEquals(pathsTo(paths, CHILD), List.of(List.of(ROOT, PARENT, VIA, CHILD)));
+    // The same edge through a different via entity is a different path
+    Assert.assertTrue(paths.addEdge(PARENT, NONE, CHILD));
+    Assert.assertEquals(pathsTo(paths, CHILD).size(), 2);
+  }
+
+  @Test
+  public void testViaEntityIsSharedButNotAPath() {
+    LineagePaths paths = new LineagePaths();
+    paths.addEdge(ROOT, NONE, PARENT);
+
+    Assert.assertTrue(paths.addEdge(PARENT, VIA, CHILD));
+    Assert.assertTrue(paths.addEdge(PARENT, VIA, OTHER_PARENT));
+    Assert.assertEquals(
+        pathsTo(paths, OTHER_PARENT), List.of(List.of(ROOT, PARENT, VIA, OTHER_PARENT)));
+    // Passing through the via entity does not make a path to it
+    Assert.assertTrue(pathsTo(paths, VIA).isEmpty());
+    Assert.assertTrue(paths.addEdge(PARENT, NONE, VIA));
+    Assert.assertEquals(pathsTo(paths, VIA), List.of(List.of(ROOT, PARENT, VIA)));
+  }
+
+  @Test
+  public void testAddSameEdgeTwice() {
+    LineagePaths paths = new LineagePaths();
+    paths.addEdge(ROOT, NONE, PARENT);
+
+    Assert.assertTrue(paths.addEdge(PARENT, VIA, CHILD));
+    Assert.assertFalse(paths.addEdge(PARENT, VIA, CHILD));
+    Assert.assertEquals(pathsTo(paths, CHILD), List.of(List.of(ROOT, PARENT, VIA, CHILD)));
+  }
+
+  @Test
+  public void testCyclicPathsAreNotExtended() {
+    LineagePaths paths = new LineagePaths();
+    paths.addEdge(ROOT, NONE, PARENT);
+    paths.addEdge(PARENT, NONE, CHILD);
+    // Back to the parent, this path is recorded but contains a cycle
+    paths.addEdge(CHILD, NONE, PARENT);
+
+    Assert.assertEquals(pathsTo(paths, PARENT).size(), 2);
+
+    Assert.assertTrue(paths.addEdge(PARENT, NONE, OTHER_PARENT));
+    Assert.assertEquals(
+        pathsTo(paths, OTHER_PARENT), List.of(List.of(ROOT, PARENT, OTHER_PARENT)));
+    Assert.assertFalse(paths.addEdge(ROOT, NONE, ROOT));
+  }
+
+  @Test
+  public void testAddSameEdgeFromManyPaths() {
+    LineagePaths paths = new LineagePaths();
+    int numParents = 1000;
+    int fanIn = numParents + 1;
+    int via = numParents + 2;
+    int child = numParents + 3;
+    for (int parent = 1; parent <= numParents; parent++) {
+      paths.addEdge(ROOT, NONE, parent);
+      paths.addEdge(parent, NONE, fanIn);
+    }
+    // Every path to the fan-in node is extended once, repeats are rejected
+    Assert.assertTrue(paths.addEdge(fanIn, via, child));
+    Assert.assertFalse(paths.addEdge(fanIn, via, child));
+    Assert.assertEquals(pathsTo(paths, child).size(), numParents);
+  }
+
+  private static List<List<Integer>> pathsTo(LineagePaths paths, int urn) {
+    return Arrays.stream(paths.getPaths(urn))
+        .mapToObj(
+            node -> Arrays.stream(paths.toPath(node)).boxed().collect(Collectors.toList()))
+        .collect(Collectors.toList());
+  }
+}
@@ -104,7 +104,7 @@ public abstract class SearchGraphServiceTestBase extends GraphServiceTestBase {
             getSearchClient(),
             lineageRegistry,
             _indexConvention,
-            GraphQueryConfiguration.testDefaults);
+            withInternedTraversal(configuration, isInternedTraversal()));
     ESGraphWriteDAO writeDAO = new ESGraphWriteDAO(_indexConvention, getBulkProcessor(), 1);
     return new ElasticSearchGraphService(
         lineageRegistry,
@@ -115,6 +115,27 @@ public abstract class SearchGraphServiceTestBase extends GraphServiceTestBase {
         getIndexBuilder());
   }
 
+  /**
+   * Whether lineage is walked with the interned traversal. Subclasses enabling it run every test
+   * against the same expected results as the default traversal.
+   */
+  protected boolean isInternedTraversal() {
+    return false;
+  }
+
+  @Nonnull
+  private static GraphQueryConfiguration withInternedTraversal(
+      @Nonnull GraphQueryConfiguration defaults, boolean internedTraversal) {
+    GraphQueryConfiguration configuration = new GraphQueryConfiguration();
+    configuration.setBatchSize(defaults.getBatchSize());
+    configuration.setTimeoutSeconds(defaults.getTimeoutSeconds());
+    configuration.setMaxResult(defaults.getMaxResult());
+    configuration.setEnableMultiPathSearch(defaults.isEnableMultiPathSearch());
+    configuration.setBoostViaNodes(defaults.isBoostViaNodes());
+    configuration.setInternedTraversal(internedTraversal);
+    return configuration;
+  }
+
   @Override
   @Nonnull
   protected GraphService getGraphService(boolean enableMultiPathSearch) {
@@ -0,0 +1,16 @@
+package com.linkedin.metadata.graph.search.elasticsearch;
+
+import com.linkedin.metadata.search.elasticsearch.ElasticSearchSuite;
+import io.datahubproject.test.search.config.SearchTestContainerConfiguration;
+import org.springframework.context.annotation.Import;
+
+/** Runs the Elasticsearch graph service tests with the interned lineage traversal. */
+@Import({ElasticSearchSuite.class, SearchTestContainerConfiguration.class})
+public class SearchGraphServiceElasticSearchInternedTest
+    extends SearchGraphServiceElasticSearchTest {
+
+  @Override
+  protected boolean isInternedTraversal() {
+    return true;
+  }
+}
@@ -0,0 +1,15 @@
+package com.linkedin.metadata.graph.search.opensearch;
+
+import com.linkedin.metadata.search.opensearch.OpenSearchSuite;
+import io.datahubproject.test.search.config.SearchTestContainerConfiguration;
+import org.springframework.context.annotation.Import;
+
+/** Runs the OpenSearch graph service tests with the interned lineage traversal. */
+@Import({OpenSearchSuite.class, SearchTestContainerConfiguration.class})
+public class SearchGraphServiceOpenSearchInternedTest extends SearchGraphServiceOpenSearchTest {
+
+  @Override
+  protected boolean isInternedTraversal() {
+    return true;
+  }
+}
@@ -58,6 +58,7 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableMap;
@@ -558,20 +559,9 @@ public class ESAccessControlUtilTest {
       when(ctx.getEntitySpecResolver()).thenReturn(specResolver);
       init(Map.of(), ctx);
 
-      readWriteLock.writeLock().lock();
-      try {
-        policyCache.clear();
-        Map<String, List<DataHubPolicyInfo>> byPrivilegeName =
-            policies.stream()
-                .flatMap(
-                    policy -> policy.getPrivileges().stream().map(priv -> Pair.of(priv, policy)))
-                .collect(
-                    Collectors.groupingBy(
-                        Pair::getKey, Collectors.mapping(Pair::getValue, Collectors.toList())));
-        policyCache.putAll(byPrivilegeName);
-      } finally {
-        readWriteLock.writeLock().unlock();
-      }
+      policies.forEach(
+          policy ->
+              upsertPolicy(UrnUtils.getUrn("urn:li:dataHubPolicy:" + UUID.randomUUID()), policy));
     }
 
     private static SystemEntityClient mockUserGroupEntityClient(
@@ -0,0 +1,288 @@
+package com.linkedin.metadata.kafka;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.config.MetadataChangeLogBatchCondition;
+import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
+import com.linkedin.metadata.kafka.hook.event.EntityChangeEventGeneratorHook;
+import com.linkedin.metadata.kafka.hook.form.FormAssignmentHook;
+import com.linkedin.metadata.kafka.hook.incident.IncidentsSummaryHook;
+import com.linkedin.metadata.kafka.hook.ingestion.IngestionSchedulerHook;
+import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.Topics;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch variant of {@link MetadataChangeLogProcessor}. Each Kafka poll is processed in three
+ * steps:
+ *
+ * <ol>
+ *   <li>All records are converted from Avro to {@link MetadataChangeLog} in one pass.
+ *   <li>Every hook which declares itself {@link MetadataChangeLogHook#isIndependent() independent}
+ *       runs over the whole batch as its own task on a bounded executor. The remaining hooks run
+ *       as a single task, one after another in execution order, for each event.
+ *   <li>The listener returns once every task has finished, only then are the offsets of the poll
+ *       committed by the container.
+ * </ol>
+ *
+ * Each task visits the events in poll order, so a given hook still sees the events of a partition
+ * in offset order.
+ *
+ * <p>Failures of {@link MetadataChangeLogHook#isCritical() critical} hooks fail the batch: the task
+ * stops at the failed event and the lowest failed record is reported through a {@link
+ * BatchListenerFailedException}, so the container only commits the offsets before it and
+ * redelivers the rest. Failures of other hooks are logged and skipped.
+ */
+@Slf4j
+@Component
+@Conditional({MetadataChangeLogProcessorCondition.class, MetadataChangeLogBatchCondition.class})
+@Import({
+  UpdateIndicesHook.class,
+  IngestionSchedulerHook.class,
+  EntityChangeEventGeneratorHook.class,
+  KafkaEventConsumerFactory.class,
+  SiblingAssociationHook.class,
+  FormAssignmentHook.class,
+  IncidentsSummaryHook.class,
+})
+@EnableKafka
+public class BatchMetadataChangeLogProcessor implements DisposableBean {
+  private static final LogAccessor LOG_ACCESSOR =
+      new LogAccessor(BatchMetadataChangeLogProcessor.class);
+
+  @Getter private final List<MetadataChangeLogHook> hooks;
+  private final List<MetadataChangeLogHook> independentHooks;
+  private final List<MetadataChangeLogHook> orderedHooks;
+  private final ExecutorService hookExecutor;
+
+  private final Histogram kafkaLagStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
+
+  @Autowired
+  public BatchMetadataChangeLogProcessor(
+      @Qualifier("systemOperationContext") OperationContext systemOperationContext,
+      List<MetadataChangeLogHook> metadataChangeLogHooks,
+      @Value("${kafka.consumer.mcl.hookConcurrency:4}") int hookConcurrency) {
+    this.hooks =
+        metadataChangeLogHooks.stream()
+            .filter(MetadataChangeLogHook::isEnabled)
+            .sorted(Comparator.comparing(MetadataChangeLogHook::executionOrder))
+            .collect(Collectors.toList());
+    this.independentHooks =
+        this.hooks.stream()
+            .filter(MetadataChangeLogHook::isIndependent)
+            .collect(Collectors.toList());
+    this.orderedHooks =
+        this.hooks.stream().filter(hook -> !hook.isIndependent()).collect(Collectors.toList());
+    this.hookExecutor =
+        Executors.newFixedThreadPool(
+            Math.max(1, hookConcurrency),
+            new ThreadFactoryBuilder().setNameFormat("mcl-batch-hook-%d").setDaemon(true).build());
+    log.info(
+        "Enabled hooks: {}, independent hooks: {}, hook concurrency: {}",
+        this.hooks.stream()
+            .map(hook -> hook.getClass().getSimpleName())
+            .collect(Collectors.toList()),
+        this.independentHooks.stream()
+            .map(hook -> hook.getClass().getSimpleName())
+            .collect(Collectors.toList()),
+        hookConcurrency);
+    this.hooks.forEach(hook -> hook.init(systemOperationContext));
+  }
+
+  @KafkaListener(
+      id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}",
+      topics = {
+        "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
+        "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES + "}"
+      },
+      containerFactory = "kafkaEventBatchConsumer",
+      properties = {"max.poll.records=${kafka.consumer.mcl.batchSize:500}"})
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context i = MetricUtils.timer(this.getClass(), "consume").time()) {
+      batchSizeStats.update(consumerRecords.size());
+      MetricUtils.counter(this.getClass(), "received_mcl_count").inc(consumerRecords.size());
+      log.info("Got MCL batch of {} events", consumerRecords.size());
+
+      // Step 1: convert the poll in one pass, stopping at the first record which failed
+      // deserialization so that everything before it can still be processed and committed
+      final List<MetadataChangeLog> events = new ArrayList<>(consumerRecords.size());
+      final List<Integer> recordIndexes = new ArrayList<>(consumerRecords.size());
+      int failedIndex = -1;
+      for (int idx = 0; idx < consumerRecords.size(); idx++) {
+        final ConsumerRecord<String, GenericRecord> consumerRecord = consumerRecords.get(idx);
+        kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+        final GenericRecord record = consumerRecord.value();
+        if (record == null) {
+          failedIndex = idx;
+          break;
+        }
+        try {
+          events.add(EventUtils.avroToPegasusMCL(record));
+          recordIndexes.add(idx);
+        } catch (Exception e) {
+          MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+          log.error("Error deserializing message due to: ", e);
+          log.error("Message: {}", record.toString());
+        }
+      }
+
+      // Step 2 & 3: fan out to the hooks and wait for all of them
+      final HookFailure hookFailure = invokeHooks(events);
+      if (hookFailure != null) {
+        final int recordIndex = recordIndexes.get(hookFailure.eventIndex);
+        final ConsumerRecord<String, GenericRecord> failed = consumerRecords.get(recordIndex);
+        MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc(hookFailure.eventIndex);
+        throw new BatchListenerFailedException(
+            String.format(
+                "Failed to execute MCL hook %s at topic: %s, partition: %s, offset: %s",
+                hookFailure.hook.getClass().getSimpleName(),
+                failed.topic(),
+                failed.partition(),
+                failed.offset()),
+            hookFailure.exception,
+            recordIndex);
+      }
+      MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc(events.size());
+      log.info("Successfully completed MCL hooks for batch of {} events", events.size());
+
+      if (failedIndex >= 0) {
+        final ConsumerRecord<String, GenericRecord> failed = consumerRecords.get(failedIndex);
+        throw new BatchListenerFailedException(
+            String.format(
+                "Failed to deserialize MCL event at topic: %s, partition: %s, offset: %s",
+                failed.topic(), failed.partition(), failed.offset()),
+            SerializationUtils.getExceptionFromHeader(
+                failed, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR),
+            failedIndex);
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {
+    hookExecutor.shutdown();
+  }
+
+  /**
+   * Runs the hooks over the events and waits for all of them.
+   *
+   * @return the failure of a critical hook at the lowest event index, if any
+   */
+  @Nullable
+  private HookFailure invokeHooks(@Nonnull List<MetadataChangeLog> events) {
+    if (events.isEmpty()) {
+      return null;
+    }
+
+    // Lets the other tasks stop at the first event which is redelivered anyway
+    final AtomicInteger lowestFailed = new AtomicInteger(Integer.MAX_VALUE);
+    final List<CompletableFuture<HookFailure>> tasks =
+        new ArrayList<>(independentHooks.size() + 1);
+    for (MetadataChangeLogHook hook : independentHooks) {
+      tasks.add(
+          CompletableFuture.supplyAsync(
+              () -> invokeHooks(List.of(hook), events, lowestFailed), hookExecutor));
+    }
+    if (!orderedHooks.isEmpty()) {
+      tasks.add(
+          CompletableFuture.supplyAsync(
+              () -> invokeHooks(orderedHooks, events, lowestFailed), hookExecutor));
+    }
+
+    // Any unexpected failure propagates to the container which then does not commit the batch
+    CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+    return tasks.stream()
+        .map(CompletableFuture::join)
+        .filter(Objects::nonNull)
+        .min(Comparator.comparingInt(failure -> failure.eventIndex))
+        .orElse(null);
+  }
+
+  @Nullable
+  private HookFailure invokeHooks(
+      @Nonnull List<MetadataChangeLogHook> hooks,
+      @Nonnull List<MetadataChangeLog> events,
+      @Nonnull AtomicInteger lowestFailed) {
+    for (int idx = 0; idx < events.size() && idx <= lowestFailed.get(); idx++) {
+      for (MetadataChangeLogHook hook : hooks) {
+        final Exception exception = invokeHook(hook, events.get(idx));
+        if (exception != null && hook.isCritical()) {
+          lowestFailed.accumulateAndGet(idx, Math::min);
+          return new HookFailure(idx, hook, exception);
+        }
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private Exception invokeHook(
+      @Nonnull MetadataChangeLogHook hook, @Nonnull MetadataChangeLog event) {
+    log.debug(
+        "Invoking MCL hook {} for urn: {}, aspect name: {}, change type: {}",
+        hook.getClass().getSimpleName(),
+        event.getEntityUrn(),
+        event.hasAspectName() ? event.getAspectName() : null,
+        event.hasChangeType() ? event.getChangeType() : null);
+    try (Timer.Context ignored =
+        MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_latency").time()) {
+      hook.invoke(event);
+      return null;
+    } catch (Exception e) {
+      // Non critical hooks are skipped, consistent with the single record processor
+      MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
+      log.error("Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
+      return e;
+    }
+  }
+
+  private static final class HookFailure {
+    private final int eventIndex;
+    private final MetadataChangeLogHook hook;
+    private final Exception exception;
+
+    private HookFailure(int eventIndex, MetadataChangeLogHook hook, Exception exception) {
+      this.eventIndex = eventIndex;
+      this.hook = hook;
+      this.exception = exception;
+    }
+  }
+}
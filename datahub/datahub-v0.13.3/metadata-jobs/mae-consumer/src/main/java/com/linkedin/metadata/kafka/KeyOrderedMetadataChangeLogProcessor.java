@@ -0,0 +1,165 @@
+package com.linkedin.metadata.kafka;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
+import com.linkedin.gms.factory.kafka.KeyOrderedDispatcher;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.config.MetadataChangeLogBatchCondition;
+import com.linkedin.metadata.kafka.config.MetadataChangeLogKeyOrderedCondition;
+import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
+import com.linkedin.metadata.kafka.hook.event.EntityChangeEventGeneratorHook;
+import com.linkedin.metadata.kafka.hook.form.FormAssignmentHook;
+import com.linkedin.metadata.kafka.hook.incident.IncidentsSummaryHook;
+import com.linkedin.metadata.kafka.hook.ingestion.IngestionSchedulerHook;
+import com.linkedin.metadata.kafka.hook.siblings.SiblingAssociationHook;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.Topics;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Key ordered variant of {@link MetadataChangeLogProcessor}. Each Kafka poll is split by message
+ * key, the entity urn, and the keys are processed concurrently on a bounded pool by a {@link
+ * KeyOrderedDispatcher}. Events of the same entity run through all hooks one after another in
+ * offset order, so within a poll a slow entity only holds up its own events.
+ *
+ * <p>Offsets of a poll are committed once every key has finished, so a slow key still holds up the
+ * next poll. A failing critical hook fails its record, offsets are then committed up to the lowest
+ * failed record and the rest of the poll is delivered again. Failures of other hooks are logged and
+ * skipped as in the single record processor.
+ */
+@Slf4j
+@Component
+@Conditional({
+  MetadataChangeLogProcessorCondition.class,
+  MetadataChangeLogBatchCondition.Disabled.class,
+  MetadataChangeLogKeyOrderedCondition.class
+})
+@Import({
+  UpdateIndicesHook.class,
+  IngestionSchedulerHook.class,
+  EntityChangeEventGeneratorHook.class,
+  KafkaEventConsumerFactory.class,
+  SiblingAssociationHook.class,
+  FormAssignmentHook.class,
+  IncidentsSummaryHook.class,
+})
+@EnableKafka
+public class KeyOrderedMetadataChangeLogProcessor implements DisposableBean {
+
+  @Getter private final List<MetadataChangeLogHook> hooks;
+  private final KeyOrderedDispatcher dispatcher;
+
+  private final Histogram kafkaLagStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
+  private final Histogram keyCountStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "keyCount"));
+
+  @Autowired
+  public KeyOrderedMetadataChangeLogProcessor(
+      @Qualifier("systemOperationContext") OperationContext systemOperationContext,
+      List<MetadataChangeLogHook> metadataChangeLogHooks,
+      @Value("${kafka.consumer.mcl.keyOrderedConcurrency:8}") int keyOrderedConcurrency) {
+    this.hooks =
+        metadataChangeLogHooks.stream()
+            .filter(MetadataChangeLogHook::isEnabled)
+            .sorted(Comparator.comparing(MetadataChangeLogHook::executionOrder))
+            .collect(Collectors.toList());
+    this.dispatcher = new KeyOrderedDispatcher(keyOrderedConcurrency);
+    log.info(
+        "Enabled hooks: {}, key ordered concurrency: {}",
+        this.hooks.stream()
+            .map(hook -> hook.getClass().getSimpleName())
+            .collect(Collectors.toList()),
+        keyOrderedConcurrency);
+    this.hooks.forEach(hook -> hook.init(systemOperationContext));
+  }
+
+  @KafkaListener(
+      id = "${METADATA_CHANGE_LOG_KAFKA_CONSUMER_GROUP_ID:generic-mae-consumer-job-client}",
+      topics = {
+        "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}",
+        "${METADATA_CHANGE_LOG_TIMESERIES_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_TIMESERIES + "}"
+      },
+      containerFactory = "kafkaEventBatchConsumer",
+      properties = {"max.poll.records=${kafka.consumer.mcl.batchSize:500}"})
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context i = MetricUtils.timer(this.getClass(), "consume").time()) {
+      batchSizeStats.update(consumerRecords.size());
+      MetricUtils.counter(this.getClass(), "received_mcl_count").inc(consumerRecords.size());
+      log.info("Got MCL batch of {} events", consumerRecords.size());
+
+      keyCountStats.update(dispatcher.dispatch(consumerRecords, this::process));
+      log.info("Successfully completed MCL hooks for batch of {} events", consumerRecords.size());
+    }
+  }
+
+  private void process(@Nonnull ConsumerRecord<String, GenericRecord> consumerRecord) {
+    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+    final GenericRecord record = consumerRecord.value();
+
+    final MetadataChangeLog event;
+    try {
+      event = EventUtils.avroToPegasusMCL(record);
+    } catch (Exception e) {
+      MetricUtils.counter(this.getClass(), "avro_to_pegasus_conversion_failure").inc();
+      log.error("Error deserializing message due to: ", e);
+      log.error("Message: {}", record.toString());
+      return;
+    }
+
+    log.debug(
+        "Invoking MCL hooks for urn: {}, aspect name: {}, change type: {}",
+        event.getEntityUrn(),
+        event.hasAspectName() ? event.getAspectName() : null,
+        event.hasChangeType() ? event.getChangeType() : null);
+    for (MetadataChangeLogHook hook : this.hooks) {
+      try (Timer.Context ignored =
+          MetricUtils.timer(this.getClass(), hook.getClass().getSimpleName() + "_latency")
+              .time()) {
+        hook.invoke(event);
+      } catch (Exception e) {
+        MetricUtils.counter(this.getClass(), hook.getClass().getSimpleName() + "_failure").inc();
+        log.error("Failed to execute MCL hook with name {}", hook.getClass().getCanonicalName(), e);
+        if (hook.isCritical()) {
+          // Fails the key, the dispatcher reports the record so that it is delivered again
+          throw new RuntimeException(
+              String.format(
+                  "Failed to execute MCL hook %s for urn: %s",
+                  hook.getClass().getSimpleName(), event.getEntityUrn()),
+              e);
+        }
+        // Otherwise skip this hook and continue, consistent with the single record processor
+      }
+    }
+    MetricUtils.counter(this.getClass(), "consumed_mcl_count").inc();
+  }
+
+  @Override
+  public void destroy() {
+    dispatcher.close();
+  }
+}
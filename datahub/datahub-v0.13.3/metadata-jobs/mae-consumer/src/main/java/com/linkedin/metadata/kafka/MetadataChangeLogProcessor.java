@@ -5,6 +5,8 @@ import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.linkedin.gms.factory.kafka.KafkaEventConsumerFactory;
 import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.config.MetadataChangeLogBatchCondition;
+import com.linkedin.metadata.kafka.config.MetadataChangeLogKeyOrderedCondition;
 import com.linkedin.metadata.kafka.config.MetadataChangeLogProcessorCondition;
 import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
 import com.linkedin.metadata.kafka.hook.UpdateIndicesHook;
@@ -34,7 +36,11 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@Conditional(MetadataChangeLogProcessorCondition.class)
+@Conditional({
+  MetadataChangeLogProcessorCondition.class,
+  MetadataChangeLogBatchCondition.Disabled.class,
+  MetadataChangeLogKeyOrderedCondition.Disabled.class
+})
 @Import({
   UpdateIndicesHook.class,
   IngestionSchedulerHook.class,
@@ -116,7 +122,7 @@ public class MetadataChangeLogProcessor {
           log.info(String.format("Skipping disabled hook %s", hook.getClass()));
           continue;
         }
-        log.info(
+        log.debug(
             "Invoking MCL hook {} for urn: {}",
             hook.getClass().getSimpleName(),
             event.getEntityUrn());
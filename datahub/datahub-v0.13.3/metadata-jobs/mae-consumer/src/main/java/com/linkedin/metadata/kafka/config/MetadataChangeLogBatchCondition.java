@@ -0,0 +1,31 @@
+package com.linkedin.metadata.kafka.config;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Matches when MCLs should be consumed a whole Kafka poll at a time, as configured by {@code
+ * kafka.consumer.mcl.batchEnabled}.
+ */
+public class MetadataChangeLogBatchCondition implements Condition {
+  static final String BATCH_ENABLED_PROPERTY = "kafka.consumer.mcl.batchEnabled";
+
+  @Override
+  public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    return isBatchEnabled(context.getEnvironment());
+  }
+
+  private static boolean isBatchEnabled(Environment env) {
+    return env.getProperty(BATCH_ENABLED_PROPERTY, Boolean.class, false);
+  }
+
+  /** Matches when MCLs should be consumed one record at a time. */
+  public static class Disabled implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return !isBatchEnabled(context.getEnvironment());
+    }
+  }
+}
@@ -10,6 +10,11 @@ import javax.annotation.Nonnull;
  * <p>The semantics of this hook are currently "at most once". That is, the hook will not be called
  * with the same message. In the future, we intend to migrate to "at least once" semantics, meaning
  * that the hook will be responsible for implementing idempotency.
+ *
+ * <p>When consuming in batch mode offsets are only committed once every hook has processed the
+ * batch, so a hook may see the same message again after a restart or rebalance. In batch and key
+ * ordered mode the same applies to {@link #isCritical() critical} hooks, whose failures cause the
+ * message to be delivered again.
  */
 public interface MetadataChangeLogHook {
 
@@ -37,4 +42,29 @@ public interface MetadataChangeLogHook {
   default int executionOrder() {
     return 100;
   }
+
+  /**
+   * Whether the hook neither depends on, nor is depended on by, the side effects of other hooks for
+   * the same event. Independent hooks may be run concurrently with the other hooks when consuming
+   * in batch mode, hooks which are not independent are always run one after another in {@link
+   * #executionOrder()}.
+   *
+   * @return true if the hook can run concurrently with other hooks
+   */
+  default boolean isIndependent() {
+    return false;
+  }
+
+  /**
+   * Whether a failure of this hook must prevent the offset of the event from being committed, when
+   * consuming in batch or key ordered mode. The failure is then propagated to the Kafka container,
+   * which retries the event before giving up on it. Every hook runs again for a retried event,
+   * including hooks which already processed it. Failures of other hooks, and of any hook when
+   * consuming one record at a time, are logged and the event is skipped by the hook.
+   *
+   * @return true if the event should be delivered again when the hook fails
+   */
+  default boolean isCritical() {
+    return false;
+  }
 }
@@ -50,6 +50,13 @@ public class UpdateIndicesHook implements MetadataChangeLogHook {
     return isEnabled;
   }
 
+  // Not independent: hooks such as SiblingAssociationHook search the indices written here and
+  // must run after it. Failures are retried since a skipped event leaves the indices stale.
+  @Override
+  public boolean isCritical() {
+    return true;
+  }
+
   @Override
   public UpdateIndicesHook init(@javax.annotation.Nonnull OperationContext systemOperationContext) {
     this.systemOperationContext = systemOperationContext;
@@ -102,6 +102,11 @@ public class EntityChangeEventGeneratorHook implements MetadataChangeLogHook {
     return _isEnabled;
   }
 
+  @Override
+  public boolean isIndependent() {
+    return true;
+  }
+
   @Override
   public void invoke(@Nonnull final MetadataChangeLog logEvent) throws Exception {
     if (isEligibleForProcessing(logEvent)) {
@@ -46,6 +46,11 @@ public class IngestionSchedulerHook implements MetadataChangeLogHook {
     return _isEnabled;
   }
 
+  @Override
+  public boolean isIndependent() {
+    return true;
+  }
+
   @Override
   public IngestionSchedulerHook init(@Nonnull OperationContext systemOperationContext) {
     this.systemOperationContext = systemOperationContext;
@@ -0,0 +1,217 @@
+package com.linkedin.metadata.kafka;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.hook.MetadataChangeLogHook;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Nonnull;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class BatchMetadataChangeLogProcessorTest {
+  private static final String TOPIC = "MetadataChangeLog_Versioned_v1";
+  private static final Urn DATASET_1 =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.table1,PROD)");
+  private static final Urn DATASET_2 =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.table2,PROD)");
+  private static final Urn DATASET_3 =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.table3,PROD)");
+
+  private OperationContext opContext;
+  // Every invocation of every hook, as "<hook>:<urn>"
+  private List<String> invocations;
+
+  @BeforeMethod
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    invocations = new CopyOnWriteArrayList<>();
+  }
+
+  @Test
+  public void testHooksFanOutOverWholeBatch() throws Exception {
+    TestHook independent = new TestHook("independent", 100, true, false, Set.of());
+    TestHook second = new TestHook("second", 200, false, false, Set.of());
+    TestHook first = new TestHook("first", 50, false, true, Set.of());
+    BatchMetadataChangeLogProcessor processor = processor(independent, second, first);
+
+    processor.consume(records(DATASET_1, DATASET_2, DATASET_3));
+
+    // Each hook sees every event in poll order
+    assertEquals(independent.seen, List.of(DATASET_1, DATASET_2, DATASET_3));
+    assertEquals(first.seen, List.of(DATASET_1, DATASET_2, DATASET_3));
+    assertEquals(second.seen, List.of(DATASET_1, DATASET_2, DATASET_3));
+    // Dependent hooks run one after another in execution order for each event
+    assertEquals(
+        ordered(invocations),
+        List.of(
+            "first:" + DATASET_1,
+            "second:" + DATASET_1,
+            "first:" + DATASET_2,
+            "second:" + DATASET_2,
+            "first:" + DATASET_3,
+            "second:" + DATASET_3));
+    processor.destroy();
+  }
+
+  @Test
+  public void testNonCriticalHookFailureCommitsBatch() throws Exception {
+    TestHook failing = new TestHook("failing", 100, false, false, Set.of(DATASET_2));
+    TestHook other = new TestHook("other", 200, false, false, Set.of());
+    BatchMetadataChangeLogProcessor processor = processor(failing, other);
+
+    // Returning normally lets the container commit the offsets of the whole poll
+    processor.consume(records(DATASET_1, DATASET_2, DATASET_3));
+
+    assertEquals(failing.seen, List.of(DATASET_1, DATASET_2, DATASET_3));
+    assertEquals(other.seen, List.of(DATASET_1, DATASET_2, DATASET_3));
+    processor.destroy();
+  }
+
+  @Test
+  public void testCriticalHookFailureFailsBatchAtFailedRecord() throws Exception {
+    TestHook critical = new TestHook("critical", 50, false, true, Set.of(DATASET_2));
+    TestHook dependent = new TestHook("dependent", 100, false, false, Set.of());
+    TestHook independent = new TestHook("independent", 100, true, false, Set.of());
+    BatchMetadataChangeLogProcessor processor = processor(critical, dependent, independent);
+
+    BatchListenerFailedException thrown =
+        expectThrows(
+            BatchListenerFailedException.class,
+            () -> processor.consume(records(DATASET_1, DATASET_2, DATASET_3)));
+
+    // Offsets before the failed record are committed, the rest of the poll is redelivered
+    assertEquals(thrown.getIndex(), 1);
+    assertEquals(thrown.getCause().getMessage(), "critical failed for " + DATASET_2);
+    // The ordered chain stops at the failed event
+    assertEquals(critical.seen, List.of(DATASET_1, DATASET_2));
+    assertEquals(dependent.seen, List.of(DATASET_1));
+    processor.destroy();
+  }
+
+  @Test
+  public void testLowestCriticalFailureIsReported() throws Exception {
+    TestHook late = new TestHook("late", 100, true, true, Set.of(DATASET_3));
+    TestHook early = new TestHook("early", 100, true, true, Set.of(DATASET_2));
+    BatchMetadataChangeLogProcessor processor = processor(late, early);
+
+    BatchListenerFailedException thrown =
+        expectThrows(
+            BatchListenerFailedException.class,
+            () -> processor.consume(records(DATASET_1, DATASET_2, DATASET_3)));
+
+    assertEquals(thrown.getIndex(), 1);
+    processor.destroy();
+  }
+
+  @Test
+  public void testDeserializationFailureProcessesPrecedingRecords() throws Exception {
+    TestHook hook = new TestHook("hook", 100, false, true, Set.of());
+    BatchMetadataChangeLogProcessor processor = processor(hook);
+
+    List<ConsumerRecord<String, GenericRecord>> records = records(DATASET_1, DATASET_2);
+    records.add(new ConsumerRecord<>(TOPIC, 0, records.size(), DATASET_3.toString(), null));
+
+    BatchListenerFailedException thrown =
+        expectThrows(BatchListenerFailedException.class, () -> processor.consume(records));
+
+    assertEquals(thrown.getIndex(), 2);
+    assertEquals(hook.seen, List.of(DATASET_1, DATASET_2));
+    processor.destroy();
+  }
+
+  @Test
+  public void testDestroyShutsDownHookExecutor() throws Exception {
+    BatchMetadataChangeLogProcessor processor =
+        processor(new TestHook("hook", 100, false, false, Set.of()));
+
+    processor.destroy();
+
+    expectThrows(RejectedExecutionException.class, () -> processor.consume(records(DATASET_1)));
+  }
+
+  private BatchMetadataChangeLogProcessor processor(MetadataChangeLogHook... hooks) {
+    return new BatchMetadataChangeLogProcessor(opContext, List.of(hooks), 4);
+  }
+
+  /** Invocations of hooks that are not independent, in the order they happened. */
+  private static List<String> ordered(List<String> invocations) {
+    List<String> ordered = new ArrayList<>(invocations);
+    ordered.removeIf(invocation -> invocation.startsWith("independent:"));
+    return ordered;
+  }
+
+  private static List<ConsumerRecord<String, GenericRecord>> records(Urn... urns)
+      throws Exception {
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (int i = 0; i < urns.length; i++) {
+      MetadataChangeLog event =
+          new MetadataChangeLog()
+              .setEntityType(urns[i].getEntityType())
+              .setEntityUrn(urns[i])
+              .setChangeType(ChangeType.UPSERT)
+              .setAspectName("status");
+      records.add(
+          new ConsumerRecord<>(
+              TOPIC, 0, i, urns[i].toString(), EventUtils.pegasusToAvroMCL(event)));
+    }
+    return records;
+  }
+
+  private class TestHook implements MetadataChangeLogHook {
+    private final String name;
+    private final int executionOrder;
+    private final boolean independent;
+    private final boolean critical;
+    private final Set<Urn> failOn;
+    private final List<Urn> seen = Collections.synchronizedList(new ArrayList<>());
+
+    private TestHook(
+        String name, int executionOrder, boolean independent, boolean critical, Set<Urn> failOn) {
+      this.name = name;
+      this.executionOrder = executionOrder;
+      this.independent = independent;
+      this.critical = critical;
+      this.failOn = failOn;
+    }
+
+    @Override
+    public void invoke(@Nonnull MetadataChangeLog event) {
+      seen.add(event.getEntityUrn());
+      invocations.add(name + ":" + event.getEntityUrn());
+      if (failOn.contains(event.getEntityUrn())) {
+        throw new IllegalStateException(name + " failed for " + event.getEntityUrn());
+      }
+    }
+
+    @Override
+    public int executionOrder() {
+      return executionOrder;
+    }
+
+    @Override
+    public boolean isIndependent() {
+      return independent;
+    }
+
+    @Override
+    public boolean isCritical() {
+      return critical;
+    }
+  }
+}
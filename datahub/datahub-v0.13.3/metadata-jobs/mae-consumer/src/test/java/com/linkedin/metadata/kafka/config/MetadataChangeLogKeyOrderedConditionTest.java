@@ -0,0 +1,45 @@
+package com.linkedin.metadata.kafka.config;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.mock.env.MockEnvironment;
+import org.testng.annotations.Test;
+
+public class MetadataChangeLogKeyOrderedConditionTest {
+
+  @Test
+  public void testDisabledByDefault() {
+    ConditionContext context = context(new MockEnvironment());
+
+    assertFalse(new MetadataChangeLogKeyOrderedCondition().matches(context, null));
+    assertTrue(new MetadataChangeLogKeyOrderedCondition.Disabled().matches(context, null));
+  }
+
+  @Test
+  public void testBoundToConfigurationProperty() {
+    ConditionContext context =
+        context(new MockEnvironment().withProperty("kafka.consumer.mcl.keyOrderedEnabled", "true"));
+
+    assertTrue(new MetadataChangeLogKeyOrderedCondition().matches(context, null));
+    assertFalse(new MetadataChangeLogKeyOrderedCondition.Disabled().matches(context, null));
+  }
+
+  @Test
+  public void testIgnoresUnresolvedEnvironmentVariable() {
+    // Only the property bound in application.yaml switches the mode on
+    ConditionContext context =
+        context(new MockEnvironment().withProperty("MCL_CONSUMER_KEY_ORDERED_ENABLED", "true"));
+
+    assertFalse(new MetadataChangeLogKeyOrderedCondition().matches(context, null));
+  }
+
+  private static ConditionContext context(MockEnvironment environment) {
+    ConditionContext context = mock(ConditionContext.class);
+    when(context.getEnvironment()).thenReturn(environment);
+    return context;
+  }
+}
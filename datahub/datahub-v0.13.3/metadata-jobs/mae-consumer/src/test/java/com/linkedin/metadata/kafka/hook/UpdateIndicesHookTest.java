@@ -59,6 +59,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Value;
 import org.testng.annotations.BeforeMethod;
@@ -162,7 +163,7 @@ public class UpdateIndicesHookTest {
             null,
             lifeCycleOwner,
             null);
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
+    Mockito.verify(mockGraphService, Mockito.times(1)).addEdges(Mockito.eq(List.of(edge)));
     Mockito.verify(mockGraphService, Mockito.times(1))
         .removeEdgesFromNode(
             Mockito.eq(downstreamUrn),
@@ -200,7 +201,7 @@ public class UpdateIndicesHookTest {
             null,
             lifeCycleOwner,
             null);
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
+    Mockito.verify(mockGraphService, Mockito.times(1)).addEdges(Mockito.eq(List.of(edge)));
     Mockito.verify(mockGraphService, Mockito.times(1))
         .removeEdgesFromNode(
             Mockito.eq(downstreamUrn),
@@ -248,7 +249,7 @@ public class UpdateIndicesHookTest {
             String.format("urn:li:schemaField:(%s,%s)", TEST_CHART_URN, downstreamFieldPath));
 
     Edge edge = new Edge(downstreamUrn, upstreamUrn, DOWNSTREAM_OF, null, null, null, null, null);
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.eq(edge));
+    Mockito.verify(mockGraphService, Mockito.times(1)).addEdges(Mockito.eq(List.of(edge)));
     Mockito.verify(mockGraphService, Mockito.times(1))
         .removeEdgesFromNode(
             Mockito.eq(downstreamUrn),
@@ -272,7 +273,8 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // One new edge added
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .addEdges(Mockito.argThat(edges -> edges.size() == 1));
     // Update document
     Mockito.verify(mockEntitySearchService, Mockito.times(1))
         .upsertDocument(
@@ -291,9 +293,10 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // No edges added
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.never()).addEdges(Mockito.any());
     // Timestamp updated
-    Mockito.verify(mockGraphService, Mockito.times(1)).upsertEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .upsertEdges(Mockito.argThat(edges -> edges.size() == 1));
     // No document change
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -309,9 +312,11 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // New edge added
-    Mockito.verify(mockGraphService, Mockito.times(1)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .addEdges(Mockito.argThat(edges -> edges.size() == 1));
     // Update timestamp of old edge
-    Mockito.verify(mockGraphService, Mockito.times(1)).upsertEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .upsertEdges(Mockito.argThat(edges -> edges.size() == 1));
     // Document update for new upstream
     Mockito.verify(mockEntitySearchService, Mockito.times(1))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -325,9 +330,10 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.never()).addEdges(Mockito.any());
     // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .upsertEdges(Mockito.argThat(edges -> edges.size() == 2));
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -341,9 +347,10 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.never()).addEdges(Mockito.any());
     // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .upsertEdges(Mockito.argThat(edges -> edges.size() == 2));
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -357,9 +364,10 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.never()).addEdges(Mockito.any());
     // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .upsertEdges(Mockito.argThat(edges -> edges.size() == 2));
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -374,9 +382,10 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.never()).addEdges(Mockito.any());
     // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .upsertEdges(Mockito.argThat(edges -> edges.size() == 2));
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -391,9 +400,10 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.never()).addEdges(Mockito.any());
     // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .upsertEdges(Mockito.argThat(edges -> edges.size() == 2));
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -409,9 +419,10 @@ public class UpdateIndicesHookTest {
     updateIndicesHook.invoke(changeLog);
 
     // No new edges
-    Mockito.verify(mockGraphService, Mockito.times(0)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.never()).addEdges(Mockito.any());
     // Update timestamps of old edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).upsertEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .upsertEdges(Mockito.argThat(edges -> edges.size() == 2));
     // No document update
     Mockito.verify(mockEntitySearchService, Mockito.times(0))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -429,7 +440,8 @@ public class UpdateIndicesHookTest {
     Mockito.verify(mockGraphService, Mockito.times(1))
         .removeEdgesFromNode(Mockito.any(), Mockito.any(), Mockito.any());
     // Forced add of edges
-    Mockito.verify(mockGraphService, Mockito.times(2)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .addEdges(Mockito.argThat(edges -> edges.size() == 2));
     // Forced document update
     Mockito.verify(mockEntitySearchService, Mockito.times(1))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
@@ -470,7 +482,8 @@ public class UpdateIndicesHookTest {
     MetadataChangeLog changeLog =
         createUpstreamLineageMCLUIPreProcessed(upstreamUrn, downstreamUrn, ChangeType.UPSERT);
     reprocessUIHook.invoke(changeLog);
-    Mockito.verify(mockGraphService, Mockito.times(3)).addEdge(Mockito.any());
+    Mockito.verify(mockGraphService, Mockito.times(1))
+        .addEdges(Mockito.argThat(edges -> edges.size() == 3));
     Mockito.verify(mockEntitySearchService, Mockito.times(1))
         .upsertDocument(any(OperationContext.class), Mockito.any(), Mockito.any(), Mockito.any());
   }
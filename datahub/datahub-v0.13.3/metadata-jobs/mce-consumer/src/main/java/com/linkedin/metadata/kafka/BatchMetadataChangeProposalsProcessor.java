@@ -0,0 +1,213 @@
+package com.linkedin.metadata.kafka;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.client.SystemEntityClient;
+import com.linkedin.gms.factory.entityclient.RestliEntityClientFactory;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalBatchCondition;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalProcessorCondition;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.FailedMetadataChangeProposal;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.Topics;
+import io.datahubproject.metadata.context.OperationContext;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch variant of {@link MetadataChangeProposalsProcessor}. Every Kafka poll is converted to
+ * MCPs in one pass and ingested with a single {@link SystemEntityClient#batchIngestProposals}
+ * call, i.e. one round trip and one transaction instead of one per MCP.
+ *
+ * <p>Records are kept in poll order, which is offset order within each partition. A batch is cut
+ * whenever an (urn, aspect) pair repeats so that successive writes to the same aspect are applied
+ * in order rather than collapsed into one transaction. If a batch fails as a whole, its MCPs are
+ * retried one at a time and only the individual failures are sent to the FMCP topic.
+ */
+@Slf4j
+@Component
+@Import({RestliEntityClientFactory.class})
+@Conditional({
+  MetadataChangeProposalProcessorCondition.class,
+  MetadataChangeProposalBatchCondition.class
+})
+@EnableKafka
+@RequiredArgsConstructor
+public class BatchMetadataChangeProposalsProcessor {
+  private static final LogAccessor LOG_ACCESSOR =
+      new LogAccessor(BatchMetadataChangeProposalsProcessor.class);
+
+  private final OperationContext systemOperationContext;
+  private final SystemEntityClient entityClient;
+  private final Producer<String, IndexedRecord> kafkaProducer;
+
+  private final Histogram kafkaLagStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
+
+  @Value(
+      "${FAILED_METADATA_CHANGE_PROPOSAL_TOPIC_NAME:"
+          + Topics.FAILED_METADATA_CHANGE_PROPOSAL
+          + "}")
+  private String fmcpTopicName;
+
+  @KafkaListener(
+      id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}",
+      topics = "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL + "}",
+      containerFactory = "kafkaEventBatchConsumer",
+      properties = {"max.poll.records=${kafka.consumer.mcp.batchSize:500}"})
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "consume").time()) {
+      batchSizeStats.update(consumerRecords.size());
+      log.info("Got MCP batch of {} events", consumerRecords.size());
+
+      final List<MetadataChangeProposal> batch = new ArrayList<>(consumerRecords.size());
+      final Set<String> batchKeys = new HashSet<>();
+
+      for (int i = 0; i < consumerRecords.size(); i++) {
+        final ConsumerRecord<String, GenericRecord> consumerRecord = consumerRecords.get(i);
+        kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+        final GenericRecord record = consumerRecord.value();
+
+        log.debug(
+            "Got MCP event key: {}, topic: {}, partition: {}, offset: {}, value size: {}, timestamp: {}",
+            consumerRecord.key(),
+            consumerRecord.topic(),
+            consumerRecord.partition(),
+            consumerRecord.offset(),
+            consumerRecord.serializedValueSize(),
+            consumerRecord.timestamp());
+
+        if (record == null) {
+          // Value failed deserialization, flush everything before it so that the error handler
+          // only has to deal with the remainder of the poll
+          ingestBatch(batch);
+          throw new BatchListenerFailedException(
+              String.format(
+                  "Failed to deserialize MCP event at partition: %s, offset: %s",
+                  consumerRecord.partition(), consumerRecord.offset()),
+              SerializationUtils.getExceptionFromHeader(
+                  consumerRecord,
+                  SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER,
+                  LOG_ACCESSOR),
+              i);
+        }
+
+        MetadataChangeProposal event = new MetadataChangeProposal();
+        final String batchKey;
+        try {
+          event = EventUtils.avroToPegasusMCP(record);
+          batchKey = batchKey(event);
+        } catch (Throwable throwable) {
+          log.error("MCP Processor Error", throwable);
+          log.error("Message: {}", record);
+          sendFailedMCP(event, throwable);
+          continue;
+        }
+
+        if (!batchKeys.add(batchKey)) {
+          ingestBatch(batch);
+          batch.clear();
+          batchKeys.clear();
+          batchKeys.add(batchKey);
+        }
+        batch.add(event);
+      }
+
+      ingestBatch(batch);
+    }
+  }
+
+  private String batchKey(@Nonnull MetadataChangeProposal event) {
+    final Urn urn =
+        EntityKeyUtils.getUrnFromProposal(
+            event,
+            systemOperationContext
+                .getEntityRegistry()
+                .getEntitySpec(event.getEntityType())
+                .getKeyAspectSpec());
+    return urn.toString() + "/" + event.getAspectName();
+  }
+
+  private void ingestBatch(@Nonnull List<MetadataChangeProposal> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "batchIngest").time()) {
+      entityClient.batchIngestProposals(systemOperationContext, batch, false);
+      log.info("Successfully processed MCP batch of {} events", batch.size());
+    } catch (Throwable batchThrowable) {
+      log.warn(
+          "Failed to ingest MCP batch of {} events, retrying one at a time",
+          batch.size(),
+          batchThrowable);
+      MetricUtils.counter(this.getClass(), "batchIngestFallback").inc();
+
+      for (MetadataChangeProposal event : batch) {
+        try {
+          String urn = entityClient.ingestProposal(systemOperationContext, event, false);
+          log.debug("Successfully processed MCP event urn: {}", urn);
+        } catch (Throwable throwable) {
+          log.error("MCP Processor Error", throwable);
+          log.error("Message: {}", event);
+          sendFailedMCP(event, throwable);
+        }
+      }
+    }
+  }
+
+  private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
+    final FailedMetadataChangeProposal failedMetadataChangeProposal =
+        createFailedMCPEvent(event, throwable);
+    try {
+      final GenericRecord genericFailedMCERecord =
+          EventUtils.pegasusToAvroFailedMCP(failedMetadataChangeProposal);
+      log.debug("Sending FailedMessages to topic - {}", fmcpTopicName);
+      log.info(
+          "Error while processing FMCP: FailedMetadataChangeProposal - {}",
+          failedMetadataChangeProposal);
+      kafkaProducer.send(new ProducerRecord<>(fmcpTopicName, genericFailedMCERecord));
+    } catch (IOException e) {
+      log.error(
+          "Error while sending FailedMetadataChangeProposal: Exception  - {}, FailedMetadataChangeProposal - {}",
+          e.getStackTrace(),
+          failedMetadataChangeProposal);
+    }
+  }
+
+  @Nonnull
+  private FailedMetadataChangeProposal createFailedMCPEvent(
+      @Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
+    final FailedMetadataChangeProposal fmcp = new FailedMetadataChangeProposal();
+    fmcp.setError(ExceptionUtils.getStackTrace(throwable));
+    fmcp.setMetadataChangeProposal(event);
+    return fmcp;
+  }
+}
@@ -0,0 +1,148 @@
+package com.linkedin.metadata.kafka;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.entity.client.SystemEntityClient;
+import com.linkedin.gms.factory.entityclient.RestliEntityClientFactory;
+import com.linkedin.gms.factory.kafka.KeyOrderedDispatcher;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalBatchCondition;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalKeyOrderedCondition;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalProcessorCondition;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.FailedMetadataChangeProposal;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.Topics;
+import io.datahubproject.metadata.context.OperationContext;
+import java.io.IOException;
+import java.util.List;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Key ordered variant of {@link MetadataChangeProposalsProcessor}. Each Kafka poll is split by
+ * message key, the entity urn, and the keys are ingested concurrently on a bounded pool by a {@link
+ * KeyOrderedDispatcher}. MCPs of the same entity are ingested one at a time in offset order.
+ *
+ * <p>As with the single record processor, MCPs which fail ingestion are sent to the FMCP topic and
+ * count as processed, only records which could not be deserialized fail the poll. Offsets of a poll
+ * are committed once every key has finished, so a slow key still holds up the next poll.
+ */
+@Slf4j
+@Component
+@Import({RestliEntityClientFactory.class})
+@Conditional({
+  MetadataChangeProposalProcessorCondition.class,
+  MetadataChangeProposalBatchCondition.Disabled.class,
+  MetadataChangeProposalKeyOrderedCondition.class
+})
+@EnableKafka
+public class KeyOrderedMetadataChangeProposalsProcessor implements DisposableBean {
+
+  private final OperationContext systemOperationContext;
+  private final SystemEntityClient entityClient;
+  private final Producer<String, IndexedRecord> kafkaProducer;
+  private final KeyOrderedDispatcher dispatcher;
+
+  private final Histogram kafkaLagStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "kafkaLag"));
+  private final Histogram batchSizeStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "batchSize"));
+  private final Histogram keyCountStats =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "keyCount"));
+
+  @Value(
+      "${FAILED_METADATA_CHANGE_PROPOSAL_TOPIC_NAME:"
+          + Topics.FAILED_METADATA_CHANGE_PROPOSAL
+          + "}")
+  private String fmcpTopicName;
+
+  public KeyOrderedMetadataChangeProposalsProcessor(
+      OperationContext systemOperationContext,
+      SystemEntityClient entityClient,
+      Producer<String, IndexedRecord> kafkaProducer,
+      @Value("${kafka.consumer.mcp.keyOrderedConcurrency:8}") int keyOrderedConcurrency) {
+    this.systemOperationContext = systemOperationContext;
+    this.entityClient = entityClient;
+    this.kafkaProducer = kafkaProducer;
+    this.dispatcher = new KeyOrderedDispatcher(keyOrderedConcurrency);
+  }
+
+  @KafkaListener(
+      id = "${METADATA_CHANGE_PROPOSAL_KAFKA_CONSUMER_GROUP_ID:generic-mce-consumer-job-client}",
+      topics = "${METADATA_CHANGE_PROPOSAL_TOPIC_NAME:" + Topics.METADATA_CHANGE_PROPOSAL + "}",
+      containerFactory = "kafkaEventBatchConsumer",
+      properties = {"max.poll.records=${kafka.consumer.mcp.batchSize:500}"})
+  public void consume(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "consume").time()) {
+      batchSizeStats.update(consumerRecords.size());
+      log.info("Got MCP batch of {} events", consumerRecords.size());
+
+      keyCountStats.update(dispatcher.dispatch(consumerRecords, this::process));
+      log.info("Successfully processed MCP batch of {} events", consumerRecords.size());
+    }
+  }
+
+  private void process(@Nonnull ConsumerRecord<String, GenericRecord> consumerRecord) {
+    kafkaLagStats.update(System.currentTimeMillis() - consumerRecord.timestamp());
+    final GenericRecord record = consumerRecord.value();
+
+    MetadataChangeProposal event = new MetadataChangeProposal();
+    try {
+      event = EventUtils.avroToPegasusMCP(record);
+      String urn = entityClient.ingestProposal(systemOperationContext, event, false);
+      log.debug("Successfully processed MCP event urn: {}", urn);
+    } catch (Throwable throwable) {
+      log.error("MCP Processor Error", throwable);
+      log.error("Message: {}", record);
+      sendFailedMCP(event, throwable);
+    }
+  }
+
+  private void sendFailedMCP(@Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
+    final FailedMetadataChangeProposal failedMetadataChangeProposal =
+        createFailedMCPEvent(event, throwable);
+    try {
+      final GenericRecord genericFailedMCERecord =
+          EventUtils.pegasusToAvroFailedMCP(failedMetadataChangeProposal);
+      log.debug("Sending FailedMessages to topic - {}", fmcpTopicName);
+      log.info(
+          "Error while processing FMCP: FailedMetadataChangeProposal - {}",
+          failedMetadataChangeProposal);
+      kafkaProducer.send(new ProducerRecord<>(fmcpTopicName, genericFailedMCERecord));
+    } catch (IOException e) {
+      log.error(
+          "Error while sending FailedMetadataChangeProposal: Exception  - {}, FailedMetadataChangeProposal - {}",
+          e.getStackTrace(),
+          failedMetadataChangeProposal);
+    }
+  }
+
+  @Nonnull
+  private FailedMetadataChangeProposal createFailedMCPEvent(
+      @Nonnull MetadataChangeProposal event, @Nonnull Throwable throwable) {
+    final FailedMetadataChangeProposal fmcp = new FailedMetadataChangeProposal();
+    fmcp.setError(ExceptionUtils.getStackTrace(throwable));
+    fmcp.setMetadataChangeProposal(event);
+    return fmcp;
+  }
+
+  @Override
+  public void destroy() {
+    dispatcher.close();
+  }
+}
@@ -6,6 +6,8 @@ import com.codahale.metrics.Timer;
 import com.linkedin.entity.client.SystemEntityClient;
 import com.linkedin.gms.factory.entityclient.RestliEntityClientFactory;
 import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalBatchCondition;
+import com.linkedin.metadata.kafka.config.MetadataChangeProposalKeyOrderedCondition;
 import com.linkedin.metadata.kafka.config.MetadataChangeProposalProcessorCondition;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.FailedMetadataChangeProposal;
@@ -32,7 +34,11 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @Import({RestliEntityClientFactory.class})
-@Conditional(MetadataChangeProposalProcessorCondition.class)
+@Conditional({
+  MetadataChangeProposalProcessorCondition.class,
+  MetadataChangeProposalBatchCondition.Disabled.class,
+  MetadataChangeProposalKeyOrderedCondition.Disabled.class
+})
 @EnableKafka
 @RequiredArgsConstructor
 public class MetadataChangeProposalsProcessor {
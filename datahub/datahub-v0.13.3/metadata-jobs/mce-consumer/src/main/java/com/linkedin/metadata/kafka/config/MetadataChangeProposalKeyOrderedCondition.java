@@ -0,0 +1,31 @@
+package com.linkedin.metadata.kafka.config;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Matches when MCPs with different keys should be processed concurrently, as configured by {@code
+ * kafka.consumer.mcp.keyOrderedEnabled}.
+ */
+public class MetadataChangeProposalKeyOrderedCondition implements Condition {
+  static final String KEY_ORDERED_ENABLED_PROPERTY = "kafka.consumer.mcp.keyOrderedEnabled";
+
+  @Override
+  public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    return isKeyOrderedEnabled(context.getEnvironment());
+  }
+
+  private static boolean isKeyOrderedEnabled(Environment env) {
+    return env.getProperty(KEY_ORDERED_ENABLED_PROPERTY, Boolean.class, false);
+  }
+
+  /** Matches when MCPs should be processed strictly one after another. */
+  public static class Disabled implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return !isKeyOrderedEnabled(context.getEnvironment());
+    }
+  }
+}
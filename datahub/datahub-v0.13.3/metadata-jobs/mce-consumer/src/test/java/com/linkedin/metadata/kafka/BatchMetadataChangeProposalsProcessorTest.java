@@ -0,0 +1,189 @@
+package com.linkedin.metadata.kafka;
+
+import static com.linkedin.metadata.Constants.DATASET_ENTITY_NAME;
+import static com.linkedin.metadata.Constants.DATASET_PROPERTIES_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.STATUS_ASPECT_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.common.Status;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.entity.client.SystemEntityClient;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.r2.RemoteInvocationException;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class BatchMetadataChangeProposalsProcessorTest {
+  private static final Urn DATASET_1 =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.table1,PROD)");
+  private static final Urn DATASET_2 =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.table2,PROD)");
+
+  private OperationContext opContext;
+  private SystemEntityClient entityClient;
+  private Producer<String, IndexedRecord> kafkaProducer;
+  private BatchMetadataChangeProposalsProcessor processor;
+  private List<List<MetadataChangeProposal>> batches;
+
+  @BeforeMethod
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    entityClient = mock(SystemEntityClient.class);
+    kafkaProducer = mock(Producer.class);
+    processor = new BatchMetadataChangeProposalsProcessor(opContext, entityClient, kafkaProducer);
+    ReflectionTestUtils.setField(processor, "fmcpTopicName", "FailedMetadataChangeProposal");
+
+    // The processor reuses its batch list, so keep a copy of each batch as it is ingested
+    batches = new ArrayList<>();
+    when(entityClient.batchIngestProposals(any(OperationContext.class), any(), anyBoolean()))
+        .thenAnswer(
+            invocation -> {
+              Collection<MetadataChangeProposal> batch = invocation.getArgument(1);
+              batches.add(new ArrayList<>(batch));
+              return List.of();
+            });
+  }
+
+  @Test
+  public void testPollIngestedAsOneBatchInOrder() throws Exception {
+    MetadataChangeProposal first = properties(DATASET_1, "one");
+    MetadataChangeProposal second = status(DATASET_1);
+    MetadataChangeProposal third = properties(DATASET_2, "two");
+
+    processor.consume(records(first, second, third));
+
+    assertEquals(capturedBatches(1), List.of(List.of(first, second, third)));
+    verify(entityClient, never()).ingestProposal(any(), any(), anyBoolean());
+    verify(kafkaProducer, never()).send(any());
+  }
+
+  @Test
+  public void testRepeatedAspectStartsNewBatch() throws Exception {
+    MetadataChangeProposal first = properties(DATASET_1, "one");
+    MetadataChangeProposal second = properties(DATASET_2, "two");
+    MetadataChangeProposal third = properties(DATASET_1, "three");
+    MetadataChangeProposal fourth = status(DATASET_1);
+
+    processor.consume(records(first, second, third, fourth));
+
+    assertEquals(capturedBatches(2), List.of(List.of(first, second), List.of(third, fourth)));
+  }
+
+  @Test
+  public void testFailedBatchRetriedOneAtATime() throws Exception {
+    MetadataChangeProposal good = properties(DATASET_1, "one");
+    MetadataChangeProposal bad = properties(DATASET_2, "two");
+    doThrow(new RemoteInvocationException("batch failed"))
+        .when(entityClient)
+        .batchIngestProposals(any(OperationContext.class), any(), anyBoolean());
+    when(entityClient.ingestProposal(any(OperationContext.class), eq(bad), anyBoolean()))
+        .thenThrow(new RemoteInvocationException("record failed"));
+
+    processor.consume(records(good, bad));
+
+    verify(entityClient, times(1)).ingestProposal(any(OperationContext.class), eq(good), eq(false));
+    verify(entityClient, times(1)).ingestProposal(any(OperationContext.class), eq(bad), eq(false));
+    // Only the failing record is sent to the FMCP topic
+    ArgumentCaptor<ProducerRecord<String, IndexedRecord>> sent =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaProducer, times(1)).send(sent.capture());
+    assertEquals(sent.getValue().topic(), "FailedMetadataChangeProposal");
+  }
+
+  @Test
+  public void testUnparseableRecordSentToFailedTopic() throws Exception {
+    MetadataChangeProposal good = properties(DATASET_1, "one");
+    GenericRecord unparseable = EventUtils.pegasusToAvroMCP(properties(DATASET_2, "two"));
+    unparseable.put("entityType", "unknownEntity");
+
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>(records(good));
+    records.add(new ConsumerRecord<>("MetadataChangeProposal_v1", 0, 1, "key", unparseable));
+    processor.consume(records);
+
+    assertEquals(capturedBatches(1), List.of(List.of(good)));
+    verify(kafkaProducer, times(1)).send(any());
+  }
+
+  @Test
+  public void testDeserializationFailureFlushesPrecedingRecords() throws Exception {
+    MetadataChangeProposal first = properties(DATASET_1, "one");
+    MetadataChangeProposal last = properties(DATASET_2, "two");
+
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>(records(first));
+    records.add(new ConsumerRecord<>("MetadataChangeProposal_v1", 0, 1, "key", null));
+    records.addAll(records(last));
+
+    BatchListenerFailedException thrown =
+        expectThrows(BatchListenerFailedException.class, () -> processor.consume(records));
+
+    assertEquals(thrown.getIndex(), 1);
+    assertEquals(capturedBatches(1), List.of(List.of(first)));
+  }
+
+  private List<List<MetadataChangeProposal>> capturedBatches(int expected) throws Exception {
+    verify(entityClient, times(expected))
+        .batchIngestProposals(any(OperationContext.class), any(), eq(false));
+    return batches;
+  }
+
+  private static List<ConsumerRecord<String, GenericRecord>> records(
+      MetadataChangeProposal... proposals) throws Exception {
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (int i = 0; i < proposals.length; i++) {
+      records.add(
+          new ConsumerRecord<>(
+              "MetadataChangeProposal_v1",
+              0,
+              i,
+              proposals[i].getEntityUrn().toString(),
+              EventUtils.pegasusToAvroMCP(proposals[i])));
+    }
+    return records;
+  }
+
+  private static MetadataChangeProposal properties(Urn urn, String name) {
+    return new MetadataChangeProposal()
+        .setEntityType(DATASET_ENTITY_NAME)
+        .setEntityUrn(urn)
+        .setChangeType(ChangeType.UPSERT)
+        .setAspectName(DATASET_PROPERTIES_ASPECT_NAME)
+        .setAspect(GenericRecordUtils.serializeAspect(new DatasetProperties().setName(name)));
+  }
+
+  private static MetadataChangeProposal status(Urn urn) {
+    return new MetadataChangeProposal()
+        .setEntityType(DATASET_ENTITY_NAME)
+        .setEntityUrn(urn)
+        .setChangeType(ChangeType.UPSERT)
+        .setAspectName(STATUS_ASPECT_NAME)
+        .setAspect(GenericRecordUtils.serializeAspect(new Status().setRemoved(false)));
+  }
+}
@@ -65,13 +65,21 @@ public class OperationContext {
             systemOperationContext.getOperationContextConfig().toBuilder()
                 .allowSystemAuthentication(allowSystemAuthentication)
                 .build())
-        .authorizerContext(AuthorizerContext.builder().authorizer(authorizer).build())
+        // Share resolved actors, resources and authorization results within the request
+        .authorizerContext(
+            AuthorizerContext.builder().authorizer(getRequestAuthorizer(authorizer)).build())
         .requestContext(requestContext)
         // Initialize view authorization for user viewable urn tracking
         .viewAuthorizationContext(ViewAuthorizationContext.builder().build())
         .build(sessionAuthentication);
   }
 
+  @Nonnull
+  private static Authorizer getRequestAuthorizer(@Nonnull Authorizer authorizer) {
+    final Authorizer requestAuthorizer = authorizer.forRequest();
+    return requestAuthorizer != null ? requestAuthorizer : authorizer;
+  }
+
   /**
    * Apply a set of default flags on top of any existing search flags
    *
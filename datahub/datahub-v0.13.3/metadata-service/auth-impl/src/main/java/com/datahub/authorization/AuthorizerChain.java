@@ -92,6 +92,31 @@ public class AuthorizerChain implements Authorizer {
     return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
   }
 
+  /**
+   * Returns a chain of the request scoped {@link Authorizer}s. The default authorizer is kept, it is
+   * only used for policy management.
+   */
+  @Override
+  public Authorizer forRequest() {
+    return new AuthorizerChain(
+        authorizers.stream().map(Authorizer::forRequest).collect(Collectors.toList()),
+        defaultAuthorizer);
+  }
+
+  @Override
+  public void prefetch(@Nonnull Collection<EntitySpec> resourceSpecs) {
+    for (final Authorizer authorizer : this.authorizers) {
+      try {
+        authorizer.prefetch(resourceSpecs);
+      } catch (Exception e) {
+        log.error(
+            "Caught exception while prefetching resources using Authorizer {}. Skipping prefetch.",
+            authorizer.getClass().getCanonicalName(),
+            e);
+      }
+    }
+  }
+
   @Override
   public AuthorizedActors authorizedActors(String privilege, Optional<EntitySpec> resourceSpec) {
     if (this.authorizers.isEmpty()) {
@@ -1,5 +1,6 @@
 package com.datahub.authorization;
 
+import com.codahale.metrics.Timer;
 import com.datahub.authentication.Authentication;
 import com.datahub.plugins.auth.authorization.Authorizer;
 import com.google.common.annotations.VisibleForTesting;
@@ -7,12 +8,13 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.policy.DataHubPolicyInfo;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -22,9 +24,8 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.Getter;
@@ -52,16 +53,15 @@ public class DataHubAuthorizer implements Authorizer {
     ALLOW_ALL
   }
 
-  // Maps privilege name to the associated set of policies for fast access.
-  // Not concurrent data structure because writes are always against the entire thing.
-  protected final Map<String, List<DataHubPolicyInfo>> policyCache =
-      new HashMap<>(); // Shared Policy Cache.
-  protected final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-  protected final Lock readLock = readWriteLock.readLock();
+  // Compiled index of the policies, replaced as a whole on every refresh so that readers always
+  // see a complete set of policies.
+  protected final AtomicReference<PolicyIndex> policyIndex =
+      new AtomicReference<>(PolicyIndex.EMPTY);
 
   private final ScheduledExecutorService refreshExecutorService =
       Executors.newScheduledThreadPool(1);
   private final PolicyRefreshRunnable policyRefreshRunnable;
+  private final boolean incrementalRefresh;
   private final PolicyEngine policyEngine;
   private EntitySpecResolver entitySpecResolver;
   private AuthorizationMode mode;
@@ -76,16 +76,39 @@ public class DataHubAuthorizer implements Authorizer {
       final int refreshIntervalSeconds,
       final AuthorizationMode mode,
       final int policyFetchSize) {
+    this(
+        systemOpContext,
+        entityClient,
+        delayIntervalSeconds,
+        refreshIntervalSeconds,
+        mode,
+        policyFetchSize,
+        false);
+  }
+
+  /**
+   * @param incrementalRefresh whether single policy changes are applied with {@link
+   *     #upsertPolicy(Urn, DataHubPolicyInfo)} and {@link #deletePolicy(Urn)} as they happen, in
+   *     which case the periodic refresh only reconciles missed changes
+   */
+  public DataHubAuthorizer(
+      @Nonnull final OperationContext systemOpContext,
+      final EntityClient entityClient,
+      final int delayIntervalSeconds,
+      final int refreshIntervalSeconds,
+      final AuthorizationMode mode,
+      final int policyFetchSize,
+      final boolean incrementalRefresh) {
     this.systemOpContext = systemOpContext;
     this.mode = Objects.requireNonNull(mode);
+    this.incrementalRefresh = incrementalRefresh;
     policyEngine = new PolicyEngine(Objects.requireNonNull(entityClient));
     if (refreshIntervalSeconds > 0) {
       policyRefreshRunnable =
           new PolicyRefreshRunnable(
               systemOpContext,
               new PolicyFetcher(entityClient),
-              policyCache,
-              readWriteLock.writeLock(),
+              policyIndex,
               policyFetchSize);
       refreshExecutorService.scheduleAtFixedRate(
           policyRefreshRunnable, delayIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
@@ -101,32 +124,87 @@ public class DataHubAuthorizer implements Authorizer {
   }
 
   public AuthorizationResult authorize(@Nonnull final AuthorizationRequest request) {
+    return authorize(
+        request, entitySpecResolver::resolve, new PolicyEngine.PolicyEvaluationContext());
+  }
+
+  /**
+   * Returns a {@link RequestScopedAuthorizer}, which shares the actor and resources it resolves
+   * across the checks of a request.
+   */
+  @Override
+  public Authorizer forRequest() {
+    return new RequestScopedAuthorizer(this, entitySpecResolver);
+  }
+
+  /**
+   * @param specResolver resolves the actor and resource specs of the request
+   * @param evaluationContext the state of the request's actor, shared by all evaluated policies
+   */
+  AuthorizationResult authorize(
+      @Nonnull final AuthorizationRequest request,
+      @Nonnull final Function<EntitySpec, ResolvedEntitySpec> specResolver,
+      @Nonnull final PolicyEngine.PolicyEvaluationContext evaluationContext) {
 
     // 0. Short circuit: If the action is being performed by the system (root), always allow it.
     if (isSystemRequest(request, systemOpContext.getAuthentication())) {
       return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW, null);
     }
 
-    Optional<ResolvedEntitySpec> resolvedResourceSpec =
-        request.getResourceSpec().map(entitySpecResolver::resolve);
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "authorize").time()) {
+      final List<DataHubPolicyInfo> defaultPolicies =
+          PoliciesConfig.getDefaultPolicies(UrnUtils.getUrn(request.getActorUrn()));
 
-    // 1. Fetch the policies relevant to the requested privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(request.getPrivilege(), new ArrayList<>()));
-    policiesToEvaluate.addAll(
-        PoliciesConfig.getDefaultPolicies(UrnUtils.getUrn(request.getActorUrn())));
+      // Any policy grants the request, and there is always a default policy.
+      if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
+        return new AuthorizationResult(request, AuthorizationResult.Type.ALLOW, null);
+      }
 
-    // 2. Evaluate each policy.
-    for (DataHubPolicyInfo policy : policiesToEvaluate) {
-      if (isRequestGranted(policy, request, resolvedResourceSpec)) {
-        // Short circuit if policy has granted privileges to this actor.
-        return new AuthorizationResult(
-            request,
-            AuthorizationResult.Type.ALLOW,
-            String.format("Granted by policy with type: %s", policy.getType()));
+      Optional<Urn> actorUrn = getUrnFromRequestActor(request.getActorUrn());
+      if (actorUrn.isEmpty()) {
+        return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
       }
+
+      final ResolvedEntitySpec resolvedActorSpec =
+          specResolver.apply(new EntitySpec(actorUrn.get().getEntityType(), request.getActorUrn()));
+      final Optional<ResolvedEntitySpec> resolvedResourceSpec =
+          request.getResourceSpec().map(specResolver);
+
+      // 1. Evaluate the indexed policies which may grant the privilege to the actor.
+      Optional<DataHubPolicyInfo> grantingPolicy =
+          policyEngine.getGrantingPolicy(
+              systemOpContext,
+              policyIndex.get(),
+              resolvedActorSpec,
+              request.getPrivilege(),
+              resolvedResourceSpec,
+              evaluationContext);
+
+      // 2. Evaluate the default policies, which are specific to the actor.
+      if (grantingPolicy.isEmpty()) {
+        grantingPolicy =
+            defaultPolicies.stream()
+                .filter(
+                    policy ->
+                        isRequestGranted(
+                            policy,
+                            request,
+                            resolvedActorSpec,
+                            resolvedResourceSpec,
+                            evaluationContext))
+                .findFirst();
+      }
+
+      return grantingPolicy
+          .map(
+              policy ->
+                  new AuthorizationResult(
+                      request,
+                      AuthorizationResult.Type.ALLOW,
+                      String.format("Granted by policy with type: %s", policy.getType())))
+          .orElseGet(
+              () -> new AuthorizationResult(request, AuthorizationResult.Type.DENY, null));
     }
-    return new AuthorizationResult(request, AuthorizationResult.Type.DENY, null);
   }
 
   public List<String> getGrantedPrivileges(
@@ -136,7 +214,7 @@ public class DataHubAuthorizer implements Authorizer {
 
     // 1. Fetch all policies
     final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(ALL, new ArrayList<>()));
+        new LinkedList<>(policyIndex.get().getPolicies(ALL));
     policiesToEvaluate.addAll(PoliciesConfig.getDefaultPolicies(actorUrn));
 
     final ResolvedEntitySpec resolvedActorSpec =
@@ -151,27 +229,32 @@ public class DataHubAuthorizer implements Authorizer {
 
   @Override
   public Set<DataHubPolicyInfo> getActorPolicies(@Nonnull Urn actorUrn) {
-    // 1. Fetch all policies
-    final List<DataHubPolicyInfo> policiesToEvaluate =
-        new LinkedList<>(getOrDefault(ALL, new ArrayList<>()));
-    policiesToEvaluate.addAll(PoliciesConfig.getDefaultPolicies(actorUrn));
-
-    // 2. Actor identity
+    // 1. Actor identity
     final ResolvedEntitySpec resolvedActorSpec =
         entitySpecResolver.resolve(new EntitySpec(actorUrn.getEntityType(), actorUrn.toString()));
-
-    return policiesToEvaluate.stream()
+    final PolicyEngine.PolicyEvaluationContext context = new PolicyEngine.PolicyEvaluationContext();
+
+    // 2. Indexed policies of the actor
+    final Set<DataHubPolicyInfo> policies =
+        policyEngine.getActorPolicies(
+            systemOpContext,
+            policyIndex.get().getAllActivePolicies(ALL),
+            resolvedActorSpec,
+            context);
+
+    // 3. Default policies, which are specific to the actor
+    PoliciesConfig.getDefaultPolicies(actorUrn).stream()
         .filter(policy -> PoliciesConfig.ACTIVE_POLICY_STATE.equals(policy.getState()))
         .filter(
             policy ->
-                (policy.getActors() != null && policy.getActors().isResourceOwners())
-                    || policyEngine.isActorMatch(
-                        systemOpContext,
-                        resolvedActorSpec,
-                        policy.getActors(),
-                        Optional.empty(),
-                        new PolicyEngine.PolicyEvaluationContext()))
-        .collect(Collectors.toSet());
+                policyEngine.isActorMatch(
+                    systemOpContext,
+                    resolvedActorSpec,
+                    policy.getActors(),
+                    Optional.empty(),
+                    context))
+        .forEach(policies::add);
+    return policies;
   }
 
   @Override
@@ -205,7 +288,7 @@ public class DataHubAuthorizer implements Authorizer {
     boolean allGroups = false;
 
     // Step 1: Find policies granting the privilege.
-    final List<DataHubPolicyInfo> policiesToEvaluate = getOrDefault(privilege, new ArrayList<>());
+    final List<DataHubPolicyInfo> policiesToEvaluate = policyIndex.get().getPolicies(privilege);
 
     Optional<ResolvedEntitySpec> resolvedResourceSpec =
         resourceSpec.map(entitySpecResolver::resolve);
@@ -240,13 +323,26 @@ public class DataHubAuthorizer implements Authorizer {
   /**
    * Invalidates the policy cache and fires off a refresh thread. Should be invoked when a policy is
    * created, modified, or deleted.
+   *
+   * <p>With incremental refresh the change reaches every instance, this one included, as a single
+   * policy update, so no refresh is needed.
    */
   public void invalidateCache() {
-    if (policyRefreshRunnable != null) {
+    if (policyRefreshRunnable != null && !incrementalRefresh) {
       refreshExecutorService.execute(policyRefreshRunnable);
     }
   }
 
+  /** Creates or replaces a single policy, without refreshing the others. */
+  public void upsertPolicy(@Nonnull final Urn policyUrn, @Nonnull final DataHubPolicyInfo policy) {
+    policyIndex.updateAndGet(index -> index.withPolicy(policyUrn, policy));
+  }
+
+  /** Removes a single policy, without refreshing the others. */
+  public void deletePolicy(@Nonnull final Urn policyUrn) {
+    policyIndex.updateAndGet(index -> index.withoutPolicy(policyUrn));
+  }
+
   public AuthorizationMode mode() {
     return mode;
   }
@@ -268,24 +364,18 @@ public class DataHubAuthorizer implements Authorizer {
   private boolean isRequestGranted(
       final DataHubPolicyInfo policy,
       final AuthorizationRequest request,
-      final Optional<ResolvedEntitySpec> resourceSpec) {
-    if (AuthorizationMode.ALLOW_ALL.equals(mode())) {
-      return true;
-    }
-
-    Optional<Urn> actorUrn = getUrnFromRequestActor(request.getActorUrn());
-    if (actorUrn.isEmpty()) {
-      return false;
-    }
-
+      final ResolvedEntitySpec resolvedActorSpec,
+      final Optional<ResolvedEntitySpec> resourceSpec,
+      final PolicyEngine.PolicyEvaluationContext evaluationContext) {
     try {
-      final ResolvedEntitySpec resolvedActorSpec =
-          entitySpecResolver.resolve(
-              new EntitySpec(actorUrn.get().getEntityType(), request.getActorUrn()));
-
       final PolicyEngine.PolicyEvaluationResult result =
           policyEngine.evaluatePolicy(
-              systemOpContext, policy, resolvedActorSpec, request.getPrivilege(), resourceSpec);
+              systemOpContext,
+              policy,
+              resolvedActorSpec,
+              request.getPrivilege(),
+              resourceSpec,
+              evaluationContext);
       return result.isGranted();
     } catch (RuntimeException e) {
       log.error("Error evaluating policy {} for request {}", policy.getDisplayName(), request);
@@ -305,16 +395,6 @@ public class DataHubAuthorizer implements Authorizer {
     }
   }
 
-  private List<DataHubPolicyInfo> getOrDefault(String key, List<DataHubPolicyInfo> defaultValue) {
-    readLock.lock();
-    try {
-      return policyCache.getOrDefault(key, defaultValue);
-    } finally {
-      // To unlock the acquired read thread
-      readLock.unlock();
-    }
-  }
-
   /**
    * A {@link Runnable} used to periodically fetch a new instance of the policies Cache.
    *
@@ -327,15 +407,15 @@ public class DataHubAuthorizer implements Authorizer {
 
     private final OperationContext systemOpContext;
     private final PolicyFetcher policyFetcher;
-    private final Map<String, List<DataHubPolicyInfo>> policyCache;
-    private final Lock writeLock;
+    private final AtomicReference<PolicyIndex> policyIndex;
     private final int count;
 
     @Override
     public void run() {
       try {
-        // Populate new cache and swap.
-        Map<String, List<DataHubPolicyInfo>> newCache = new HashMap<>();
+        // Populate new index and swap.
+        final PolicyIndex previousIndex = policyIndex.get();
+        final Map<Urn, DataHubPolicyInfo> policies = new LinkedHashMap<>();
         Integer total = null;
         String scrollId = null;
 
@@ -344,7 +424,9 @@ public class DataHubAuthorizer implements Authorizer {
             final PolicyFetcher.PolicyFetchResult policyFetchResult =
                 policyFetcher.fetchPolicies(systemOpContext, count, scrollId, null);
 
-            addPoliciesToCache(newCache, policyFetchResult.getPolicies());
+            policyFetchResult
+                .getPolicies()
+                .forEach(policy -> policies.put(policy.getUrn(), policy.getPolicyInfo()));
 
             total = policyFetchResult.getTotal();
             scrollId = policyFetchResult.getScrollId();
@@ -358,14 +440,9 @@ public class DataHubAuthorizer implements Authorizer {
           }
         }
 
-        writeLock.lock();
-        try {
-          policyCache.clear();
-          policyCache.putAll(newCache);
-        } finally {
-          // To unlock the acquired write thread
-          writeLock.unlock();
-        }
+        // Single policy changes applied meanwhile may be missing from the fetched policies, they
+        // are replayed on top of them.
+        policyIndex.updateAndGet(current -> current.rebase(previousIndex, policies));
 
         log.debug(String.format("Successfully fetched %s policies.", total));
       } catch (Exception e) {
@@ -374,28 +451,5 @@ public class DataHubAuthorizer implements Authorizer {
             e);
       }
     }
-
-    private void addPoliciesToCache(
-        final Map<String, List<DataHubPolicyInfo>> cache,
-        final List<PolicyFetcher.Policy> policies) {
-      policies.forEach(policy -> addPolicyToCache(cache, policy.getPolicyInfo()));
-    }
-
-    private void addPolicyToCache(
-        final Map<String, List<DataHubPolicyInfo>> cache, final DataHubPolicyInfo policy) {
-      final List<String> privileges = policy.getPrivileges();
-      for (String privilege : privileges) {
-        List<DataHubPolicyInfo> existingPolicies =
-            cache.containsKey(privilege)
-                ? new ArrayList<>(cache.get(privilege))
-                : new ArrayList<>();
-        existingPolicies.add(policy);
-        cache.put(privilege, existingPolicies);
-      }
-      List<DataHubPolicyInfo> existingPolicies =
-          cache.containsKey(ALL) ? new ArrayList<>(cache.get(ALL)) : new ArrayList<>();
-      existingPolicies.add(policy);
-      cache.put(ALL, existingPolicies);
-    }
   }
 }
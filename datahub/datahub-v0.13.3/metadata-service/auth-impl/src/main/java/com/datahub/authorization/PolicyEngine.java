@@ -3,7 +3,6 @@ package com.datahub.authorization;
 import static com.linkedin.metadata.Constants.*;
 
 import com.google.common.collect.ImmutableSet;
-import com.linkedin.common.Owner;
 import com.linkedin.common.Ownership;
 import com.linkedin.common.UrnArray;
 import com.linkedin.common.urn.Urn;
@@ -27,6 +26,7 @@ import com.linkedin.policy.PolicyMatchCriterionArray;
 import com.linkedin.policy.PolicyMatchFilter;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -56,8 +56,22 @@ public class PolicyEngine {
       final ResolvedEntitySpec resolvedActorSpec,
       final String privilege,
       final Optional<ResolvedEntitySpec> resource) {
+    return evaluatePolicy(
+        opContext, policy, resolvedActorSpec, privilege, resource, new PolicyEvaluationContext());
+  }
+
+  /**
+   * Evaluates the policy reusing the actor's groups and roles in the context, which may be shared
+   * by evaluations of the same actor.
+   */
+  public PolicyEvaluationResult evaluatePolicy(
+      @Nonnull OperationContext opContext,
+      final DataHubPolicyInfo policy,
+      final ResolvedEntitySpec resolvedActorSpec,
+      final String privilege,
+      final Optional<ResolvedEntitySpec> resource,
+      @Nonnull final PolicyEvaluationContext context) {
 
-    final PolicyEvaluationContext context = new PolicyEvaluationContext();
     log.debug("Evaluating policy {}", policy.getDisplayName());
 
     // If the privilege is not in scope, deny the request.
@@ -82,6 +96,100 @@ public class PolicyEngine {
     return PolicyEvaluationResult.GRANTED;
   }
 
+  /**
+   * Returns the first of the indexed active policies granting the privilege to the actor on the
+   * resource. The actor's own policies are evaluated first, then those of its groups, of resource
+   * owners and of its roles, and groups and roles are only resolved if the index has policies for
+   * them.
+   */
+  Optional<DataHubPolicyInfo> getGrantingPolicy(
+      @Nonnull OperationContext opContext,
+      @Nonnull final PolicyIndex policyIndex,
+      @Nonnull final ResolvedEntitySpec resolvedActorSpec,
+      @Nonnull final String privilege,
+      @Nonnull final Optional<ResolvedEntitySpec> resource,
+      @Nonnull final PolicyEvaluationContext context) {
+    final List<PolicyIndex.ActorPolicies> candidates =
+        policyIndex.getActivePolicies(privilege, resource.map(spec -> spec.getSpec().getType()));
+    final String actor = resolvedActorSpec.getSpec().getEntity();
+
+    Optional<PolicyIndex.CompiledPolicy> granting =
+        candidates.stream()
+            .flatMap(
+                policies ->
+                    Stream.concat(
+                        policies.getUserPolicies(actor).stream(), policies.getAllUsers().stream()))
+            .filter(policy -> policy.matchesResource(resource))
+            .findFirst();
+
+    if (granting.isEmpty()
+        && candidates.stream().anyMatch(PolicyIndex.ActorPolicies::hasGroupPolicies)) {
+      final Set<String> groups = resolveGroups(resolvedActorSpec, context);
+      granting =
+          candidates.stream()
+              .flatMap(policies -> policies.getGroupPolicies(groups).stream())
+              .filter(policy -> policy.matchesResource(resource))
+              .findFirst();
+    }
+
+    if (granting.isEmpty()) {
+      granting =
+          candidates.stream()
+              .flatMap(policies -> policies.getResourceOwners().stream())
+              .filter(
+                  policy ->
+                      policy.matchesResource(resource)
+                          && isOwnerMatch(
+                              opContext,
+                              resolvedActorSpec,
+                              policy.getPolicy().getActors(),
+                              resource,
+                              context))
+              .findFirst();
+    }
+
+    if (granting.isEmpty()
+        && candidates.stream().anyMatch(PolicyIndex.ActorPolicies::hasRolePolicies)) {
+      final Set<Urn> roles = resolveRoles(opContext, resolvedActorSpec, context);
+      granting =
+          candidates.stream()
+              .flatMap(policies -> policies.getRolePolicies(roles).stream())
+              .filter(policy -> policy.matchesResource(resource))
+              .findFirst();
+    }
+
+    return granting.map(PolicyIndex.CompiledPolicy::getPolicy);
+  }
+
+  /**
+   * Returns the indexed active policies which apply to the actor regardless of the resource.
+   * Policies granted to resource owners are only included when they also match the actor by user,
+   * group or role.
+   */
+  Set<DataHubPolicyInfo> getActorPolicies(
+      @Nonnull OperationContext opContext,
+      @Nonnull final Collection<PolicyIndex.ActorPolicies> candidates,
+      @Nonnull final ResolvedEntitySpec resolvedActorSpec,
+      @Nonnull final PolicyEvaluationContext context) {
+    final String actor = resolvedActorSpec.getSpec().getEntity();
+    final Set<DataHubPolicyInfo> policies = new HashSet<>();
+    for (PolicyIndex.ActorPolicies actorPolicies : candidates) {
+      actorPolicies.getUserPolicies(actor).forEach(policy -> policies.add(policy.getPolicy()));
+      actorPolicies.getAllUsers().forEach(policy -> policies.add(policy.getPolicy()));
+      if (actorPolicies.hasGroupPolicies()) {
+        actorPolicies
+            .getGroupPolicies(resolveGroups(resolvedActorSpec, context))
+            .forEach(policy -> policies.add(policy.getPolicy()));
+      }
+      if (actorPolicies.hasRolePolicies()) {
+        actorPolicies
+            .getRolePolicies(resolveRoles(opContext, resolvedActorSpec, context))
+            .forEach(policy -> policies.add(policy.getPolicy()));
+      }
+    }
+    return policies;
+  }
+
   public PolicyActors getMatchingActors(
       final DataHubPolicyInfo policy, final Optional<ResolvedEntitySpec> resource) {
     final List<Urn> users = new ArrayList<>();
@@ -207,7 +315,7 @@ public class PolicyEngine {
    * Get filter object from policy resource filter. Make sure it is backward compatible by
    * constructing PolicyMatchFilter object from other fields if the filter field is not set
    */
-  private PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
+  static PolicyMatchFilter getFilter(DataHubResourceFilter policyResourceFilter) {
     if (policyResourceFilter.hasFilter()) {
       return policyResourceFilter.getFilter();
     }
@@ -317,7 +425,7 @@ public class PolicyEngine {
     return false;
   }
 
-  private boolean isOwnerMatch(
+  boolean isOwnerMatch(
       @Nonnull OperationContext opContext,
       final ResolvedEntitySpec resolvedActorSpec,
       final DataHubActorFilter actorFilter,
@@ -335,10 +443,14 @@ public class PolicyEngine {
 
   private Set<String> getOwnersForType(
       @Nonnull OperationContext opContext,
-      @Nonnull EntitySpec resourceSpec,
-      @Nonnull List<Urn> ownershipTypes) {
+      @Nonnull ResolvedEntitySpec resolvedResourceSpec,
+      @Nullable List<Urn> ownershipTypes) {
+    final EntitySpec resourceSpec = resolvedResourceSpec.getSpec();
     if (resourceSpec.getEntity().isEmpty()) {
       return Set.of();
+    } else if (ownershipTypes == null) {
+      // Owners of any type are the resolved owner field, shared by all policies on the resource
+      return resolvedResourceSpec.getOwners();
     } else {
       Urn entityUrn = UrnUtils.getUrn(resourceSpec.getEntity());
       EnvelopedAspect ownershipAspect;
@@ -359,11 +471,10 @@ public class PolicyEngine {
         return Collections.emptySet();
       }
       Ownership ownership = new Ownership(ownershipAspect.getValue().data());
-      Stream<Owner> ownersStream = ownership.getOwners().stream();
-      if (ownershipTypes != null) {
-        ownersStream = ownersStream.filter(owner -> ownershipTypes.contains(owner.getTypeUrn()));
-      }
-      return ownersStream.map(owner -> owner.getOwner().toString()).collect(Collectors.toSet());
+      return ownership.getOwners().stream()
+          .filter(owner -> ownershipTypes.contains(owner.getTypeUrn()))
+          .map(owner -> owner.getOwner().toString())
+          .collect(Collectors.toSet());
     }
   }
 
@@ -373,7 +484,7 @@ public class PolicyEngine {
       ResolvedEntitySpec resourceSpec,
       List<Urn> ownershipTypes,
       PolicyEvaluationContext context) {
-    Set<String> owners = this.getOwnersForType(opContext, resourceSpec.getSpec(), ownershipTypes);
+    Set<String> owners = this.getOwnersForType(opContext, resourceSpec, ownershipTypes);
     if (isUserOwner(resolvedActorSpec, owners)) {
       return true;
     }
@@ -404,7 +515,7 @@ public class PolicyEngine {
     return Objects.requireNonNull(actorFilter.getRoles()).stream().anyMatch(actorRoles::contains);
   }
 
-  private Set<Urn> resolveRoles(
+  Set<Urn> resolveRoles(
       @Nonnull OperationContext opContext,
       final ResolvedEntitySpec resolvedActorSpec,
       PolicyEvaluationContext context) {
@@ -505,7 +616,7 @@ public class PolicyEngine {
     }
   }
 
-  private Set<String> resolveGroups(
+  Set<String> resolveGroups(
       ResolvedEntitySpec resolvedActorSpec, PolicyEvaluationContext context) {
     if (context.groups != null) {
       return context.groups;
@@ -517,10 +628,13 @@ public class PolicyEngine {
     return groups;
   }
 
-  /** Class used to store state across a single Policy evaluation. */
+  /**
+   * Class used to store the actor's state across Policy evaluations, either a single one or all
+   * evaluations of the actor within a request. Concurrent evaluations may resolve the same state.
+   */
   static class PolicyEvaluationContext {
-    private Set<String> groups;
-    private Set<Urn> roles;
+    private volatile Set<String> groups;
+    private volatile Set<Urn> roles;
 
     public void setGroups(Set<String> groups) {
       this.groups = groups;
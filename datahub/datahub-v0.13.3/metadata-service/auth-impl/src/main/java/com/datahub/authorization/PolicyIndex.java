@@ -0,0 +1,305 @@
+package com.datahub.authorization;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.authorization.PoliciesConfig;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.PolicyMatchCondition;
+import com.linkedin.policy.PolicyMatchCriterion;
+import com.linkedin.policy.PolicyMatchFilter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An immutable index of the DataHub policies, compiled once per policy refresh.
+ *
+ * <p>Active policies are indexed by privilege, then by the resource type they apply to, then by
+ * their actors, so that a check only evaluates the policies which may grant it. Resource filters
+ * are compiled into matchers, with the criteria parsed ahead of time.
+ */
+@Slf4j
+public class PolicyIndex {
+  public static final PolicyIndex EMPTY = new PolicyIndex(Collections.emptyMap());
+
+  // Bucket of the policies which are not restricted to a resource type
+  private static final String ANY_RESOURCE_TYPE = "*";
+  private static final Set<EntityFieldType> TYPE_FIELDS =
+      Set.of(EntityFieldType.TYPE, EntityFieldType.RESOURCE_TYPE);
+
+  // All policies by urn, in the order they were fetched
+  private final Map<Urn, DataHubPolicyInfo> policies;
+  // All policies by privilege and under ALL, including inactive ones, as fetched.
+  private final Map<String, List<DataHubPolicyInfo>> policiesByPrivilege;
+  // Active policies by privilege and under ALL, then resource type.
+  private final Map<String, Map<String, ActorPolicies>> activePolicies;
+
+  public PolicyIndex(@Nonnull Map<Urn, DataHubPolicyInfo> policies) {
+    this.policies = Collections.unmodifiableMap(new LinkedHashMap<>(policies));
+    final Map<String, List<DataHubPolicyInfo>> byPrivilege = new HashMap<>();
+    final Map<String, Map<String, ActorPolicies>> active = new HashMap<>();
+    for (DataHubPolicyInfo policy : this.policies.values()) {
+      final List<String> privileges = new ArrayList<>(policy.getPrivileges());
+      privileges.add(DataHubAuthorizer.ALL);
+
+      final CompiledPolicy compiled =
+          PoliciesConfig.ACTIVE_POLICY_STATE.equals(policy.getState())
+              ? new CompiledPolicy(policy)
+              : null;
+      for (String privilege : privileges) {
+        byPrivilege.computeIfAbsent(privilege, key -> new ArrayList<>()).add(policy);
+        if (compiled != null) {
+          for (String resourceType : compiled.getResourceTypes()) {
+            active
+                .computeIfAbsent(privilege, key -> new HashMap<>())
+                .computeIfAbsent(resourceType, key -> new ActorPolicies())
+                .add(compiled);
+          }
+        }
+      }
+    }
+    policiesByPrivilege = byPrivilege;
+    activePolicies = active;
+  }
+
+  /**
+   * Policies are compiled when the index is built, so a change rebuilds the index from the
+   * already fetched policies, which only costs a fraction of fetching them again.
+   *
+   * @return a copy of the index with the policy created or replaced
+   */
+  @Nonnull
+  public PolicyIndex withPolicy(@Nonnull Urn urn, @Nonnull DataHubPolicyInfo policy) {
+    final Map<Urn, DataHubPolicyInfo> updated = new LinkedHashMap<>(policies);
+    updated.put(urn, policy);
+    return new PolicyIndex(updated);
+  }
+
+  /** @return a copy of the index without the policy, or this index if it has no such policy */
+  @Nonnull
+  public PolicyIndex withoutPolicy(@Nonnull Urn urn) {
+    if (!policies.containsKey(urn)) {
+      return this;
+    }
+    final Map<Urn, DataHubPolicyInfo> updated = new LinkedHashMap<>(policies);
+    updated.remove(urn);
+    return new PolicyIndex(updated);
+  }
+
+  /**
+   * Replays the single policy changes applied to this index since {@code base} onto freshly
+   * fetched policies, so that a refresh racing with them does not revert them.
+   *
+   * @param base the index the refresh started from, this index or one of its ancestors
+   * @return an index of the fetched policies, with the policies changed since {@code base} as they
+   *     are in this index
+   */
+  @Nonnull
+  PolicyIndex rebase(@Nonnull PolicyIndex base, @Nonnull Map<Urn, DataHubPolicyInfo> fetched) {
+    final Map<Urn, DataHubPolicyInfo> merged = new LinkedHashMap<>(fetched);
+    if (this != base) {
+      final Set<Urn> urns = new HashSet<>(base.policies.keySet());
+      urns.addAll(policies.keySet());
+      for (Urn urn : urns) {
+        // Unchanged policies are carried over by reference from one index to the next
+        final DataHubPolicyInfo policy = policies.get(urn);
+        if (policy != base.policies.get(urn)) {
+          if (policy == null) {
+            merged.remove(urn);
+          } else {
+            merged.put(urn, policy);
+          }
+        }
+      }
+    }
+    return new PolicyIndex(merged);
+  }
+
+  /**
+   * @return all policies listing the privilege, or all policies for {@link DataHubAuthorizer#ALL},
+   *     including inactive ones
+   */
+  @Nonnull
+  public List<DataHubPolicyInfo> getPolicies(@Nonnull String privilege) {
+    return Collections.unmodifiableList(
+        policiesByPrivilege.getOrDefault(privilege, Collections.emptyList()));
+  }
+
+  /**
+   * @param resourceType the type of the requested resource, if any
+   * @return the active policies granting the privilege which may apply to the resource type
+   */
+  @Nonnull
+  List<ActorPolicies> getActivePolicies(
+      @Nonnull String privilege, @Nonnull Optional<String> resourceType) {
+    final Map<String, ActorPolicies> byType =
+        activePolicies.getOrDefault(privilege, Collections.emptyMap());
+    return Stream.concat(Stream.of(ANY_RESOURCE_TYPE), resourceType.stream())
+        .distinct()
+        .map(byType::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  /** @return the active policies granting the privilege for any resource type */
+  @Nonnull
+  Collection<ActorPolicies> getAllActivePolicies(@Nonnull String privilege) {
+    return activePolicies.getOrDefault(privilege, Collections.emptyMap()).values();
+  }
+
+  /** Active policies of a privilege and resource type, by the actors they apply to. */
+  static class ActorPolicies {
+    @Getter private final List<CompiledPolicy> allUsers = new ArrayList<>();
+    @Getter private final List<CompiledPolicy> allGroups = new ArrayList<>();
+    @Getter private final List<CompiledPolicy> resourceOwners = new ArrayList<>();
+    private final Map<String, List<CompiledPolicy>> byUser = new HashMap<>();
+    private final Map<String, List<CompiledPolicy>> byGroup = new HashMap<>();
+    private final Map<Urn, List<CompiledPolicy>> byRole = new HashMap<>();
+
+    private void add(CompiledPolicy policy) {
+      final DataHubActorFilter actors = policy.getPolicy().getActors();
+      if (actors.isAllUsers()) {
+        allUsers.add(policy);
+      }
+      if (actors.isAllGroups()) {
+        allGroups.add(policy);
+      }
+      if (actors.isResourceOwners()) {
+        resourceOwners.add(policy);
+      }
+      if (actors.getUsers() != null) {
+        actors
+            .getUsers()
+            .forEach(
+                user ->
+                    byUser.computeIfAbsent(user.toString(), key -> new ArrayList<>()).add(policy));
+      }
+      if (actors.getGroups() != null) {
+        actors
+            .getGroups()
+            .forEach(
+                group ->
+                    byGroup
+                        .computeIfAbsent(group.toString(), key -> new ArrayList<>())
+                        .add(policy));
+      }
+      if (actors.getRoles() != null) {
+        actors
+            .getRoles()
+            .forEach(role -> byRole.computeIfAbsent(role, key -> new ArrayList<>()).add(policy));
+      }
+    }
+
+    @Nonnull
+    List<CompiledPolicy> getUserPolicies(@Nonnull String actorUrn) {
+      return byUser.getOrDefault(actorUrn, Collections.emptyList());
+    }
+
+    boolean hasGroupPolicies() {
+      return !allGroups.isEmpty() || !byGroup.isEmpty();
+    }
+
+    @Nonnull
+    List<CompiledPolicy> getGroupPolicies(@Nonnull Set<String> groups) {
+      final List<CompiledPolicy> policies = new ArrayList<>();
+      if (!groups.isEmpty()) {
+        policies.addAll(allGroups);
+      }
+      groups.forEach(group -> policies.addAll(byGroup.getOrDefault(group, List.of())));
+      return policies;
+    }
+
+    boolean hasRolePolicies() {
+      return !byRole.isEmpty();
+    }
+
+    @Nonnull
+    List<CompiledPolicy> getRolePolicies(@Nonnull Set<Urn> roles) {
+      final List<CompiledPolicy> policies = new ArrayList<>();
+      roles.forEach(role -> policies.addAll(byRole.getOrDefault(role, List.of())));
+      return policies;
+    }
+  }
+
+  /** An active policy with its resource filter compiled into a matcher. */
+  static class CompiledPolicy {
+    @Getter private final DataHubPolicyInfo policy;
+    // Null if the policy matches any resource, or none at all, as platform policies do
+    @Nullable private final List<CompiledCriterion> criteria;
+
+    private CompiledPolicy(@Nonnull DataHubPolicyInfo policy) {
+      this.policy = policy;
+      if (PoliciesConfig.PLATFORM_POLICY_TYPE.equals(policy.getType())
+          || policy.getResources() == null) {
+        criteria = null;
+      } else {
+        final PolicyMatchFilter filter = PolicyEngine.getFilter(policy.getResources());
+        criteria =
+            filter.getCriteria().stream().map(CompiledCriterion::new).collect(Collectors.toList());
+      }
+    }
+
+    /** Same as {@link PolicyEngine#policyMatchesResource}. */
+    boolean matchesResource(@Nonnull Optional<ResolvedEntitySpec> resource) {
+      if (criteria == null) {
+        return true;
+      }
+      return resource.isPresent()
+          && criteria.stream().allMatch(criterion -> criterion.matches(resource.get()));
+    }
+
+    /** The resource types the policy may apply to, or {@link #ANY_RESOURCE_TYPE}. */
+    private Set<String> getResourceTypes() {
+      if (criteria == null) {
+        return Set.of(ANY_RESOURCE_TYPE);
+      }
+      return criteria.stream()
+          .filter(criterion -> TYPE_FIELDS.contains(criterion.fieldType))
+          .findFirst()
+          .map(criterion -> criterion.values)
+          .orElse(Set.of(ANY_RESOURCE_TYPE));
+    }
+  }
+
+  private static class CompiledCriterion {
+    // Null if the criterion can't be matched: unsupported field or condition
+    @Nullable private final EntityFieldType fieldType;
+    private final Set<String> values;
+
+    private CompiledCriterion(@Nonnull PolicyMatchCriterion criterion) {
+      EntityFieldType entityFieldType = null;
+      try {
+        entityFieldType = EntityFieldType.valueOf(criterion.getField().toUpperCase());
+      } catch (IllegalArgumentException e) {
+        log.error("Unsupported field type {}", criterion.getField());
+      }
+      if (criterion.getCondition() != PolicyMatchCondition.EQUALS) {
+        log.error("Unsupported condition {}", criterion.getCondition());
+        entityFieldType = null;
+      }
+      fieldType = entityFieldType;
+      values = fieldType == null ? Set.of() : new HashSet<>(criterion.getValues());
+    }
+
+    private boolean matches(@Nonnull ResolvedEntitySpec resource) {
+      if (fieldType == null || values.isEmpty()) {
+        return false;
+      }
+      return resource.getFieldValues(fieldType).stream().anyMatch(values::contains);
+    }
+  }
+}
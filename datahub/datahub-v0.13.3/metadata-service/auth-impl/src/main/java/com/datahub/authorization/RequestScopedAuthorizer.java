@@ -0,0 +1,101 @@
+package com.datahub.authorization;
+
+import com.datahub.plugins.auth.authorization.Authorizer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.policy.DataHubPolicyInfo;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authorizes the checks of a single request, e.g. a GraphQL query, against the {@link
+ * DataHubAuthorizer}, resolving what those checks have in common only once: the actor's groups and
+ * roles, the fields of each resource, and the result of each repeated check.
+ *
+ * <p>Instances are created per request by {@link DataHubAuthorizer#forRequest()} and must not
+ * outlive it, policy changes are seen by the next request.
+ */
+@Slf4j
+public class RequestScopedAuthorizer implements Authorizer {
+
+  private final DataHubAuthorizer authorizer;
+  private final EntitySpecResolver entitySpecResolver;
+
+  private final Map<EntitySpec, ResolvedEntitySpec> resolvedSpecs = new ConcurrentHashMap<>();
+  private final Map<String, PolicyEngine.PolicyEvaluationContext> evaluationContexts =
+      new ConcurrentHashMap<>();
+  private final Map<AuthorizationRequest, AuthorizationResult> results = new ConcurrentHashMap<>();
+
+  RequestScopedAuthorizer(
+      @Nonnull final DataHubAuthorizer authorizer,
+      @Nonnull final EntitySpecResolver entitySpecResolver) {
+    this.authorizer = authorizer;
+    this.entitySpecResolver = entitySpecResolver;
+  }
+
+  @Override
+  public AuthorizationResult authorize(@Nonnull final AuthorizationRequest request) {
+    final AuthorizationResult memoized = results.get(request);
+    if (memoized != null) {
+      return memoized;
+    }
+    final AuthorizationResult result =
+        authorizer.authorize(
+            request,
+            this::resolve,
+            evaluationContexts.computeIfAbsent(
+                request.getActorUrn(), actor -> new PolicyEngine.PolicyEvaluationContext()));
+    results.putIfAbsent(request, result);
+    return result;
+  }
+
+  /** Resolves the resources not resolved yet in a single batch. */
+  @Override
+  public void prefetch(@Nonnull final Collection<EntitySpec> resourceSpecs) {
+    final List<EntitySpec> unresolved =
+        resourceSpecs.stream()
+            .filter(spec -> !resolvedSpecs.containsKey(spec))
+            .distinct()
+            .collect(Collectors.toList());
+    if (!unresolved.isEmpty()) {
+      entitySpecResolver.resolveAll(unresolved).forEach(resolvedSpecs::putIfAbsent);
+    }
+  }
+
+  @Override
+  public AuthorizedActors authorizedActors(
+      final String privilege, final Optional<EntitySpec> resourceSpec) {
+    return authorizer.authorizedActors(privilege, resourceSpec);
+  }
+
+  @Override
+  public Set<DataHubPolicyInfo> getActorPolicies(@Nonnull Urn actorUrn) {
+    return authorizer.getActorPolicies(actorUrn);
+  }
+
+  @Override
+  public Collection<Urn> getActorGroups(@Nonnull Urn actorUrn) {
+    return resolve(new EntitySpec(actorUrn.getEntityType(), actorUrn.toString()))
+        .getGroupMembership()
+        .stream()
+        .map(UrnUtils::getUrn)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public Collection<Urn> getActorPeers(@Nonnull Urn actorUrn) {
+    return authorizer.getActorPeers(actorUrn);
+  }
+
+  /** Field values are resolved lazily and kept by the resolved spec, so it is shared as a whole. */
+  private ResolvedEntitySpec resolve(@Nonnull final EntitySpec entitySpec) {
+    return resolvedSpecs.computeIfAbsent(entitySpec, entitySpecResolver::resolve);
+  }
+}
@@ -9,12 +9,13 @@ import com.linkedin.common.DataPlatformInstance;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.EntityResponse;
-import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.entity.client.SystemEntityClient;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,10 +39,30 @@ public class DataPlatformInstanceFieldResolverProvider implements EntityFieldRes
         entitySpec, spec -> getDataPlatformInstance(opContext, spec));
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(DATA_PLATFORM_INSTANCE_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      @Nonnull OperationContext opContext,
+      EntitySpec entitySpec,
+      @Nonnull EnvelopedAspectMap aspects) {
+    return FieldResolver.getResolverFromFunction(
+        entitySpec,
+        spec ->
+            isDataPlatformInstance(spec)
+                ? FieldResolver.FieldValue.builder()
+                    .values(Collections.singleton(spec.getEntity()))
+                    .build()
+                : getDataPlatformInstance(aspects));
+  }
+
   private FieldResolver.FieldValue getDataPlatformInstance(
       @Nonnull OperationContext opContext, EntitySpec entitySpec) {
 
-    EnvelopedAspect dataPlatformInstanceAspect;
+    EntityResponse response;
     try {
       if (entitySpec.getEntity().isEmpty()) {
         return FieldResolver.emptyFieldValue();
@@ -56,23 +77,36 @@ public class DataPlatformInstanceFieldResolverProvider implements EntityFieldRes
             .build();
       }
 
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               opContext,
               entityUrn.getEntityType(),
               entityUrn,
               Collections.singleton(DATA_PLATFORM_INSTANCE_ASPECT_NAME));
-      if (response == null
-          || !response.getAspects().containsKey(DATA_PLATFORM_INSTANCE_ASPECT_NAME)) {
+      if (response == null) {
         return FieldResolver.emptyFieldValue();
       }
-      dataPlatformInstanceAspect = response.getAspects().get(DATA_PLATFORM_INSTANCE_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving platform instance aspect for entitySpec {}", entitySpec, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getDataPlatformInstance(response.getAspects());
+  }
+
+  private static boolean isDataPlatformInstance(EntitySpec entitySpec) {
+    return !entitySpec.getEntity().isEmpty()
+        && UrnUtils.getUrn(entitySpec.getEntity())
+            .getEntityType()
+            .equals(DATA_PLATFORM_INSTANCE_ENTITY_NAME);
+  }
+
+  private static FieldResolver.FieldValue getDataPlatformInstance(
+      @Nonnull EnvelopedAspectMap aspects) {
+    if (!aspects.containsKey(DATA_PLATFORM_INSTANCE_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
     DataPlatformInstance dataPlatformInstance =
-        new DataPlatformInstance(dataPlatformInstanceAspect.getValue().data());
+        new DataPlatformInstance(aspects.get(DATA_PLATFORM_INSTANCE_ASPECT_NAME).getValue().data());
     if (dataPlatformInstance.getInstance() == null) {
       return FieldResolver.emptyFieldValue();
     }
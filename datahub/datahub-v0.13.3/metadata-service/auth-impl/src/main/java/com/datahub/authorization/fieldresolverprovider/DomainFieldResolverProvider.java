@@ -10,7 +10,7 @@ import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.domain.DomainProperties;
 import com.linkedin.domain.Domains;
 import com.linkedin.entity.EntityResponse;
-import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.entity.client.SystemEntityClient;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.Collections;
@@ -80,10 +80,30 @@ public class DomainFieldResolverProvider implements EntityFieldResolverProvider
     return parentUrns;
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(DOMAINS_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      @Nonnull OperationContext opContext,
+      EntitySpec entitySpec,
+      @Nonnull EnvelopedAspectMap aspects) {
+    return FieldResolver.getResolverFromFunction(
+        entitySpec,
+        spec ->
+            isDomain(spec)
+                ? FieldResolver.FieldValue.builder()
+                    .values(Collections.singleton(spec.getEntity()))
+                    .build()
+                : getDomains(opContext, aspects));
+  }
+
   private FieldResolver.FieldValue getDomains(
       @Nonnull OperationContext opContext, EntitySpec entitySpec) {
 
-    final EnvelopedAspect domainsAspect;
+    final EntityResponse response;
     try {
       if (entitySpec.getEntity().isEmpty()) {
         return FieldResolver.emptyFieldValue();
@@ -98,28 +118,40 @@ public class DomainFieldResolverProvider implements EntityFieldResolverProvider
             .build();
       }
 
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               opContext,
               entityUrn.getEntityType(),
               entityUrn,
               Collections.singleton(DOMAINS_ASPECT_NAME));
-      if (response == null || !response.getAspects().containsKey(DOMAINS_ASPECT_NAME)) {
+      if (response == null) {
         return FieldResolver.emptyFieldValue();
       }
-      domainsAspect = response.getAspects().get(DOMAINS_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving domains aspect for entitySpec {}", entitySpec, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getDomains(opContext, response.getAspects());
+  }
+
+  private static boolean isDomain(EntitySpec entitySpec) {
+    return !entitySpec.getEntity().isEmpty()
+        && UrnUtils.getUrn(entitySpec.getEntity()).getEntityType().equals(DOMAIN_ENTITY_NAME);
+  }
+
+  private FieldResolver.FieldValue getDomains(
+      @Nonnull OperationContext opContext, @Nonnull EnvelopedAspectMap aspects) {
+    if (!aspects.containsKey(DOMAINS_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
 
     /*
      * Build up a set of all directly referenced domains and any of the domains' parent domains.
      * To avoid cycles we remove any parents we've already visited to prevent an infinite loop cycle.
      */
 
-    final Set<Urn> domainUrns =
-        new HashSet<>(new Domains(domainsAspect.getValue().data()).getDomains());
+    final Domains domains = new Domains(aspects.get(DOMAINS_ASPECT_NAME).getValue().data());
+    final Set<Urn> domainUrns = new HashSet<>(domains.getDomains());
     Set<Urn> batchedParentUrns = getBatchedParentDomains(opContext, domainUrns);
     batchedParentUrns.removeAll(domainUrns);
 
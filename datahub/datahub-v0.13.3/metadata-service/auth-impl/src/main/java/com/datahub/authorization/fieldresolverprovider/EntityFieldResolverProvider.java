@@ -3,8 +3,11 @@ package com.datahub.authorization.fieldresolverprovider;
 import com.datahub.authorization.EntityFieldType;
 import com.datahub.authorization.EntitySpec;
 import com.datahub.authorization.FieldResolver;
+import com.linkedin.entity.EnvelopedAspectMap;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import javax.annotation.Nonnull;
 
 /** Base class for defining a class that provides the field resolver for the given field type */
@@ -19,4 +22,20 @@ public interface EntityFieldResolverProvider {
 
   /** Return resolver for fetching the field values given the entity */
   FieldResolver getFieldResolver(@Nonnull OperationContext opContext, EntitySpec entitySpec);
+
+  /**
+   * Aspects the field values are read from, which can be fetched for many entities at once. Empty
+   * if the field values do not depend on the entity's aspects.
+   */
+  default Set<String> getAspectNames() {
+    return Collections.emptySet();
+  }
+
+  /** Return resolver for the field values given the already fetched {@link #getAspectNames()} */
+  default FieldResolver getFieldResolver(
+      @Nonnull OperationContext opContext,
+      EntitySpec entitySpec,
+      @Nonnull EnvelopedAspectMap aspects) {
+    return getFieldResolver(opContext, entitySpec);
+  }
 }
@@ -10,7 +10,7 @@ import com.google.common.collect.ImmutableSet;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.EntityResponse;
-import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.entity.client.SystemEntityClient;
 import com.linkedin.identity.GroupMembership;
 import com.linkedin.identity.NativeGroupMembership;
@@ -19,6 +19,7 @@ import io.datahubproject.metadata.context.OperationContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
@@ -43,12 +44,23 @@ public class GroupMembershipFieldResolverProvider implements EntityFieldResolver
         entitySpec, spec -> getGroupMembership(opContext, spec));
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      @Nonnull OperationContext opContext,
+      EntitySpec entitySpec,
+      @Nonnull EnvelopedAspectMap aspects) {
+    return FieldResolver.getResolverFromFunction(entitySpec, spec -> getGroupMembership(aspects));
+  }
+
   private FieldResolver.FieldValue getGroupMembership(
       @Nonnull OperationContext opContext, EntitySpec entitySpec) {
 
-    EnvelopedAspect groupMembershipAspect;
-    EnvelopedAspect nativeGroupMembershipAspect;
-    List<Urn> groups = new ArrayList<>();
+    EntityResponse response;
     try {
       if (entitySpec.getEntity().isEmpty()) {
         return FieldResolver.emptyFieldValue();
@@ -56,36 +68,40 @@ public class GroupMembershipFieldResolverProvider implements EntityFieldResolver
 
       Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
 
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               opContext,
               entityUrn.getEntityType(),
               entityUrn,
               ImmutableSet.of(GROUP_MEMBERSHIP_ASPECT_NAME, NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME));
-      if (response == null
-          || !(response.getAspects().containsKey(Constants.GROUP_MEMBERSHIP_ASPECT_NAME)
-              || response
-                  .getAspects()
-                  .containsKey(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME))) {
+      if (response == null) {
         return FieldResolver.emptyFieldValue();
       }
-      if (response.getAspects().containsKey(Constants.GROUP_MEMBERSHIP_ASPECT_NAME)) {
-        groupMembershipAspect = response.getAspects().get(Constants.GROUP_MEMBERSHIP_ASPECT_NAME);
-        GroupMembership groupMembership =
-            new GroupMembership(groupMembershipAspect.getValue().data());
-        groups.addAll(groupMembership.getGroups());
-      }
-      if (response.getAspects().containsKey(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)) {
-        nativeGroupMembershipAspect =
-            response.getAspects().get(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME);
-        NativeGroupMembership nativeGroupMembership =
-            new NativeGroupMembership(nativeGroupMembershipAspect.getValue().data());
-        groups.addAll(nativeGroupMembership.getNativeGroups());
-      }
     } catch (Exception e) {
       log.error("Error while retrieving group membership aspect for entitySpec {}", entitySpec, e);
       return FieldResolver.emptyFieldValue();
     }
+    return getGroupMembership(response.getAspects());
+  }
+
+  private static FieldResolver.FieldValue getGroupMembership(
+      @Nonnull EnvelopedAspectMap aspects) {
+    List<Urn> groups = new ArrayList<>();
+    if (aspects.containsKey(Constants.GROUP_MEMBERSHIP_ASPECT_NAME)) {
+      GroupMembership groupMembership =
+          new GroupMembership(
+              aspects.get(Constants.GROUP_MEMBERSHIP_ASPECT_NAME).getValue().data());
+      groups.addAll(groupMembership.getGroups());
+    }
+    if (aspects.containsKey(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)) {
+      NativeGroupMembership nativeGroupMembership =
+          new NativeGroupMembership(
+              aspects.get(Constants.NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME).getValue().data());
+      groups.addAll(nativeGroupMembership.getNativeGroups());
+    }
+    if (groups.isEmpty()) {
+      return FieldResolver.emptyFieldValue();
+    }
     return FieldResolver.FieldValue.builder()
         .values(groups.stream().map(Urn::toString).collect(Collectors.toSet()))
         .build();
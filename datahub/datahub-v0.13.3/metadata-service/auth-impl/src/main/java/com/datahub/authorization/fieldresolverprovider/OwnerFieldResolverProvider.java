@@ -7,12 +7,13 @@ import com.linkedin.common.Ownership;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.EntityResponse;
-import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.entity.client.SystemEntityClient;
 import com.linkedin.metadata.Constants;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
@@ -36,31 +37,51 @@ public class OwnerFieldResolverProvider implements EntityFieldResolverProvider {
     return FieldResolver.getResolverFromFunction(entitySpec, spec -> getOwners(opContext, spec));
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      @Nonnull OperationContext opContext,
+      EntitySpec entitySpec,
+      @Nonnull EnvelopedAspectMap aspects) {
+    return FieldResolver.getResolverFromFunction(entitySpec, spec -> getOwners(aspects));
+  }
+
   private FieldResolver.FieldValue getOwners(
       @Nonnull OperationContext opContext, EntitySpec entitySpec) {
 
-    EnvelopedAspect ownershipAspect;
+    EntityResponse response;
     try {
       if (entitySpec.getEntity().isEmpty()) {
         return FieldResolver.emptyFieldValue();
       }
       Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
 
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               opContext,
               entityUrn.getEntityType(),
               entityUrn,
               Collections.singleton(Constants.OWNERSHIP_ASPECT_NAME));
-      if (response == null || !response.getAspects().containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+      if (response == null) {
         return FieldResolver.emptyFieldValue();
       }
-      ownershipAspect = response.getAspects().get(Constants.OWNERSHIP_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving ownership aspect for entitySpec {}", entitySpec, e);
       return FieldResolver.emptyFieldValue();
     }
-    Ownership ownership = new Ownership(ownershipAspect.getValue().data());
+    return getOwners(response.getAspects());
+  }
+
+  private static FieldResolver.FieldValue getOwners(@Nonnull EnvelopedAspectMap aspects) {
+    if (!aspects.containsKey(Constants.OWNERSHIP_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
+    Ownership ownership =
+        new Ownership(aspects.get(Constants.OWNERSHIP_ASPECT_NAME).getValue().data());
     return FieldResolver.FieldValue.builder()
         .values(
             ownership.getOwners().stream()
@@ -7,12 +7,13 @@ import com.linkedin.common.GlobalTags;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.entity.EntityResponse;
-import com.linkedin.entity.EnvelopedAspect;
+import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.entity.client.SystemEntityClient;
 import com.linkedin.metadata.Constants;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
@@ -36,10 +37,23 @@ public class TagFieldResolverProvider implements EntityFieldResolverProvider {
     return FieldResolver.getResolverFromFunction(entitySpec, spec -> getTags(opContext, spec));
   }
 
+  @Override
+  public Set<String> getAspectNames() {
+    return Collections.singleton(Constants.GLOBAL_TAGS_ASPECT_NAME);
+  }
+
+  @Override
+  public FieldResolver getFieldResolver(
+      @Nonnull OperationContext opContext,
+      EntitySpec entitySpec,
+      @Nonnull EnvelopedAspectMap aspects) {
+    return FieldResolver.getResolverFromFunction(entitySpec, spec -> getTags(aspects));
+  }
+
   private FieldResolver.FieldValue getTags(
       @Nonnull OperationContext opContext, EntitySpec entitySpec) {
 
-    EnvelopedAspect globalTagsAspect;
+    EntityResponse response;
     try {
       if (entitySpec.getEntity().isEmpty()) {
         return FieldResolver.emptyFieldValue();
@@ -47,22 +61,28 @@ public class TagFieldResolverProvider implements EntityFieldResolverProvider {
 
       Urn entityUrn = UrnUtils.getUrn(entitySpec.getEntity());
 
-      EntityResponse response =
+      response =
           _entityClient.getV2(
               opContext,
               entityUrn.getEntityType(),
               entityUrn,
               Collections.singleton(Constants.GLOBAL_TAGS_ASPECT_NAME));
-      if (response == null
-          || !response.getAspects().containsKey(Constants.GLOBAL_TAGS_ASPECT_NAME)) {
+      if (response == null) {
         return FieldResolver.emptyFieldValue();
       }
-      globalTagsAspect = response.getAspects().get(Constants.GLOBAL_TAGS_ASPECT_NAME);
     } catch (Exception e) {
       log.error("Error while retrieving tags aspect for entitySpec {}", entitySpec, e);
       return FieldResolver.emptyFieldValue();
     }
-    GlobalTags globalTags = new GlobalTags(globalTagsAspect.getValue().data());
+    return getTags(response.getAspects());
+  }
+
+  private static FieldResolver.FieldValue getTags(@Nonnull EnvelopedAspectMap aspects) {
+    if (!aspects.containsKey(Constants.GLOBAL_TAGS_ASPECT_NAME)) {
+      return FieldResolver.emptyFieldValue();
+    }
+    GlobalTags globalTags =
+        new GlobalTags(aspects.get(Constants.GLOBAL_TAGS_ASPECT_NAME).getValue().data());
     return FieldResolver.FieldValue.builder()
         .values(
             globalTags.getTags().stream()
@@ -11,6 +11,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -19,6 +21,7 @@ import static org.testng.Assert.assertTrue;
 import com.datahub.authentication.Actor;
 import com.datahub.authentication.ActorType;
 import com.datahub.authentication.Authentication;
+import com.datahub.plugins.auth.authorization.Authorizer;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -487,6 +490,35 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
   }
 
+  @Test
+  public void testRequestScopedAuthorizerResolvesActorOnce() throws Exception {
+    final Authorizer requestAuthorizer = _dataHubAuthorizer.forRequest();
+
+    for (String resource : List.of("urn:li:dataset:test", "urn:li:dataset:other")) {
+      AuthorizationRequest request =
+          new AuthorizationRequest(
+              USER_WITH_ADMIN_ROLE.toString(),
+              "EDIT_USER_PROFILE",
+              Optional.of(new EntitySpec("dataset", resource)));
+
+      assertEquals(requestAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+      // Repeated checks are memoized
+      assertEquals(requestAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
+    }
+
+    // The actor's roles are fetched once for all checks of the request
+    verify(_entityClient, times(1))
+        .batchGetV2(
+            any(OperationContext.class),
+            any(),
+            eq(Collections.singleton(USER_WITH_ADMIN_ROLE)),
+            eq(
+                ImmutableSet.of(
+                    ROLE_MEMBERSHIP_ASPECT_NAME,
+                    GROUP_MEMBERSHIP_ASPECT_NAME,
+                    NATIVE_GROUP_MEMBERSHIP_ASPECT_NAME)));
+  }
+
   @Test
   public void testAuthorizationOnDomainWithPrivilegeIsAllowed() {
     EntitySpec resourceSpec = new EntitySpec("dataset", "urn:li:dataset:test");
@@ -563,6 +595,82 @@ public class DataHubAuthorizerTest {
     assertEquals(_dataHubAuthorizer.authorize(request).getType(), AuthorizationResult.Type.ALLOW);
   }
 
+  @Test
+  public void testRefreshKeepsPolicyChangesAppliedWhileFetching() throws Exception {
+    final Urn refreshedUrn = UrnUtils.getUrn("urn:li:dataHubPolicy:refreshed");
+    final Urn upsertedUrn = UrnUtils.getUrn("urn:li:dataHubPolicy:upserted");
+    final Urn deletedUrn = UrnUtils.getUrn("urn:li:dataHubPolicy:deleted");
+    final Urn createdUrn = UrnUtils.getUrn("urn:li:dataHubPolicy:created");
+    final DataHubPolicyInfo cached = createNamedPolicyInfo("cached");
+    final DataHubPolicyInfo refreshed = createNamedPolicyInfo("refreshed");
+    final DataHubPolicyInfo upserted = createNamedPolicyInfo("upserted");
+    final DataHubPolicyInfo created = createNamedPolicyInfo("created");
+
+    // Without a scheduled refresh, the policies are only refreshed below
+    final DataHubAuthorizer authorizer =
+        new DataHubAuthorizer(
+            systemOpContext, _entityClient, 0, 0, DataHubAuthorizer.AuthorizationMode.DEFAULT, 10);
+    authorizer.upsertPolicy(refreshedUrn, cached);
+    authorizer.upsertPolicy(upsertedUrn, cached);
+    authorizer.upsertPolicy(deletedUrn, cached);
+
+    final PolicyFetcher policyFetcher = mock(PolicyFetcher.class);
+    when(policyFetcher.fetchPolicies(any(OperationContext.class), anyInt(), isNull(), isNull()))
+        .thenAnswer(
+            invocation -> {
+              // Single policy changes are applied while the policies are being fetched, the
+              // fetched policies don't include them yet
+              authorizer.upsertPolicy(upsertedUrn, upserted);
+              authorizer.deletePolicy(deletedUrn);
+              return new PolicyFetcher.PolicyFetchResult(
+                  List.of(
+                      new PolicyFetcher.Policy(refreshedUrn, refreshed),
+                      new PolicyFetcher.Policy(upsertedUrn, cached),
+                      new PolicyFetcher.Policy(deletedUrn, cached),
+                      new PolicyFetcher.Policy(createdUrn, created)),
+                  4,
+                  null);
+            });
+
+    new DataHubAuthorizer.PolicyRefreshRunnable(
+            systemOpContext, policyFetcher, authorizer.policyIndex, 10)
+        .run();
+
+    assertEquals(
+        authorizer.policyIndex.get().getPolicies(DataHubAuthorizer.ALL),
+        List.of(refreshed, upserted, created));
+  }
+
+  @Test
+  public void testActorPoliciesOnlyIncludeOwnerPoliciesMatchingTheActor() throws Exception {
+    final Urn actorUrn = UrnUtils.getUrn("urn:li:corpuser:actor");
+    final DataHubActorFilter ownersOnly = new DataHubActorFilter().setResourceOwners(true);
+    final DataHubPolicyInfo ownersPolicy =
+        createDataHubPolicyInfoFor(true, ImmutableList.of("EDIT_ENTITY_TAGS"), null, ownersOnly)
+            .setDisplayName("owners");
+    final DataHubActorFilter ownersAndActor =
+        new DataHubActorFilter()
+            .setResourceOwners(true)
+            .setUsers(new UrnArray(ImmutableList.of(actorUrn)));
+    final DataHubPolicyInfo ownersAndActorPolicy =
+        createDataHubPolicyInfoFor(
+                true, ImmutableList.of("EDIT_ENTITY_TAGS"), null, ownersAndActor)
+            .setDisplayName("owners and actor");
+
+    final DataHubAuthorizer authorizer =
+        new DataHubAuthorizer(
+            systemOpContext, _entityClient, 0, 0, DataHubAuthorizer.AuthorizationMode.DEFAULT, 10);
+    authorizer.init(
+        Collections.emptyMap(), createAuthorizerContext(systemOpContext, _entityClient));
+    authorizer.upsertPolicy(UrnUtils.getUrn("urn:li:dataHubPolicy:owners"), ownersPolicy);
+    authorizer.upsertPolicy(
+        UrnUtils.getUrn("urn:li:dataHubPolicy:ownersAndActor"), ownersAndActorPolicy);
+
+    // Owner policies would otherwise make the cache key of every actor's search specific to it
+    assertEquals(authorizer.getActorPolicies(actorUrn), Set.of(ownersAndActorPolicy));
+    assertEquals(authorizer.getActorPolicies(UrnUtils.getUrn("urn:li:corpuser:other")), Set.of());
+  }
+
   private DataHubPolicyInfo createDataHubPolicyInfo(
       boolean active, List<String> privileges, @Nullable final Urn domain) throws Exception {
 
@@ -585,6 +693,11 @@ public class DataHubAuthorizerTest {
     return createDataHubPolicyInfoFor(active, privileges, domain, actorFilter);
   }
 
+  private DataHubPolicyInfo createNamedPolicyInfo(String displayName) throws Exception {
+    return createDataHubPolicyInfo(true, ImmutableList.of("EDIT_ENTITY_TAGS"), null)
+        .setDisplayName(displayName);
+  }
+
   private DataHubPolicyInfo createDataHubPolicyInfoFor(
       boolean active,
       List<String> privileges,
@@ -0,0 +1,165 @@
+package com.datahub.authorization;
+
+import static com.linkedin.metadata.authorization.PoliciesConfig.*;
+import static org.testng.Assert.*;
+
+import com.linkedin.common.UrnArray;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.StringArray;
+import com.linkedin.policy.DataHubActorFilter;
+import com.linkedin.policy.DataHubPolicyInfo;
+import com.linkedin.policy.DataHubResourceFilter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.testng.annotations.Test;
+
+public class PolicyIndexTest {
+
+  private static final String PRIVILEGE = "EDIT_ENTITY_TAGS";
+  private static final Urn USER = UrnUtils.getUrn("urn:li:corpuser:user");
+  private static final Urn GROUP = UrnUtils.getUrn("urn:li:corpGroup:group");
+
+  @Test
+  public void testActivePoliciesByResourceType() {
+    final DataHubPolicyInfo datasetPolicy =
+        createPolicy(ACTIVE_POLICY_STATE, "dataset", new DataHubActorFilter().setAllUsers(true));
+    final DataHubPolicyInfo anyTypePolicy =
+        createPolicy(
+            ACTIVE_POLICY_STATE, null, new DataHubActorFilter().setUsers(new UrnArray(USER)));
+    final DataHubPolicyInfo inactivePolicy =
+        createPolicy(INACTIVE_POLICY_STATE, "dataset", new DataHubActorFilter().setAllUsers(true));
+    final PolicyIndex index = createIndex(datasetPolicy, anyTypePolicy, inactivePolicy);
+
+    assertEquals(index.getPolicies(PRIVILEGE).size(), 3);
+    assertEquals(index.getPolicies(DataHubAuthorizer.ALL).size(), 3);
+    assertTrue(index.getPolicies("EDIT_ENTITY_OWNERS").isEmpty());
+
+    assertEquals(
+        getPolicies(index.getActivePolicies(PRIVILEGE, Optional.of("dataset"))),
+        Set.of(datasetPolicy, anyTypePolicy));
+    assertEquals(
+        getPolicies(index.getActivePolicies(PRIVILEGE, Optional.of("chart"))),
+        Set.of(anyTypePolicy));
+    assertEquals(
+        getPolicies(index.getActivePolicies(PRIVILEGE, Optional.empty())), Set.of(anyTypePolicy));
+  }
+
+  @Test
+  public void testActivePoliciesByActor() {
+    final DataHubPolicyInfo groupPolicy =
+        createPolicy(
+            ACTIVE_POLICY_STATE, null, new DataHubActorFilter().setGroups(new UrnArray(GROUP)));
+    final DataHubPolicyInfo allGroupsPolicy =
+        createPolicy(ACTIVE_POLICY_STATE, null, new DataHubActorFilter().setAllGroups(true));
+    final PolicyIndex.ActorPolicies actorPolicies =
+        createIndex(groupPolicy, allGroupsPolicy)
+            .getActivePolicies(PRIVILEGE, Optional.empty())
+            .get(0);
+
+    assertTrue(actorPolicies.getUserPolicies(USER.toString()).isEmpty());
+    assertTrue(actorPolicies.hasGroupPolicies());
+    assertFalse(actorPolicies.hasRolePolicies());
+    assertTrue(actorPolicies.getGroupPolicies(Set.of()).isEmpty());
+    assertEquals(
+        actorPolicies.getGroupPolicies(Set.of(GROUP.toString())).stream()
+            .map(PolicyIndex.CompiledPolicy::getPolicy)
+            .collect(Collectors.toSet()),
+        Set.of(groupPolicy, allGroupsPolicy));
+  }
+
+  @Test
+  public void testPolicyChanges() {
+    final Urn policyUrn = UrnUtils.getUrn("urn:li:dataHubPolicy:policy");
+    final DataHubPolicyInfo policy =
+        createPolicy(ACTIVE_POLICY_STATE, null, new DataHubActorFilter().setAllUsers(true));
+    final DataHubPolicyInfo inactivePolicy =
+        createPolicy(INACTIVE_POLICY_STATE, null, new DataHubActorFilter().setAllUsers(true));
+
+    final PolicyIndex index = PolicyIndex.EMPTY.withPolicy(policyUrn, policy);
+    assertEquals(
+        getPolicies(index.getActivePolicies(PRIVILEGE, Optional.empty())), Set.of(policy));
+
+    final PolicyIndex updatedIndex = index.withPolicy(policyUrn, inactivePolicy);
+    assertEquals(updatedIndex.getPolicies(PRIVILEGE), List.of(inactivePolicy));
+    assertTrue(updatedIndex.getActivePolicies(PRIVILEGE, Optional.empty()).isEmpty());
+    // The previous index is left unchanged
+    assertEquals(index.getPolicies(PRIVILEGE), List.of(policy));
+
+    assertTrue(index.withoutPolicy(policyUrn).getPolicies(DataHubAuthorizer.ALL).isEmpty());
+    assertSame(index.withoutPolicy(UrnUtils.getUrn("urn:li:dataHubPolicy:other")), index);
+  }
+
+  @Test
+  public void testRebase() {
+    final Urn keptUrn = UrnUtils.getUrn("urn:li:dataHubPolicy:kept");
+    final Urn changedUrn = UrnUtils.getUrn("urn:li:dataHubPolicy:changed");
+    final Urn deletedUrn = UrnUtils.getUrn("urn:li:dataHubPolicy:deleted");
+    final DataHubPolicyInfo policy =
+        createPolicy(ACTIVE_POLICY_STATE, null, new DataHubActorFilter().setAllUsers(true));
+    final DataHubPolicyInfo fetchedPolicy =
+        createPolicy(ACTIVE_POLICY_STATE, "dataset", new DataHubActorFilter().setAllUsers(true));
+    final DataHubPolicyInfo changedPolicy =
+        createPolicy(INACTIVE_POLICY_STATE, null, new DataHubActorFilter().setAllUsers(true));
+
+    final PolicyIndex base =
+        PolicyIndex.EMPTY
+            .withPolicy(keptUrn, policy)
+            .withPolicy(changedUrn, policy)
+            .withPolicy(deletedUrn, policy);
+    final Map<Urn, DataHubPolicyInfo> fetched = new LinkedHashMap<>();
+    fetched.put(keptUrn, fetchedPolicy);
+    fetched.put(changedUrn, fetchedPolicy);
+    fetched.put(deletedUrn, fetchedPolicy);
+
+    // Without changes since the base, the fetched policies are taken as they are
+    assertEquals(base.rebase(base, fetched).getPolicies(PRIVILEGE), List.copyOf(fetched.values()));
+
+    final PolicyIndex current =
+        base.withPolicy(changedUrn, changedPolicy).withoutPolicy(deletedUrn);
+    assertEquals(
+        current.rebase(base, fetched).getPolicies(PRIVILEGE),
+        List.of(fetchedPolicy, changedPolicy));
+  }
+
+  private static PolicyIndex createIndex(DataHubPolicyInfo... policies) {
+    final Map<Urn, DataHubPolicyInfo> policiesByUrn = new LinkedHashMap<>();
+    for (int i = 0; i < policies.length; i++) {
+      policiesByUrn.put(UrnUtils.getUrn("urn:li:dataHubPolicy:" + i), policies[i]);
+    }
+    return new PolicyIndex(policiesByUrn);
+  }
+
+  private static Set<DataHubPolicyInfo> getPolicies(List<PolicyIndex.ActorPolicies> candidates) {
+    return candidates.stream()
+        .flatMap(
+            actorPolicies ->
+                Stream.concat(
+                    actorPolicies.getAllUsers().stream(),
+                    actorPolicies.getUserPolicies(USER.toString()).stream()))
+        .map(PolicyIndex.CompiledPolicy::getPolicy)
+        .collect(Collectors.toSet());
+  }
+
+  private static DataHubPolicyInfo createPolicy(
+      String state, String resourceType, DataHubActorFilter actors) {
+    final DataHubPolicyInfo policy =
+        new DataHubPolicyInfo()
+            .setType(METADATA_POLICY_TYPE)
+            .setState(state)
+            .setPrivileges(new StringArray(PRIVILEGE))
+            .setDisplayName("Policy")
+            .setEditable(true)
+            .setActors(actors);
+    if (resourceType != null) {
+      policy.setResources(
+          new DataHubResourceFilter().setType(resourceType).setAllResources(true));
+    }
+    return policy;
+  }
+}
@@ -24,6 +24,14 @@ public class EbeanConfiguration {
   private boolean postgresUseIamAuth;
   private LockingConfiguration locking;
 
+  /** Encoding of the metadata column for newly written aspects, JSON or ZSTD_JSON */
+  private String metadataEncoding;
+
+  /** Whether concurrent reads of the same aspect rows share a single in flight query */
+  private boolean readCoalescingEnabled;
+
+  private LatestAspectCacheConfiguration latestAspectCache;
+
   public static final EbeanConfiguration testDefault =
       EbeanConfiguration.builder().locking(LockingConfiguration.testDefault).build();
 
@@ -43,4 +51,14 @@ public class EbeanConfiguration {
             .maximumLocks(10000)
             .build();
   }
+
+  @Data
+  @Builder
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class LatestAspectCacheConfiguration {
+    private boolean enabled;
+    private long maxBytes;
+    private long ttlSeconds;
+  }
 }
@@ -0,0 +1,23 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+/** Configuration of the executor GraphQL resolvers run their blocking work on. */
+@Data
+public class GraphQLConcurrencyConfiguration {
+
+  public enum ExecutorType {
+    /** A bounded pool of platform threads */
+    THREAD_POOL,
+    /** A virtual thread per task, requires Java 21 */
+    VIRTUAL_THREADS,
+    /** The JVM wide fork join pool, sized to the number of CPUs */
+    COMMON_POOL
+  }
+
+  private ExecutorType executorType;
+  private int threadPoolSize;
+  // Once full, the work runs on the thread executing the query
+  private int queueSize;
+  private int keepAliveSeconds;
+}
@@ -5,4 +5,6 @@ import lombok.Data;
 @Data
 public class GraphQLConfiguration {
   private GraphQLQueryConfiguration query;
+  private GraphQLConcurrencyConfiguration concurrency;
+  private GraphQLMetricsConfiguration metrics;
 }
@@ -0,0 +1,12 @@
+package com.linkedin.metadata.config;
+
+import lombok.Data;
+
+@Data
+public class GraphQLMetricsConfiguration {
+  // Executions slower than this are logged with the timing of their fields, when sampled
+  private long slowQueryThresholdMs;
+  private double slowQuerySampleRate;
+  // Allows clients to request the timing of all fields of an execution
+  private boolean tracingHeaderEnabled;
+}
@@ -10,6 +10,8 @@ public class EntityClientCacheConfig implements ClientCacheConfig {
   private int statsIntervalSeconds;
   private int defaultTTLSeconds;
   private int maxBytes;
+  // evict cached aspects when a MetadataChangeLog for them is seen
+  private boolean invalidationEnabled;
 
   // entityName -> aspectName -> cache ttl override
   private Map<String, Map<String, Integer>> entityAspectTTLSeconds;
@@ -8,4 +8,6 @@ public class ConsumerConfiguration {
   private int maxPartitionFetchBytes;
   private boolean stopOnDeserializationError;
   private boolean healthCheckEnabled;
+  private ConsumerTopicConfiguration mcp;
+  private MclConsumerConfiguration mcl;
 }
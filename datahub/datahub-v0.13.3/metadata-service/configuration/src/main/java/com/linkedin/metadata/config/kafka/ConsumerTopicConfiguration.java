@@ -0,0 +1,22 @@
+package com.linkedin.metadata.config.kafka;
+
+import lombok.Data;
+
+/** Per-topic consumer options for the MCP and MCL consumers */
+@Data
+public class ConsumerTopicConfiguration {
+  /** Whether the whole poll is delivered to the listener as one batch */
+  private boolean batchEnabled;
+
+  /** Maximum number of records delivered in a single batch (max.poll.records) */
+  private int batchSize;
+
+  /**
+   * Whether records with different keys of the same poll are processed concurrently, records
+   * sharing a key are still processed in offset order
+   */
+  private boolean keyOrderedEnabled;
+
+  /** Number of threads processing distinct keys concurrently in key ordered mode */
+  private int keyOrderedConcurrency;
+}
@@ -0,0 +1,11 @@
+package com.linkedin.metadata.config.kafka;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class MclConsumerConfiguration extends ConsumerTopicConfiguration {
+  /** Number of threads used to run independent hooks concurrently in batch mode */
+  private int hookConcurrency;
+}
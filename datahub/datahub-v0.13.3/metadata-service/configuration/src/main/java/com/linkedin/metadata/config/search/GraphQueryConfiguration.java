@@ -18,6 +18,12 @@ public class GraphQueryConfiguration {
    */
   private boolean boostViaNodes;
 
+  /**
+   * Runs the lineage walk on interned urn ids with primitive visited sets and shared path prefixes
+   * instead of urn keyed maps of copied paths, reduces allocation on large lineage graphs
+   */
+  private boolean internedTraversal;
+
   public static GraphQueryConfiguration testDefaults;
 
   static {
@@ -0,0 +1,11 @@
+package com.linkedin.metadata.config.search;
+
+import lombok.Data;
+
+@Data
+public class WriteCoalescingConfiguration {
+
+  private boolean enabled;
+  private long flushPeriodMs;
+  private int maxPendingDocuments;
+}
@@ -19,6 +19,12 @@ public class DataHubAuthorizerFactory {
   @Value("${authorization.defaultAuthorizer.cachePolicyFetchSize}")
   private Integer policyCacheFetchSize;
 
+  @Value("${authorization.defaultAuthorizer.incrementalRefresh.enabled:false}")
+  private Boolean incrementalRefreshEnabled;
+
+  @Value("${authorization.defaultAuthorizer.incrementalRefresh.fullRefreshIntervalSecs:3600}")
+  private Integer fullRefreshIntervalSeconds;
+
   @Value("${authorization.defaultAuthorizer.enabled:true}")
   private Boolean policiesEnabled;
 
@@ -34,12 +40,17 @@ public class DataHubAuthorizerFactory {
             ? DataHubAuthorizer.AuthorizationMode.DEFAULT
             : DataHubAuthorizer.AuthorizationMode.ALLOW_ALL;
 
+    // Changes are applied as they happen, the full refresh only reconciles missed ones.
+    final int refreshIntervalSeconds =
+        incrementalRefreshEnabled ? fullRefreshIntervalSeconds : policyCacheRefreshIntervalSeconds;
+
     return new DataHubAuthorizer(
         systemOpContext,
         systemEntityClient,
         10,
-        policyCacheRefreshIntervalSeconds,
+        refreshIntervalSeconds,
         mode,
-        policyCacheFetchSize);
+        policyCacheFetchSize,
+        incrementalRefreshEnabled);
   }
 }
@@ -0,0 +1,116 @@
+package com.linkedin.gms.factory.auth;
+
+import static com.linkedin.metadata.Constants.*;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.datahub.authorization.DataHubAuthorizer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.gms.factory.kafka.ChangedAspects;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.Topics;
+import com.linkedin.policy.DataHubPolicyInfo;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.List;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies policy changes to the {@link DataHubAuthorizer} one policy at a time, as they are
+ * written, instead of re-fetching all policies on every change.
+ *
+ * <p>Every instance has to see every change, so each one subscribes to the versioned MCL topic with
+ * its own consumer group, starting from the latest offset. The group is named after the instance's
+ * hostname, unless KAFKA_CONSUMER_INSTANCE_ID is set, so a restarted instance rejoins its group
+ * instead of leaving an orphaned one behind. Changes missed while an instance is down are picked
+ * up by the much less frequent full policy refresh.
+ */
+@Slf4j
+@Component
+@EnableKafka
+@ConditionalOnProperty(
+    name = "authorization.defaultAuthorizer.incrementalRefresh.enabled",
+    havingValue = "true")
+public class PolicyChangeListener {
+
+  private final OperationContext systemOperationContext;
+  private final DataHubAuthorizer dataHubAuthorizer;
+
+  private final Histogram refreshLag =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "refreshLag"));
+
+  public PolicyChangeListener(
+      @Qualifier("systemOperationContext") OperationContext systemOperationContext,
+      @Qualifier("dataHubAuthorizer") DataHubAuthorizer dataHubAuthorizer) {
+    this.systemOperationContext = systemOperationContext;
+    this.dataHubAuthorizer = dataHubAuthorizer;
+  }
+
+  @KafkaListener(
+      id = "policyChangeListener",
+      groupId =
+          "${POLICY_CACHE_INCREMENTAL_REFRESH_CONSUMER_GROUP_PREFIX:policy-cache-refresh}"
+              + "-${KAFKA_CONSUMER_INSTANCE_ID:#{T(java.net.InetAddress).getLocalHost().getHostName()}}",
+      topics = {
+        "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}"
+      },
+      containerFactory = "kafkaEventBatchConsumer",
+      concurrency = "1",
+      properties = {"auto.offset.reset=latest"})
+  public void refresh(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "refresh").time()) {
+      final long now = System.currentTimeMillis();
+      // Changes are applied in order, a policy may change more than once in a poll
+      for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+        if (consumerRecord.value() == null) {
+          continue;
+        }
+        try {
+          final MetadataChangeLog event = EventUtils.avroToPegasusMCL(consumerRecord.value());
+          if (POLICY_ENTITY_NAME.equals(event.getEntityType()) && apply(event)) {
+            refreshLag.update(now - consumerRecord.timestamp());
+            MetricUtils.counter(this.getClass(), "policy_change_count").inc();
+          }
+        } catch (Exception e) {
+          MetricUtils.counter(this.getClass(), "policy_change_failure").inc();
+          log.warn("Failed to apply MCL event to the policy cache, skipping it", e);
+        }
+      }
+    }
+  }
+
+  /** @return true if the event changed a policy */
+  private boolean apply(@Nonnull MetadataChangeLog event) {
+    final Urn policyUrn = ChangedAspects.getUrn(systemOperationContext, event);
+    if (ChangeType.DELETE.equals(event.getChangeType())) {
+      // Deleting either the key or the info aspect removes the policy
+      if (DATAHUB_POLICY_INFO_ASPECT_NAME.equals(event.getAspectName())
+          || systemOperationContext.getKeyAspectName(policyUrn).equals(event.getAspectName())) {
+        dataHubAuthorizer.deletePolicy(policyUrn);
+        return true;
+      }
+    } else if (DATAHUB_POLICY_INFO_ASPECT_NAME.equals(event.getAspectName())
+        && event.hasAspect()) {
+      dataHubAuthorizer.upsertPolicy(
+          policyUrn,
+          GenericRecordUtils.deserializeAspect(
+              event.getAspect().getValue(),
+              event.getAspect().getContentType(),
+              DataHubPolicyInfo.class));
+      return true;
+    }
+    return false;
+  }
+}
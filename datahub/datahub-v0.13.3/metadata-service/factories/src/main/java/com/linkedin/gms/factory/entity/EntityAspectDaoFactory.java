@@ -5,8 +5,10 @@ import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.LatestAspectCache;
 import io.ebean.Database;
 import javax.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -15,6 +17,9 @@ import org.springframework.context.annotation.DependsOn;
 
 @Configuration
 public class EntityAspectDaoFactory {
+  @Autowired(required = false)
+  @Qualifier("latestAspectCache")
+  private LatestAspectCache latestAspectCache;
 
   @Bean(name = "entityAspectDao")
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
@@ -22,7 +27,7 @@ public class EntityAspectDaoFactory {
   protected AspectDao createEbeanInstance(
       @Qualifier("ebeanServer") final Database server,
       final ConfigurationProvider configurationProvider) {
-    return new EbeanAspectDao(server, configurationProvider.getEbean());
+    return new EbeanAspectDao(server, configurationProvider.getEbean(), latestAspectCache);
   }
 
   @Bean(name = "entityAspectDao")
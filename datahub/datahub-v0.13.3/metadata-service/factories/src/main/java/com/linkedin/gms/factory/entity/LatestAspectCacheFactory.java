@@ -0,0 +1,22 @@
+package com.linkedin.gms.factory.entity;
+
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.entity.ebean.LatestAspectCache;
+import javax.annotation.Nonnull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LatestAspectCacheFactory {
+
+  @Bean(name = "latestAspectCache")
+  @ConditionalOnProperty(name = "ebean.latestAspectCache.enabled", havingValue = "true")
+  @Nonnull
+  protected LatestAspectCache getInstance(final ConfigurationProvider configurationProvider) {
+    final EbeanConfiguration.LatestAspectCacheConfiguration config =
+        configurationProvider.getEbean().getLatestAspectCache();
+    return new LatestAspectCache(config.getMaxBytes(), config.getTtlSeconds());
+  }
+}
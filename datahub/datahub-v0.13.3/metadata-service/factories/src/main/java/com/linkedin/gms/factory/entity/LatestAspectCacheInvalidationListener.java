@@ -0,0 +1,73 @@
+package com.linkedin.gms.factory.entity;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.gms.factory.kafka.ChangedAspects;
+import com.linkedin.metadata.entity.ebean.LatestAspectCache;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.Topics;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the {@link LatestAspectCache} for aspects written by other instances. Local writes
+ * invalidate the cache synchronously, this only covers the writes it cannot see.
+ *
+ * <p>Like the entity client cache invalidation, each instance subscribes to the versioned MCL topic
+ * with its own consumer group, named after its instance id, starting from the latest offset. The
+ * invalidationLag histogram is how long a remote write could be served stale.
+ */
+@Component
+@EnableKafka
+@ConditionalOnProperty(name = "ebean.latestAspectCache.enabled", havingValue = "true")
+public class LatestAspectCacheInvalidationListener {
+
+  private final OperationContext systemOperationContext;
+  private final LatestAspectCache latestAspectCache;
+
+  private final Histogram invalidationLag =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "invalidationLag"));
+
+  public LatestAspectCacheInvalidationListener(
+      @Qualifier("systemOperationContext") OperationContext systemOperationContext,
+      @Qualifier("latestAspectCache") LatestAspectCache latestAspectCache) {
+    this.systemOperationContext = systemOperationContext;
+    this.latestAspectCache = latestAspectCache;
+  }
+
+  @KafkaListener(
+      id = "latestAspectCacheInvalidation",
+      groupId =
+          "${EBEAN_LATEST_ASPECT_CACHE_INVALIDATION_CONSUMER_GROUP_PREFIX:latest-aspect-cache-invalidation}"
+              + "-${KAFKA_CONSUMER_INSTANCE_ID:#{T(java.net.InetAddress).getLocalHost().getHostName()}}",
+      topics = {
+        "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}"
+      },
+      containerFactory = "kafkaEventBatchConsumer",
+      concurrency = "1",
+      properties = {"auto.offset.reset=latest"})
+  public void invalidate(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "invalidate").time()) {
+      final Map<Urn, Set<String>> changedAspects =
+          ChangedAspects.collect(systemOperationContext, consumerRecords, this.getClass());
+
+      changedAspects.forEach(
+          (urn, aspectNames) -> latestAspectCache.invalidate(urn.toString(), aspectNames));
+
+      final long now = System.currentTimeMillis();
+      consumerRecords.forEach(record -> invalidationLag.update(now - record.timestamp()));
+      MetricUtils.counter(this.getClass(), "invalidated_urn_count").inc(changedAspects.size());
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.linkedin.gms.factory.entityclient;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.entity.client.SystemEntityClient;
+import com.linkedin.gms.factory.kafka.ChangedAspects;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.Topics;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts entries of the {@link com.linkedin.entity.client.EntityClientCache} as soon as the aspects
+ * they hold change, so that the cache can run with long TTLs without serving stale reads.
+ *
+ * <p>Every instance has to see every change, so each one subscribes to the versioned MCL topic with
+ * its own consumer group, starting from the latest offset. The group is named after the instance's
+ * hostname, unless KAFKA_CONSUMER_INSTANCE_ID is set, so a restarted instance rejoins its group
+ * instead of leaving an orphaned one behind. Events only ever cause evictions, a missed event
+ * degrades to the TTL based expiry.
+ */
+@Component
+@EnableKafka
+@ConditionalOnProperty(name = "cache.client.entityClient.invalidationEnabled", havingValue = "true")
+public class EntityClientCacheInvalidationListener {
+
+  private final OperationContext systemOperationContext;
+  private final SystemEntityClient systemEntityClient;
+
+  private final Histogram invalidationLag =
+      MetricUtils.get().histogram(MetricRegistry.name(this.getClass(), "invalidationLag"));
+
+  public EntityClientCacheInvalidationListener(
+      @Qualifier("systemOperationContext") OperationContext systemOperationContext,
+      @Qualifier("systemEntityClient") SystemEntityClient systemEntityClient) {
+    this.systemOperationContext = systemOperationContext;
+    this.systemEntityClient = systemEntityClient;
+  }
+
+  @KafkaListener(
+      id = "entityClientCacheInvalidation",
+      groupId =
+          "${CACHE_CLIENT_ENTITY_CLIENT_INVALIDATION_CONSUMER_GROUP_PREFIX:entity-client-cache-invalidation}"
+              + "-${KAFKA_CONSUMER_INSTANCE_ID:#{T(java.net.InetAddress).getLocalHost().getHostName()}}",
+      topics = {
+        "${METADATA_CHANGE_LOG_VERSIONED_TOPIC_NAME:" + Topics.METADATA_CHANGE_LOG_VERSIONED + "}"
+      },
+      containerFactory = "kafkaEventBatchConsumer",
+      concurrency = "1",
+      properties = {"auto.offset.reset=latest"})
+  public void invalidate(final List<ConsumerRecord<String, GenericRecord>> consumerRecords) {
+    try (Timer.Context ignored = MetricUtils.timer(this.getClass(), "invalidate").time()) {
+      final Map<Urn, Set<String>> changedAspects =
+          ChangedAspects.collect(systemOperationContext, consumerRecords, this.getClass());
+
+      systemEntityClient.getEntityClientCache().invalidate(changedAspects);
+
+      final long now = System.currentTimeMillis();
+      consumerRecords.forEach(record -> invalidationLag.update(now - record.timestamp()));
+      MetricUtils.counter(this.getClass(), "invalidated_urn_count").inc(changedAspects.size());
+    }
+  }
+}
@@ -43,6 +43,7 @@ import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
 import com.linkedin.metadata.version.GitVersion;
 import io.datahubproject.metadata.services.RestrictedService;
 import io.datahubproject.metadata.services.SecretService;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nonnull;
 import org.opensearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,7 +61,8 @@ import org.springframework.context.annotation.Import;
   EntityRegistryFactory.class,
   DataHubTokenServiceFactory.class,
   GitVersionFactory.class,
-  SiblingGraphServiceFactory.class
+  SiblingGraphServiceFactory.class,
+  GraphQLResolverExecutorFactory.class
 })
 public class GraphQLEngineFactory {
   @Autowired
@@ -190,7 +192,8 @@ public class GraphQLEngineFactory {
   @Nonnull
   protected GraphQLEngine graphQLEngine(
       @Qualifier("entityClient") final EntityClient entityClient,
-      @Qualifier("systemEntityClient") final SystemEntityClient systemEntityClient) {
+      @Qualifier("systemEntityClient") final SystemEntityClient systemEntityClient,
+      @Qualifier("graphQLResolverExecutor") final ExecutorService graphQLResolverExecutor) {
     GmsGraphQLEngineArgs args = new GmsGraphQLEngineArgs();
     args.setEntityClient(entityClient);
     args.setSystemEntityClient(systemEntityClient);
@@ -239,8 +242,13 @@ public class GraphQLEngineFactory {
     args.setGraphQLQueryIntrospectionEnabled(
         configProvider.getGraphQL().getQuery().isIntrospectionEnabled());
     args.setGraphQLQueryDepthLimit(configProvider.getGraphQL().getQuery().getDepthLimit());
+    args.setGraphQLSlowQueryThresholdMs(
+        configProvider.getGraphQL().getMetrics().getSlowQueryThresholdMs());
+    args.setGraphQLSlowQuerySampleRate(
+        configProvider.getGraphQL().getMetrics().getSlowQuerySampleRate());
     args.setBusinessAttributeService(businessAttributeService);
     args.setConnectionService(_connectionService);
+    args.setGraphQLResolverExecutor(graphQLResolverExecutor);
     return new GmsGraphQLEngine(args).builder().build();
   }
 }
@@ -0,0 +1,72 @@
+package com.linkedin.gms.factory.graphql;
+
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.GraphQLConcurrencyConfiguration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class GraphQLResolverExecutorFactory {
+
+  @Bean(name = "graphQLResolverExecutor", destroyMethod = "shutdown")
+  @Nonnull
+  protected ExecutorService graphQLResolverExecutor(final ConfigurationProvider configProvider) {
+    final GraphQLConcurrencyConfiguration config = configProvider.getGraphQL().getConcurrency();
+    switch (config.getExecutorType()) {
+      case COMMON_POOL:
+        return ForkJoinPool.commonPool();
+      case VIRTUAL_THREADS:
+        // Looked up at runtime, the code is compiled for Java versions without virtual threads
+        try {
+          return (ExecutorService)
+              Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+          log.warn("Virtual threads require Java 21, running GraphQL resolvers on a thread pool");
+        }
+        return threadPool(config);
+      case THREAD_POOL:
+      default:
+        return threadPool(config);
+    }
+  }
+
+  private static ExecutorService threadPool(@Nonnull GraphQLConcurrencyConfiguration config) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ThreadFactory threadFactory =
+        runnable -> {
+          final Thread thread =
+              new Thread(runnable, "graphql-resolver-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            config.getThreadPoolSize(),
+            config.getThreadPoolSize(),
+            config.getKeepAliveSeconds(),
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(config.getQueueSize()),
+            threadFactory,
+            // Applies back pressure to the query once the queue is full
+            (runnable, pool) -> {
+              if (pool.isShutdown()) {
+                throw new RejectedExecutionException("GraphQL resolver executor is shut down");
+              }
+              runnable.run();
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
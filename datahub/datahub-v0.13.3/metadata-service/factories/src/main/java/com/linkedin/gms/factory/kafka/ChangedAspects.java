@@ -0,0 +1,79 @@
+package com.linkedin.gms.factory.kafka;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/** Reads the aspects changed by a poll of MetadataChangeLog events, for cache invalidation. */
+@Slf4j
+public class ChangedAspects {
+
+  private ChangedAspects() {}
+
+  /**
+   * Collects the changed aspects of the whole poll, an urn often changes more than once. Deleting
+   * an entity's key aspect changes all of its aspects. Unreadable events are counted and skipped.
+   *
+   * @param metricClass class the conversion failure counter is reported for
+   */
+  @Nonnull
+  public static Map<Urn, Set<String>> collect(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<ConsumerRecord<String, GenericRecord>> consumerRecords,
+      @Nonnull Class<?> metricClass) {
+    final Map<Urn, Set<String>> changedAspects = new HashMap<>();
+    for (ConsumerRecord<String, GenericRecord> consumerRecord : consumerRecords) {
+      if (consumerRecord.value() == null) {
+        continue;
+      }
+      try {
+        final MetadataChangeLog event = EventUtils.avroToPegasusMCL(consumerRecord.value());
+        final Urn urn = getUrn(opContext, event);
+        changedAspects
+            .computeIfAbsent(urn, k -> new HashSet<>())
+            .addAll(getAspectNames(opContext, urn, event));
+      } catch (Exception e) {
+        MetricUtils.counter(metricClass, "avro_to_pegasus_conversion_failure").inc();
+        log.warn("Failed to read MCL event for cache invalidation, skipping it", e);
+      }
+    }
+    return changedAspects;
+  }
+
+  /** @return the urn of the event's entity, derived from its key aspect if the urn is not set */
+  @Nonnull
+  public static Urn getUrn(@Nonnull OperationContext opContext, @Nonnull MetadataChangeLog event) {
+    if (event.getEntityUrn() != null) {
+      return event.getEntityUrn();
+    }
+    return EntityKeyUtils.getUrnFromLog(
+        event,
+        opContext.getEntityRegistry().getEntitySpec(event.getEntityType()).getKeyAspectSpec());
+  }
+
+  @Nonnull
+  private static Collection<String> getAspectNames(
+      @Nonnull OperationContext opContext, @Nonnull Urn urn, @Nonnull MetadataChangeLog event) {
+    // Deleting the key aspect deletes the entity, along with all of its aspects
+    if (!event.hasAspectName()
+        || (ChangeType.DELETE.equals(event.getChangeType())
+            && opContext.getKeyAspectName(urn).equals(event.getAspectName()))) {
+      return opContext.getEntityAspectNames(urn);
+    }
+    return Set.of(event.getAspectName());
+  }
+}
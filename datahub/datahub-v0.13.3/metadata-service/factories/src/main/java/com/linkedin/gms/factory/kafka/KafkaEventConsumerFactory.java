@@ -5,6 +5,7 @@ import com.linkedin.gms.factory.kafka.schemaregistry.SchemaRegistryConfig;
 import com.linkedin.metadata.config.kafka.KafkaConfiguration;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
@@ -19,6 +20,7 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.CommonContainerStoppingErrorHandler;
 import org.springframework.kafka.listener.CommonDelegatingErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.DeserializationException;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
@@ -126,6 +128,50 @@ public class KafkaEventConsumerFactory {
     return factory;
   }
 
+  /**
+   * Same as kafkaEventConsumer, however the whole poll is delivered to the listener as a {@link
+   * java.util.List} of records. Listeners set max.poll.records to bound the batch size.
+   *
+   * <p>Kafka auto commit is disabled for this container, offsets of a poll are committed by the
+   * container only after the listener has returned from processing the whole batch.
+   */
+  @Bean(name = "kafkaEventBatchConsumer")
+  protected KafkaListenerContainerFactory<?> createBatchInstance(
+      @Qualifier("kafkaConsumerFactory")
+          DefaultKafkaConsumerFactory<String, GenericRecord> kafkaConsumerFactory,
+      @Qualifier("configurationProvider") ConfigurationProvider configurationProvider) {
+
+    Map<String, Object> batchProperties =
+        new HashMap<>(kafkaConsumerFactory.getConfigurationProperties());
+    batchProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+    ConcurrentKafkaListenerContainerFactory<String, GenericRecord> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(batchProperties));
+    factory.setContainerCustomizer(new ThreadPoolContainerCustomizer());
+    factory.setConcurrency(kafkaEventConsumerConcurrency);
+    factory.setBatchListener(true);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+    /* Batch listeners report the failed record wrapped in a BatchListenerFailedException, walk the cause
+     chain so that a deserialization failure still stops the container when configured to do so
+    */
+    if (configurationProvider.getKafka().getConsumer().isStopOnDeserializationError()) {
+      CommonDelegatingErrorHandler delegatingErrorHandler =
+          new CommonDelegatingErrorHandler(new DefaultErrorHandler());
+      delegatingErrorHandler.setCauseChainTraversing(true);
+      delegatingErrorHandler.addDelegate(
+          DeserializationException.class, new CommonContainerStoppingErrorHandler());
+      factory.setCommonErrorHandler(delegatingErrorHandler);
+    }
+    log.info(
+        String.format(
+            "Event-based batch KafkaListenerContainerFactory built successfully. Consumer concurrency = %s",
+            kafkaEventConsumerConcurrency));
+
+    return factory;
+  }
+
   @Bean(name = "duheKafkaEventConsumer")
   protected KafkaListenerContainerFactory<?> duheKafkaEventConsumer(
       @Qualifier("duheKafkaConsumerFactory")
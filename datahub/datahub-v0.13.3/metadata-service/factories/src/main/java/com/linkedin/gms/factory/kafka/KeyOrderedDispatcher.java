@@ -0,0 +1,140 @@
+package com.linkedin.gms.factory.kafka;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+/**
+ * Processes the records of a Kafka poll, as delivered to a batch listener, concurrently across
+ * message keys while keeping records which share a key in poll order, i.e. offset order within a
+ * partition. Records without a key are ordered by their partition instead.
+ *
+ * <p>Once a record fails, the remaining records of its key are not processed and records after it
+ * in the poll are skipped by every key. The lowest failed record is reported through a {@link
+ * BatchListenerFailedException}, so the container commits the offsets before it and redelivers
+ * the poll from it onwards. Records with other keys after that point which already completed are
+ * processed again, delivery stays at least once.
+ *
+ * <p>Every poll is a barrier: the next poll is only dispatched once all keys of the current one
+ * have finished, so a slow key still holds up the records of other keys in later polls.
+ */
+@Slf4j
+public class KeyOrderedDispatcher implements AutoCloseable {
+  private static final LogAccessor LOG_ACCESSOR = new LogAccessor(KeyOrderedDispatcher.class);
+
+  private final ExecutorService executor;
+
+  public KeyOrderedDispatcher(int concurrency) {
+    this.executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, concurrency),
+            new ThreadFactoryBuilder()
+                .setNameFormat("key-ordered-dispatch-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  /** Stops the threads processing keys, records already dispatched still complete. */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  /**
+   * Runs the handler for every record of the poll and returns once all of them have completed.
+   *
+   * @return the number of distinct keys the poll was split into
+   * @throws BatchListenerFailedException pointing at the lowest record which failed
+   */
+  public <K, V> int dispatch(
+      @Nonnull List<ConsumerRecord<K, V>> records,
+      @Nonnull Consumer<ConsumerRecord<K, V>> handler) {
+    final Map<Object, List<Integer>> chains = new LinkedHashMap<>();
+    for (int idx = 0; idx < records.size(); idx++) {
+      chains.computeIfAbsent(orderingKey(records.get(idx)), k -> new ArrayList<>()).add(idx);
+    }
+
+    final Map<Integer, RuntimeException> failures = new ConcurrentHashMap<>();
+    final AtomicInteger lowestFailed = new AtomicInteger(Integer.MAX_VALUE);
+    final List<CompletableFuture<Void>> tasks = new ArrayList<>(chains.size());
+    for (List<Integer> chain : chains.values()) {
+      tasks.add(
+          CompletableFuture.runAsync(
+              () -> runChain(records, chain, handler, failures, lowestFailed), executor));
+    }
+    CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+
+    if (!failures.isEmpty()) {
+      final int failedIndex = lowestFailed.get();
+      final ConsumerRecord<K, V> failed = records.get(failedIndex);
+      throw new BatchListenerFailedException(
+          String.format(
+              "Failed to process record at topic: %s, partition: %s, offset: %s",
+              failed.topic(), failed.partition(), failed.offset()),
+          failures.get(failedIndex),
+          failedIndex);
+    }
+    return chains.size();
+  }
+
+  private static <K, V> void runChain(
+      @Nonnull List<ConsumerRecord<K, V>> records,
+      @Nonnull List<Integer> chain,
+      @Nonnull Consumer<ConsumerRecord<K, V>> handler,
+      @Nonnull Map<Integer, RuntimeException> failures,
+      @Nonnull AtomicInteger lowestFailed) {
+    for (int idx : chain) {
+      if (idx > lowestFailed.get()) {
+        // Redelivered after the failed record anyway
+        return;
+      }
+      final ConsumerRecord<K, V> record = records.get(idx);
+      try {
+        if (record.value() == null) {
+          throw deserializationFailure(record);
+        }
+        handler.accept(record);
+      } catch (RuntimeException e) {
+        log.error(
+            "Failed to process record at topic: {}, partition: {}, offset: {}",
+            record.topic(),
+            record.partition(),
+            record.offset(),
+            e);
+        failures.put(idx, e);
+        lowestFailed.accumulateAndGet(idx, Math::min);
+        return;
+      }
+    }
+  }
+
+  @Nonnull
+  private static RuntimeException deserializationFailure(@Nonnull ConsumerRecord<?, ?> record) {
+    final RuntimeException cause =
+        SerializationUtils.getExceptionFromHeader(
+            record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+    return cause != null ? cause : new IllegalStateException("Record value is null");
+  }
+
+  @Nonnull
+  private static Object orderingKey(@Nonnull ConsumerRecord<?, ?> record) {
+    return record.key() != null
+        ? record.key()
+        : new TopicPartition(record.topic(), record.partition());
+  }
+}
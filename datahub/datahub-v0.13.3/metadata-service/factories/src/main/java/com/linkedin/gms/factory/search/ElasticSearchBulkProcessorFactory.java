@@ -42,6 +42,21 @@ public class ElasticSearchBulkProcessorFactory {
   @Value("${elasticsearch.bulkProcessor.refreshPolicy}")
   private String refreshPolicy;
 
+  @Value("#{new Boolean('${elasticsearch.bulkProcessor.adaptive.enabled:false}')}")
+  private boolean adaptive;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.maxBytes:5242880}")
+  private Long bulkSizeBytes;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.minConcurrentRequests:1}")
+  private Integer minConcurrentRequests;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.maxConcurrentRequests:4}")
+  private Integer maxConcurrentRequests;
+
+  @Value("${elasticsearch.bulkProcessor.adaptive.targetLatencyMs:5000}")
+  private Long targetLatencyMs;
+
   @Bean(name = "elasticSearchBulkProcessor")
   @Nonnull
   protected ESBulkProcessor getInstance() {
@@ -53,6 +68,11 @@ public class ElasticSearchBulkProcessorFactory {
         .numRetries(numRetries)
         .batchDelete(enableBatchDelete)
         .writeRequestRefreshPolicy(WriteRequest.RefreshPolicy.valueOf(refreshPolicy))
+        .adaptive(adaptive)
+        .bulkSizeBytes(bulkSizeBytes)
+        .minConcurrentRequests(minConcurrentRequests)
+        .maxConcurrentRequests(maxConcurrentRequests)
+        .targetLatencyMs(targetLatencyMs)
         .build();
   }
 }
@@ -9,18 +9,23 @@ import com.linkedin.gms.factory.config.ConfigurationProvider;
 import com.linkedin.gms.factory.entityregistry.EntityRegistryFactory;
 import com.linkedin.metadata.config.search.ElasticSearchConfiguration;
 import com.linkedin.metadata.config.search.SearchConfiguration;
+import com.linkedin.metadata.config.search.WriteCoalescingConfiguration;
 import com.linkedin.metadata.config.search.custom.CustomSearchConfiguration;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.EntityIndexBuilders;
 import com.linkedin.metadata.search.elasticsearch.indexbuilder.SettingsBuilder;
 import com.linkedin.metadata.search.elasticsearch.query.ESBrowseDAO;
 import com.linkedin.metadata.search.elasticsearch.query.ESSearchDAO;
+import com.linkedin.metadata.search.elasticsearch.update.CoalescingWriteBuffer;
+import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
 import java.io.IOException;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -55,7 +60,9 @@ public class ElasticSearchServiceFactory {
 
   @Bean(name = "elasticSearchService")
   @Nonnull
-  protected ElasticSearchService getInstance(final ConfigurationProvider configurationProvider)
+  protected ElasticSearchService getInstance(
+      final ConfigurationProvider configurationProvider,
+      @Qualifier("coalescingWriteBuffer") @Nullable final CoalescingWriteBuffer writeBuffer)
       throws IOException {
     log.info("Search configuration: {}", configurationProvider.getElasticSearch().getSearch());
 
@@ -82,6 +89,26 @@ public class ElasticSearchServiceFactory {
         new ESWriteDAO(
             components.getSearchClient(),
             components.getBulkProcessor(),
-            components.getNumRetries()));
+            components.getNumRetries(),
+            writeBuffer));
+  }
+
+  /**
+   * Takes the bulk processor it writes to as a dependency, so that Spring closes the buffer first
+   * and pending upserts are not lost.
+   */
+  @Bean(name = "coalescingWriteBuffer", destroyMethod = "close")
+  @ConditionalOnProperty("elasticsearch.writeCoalescing.enabled")
+  @Nonnull
+  protected CoalescingWriteBuffer coalescingWriteBuffer(
+      final ConfigurationProvider configurationProvider,
+      @Qualifier("elasticSearchBulkProcessor") final ESBulkProcessor bulkProcessor) {
+    WriteCoalescingConfiguration writeCoalescing =
+        configurationProvider.getElasticSearch().getWriteCoalescing();
+    return new CoalescingWriteBuffer(
+        bulkProcessor,
+        components.getNumRetries(),
+        writeCoalescing.getFlushPeriodMs(),
+        writeCoalescing.getMaxPendingDocuments());
   }
 }
@@ -0,0 +1,185 @@
+package com.linkedin.gms.factory.auth;
+
+import static com.linkedin.metadata.Constants.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.datahub.authorization.DataHubAuthorizer;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.ByteString;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.key.DataHubPolicyKey;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.GenericAspect;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.policy.DataHubPolicyInfo;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.mockito.InOrder;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PolicyChangeListenerTest {
+  private static final String TOPIC = "MetadataChangeLog_Versioned_v1";
+  private static final Urn POLICY_1 = UrnUtils.getUrn("urn:li:dataHubPolicy:policy1");
+  private static final Urn POLICY_2 = UrnUtils.getUrn("urn:li:dataHubPolicy:policy2");
+  private static final DataHubPolicyInfo POLICY_INFO =
+      new DataHubPolicyInfo()
+          .setDisplayName("policy")
+          .setType("METADATA")
+          .setState("ACTIVE")
+          .setEditable(true);
+
+  private DataHubAuthorizer authorizer;
+  private PolicyChangeListener listener;
+
+  @BeforeMethod
+  public void setup() {
+    authorizer = mock(DataHubAuthorizer.class);
+    listener =
+        new PolicyChangeListener(
+            TestOperationContexts.systemContextNoSearchAuthorization(), authorizer);
+  }
+
+  @Test
+  public void testUpsertInfo() throws Exception {
+    listener.refresh(records(upsert(POLICY_1, POLICY_INFO)));
+
+    verify(authorizer).upsertPolicy(POLICY_1, POLICY_INFO);
+  }
+
+  @Test
+  public void testDeleteInfo() throws Exception {
+    listener.refresh(records(delete(POLICY_1, DATAHUB_POLICY_INFO_ASPECT_NAME)));
+
+    verify(authorizer).deletePolicy(POLICY_1);
+  }
+
+  @Test
+  public void testDeleteKey() throws Exception {
+    listener.refresh(records(delete(POLICY_1, "dataHubPolicyKey")));
+
+    verify(authorizer).deletePolicy(POLICY_1);
+  }
+
+  @Test
+  public void testChangesAreAppliedInOrder() throws Exception {
+    listener.refresh(
+        records(
+            upsert(POLICY_1, POLICY_INFO),
+            delete(POLICY_1, DATAHUB_POLICY_INFO_ASPECT_NAME),
+            upsert(POLICY_1, POLICY_INFO)));
+
+    InOrder inOrder = inOrder(authorizer);
+    inOrder.verify(authorizer).upsertPolicy(POLICY_1, POLICY_INFO);
+    inOrder.verify(authorizer).deletePolicy(POLICY_1);
+    inOrder.verify(authorizer).upsertPolicy(POLICY_1, POLICY_INFO);
+  }
+
+  @Test
+  public void testIgnoresOtherEntities() throws Exception {
+    Urn dataset = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)");
+    MetadataChangeLog event =
+        new MetadataChangeLog()
+            .setEntityType(dataset.getEntityType())
+            .setEntityUrn(dataset)
+            .setChangeType(ChangeType.DELETE)
+            .setAspectName(DATAHUB_POLICY_INFO_ASPECT_NAME);
+
+    listener.refresh(records(event));
+
+    verifyNoInteractions(authorizer);
+  }
+
+  @Test
+  public void testIgnoresOtherAspects() throws Exception {
+    listener.refresh(records(delete(POLICY_1, STATUS_ASPECT_NAME)));
+
+    verifyNoInteractions(authorizer);
+  }
+
+  @Test
+  public void testSkipsUpsertWithoutValue() throws Exception {
+    MetadataChangeLog event = upsert(POLICY_1, POLICY_INFO);
+    event.removeAspect();
+
+    listener.refresh(records(event));
+
+    verifyNoInteractions(authorizer);
+  }
+
+  @Test
+  public void testSkipsNullRecords() throws Exception {
+    List<ConsumerRecord<String, GenericRecord>> records = records(upsert(POLICY_2, POLICY_INFO));
+    records.add(0, new ConsumerRecord<>(TOPIC, 0, 0, POLICY_1.toString(), null));
+
+    listener.refresh(records);
+
+    verify(authorizer).upsertPolicy(POLICY_2, POLICY_INFO);
+  }
+
+  @Test
+  public void testSkipsEventThatFailsToApply() throws Exception {
+    MetadataChangeLog malformed = upsert(POLICY_1, POLICY_INFO);
+    malformed.setAspect(
+        new GenericAspect()
+            .setContentType(GenericRecordUtils.JSON)
+            .setValue(ByteString.copyString("{not json", StandardCharsets.UTF_8)));
+
+    listener.refresh(records(malformed, upsert(POLICY_2, POLICY_INFO)));
+
+    verify(authorizer).upsertPolicy(POLICY_2, POLICY_INFO);
+    verify(authorizer, never()).upsertPolicy(eq(POLICY_1), any());
+  }
+
+  @Test
+  public void testUrnFromKeyAspect() throws Exception {
+    MetadataChangeLog event = delete(POLICY_1, DATAHUB_POLICY_INFO_ASPECT_NAME);
+    event.removeEntityUrn();
+    event.setEntityKeyAspect(
+        GenericRecordUtils.serializeAspect(new DataHubPolicyKey().setId("policy1")));
+
+    listener.refresh(records(event));
+
+    verify(authorizer).deletePolicy(POLICY_1);
+  }
+
+  private static MetadataChangeLog upsert(Urn urn, DataHubPolicyInfo info) {
+    return new MetadataChangeLog()
+        .setEntityType(POLICY_ENTITY_NAME)
+        .setEntityUrn(urn)
+        .setChangeType(ChangeType.UPSERT)
+        .setAspectName(DATAHUB_POLICY_INFO_ASPECT_NAME)
+        .setAspect(GenericRecordUtils.serializeAspect(info));
+  }
+
+  private static MetadataChangeLog delete(Urn urn, String aspectName) {
+    return new MetadataChangeLog()
+        .setEntityType(POLICY_ENTITY_NAME)
+        .setEntityUrn(urn)
+        .setChangeType(ChangeType.DELETE)
+        .setAspectName(aspectName);
+  }
+
+  private static List<ConsumerRecord<String, GenericRecord>> records(MetadataChangeLog... events)
+      throws Exception {
+    List<ConsumerRecord<String, GenericRecord>> records = new ArrayList<>();
+    for (int i = 0; i < events.length; i++) {
+      records.add(
+          new ConsumerRecord<>(
+              TOPIC, 0, i, events[i].getEntityType(), EventUtils.pegasusToAvroMCL(events[i])));
+    }
+    return records;
+  }
+}
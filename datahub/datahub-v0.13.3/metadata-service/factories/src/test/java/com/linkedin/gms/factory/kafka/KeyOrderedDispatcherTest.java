@@ -0,0 +1,92 @@
+package com.linkedin.gms.factory.kafka;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.testng.annotations.Test;
+
+public class KeyOrderedDispatcherTest {
+
+  @Test
+  public void testRecordsWithSameKeyStayInOrder() {
+    List<ConsumerRecord<String, String>> records = new ArrayList<>();
+    for (int offset = 0; offset < 100; offset++) {
+      records.add(new ConsumerRecord<>("topic", 0, offset, "key" + (offset % 5), "value"));
+    }
+
+    Map<String, List<Long>> seen = new ConcurrentHashMap<>();
+    int keys =
+        new KeyOrderedDispatcher(4)
+            .dispatch(
+                records,
+                record ->
+                    seen.computeIfAbsent(
+                            record.key(), k -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(record.offset()));
+
+    assertEquals(keys, 5);
+    assertEquals(seen.size(), 5);
+    seen.values()
+        .forEach(
+            offsets -> {
+              assertEquals(offsets.size(), 20);
+              List<Long> sorted = new ArrayList<>(offsets);
+              Collections.sort(sorted);
+              assertEquals(offsets, sorted);
+            });
+  }
+
+  @Test
+  public void testLowestFailedRecordIsReported() {
+    List<ConsumerRecord<String, String>> records =
+        List.of(
+            new ConsumerRecord<>("topic", 0, 0, "a", "ok"),
+            new ConsumerRecord<>("topic", 0, 1, "b", "fail"),
+            new ConsumerRecord<>("topic", 0, 2, "a", "fail"),
+            new ConsumerRecord<>("topic", 0, 3, "b", "ok"));
+
+    List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+    try {
+      new KeyOrderedDispatcher(2)
+          .dispatch(
+              records,
+              record -> {
+                if ("fail".equals(record.value())) {
+                  throw new IllegalStateException("failed " + record.offset());
+                }
+                processed.add(record.offset());
+              });
+      fail("Expected the batch to fail");
+    } catch (BatchListenerFailedException e) {
+      assertEquals(e.getIndex(), 1);
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    assertTrue(processed.contains(0L));
+    // Must not run ahead of the failed record with the same key
+    assertFalse(processed.contains(3L));
+  }
+
+  @Test
+  public void testCloseStopsDispatching() {
+    KeyOrderedDispatcher dispatcher = new KeyOrderedDispatcher(2);
+    dispatcher.close();
+
+    assertThrows(
+        RejectedExecutionException.class,
+        () ->
+            dispatcher.dispatch(
+                List.of(new ConsumerRecord<>("topic", 0, 0, "a", "ok")), record -> {}));
+  }
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -57,6 +58,12 @@ public class GraphQLController {
 
   private static final int MAX_LOG_WIDTH = 512;
 
+  // Returns the timing of all fields in the tracing extension, see FieldTimingInstrumentation
+  private static final String TRACING_HEADER = "X-DataHub-GraphQL-Tracing";
+
+  @Value("${graphQL.metrics.tracingHeaderEnabled:true}")
+  private boolean tracingHeaderEnabled;
+
   @PostMapping(value = "/graphql", produces = "application/json;charset=utf-8")
   CompletableFuture<ResponseEntity<String>> postGraphQL(HttpEntity<String> httpEntity) {
 
@@ -124,6 +131,9 @@ public class GraphQLController {
     final String threadName = Thread.currentThread().getName();
     log.info("Processing request, operation: {}, actor urn: {}", queryName, context.getActorUrn());
     log.debug("Query: {}, variables: {}", query, variables);
+    final boolean tracingEnabled =
+        tracingHeaderEnabled
+            && Boolean.parseBoolean(httpEntity.getHeaders().getFirst(TRACING_HEADER));
 
     return CompletableFuture.supplyAsync(
         () -> {
@@ -133,7 +143,7 @@ public class GraphQLController {
            * Execute GraphQL Query
            */
           ExecutionResult executionResult =
-              _engine.execute(query, operationName, variables, context);
+              _engine.execute(query, operationName, variables, context, tracingEnabled);
 
           if (executionResult.getErrors().size() != 0) {
             // There were GraphQL errors. Report in error logs.
@@ -152,7 +162,9 @@ public class GraphQLController {
             String executionTook = totalDuration > 0 ? " in " + totalDuration + " ms" : "";
             log.info("Executed operation {}" + executionTook, queryName);
             // Remove tracing from response to reduce bulk, not used by the frontend
-            executionResult.getExtensions().remove("tracing");
+            if (!tracingEnabled) {
+              executionResult.getExtensions().remove("tracing");
+            }
             String responseBodyStr =
                 new ObjectMapper().writeValueAsString(executionResult.toSpecification());
             log.info("Operation {} execution result size: {}", queryName, responseBodyStr.length());
@@ -29,7 +29,6 @@ public class SpringQueryContext implements QueryContext {
       Map<String, Object> variables) {
     this.isAuthenticated = isAuthenticated;
     this.authentication = authentication;
-    this.authorizer = authorizer;
 
     this.queryName =
         new Parser()
@@ -48,5 +47,7 @@ public class SpringQueryContext implements QueryContext {
             authorizer,
             authentication,
             true);
+    // Resolvers authorize against the request scoped authorizer of the operation context
+    this.authorizer = operationContext.getAuthorizerContext().getAuthorizer();
   }
 }
@@ -0,0 +1,28 @@
+package io.datahubproject.openapi.v2.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Builder;
+import lombok.Data;
+
+/** Result of the ingestion of one line of a newline delimited JSON stream of entities. */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GenericIngestResult {
+  @Schema(description = "Line of the entity in the request, starting at 1")
+  private long line;
+
+  @Nullable private String urn;
+
+  @Schema(description = "Aspects of the entity which were ingested")
+  @Nullable
+  private List<String> aspects;
+
+  @Nonnull private Boolean success;
+
+  @Nullable private String error;
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import io.datahubproject.openapi.converter.StringToChangeCategoryConverter;
 import io.datahubproject.openapi.v3.OpenAPIV3Generator;
@@ -17,7 +18,10 @@ import io.swagger.v3.oas.models.OpenAPI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springdoc.core.models.GroupedOpenApi;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
@@ -122,4 +126,19 @@ public class SpringWebConfig implements WebMvcConfigurer {
         .packagesToScan(OPENLINEAGE_PACKAGES.toArray(String[]::new))
         .build();
   }
+
+  /**
+   * Ingests the chunks of the NDJSON entity streams. Each stream holds at most a few chunks in
+   * flight, the pool bounds the ingestion threads across all streams.
+   */
+  @Bean(name = "streamIngestExecutor", destroyMethod = "shutdown")
+  public ExecutorService streamIngestExecutor(
+      @Value("${ingestion.streaming.threads:4}") final int threads) {
+    return Executors.newFixedThreadPool(
+        threads,
+        new ThreadFactoryBuilder()
+            .setNameFormat("openapi-stream-ingest-%d")
+            .setDaemon(true)
+            .build());
+  }
 }
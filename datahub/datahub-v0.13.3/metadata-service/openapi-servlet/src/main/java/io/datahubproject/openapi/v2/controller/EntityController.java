@@ -27,12 +27,17 @@ import com.linkedin.metadata.aspect.batch.BatchItem;
 import com.linkedin.metadata.aspect.batch.ChangeMCP;
 import com.linkedin.metadata.aspect.patch.GenericJsonPatch;
 import com.linkedin.metadata.aspect.patch.template.common.GenericPatchTemplate;
+import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.EntityApiUtils;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.IngestResult;
 import com.linkedin.metadata.entity.UpdateAspectResult;
 import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
 import com.linkedin.metadata.entity.ebean.batch.ChangeItemImpl;
+import com.linkedin.metadata.entity.export.AspectExporter;
+import com.linkedin.metadata.entity.export.AspectWriter;
+import com.linkedin.metadata.entity.export.NdjsonAspectWriter;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
@@ -54,13 +59,24 @@ import io.datahubproject.openapi.exception.UnauthorizedException;
 import io.datahubproject.openapi.v2.models.BatchGetUrnRequest;
 import io.datahubproject.openapi.v2.models.BatchGetUrnResponse;
 import io.datahubproject.openapi.v2.models.GenericEntity;
+import io.datahubproject.openapi.v2.models.GenericIngestResult;
 import io.datahubproject.openapi.v2.models.GenericScrollResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -68,14 +84,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -101,11 +125,22 @@ public class EntityController {
   @Autowired private EntityService<?> entityService;
   @Autowired private AuthorizerChain authorizationChain;
   @Autowired private ObjectMapper objectMapper;
+  @Autowired private AspectDao aspectDao;
 
   @Qualifier("systemOperationContext")
   @Autowired
   private OperationContext systemOperationContext;
 
+  @Value("${ingestion.streaming.chunkSize:500}")
+  private int streamIngestChunkSize;
+
+  @Value("${ingestion.streaming.maxInFlightChunks:2}")
+  private int streamIngestMaxInFlightChunks;
+
+  @Qualifier("streamIngestExecutor")
+  @Autowired
+  private ExecutorService streamIngestExecutor;
+
   @Tag(name = "Generic Entities", description = "API for interacting with generic entities.")
   @GetMapping(value = "/{entityName}", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Scroll entities")
@@ -165,6 +200,51 @@ public class EntityController {
             .build());
   }
 
+  @Tag(name = "Generic Entities")
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary =
+          "Export the latest aspects of entities as newline delimited JSON, one aspect per line, from a sequential scan of the aspect table.")
+  public void exportEntities(
+      @RequestParam(value = "entityNames", defaultValue = "") Set<String> entityNames,
+      @RequestParam(value = "aspectNames", defaultValue = "") Set<String> aspectNames,
+      @RequestParam(value = "gzip", required = false, defaultValue = "false") Boolean gzip,
+      HttpServletResponse response)
+      throws IOException {
+
+    Set<String> exportedEntityNames =
+        entityNames.stream()
+            .map(entityName -> entityRegistry.getEntitySpec(entityName).getName())
+            .collect(Collectors.toCollection(TreeSet::new));
+    // Exporting all entities requires reading all of them
+    Set<String> authorizedEntityNames =
+        exportedEntityNames.isEmpty()
+            ? entityRegistry.getEntitySpecs().values().stream()
+                .map(EntitySpec::getName)
+                .collect(Collectors.toSet())
+            : exportedEntityNames;
+    Authentication authentication = AuthenticationContext.getAuthentication();
+    if (!AuthUtil.isAPIAuthorizedEntityType(
+        authentication, authorizationChain, READ, authorizedEntityNames)) {
+      throw new UnauthorizedException(
+          authentication.getActor().toUrnStr() + " is unauthorized to " + READ + " entities.");
+    }
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    OutputStream outputStream = response.getOutputStream();
+    if (Boolean.TRUE.equals(gzip)) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+      outputStream = new GZIPOutputStream(outputStream);
+    }
+
+    try (AspectWriter writer = new NdjsonAspectWriter(objectMapper.getFactory(), outputStream)) {
+      new AspectExporter(aspectDao)
+          .export(
+              exportedEntityNames, aspectNames, RestoreIndicesArgs.DEFAULT_BATCH_SIZE, writer);
+    }
+  }
+
   @Tag(name = "Generic Entities")
   @PostMapping(value = "/batch/{entityName}", produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(summary = "Get a batch of entities")
@@ -393,6 +473,80 @@ public class EntityController {
     }
   }
 
+  @Tag(name = "Generic Entities")
+  @PostMapping(
+      value = "/stream",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary =
+          "Create entities of any type from newline delimited JSON, one entity per line. Streams back the result of each line.")
+  public void createEntityStream(
+      @RequestParam(value = "async", required = false, defaultValue = "true") Boolean async,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+
+    Authentication authentication = AuthenticationContext.getAuthentication();
+    OperationContext opContext =
+        OperationContext.asSession(
+            systemOperationContext,
+            RequestContext.builder().buildOpenapi("createEntityStream", List.of()),
+            authorizationChain,
+            authentication,
+            true);
+
+    // Entity types are authorized as they are first seen in the stream
+    Map<String, Boolean> authorizedEntityTypes = new HashMap<>();
+    Deque<CompletableFuture<List<GenericIngestResult>>> inFlightChunks = new ArrayDeque<>();
+    List<StreamedEntity> chunk = new ArrayList<>();
+    int chunkItems = 0;
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    Writer writer = response.getWriter();
+
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+      long lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        StreamedEntity entity =
+            toStreamedEntity(opContext, authentication, authorizedEntityTypes, lineNumber, line);
+        chunk.add(entity);
+        chunkItems += entity.getItems().size();
+
+        if (chunkItems >= streamIngestChunkSize || chunk.size() >= streamIngestChunkSize) {
+          // Parsing of the next chunk overlaps with the ingestion of the previous ones
+          while (!inFlightChunks.isEmpty()
+              && inFlightChunks.size() >= streamIngestMaxInFlightChunks) {
+            writeResults(writer, inFlightChunks.poll());
+          }
+          inFlightChunks.add(ingestChunk(opContext, chunk, async));
+          chunk = new ArrayList<>();
+          chunkItems = 0;
+          // Results are streamed back as soon as the chunks are ingested, in order
+          while (!inFlightChunks.isEmpty() && inFlightChunks.peek().isDone()) {
+            writeResults(writer, inFlightChunks.poll());
+          }
+        }
+      }
+    }
+
+    if (!chunk.isEmpty()) {
+      inFlightChunks.add(ingestChunk(opContext, chunk, async));
+    }
+    while (!inFlightChunks.isEmpty()) {
+      writeResults(writer, inFlightChunks.poll());
+    }
+  }
+
   @Tag(name = "Generic Aspects")
   @DeleteMapping(value = "/{entityName}/{entityUrn}/{aspectName}")
   @Operation(summary = "Delete an entity aspect.")
@@ -706,38 +860,7 @@ public class EntityController {
     if (entities.isArray()) {
       Iterator<JsonNode> entityItr = entities.iterator();
       while (entityItr.hasNext()) {
-        JsonNode entity = entityItr.next();
-        Urn entityUrn = UrnUtils.getUrn(entity.get("urn").asText());
-
-        Iterator<Map.Entry<String, JsonNode>> aspectItr = entity.get("aspects").fields();
-        while (aspectItr.hasNext()) {
-          Map.Entry<String, JsonNode> aspect = aspectItr.next();
-
-          AspectSpec aspectSpec = lookupAspectSpec(entityUrn, aspect.getKey());
-
-          if (aspectSpec != null) {
-            ChangeItemImpl.ChangeItemImplBuilder builder =
-                ChangeItemImpl.builder()
-                    .urn(entityUrn)
-                    .aspectName(aspectSpec.getName())
-                    .auditStamp(AuditStampUtils.createAuditStamp(actor.toUrnStr()))
-                    .recordTemplate(
-                        GenericRecordUtils.deserializeAspect(
-                            ByteString.copyString(
-                                objectMapper.writeValueAsString(aspect.getValue().get("value")),
-                                StandardCharsets.UTF_8),
-                            GenericRecordUtils.JSON,
-                            aspectSpec));
-
-            if (aspect.getValue().has("systemMetadata")) {
-              builder.systemMetadata(
-                  EntityApiUtils.parseSystemMetadata(
-                      objectMapper.writeValueAsString(aspect.getValue().get("systemMetadata"))));
-            }
-
-            items.add(builder.build(opContext.getRetrieverContext().get().getAspectRetriever()));
-          }
-        }
+        items.addAll(toBatchItems(opContext, entityItr.next(), actor));
       }
     }
 
@@ -747,6 +870,119 @@ public class EntityController {
         .build();
   }
 
+  private List<BatchItem> toBatchItems(
+      @Nonnull OperationContext opContext, JsonNode entity, Actor actor)
+      throws JsonProcessingException, URISyntaxException {
+    Urn entityUrn = UrnUtils.getUrn(entity.get("urn").asText());
+
+    List<BatchItem> items = new LinkedList<>();
+    Iterator<Map.Entry<String, JsonNode>> aspectItr = entity.get("aspects").fields();
+    while (aspectItr.hasNext()) {
+      Map.Entry<String, JsonNode> aspect = aspectItr.next();
+
+      AspectSpec aspectSpec = lookupAspectSpec(entityUrn, aspect.getKey());
+
+      if (aspectSpec != null) {
+        ChangeItemImpl.ChangeItemImplBuilder builder =
+            ChangeItemImpl.builder()
+                .urn(entityUrn)
+                .aspectName(aspectSpec.getName())
+                .auditStamp(AuditStampUtils.createAuditStamp(actor.toUrnStr()))
+                .recordTemplate(
+                    GenericRecordUtils.deserializeAspect(
+                        ByteString.copyString(
+                            objectMapper.writeValueAsString(aspect.getValue().get("value")),
+                            StandardCharsets.UTF_8),
+                        GenericRecordUtils.JSON,
+                        aspectSpec));
+
+        if (aspect.getValue().has("systemMetadata")) {
+          builder.systemMetadata(
+              EntityApiUtils.parseSystemMetadata(
+                  objectMapper.writeValueAsString(aspect.getValue().get("systemMetadata"))));
+        }
+
+        items.add(builder.build(opContext.getRetrieverContext().get().getAspectRetriever()));
+      }
+    }
+    return items;
+  }
+
+  private StreamedEntity toStreamedEntity(
+      @Nonnull OperationContext opContext,
+      Authentication authentication,
+      Map<String, Boolean> authorizedEntityTypes,
+      long lineNumber,
+      String line) {
+    String urn = null;
+    try {
+      JsonNode entity = objectMapper.readTree(line);
+      Urn entityUrn = UrnUtils.getUrn(entity.get("urn").asText());
+      urn = entityUrn.toString();
+
+      if (!authorizedEntityTypes.computeIfAbsent(
+          entityUrn.getEntityType(),
+          entityType ->
+              AuthUtil.isAPIAuthorizedEntityType(
+                  authentication, authorizationChain, CREATE, entityType))) {
+        return new StreamedEntity(
+            lineNumber,
+            urn,
+            List.of(),
+            authentication.getActor().toUrnStr() + " is unauthorized to " + CREATE + " entities.");
+      }
+
+      return new StreamedEntity(
+          lineNumber, urn, toBatchItems(opContext, entity, authentication.getActor()), null);
+    } catch (Exception e) {
+      return new StreamedEntity(lineNumber, urn, List.of(), errorMessage(e));
+    }
+  }
+
+  private CompletableFuture<List<GenericIngestResult>> ingestChunk(
+      @Nonnull OperationContext opContext, List<StreamedEntity> entities, boolean async) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          List<BatchItem> items =
+              entities.stream()
+                  .flatMap(entity -> entity.getItems().stream())
+                  .collect(Collectors.toList());
+          String chunkError = null;
+          if (!items.isEmpty()) {
+            try {
+              entityService.ingestProposal(
+                  opContext,
+                  AspectsBatchImpl.builder()
+                      .items(items)
+                      .retrieverContext(opContext.getRetrieverContext().get())
+                      .build(),
+                  async);
+            } catch (RuntimeException e) {
+              log.error("Failed to ingest a chunk of {} streamed aspects", items.size(), e);
+              chunkError = errorMessage(e);
+            }
+          }
+          String error = chunkError;
+          return entities.stream()
+              .map(entity -> entity.toResult(error))
+              .collect(Collectors.toList());
+        },
+        streamIngestExecutor);
+  }
+
+  private static String errorMessage(Exception e) {
+    return e.getMessage() == null ? e.toString() : e.getMessage();
+  }
+
+  private void writeResults(Writer writer, CompletableFuture<List<GenericIngestResult>> chunk)
+      throws IOException {
+    for (GenericIngestResult result : chunk.join()) {
+      writer.write(objectMapper.writeValueAsString(result));
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+
   public List<GenericEntity> toEntityListResponse(
       Set<IngestResult> ingestResults, boolean withSystemMetadata) {
     List<GenericEntity> responseList = new LinkedList<>();
@@ -785,4 +1021,28 @@ public class EntityController {
             .findFirst()
             .get();
   }
+
+  /** An entity of a stream, held until its chunk is ingested. */
+  @Getter
+  @AllArgsConstructor
+  private static class StreamedEntity {
+    private final long line;
+    @Nullable private final String urn;
+    private final List<BatchItem> items;
+    @Nullable private final String error;
+
+    private GenericIngestResult toResult(@Nullable String chunkError) {
+      String entityError = error != null ? error : chunkError;
+      return GenericIngestResult.builder()
+          .line(line)
+          .urn(urn)
+          .aspects(
+              entityError != null
+                  ? null
+                  : items.stream().map(BatchItem::getAspectName).collect(Collectors.toList()))
+          .success(entityError == null)
+          .error(entityError)
+          .build();
+    }
+  }
 }
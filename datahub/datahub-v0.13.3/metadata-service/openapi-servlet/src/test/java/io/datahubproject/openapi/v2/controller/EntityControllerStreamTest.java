@@ -0,0 +1,277 @@
+package io.datahubproject.openapi.v2.controller;
+
+import static com.linkedin.metadata.Constants.REST_API_AUTHORIZATION_ENABLED_ENV;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.datahub.authentication.Actor;
+import com.datahub.authentication.ActorType;
+import com.datahub.authentication.Authentication;
+import com.datahub.authentication.AuthenticationContext;
+import com.datahub.authorization.AuthorizationRequest;
+import com.datahub.authorization.AuthorizationResult;
+import com.datahub.authorization.AuthorizerChain;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.aspect.batch.BatchItem;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.IngestResult;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import uk.org.webcompere.systemstubs.environment.EnvironmentVariables;
+import uk.org.webcompere.systemstubs.testng.SystemStub;
+import uk.org.webcompere.systemstubs.testng.SystemStubsListener;
+
+@Listeners(SystemStubsListener.class)
+public class EntityControllerStreamTest {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @SystemStub private EnvironmentVariables environmentVariables;
+
+  private EntityService<?> entityService;
+  private AuthorizerChain authorizerChain;
+  private ExecutorService streamIngestExecutor;
+  private EntityController entityController;
+  // The urns of every ingested chunk, in the order they were ingested
+  private List<List<String>> ingestedChunks;
+
+  @BeforeMethod
+  public void setup() {
+    environmentVariables.set(REST_API_AUTHORIZATION_ENABLED_ENV, "true");
+    OperationContext opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    entityService = mock(EntityService.class);
+    ingestedChunks = new CopyOnWriteArrayList<>();
+    whenIngestProposal()
+        .thenAnswer(
+            invocation -> {
+              ingestedChunks.add(urns(invocation.getArgument(1)));
+              return Set.of();
+            });
+
+    // Every entity type but datasets may be created
+    authorizerChain = mock(AuthorizerChain.class);
+    when(authorizerChain.authorize(any(AuthorizationRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              AuthorizationRequest request = invocation.getArgument(0);
+              boolean dataset =
+                  request.getResourceSpec().isPresent()
+                      && "dataset".equals(request.getResourceSpec().get().getType());
+              return new AuthorizationResult(
+                  request,
+                  dataset ? AuthorizationResult.Type.DENY : AuthorizationResult.Type.ALLOW,
+                  "");
+            });
+    Authentication authentication = new Authentication(new Actor(ActorType.USER, "datahub"), "");
+    AuthenticationContext.setAuthentication(authentication);
+
+    streamIngestExecutor = Executors.newFixedThreadPool(2);
+    entityController = new EntityController();
+    ReflectionTestUtils.setField(
+        entityController, "entityRegistry", opContext.getEntityRegistry());
+    ReflectionTestUtils.setField(entityController, "entityService", entityService);
+    ReflectionTestUtils.setField(entityController, "authorizationChain", authorizerChain);
+    ReflectionTestUtils.setField(entityController, "objectMapper", OBJECT_MAPPER);
+    ReflectionTestUtils.setField(entityController, "systemOperationContext", opContext);
+    ReflectionTestUtils.setField(entityController, "streamIngestExecutor", streamIngestExecutor);
+    ReflectionTestUtils.setField(entityController, "streamIngestChunkSize", 2);
+    ReflectionTestUtils.setField(entityController, "streamIngestMaxInFlightChunks", 2);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    streamIngestExecutor.shutdownNow();
+    AuthenticationContext.remove();
+  }
+
+  @Test
+  public void testIngestsInChunks() throws Exception {
+    List<JsonNode> results = stream(user("a"), user("b"), user("c"), user("d"), user("e"));
+
+    assertEquals(
+        ingestedChunks,
+        List.of(
+            List.of(userUrn("a"), userUrn("b")),
+            List.of(userUrn("c"), userUrn("d")),
+            List.of(userUrn("e"))));
+    assertEquals(results.size(), 5);
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(results.get(i).get("line").asLong(), i + 1);
+      assertTrue(results.get(i).get("success").asBoolean());
+      assertEquals(results.get(i).get("aspects").get(0).asText(), "status");
+    }
+  }
+
+  @Test
+  public void testReportsUnparseableLine() throws Exception {
+    List<JsonNode> results = stream(user("a"), "{not json", "", user("b"));
+
+    // Blank lines are skipped, but still counted
+    assertEquals(lines(results), List.of(1L, 2L, 4L));
+    assertFalse(results.get(1).get("success").asBoolean());
+    assertTrue(results.get(1).has("error"));
+    assertFalse(results.get(1).has("urn"));
+    assertTrue(results.get(0).get("success").asBoolean());
+    assertTrue(results.get(2).get("success").asBoolean());
+    // Failed lines count towards the chunk they are reported with
+    assertEquals(ingestedChunks, List.of(List.of(userUrn("a")), List.of(userUrn("b"))));
+  }
+
+  @Test
+  public void testReportsUnauthorizedEntityType() throws Exception {
+    String dataset = "urn:li:dataset:(urn:li:dataPlatform:hive,db.table,PROD)";
+    List<JsonNode> results = stream(user("a"), entity(dataset, "status"), user("b"));
+
+    assertEquals(results.get(1).get("urn").asText(), dataset);
+    assertFalse(results.get(1).get("success").asBoolean());
+    assertTrue(results.get(1).get("error").asText().contains("is unauthorized to"));
+    assertEquals(ingestedChunks, List.of(List.of(userUrn("a")), List.of(userUrn("b"))));
+  }
+
+  @Test
+  public void testReportsUnknownAspect() throws Exception {
+    List<JsonNode> results = stream(entity(userUrn("a"), "notAnAspect"), user("b"));
+
+    assertEquals(results.get(0).get("urn").asText(), userUrn("a"));
+    assertFalse(results.get(0).get("success").asBoolean());
+    assertTrue(results.get(0).has("error"));
+    assertTrue(results.get(1).get("success").asBoolean());
+    assertEquals(ingestedChunks, List.of(List.of(userUrn("b"))));
+  }
+
+  @Test
+  public void testReportsChunkFailureForEveryEntityOfTheChunk() throws Exception {
+    whenIngestProposal()
+        .thenAnswer(
+            invocation -> {
+              List<String> urns = urns(invocation.getArgument(1));
+              if (urns.contains(userUrn("c"))) {
+                // Without a message, the exception itself is reported
+                throw new IllegalStateException();
+              }
+              ingestedChunks.add(urns);
+              return Set.of();
+            });
+
+    List<JsonNode> results = stream(user("a"), user("b"), user("c"), user("d"), user("e"));
+
+    assertEquals(lines(results), List.of(1L, 2L, 3L, 4L, 5L));
+    assertEquals(successes(results), List.of(true, true, false, false, true));
+    assertEquals(results.get(2).get("error").asText(), "java.lang.IllegalStateException");
+    assertEquals(results.get(3).get("error").asText(), "java.lang.IllegalStateException");
+    assertEquals(
+        ingestedChunks, List.of(List.of(userUrn("a"), userUrn("b")), List.of(userUrn("e"))));
+  }
+
+  @Test
+  public void testResultsKeepLineOrderWhenChunksCompleteOutOfOrder() throws Exception {
+    CountDownLatch laterChunkIngested = new CountDownLatch(1);
+    whenIngestProposal()
+        .thenAnswer(
+            invocation -> {
+              List<String> urns = urns(invocation.getArgument(1));
+              if (urns.contains(userUrn("a"))) {
+                // The first chunk only completes once the second one did
+                assertTrue(laterChunkIngested.await(10, TimeUnit.SECONDS));
+              } else {
+                laterChunkIngested.countDown();
+              }
+              ingestedChunks.add(urns);
+              return Set.of();
+            });
+
+    List<JsonNode> results = stream(user("a"), user("b"), user("c"), user("d"));
+
+    assertEquals(
+        ingestedChunks,
+        List.of(List.of(userUrn("c"), userUrn("d")), List.of(userUrn("a"), userUrn("b"))));
+    assertEquals(lines(results), List.of(1L, 2L, 3L, 4L));
+    assertEquals(
+        results.stream().map(result -> result.get("urn").asText()).collect(Collectors.toList()),
+        List.of(userUrn("a"), userUrn("b"), userUrn("c"), userUrn("d")));
+  }
+
+  private List<JsonNode> stream(String... lines) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setContent(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    entityController.createEntityStream(false, request, response);
+
+    assertEquals(response.getStatus(), 200);
+    List<JsonNode> results = new ArrayList<>();
+    for (String line : response.getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+      if (!line.isEmpty()) {
+        results.add(OBJECT_MAPPER.readTree(line));
+      }
+    }
+    return results;
+  }
+
+  private OngoingStubbing<Set<IngestResult>> whenIngestProposal() {
+    return when(
+        entityService.ingestProposal(
+            any(OperationContext.class), any(AspectsBatch.class), anyBoolean()));
+  }
+
+  private static List<String> urns(AspectsBatch batch) {
+    return batch.getItems().stream()
+        .map(BatchItem::getUrn)
+        .map(Object::toString)
+        .collect(Collectors.toList());
+  }
+
+  private static List<Long> lines(List<JsonNode> results) {
+    return results.stream().map(result -> result.get("line").asLong()).collect(Collectors.toList());
+  }
+
+  private static List<Boolean> successes(List<JsonNode> results) {
+    return results.stream()
+        .map(result -> result.get("success").asBoolean())
+        .collect(Collectors.toList());
+  }
+
+  private static String userUrn(String name) {
+    return "urn:li:corpuser:" + name;
+  }
+
+  private static String user(String name) {
+    return entity(userUrn(name), "status");
+  }
+
+  private static String entity(String urn, String... aspectNames) {
+    return String.format(
+        "{\"urn\": \"%s\", \"aspects\": {%s}}",
+        urn,
+        Arrays.stream(aspectNames)
+            .map(
+                aspectName ->
+                    String.format("\"%s\": {\"value\": {\"removed\": false}}", aspectName))
+            .collect(Collectors.joining(", ")));
+  }
+}
@@ -15,6 +15,7 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +48,15 @@ public class ClientCache<K, V, C extends ClientCacheConfig> {
     cache.refresh(key);
   }
 
+  public void invalidateAll(@Nonnull Iterable<? extends K> keys) {
+    cache.invalidateAll(keys);
+  }
+
+  /** Invalidates the cached keys matching the predicate, scanning all of them. */
+  public void invalidateIf(@Nonnull Predicate<? super K> predicate) {
+    cache.asMap().keySet().removeIf(predicate);
+  }
+
   public static class ClientCacheBuilder<K, V, C extends ClientCacheConfig> {
 
     private ClientCacheBuilder<K, V, C> cache(LoadingCache<K, V> cache) {
@@ -110,6 +120,12 @@ public class ClientCache<K, V, C extends ClientCacheConfig> {
       LoadingCache<K, V> cache = caffeine.build(loader);
 
       if (config.isStatsEnabled()) {
+        // Read the live stats, unlike the snapshot based gauges below
+        MetricUtils.gauge(
+            metricClazz, "hitCount", () -> (Gauge<Long>) () -> cache.stats().hitCount());
+        MetricUtils.gauge(
+            metricClazz, "missCount", () -> (Gauge<Long>) () -> cache.stats().missCount());
+
         ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
         executor.scheduleAtFixedRate(
             () -> {
@@ -6,12 +6,15 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.Weigher;
 import com.linkedin.common.client.ClientCache;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.codec.DataCodec;
+import com.linkedin.data.codec.ProtobufDataCodec;
 import com.linkedin.entity.EntityResponse;
 import com.linkedin.entity.EnvelopedAspect;
 import com.linkedin.entity.EnvelopedAspectMap;
 import com.linkedin.metadata.config.cache.client.EntityClientCacheConfig;
 import com.linkedin.util.Pair;
 import io.datahubproject.metadata.context.OperationContext;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -24,13 +27,14 @@ import javax.annotation.Nonnull;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NonNull;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Builder
 public class EntityClientCache {
   @NonNull private EntityClientCacheConfig config;
-  @NonNull private final ClientCache<Key, EnvelopedAspect, EntityClientCacheConfig> cache;
+  @NonNull private final ClientCache<Key, SerializedAspect, EntityClientCacheConfig> cache;
   @NonNull private final Function<CollectionKey, Map<Urn, EntityResponse>> loadFunction;
 
   public EntityResponse getV2(
@@ -76,11 +80,13 @@ public class EntityClientCache {
                                       .aspectName(a)
                                       .build()))
               .collect(Collectors.toSet());
-      Map<Key, EnvelopedAspect> envelopedAspects = cache.getAll(keys);
+      Map<Key, SerializedAspect> serializedAspects = cache.getAll(keys);
 
       Set<EntityResponse> responses =
-          envelopedAspects.entrySet().stream()
-              .map(entry -> Pair.of(entry.getKey().getUrn(), entry.getValue()))
+          serializedAspects.entrySet().stream()
+              .map(
+                  entry ->
+                      Pair.of(entry.getKey().getUrn(), entry.getValue().toEnvelopedAspect()))
               .collect(
                   Collectors.groupingBy(
                       Pair::getKey, Collectors.mapping(Pair::getValue, Collectors.toSet())))
@@ -104,6 +110,34 @@ public class EntityClientCache {
     return response;
   }
 
+  /**
+   * Evicts the given aspects of an urn from the cache, for every entity context they may have been
+   * cached under.
+   *
+   * @param urn the urn whose aspects changed
+   * @param aspectNames the changed aspects
+   */
+  public void invalidate(@Nonnull final Urn urn, @Nonnull final Collection<String> aspectNames) {
+    invalidate(Map.of(urn, Set.copyOf(aspectNames)));
+  }
+
+  /**
+   * Evicts the given aspects of several urns from the cache, for every entity context they may
+   * have been cached under. The cached keys are scanned once for all urns.
+   *
+   * @param changedAspects the changed aspects by urn
+   */
+  public void invalidate(@Nonnull final Map<Urn, Set<String>> changedAspects) {
+    if (!config.isEnabled() || changedAspects.isEmpty()) {
+      return;
+    }
+    cache.invalidateIf(
+        key -> {
+          final Set<String> aspectNames = changedAspects.get(key.getUrn());
+          return aspectNames != null && aspectNames.contains(key.getAspectName());
+        });
+  }
+
   private static EntityResponse toEntityResponse(
       Urn urn, Collection<EnvelopedAspect> envelopedAspects) {
     final EntityResponse response = new EntityResponse();
@@ -118,7 +152,7 @@ public class EntityClientCache {
 
   public static class EntityClientCacheBuilder {
 
-    private EntityClientCacheBuilder cache(LoadingCache<Key, EnvelopedAspect> cache) {
+    private EntityClientCacheBuilder cache(LoadingCache<Key, SerializedAspect> cache) {
       return this;
     }
 
@@ -130,12 +164,12 @@ public class EntityClientCache {
     public EntityClientCache build(
         @Nonnull final Function<CollectionKey, Map<Urn, EntityResponse>> fetchFunction,
         Class<?> metricClazz) {
-      // estimate size
-      Weigher<Key, EnvelopedAspect> weighByEstimatedSize =
-          (key, value) -> value.getValue().data().toString().getBytes().length;
+      // size of the serialized aspect, computed once when it was encoded
+      Weigher<Key, SerializedAspect> weighBySerializedSize =
+          (key, value) -> value.getBytes().length;
 
       // batch loads data from entity client (restli or java)
-      Function<Iterable<? extends Key>, Map<Key, EnvelopedAspect>> loader =
+      Function<Iterable<? extends Key>, Map<Key, SerializedAspect>> loader =
           (Iterable<? extends Key> keys) -> {
             Map<String, Map<String, Set<Key>>> keysByContextEntity = groupByContextEntity(keys);
 
@@ -159,8 +193,8 @@ public class EntityClientCache {
                   .getOrDefault(key.getAspectName(), config.getDefaultTTLSeconds());
 
       this.cache =
-          ClientCache.<Key, EnvelopedAspect, EntityClientCacheConfig>builder()
-              .weigher(weighByEstimatedSize)
+          ClientCache.<Key, SerializedAspect, EntityClientCacheConfig>builder()
+              .weigher(weighBySerializedSize)
               .config(this.config)
               .loadFunction(loader)
               .ttlSecondsFunction(ttlSeconds)
@@ -188,7 +222,7 @@ public class EntityClientCache {
         .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
   }
 
-  private static Map<Key, EnvelopedAspect> loadByEntity(
+  private static Map<Key, SerializedAspect> loadByEntity(
       String contextId,
       Map<String, Set<Key>> keysByEntity,
       Function<CollectionKey, Map<Urn, EntityResponse>> loadFunction) {
@@ -220,11 +254,41 @@ public class EntityClientCache {
                                   .urn(resp.getKey())
                                   .aspectName(envAspect.getName())
                                   .build();
-                          return Map.entry(key, envAspect);
+                          return Map.entry(key, SerializedAspect.of(envAspect));
                         }))
         .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
   }
 
+  /**
+   * A cached {@link EnvelopedAspect} in Pegasus protobuf encoding. This is several times smaller
+   * than the {@link com.linkedin.data.DataMap} it was encoded from, and its weight is simply the
+   * length of the encoding. The aspect is decoded on every read, each caller gets its own copy.
+   */
+  @Value
+  protected static class SerializedAspect {
+    private static final DataCodec CODEC = new ProtobufDataCodec();
+
+    byte[] bytes;
+
+    static SerializedAspect of(@Nonnull EnvelopedAspect envelopedAspect) {
+      try {
+        return new SerializedAspect(CODEC.mapToBytes(envelopedAspect.data()));
+      } catch (IOException e) {
+        throw new RuntimeException(
+            String.format("Failed to serialize aspect %s for caching", envelopedAspect.getName()),
+            e);
+      }
+    }
+
+    EnvelopedAspect toEnvelopedAspect() {
+      try {
+        return new EnvelopedAspect(CODEC.bytesToMap(bytes));
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to deserialize cached aspect", e);
+      }
+    }
+  }
+
   @Data
   @Builder
   protected static class Key {
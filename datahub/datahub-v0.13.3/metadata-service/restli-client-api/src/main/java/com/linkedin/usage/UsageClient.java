@@ -4,6 +4,10 @@ import com.linkedin.common.EntityRelationships;
 import com.linkedin.r2.RemoteInvocationException;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 public interface UsageClient {
@@ -15,6 +19,22 @@ public interface UsageClient {
   UsageQueryResult getUsageStats(
       @Nonnull OperationContext opContext, @Nonnull String resource, @Nonnull UsageTimeRange range);
 
+  /**
+   * Gets the usage stats of several resources, keyed by resource. Using cache and system
+   * authentication. Validate permissions before use!
+   */
+  @Nonnull
+  default Map<String, UsageQueryResult> batchGetUsageStats(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> resources,
+      @Nonnull UsageTimeRange range) {
+    return resources.stream()
+        .distinct()
+        .collect(
+            Collectors.toMap(
+                Function.identity(), resource -> getUsageStats(opContext, resource, range)));
+  }
+
   @Nonnull
   UsageQueryResult getUsageStatsNoCache(
       @Nonnull OperationContext opContext, @Nonnull String resource, @Nonnull UsageTimeRange range)
@@ -5,12 +5,18 @@ import com.github.benmanes.caffeine.cache.Weigher;
 import com.linkedin.common.client.ClientCache;
 import com.linkedin.metadata.config.cache.client.UsageClientCacheConfig;
 import io.datahubproject.metadata.context.OperationContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.Data;
 
@@ -19,6 +25,8 @@ public class UsageClientCache {
   @Nonnull private UsageClientCacheConfig config;
   @Nonnull private final ClientCache<Key, UsageQueryResult, UsageClientCacheConfig> cache;
   @Nonnull private Function<Key, UsageQueryResult> loadFunction;
+  // Loads keys sharing their context and range at once, instead of one by one with loadFunction
+  @Nullable private Function<List<Key>, Map<Key, UsageQueryResult>> batchLoadFunction;
 
   public UsageQueryResult getUsageStats(
       @Nonnull OperationContext opContext,
@@ -37,6 +45,48 @@ public class UsageClientCache {
     }
   }
 
+  public Map<String, UsageQueryResult> batchGetUsageStats(
+      @Nonnull OperationContext opContext,
+      @Nonnull Collection<String> resources,
+      @Nonnull UsageTimeRange range) {
+    List<Key> cacheKeys =
+        resources.stream()
+            .distinct()
+            .map(
+                resource ->
+                    Key.builder()
+                        .contextId(opContext.getEntityContextId())
+                        .resource(resource)
+                        .range(range)
+                        .build())
+            .collect(Collectors.toList());
+    Map<Key, UsageQueryResult> results =
+        config.isEnabled()
+            ? cache.getAll(cacheKeys)
+            : load(cacheKeys, loadFunction, batchLoadFunction);
+    return results.entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getKey().getResource(), Map.Entry::getValue));
+  }
+
+  private static Map<Key, UsageQueryResult> load(
+      @Nonnull Collection<? extends Key> keys,
+      @Nonnull Function<Key, UsageQueryResult> loadFunction,
+      @Nullable Function<List<Key>, Map<Key, UsageQueryResult>> batchLoadFunction) {
+    if (batchLoadFunction == null || keys.size() == 1) {
+      return keys.stream()
+          .map(k -> Map.entry(k, loadFunction.apply(k)))
+          .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+    Map<Key, UsageQueryResult> results = new HashMap<>();
+    keys.stream()
+        .collect(Collectors.groupingBy(k -> Arrays.asList(k.getContextId(), k.getRange())))
+        .values()
+        .forEach(
+            sameContextKeys ->
+                results.putAll(batchLoadFunction.apply(new ArrayList<>(sameContextKeys))));
+    return results;
+  }
+
   public static class UsageClientCacheBuilder {
 
     private UsageClientCacheBuilder cache(LoadingCache<Key, UsageQueryResult> cache) {
@@ -51,9 +101,10 @@ public class UsageClientCache {
       // batch loads data from usage client
       Function<Iterable<? extends Key>, Map<Key, UsageQueryResult>> loader =
           (Iterable<? extends Key> keys) ->
-              StreamSupport.stream(keys.spliterator(), false)
-                  .map(k -> Map.entry(k, loadFunction.apply(k)))
-                  .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+              load(
+                  StreamSupport.stream(keys.spliterator(), false).collect(Collectors.toList()),
+                  loadFunction,
+                  batchLoadFunction);
 
       // default ttl only
       BiFunction<UsageClientCacheConfig, Key, Integer> ttlSeconds =
@@ -67,7 +118,7 @@ public class UsageClientCache {
               .ttlSecondsFunction(ttlSeconds)
               .build(UsageClientCache.class);
 
-      return new UsageClientCache(config, cache, loadFunction);
+      return new UsageClientCache(config, cache, loadFunction, batchLoadFunction);
     }
   }
 
@@ -12,6 +12,7 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.StringArray;
 import com.linkedin.entity.AspectsDoGetTimeseriesAspectValuesRequestBuilder;
+import com.linkedin.entity.AspectsDoIngestProposalBatchRequestBuilder;
 import com.linkedin.entity.AspectsDoIngestProposalRequestBuilder;
 import com.linkedin.entity.AspectsGetRequestBuilder;
 import com.linkedin.entity.AspectsRequestBuilders;
@@ -67,6 +68,7 @@ import com.linkedin.metadata.search.LineageSearchResult;
 import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.MetadataChangeProposalArray;
 import com.linkedin.mxe.PlatformEvent;
 import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.parseq.retry.backoff.BackoffPolicy;
@@ -1024,6 +1026,24 @@ public class RestliEntityClient extends BaseClient implements EntityClient {
     return sendClientRequest(requestBuilder, opContext.getSessionAuthentication()).getEntity();
   }
 
+  /** Ingests all proposals with a single request, applied server side as one batch */
+  @Override
+  public List<String> batchIngestProposals(
+      @Nonnull OperationContext opContext,
+      @Nonnull final Collection<MetadataChangeProposal> metadataChangeProposals,
+      final boolean async)
+      throws RemoteInvocationException {
+    if (metadataChangeProposals.isEmpty()) {
+      return List.of();
+    }
+    final AspectsDoIngestProposalBatchRequestBuilder requestBuilder =
+        ASPECTS_REQUEST_BUILDERS
+            .actionIngestProposalBatch()
+            .proposalsParam(new MetadataChangeProposalArray(metadataChangeProposals))
+            .asyncParam(String.valueOf(async));
+    return sendClientRequest(requestBuilder, opContext.getSessionAuthentication()).getEntity();
+  }
+
   @Override
   public <T extends RecordTemplate> Optional<T> getVersionedAspect(
       @Nonnull OperationContext opContext,
@@ -25,6 +25,7 @@ import com.linkedin.restli.client.testutils.MockBatchEntityResponseFactory;
 import com.linkedin.restli.client.testutils.MockSuccessfulResponseFutureBuilder;
 import com.linkedin.restli.common.EntityResponse;
 import com.linkedin.restli.common.HttpStatus;
+import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.net.URISyntaxException;
 import java.util.Map;
@@ -180,6 +181,102 @@ public class SystemRestliEntityClientTest {
     verify(mockRestliClient, times(1)).sendRequest(any(Request.class));
   }
 
+  @Test
+  public void testCacheInvalidation() throws RemoteInvocationException, URISyntaxException {
+    Client mockRestliClient = mock(Client.class);
+
+    EntityClientCacheConfig cacheConfig = new EntityClientCacheConfig();
+    cacheConfig.setEnabled(true);
+    cacheConfig.setMaxBytes(100);
+    cacheConfig.setEntityAspectTTLSeconds(
+        Map.of(TEST_URN.getEntityType(), Map.of(Constants.STATUS_ASPECT_NAME, 60)));
+
+    SystemRestliEntityClient cacheTest =
+        new SystemRestliEntityClient(mockRestliClient, new ConstantBackoff(0), 0, cacheConfig, 1);
+
+    com.linkedin.entity.EntityResponse responseStatusTrue = buildStatusResponse(true);
+    com.linkedin.entity.EntityResponse responseStatusFalse = buildStatusResponse(false);
+
+    mockResponse(mockRestliClient, responseStatusTrue);
+    assertEquals(
+        cacheTest.getV2(
+            TestOperationContexts.systemContextNoSearchAuthorization(),
+            TEST_URN.getEntityType(),
+            TEST_URN,
+            Set.of(Constants.STATUS_ASPECT_NAME)),
+        responseStatusTrue,
+        "Expected initial un-cached Status.removed=true result");
+
+    // Other aspects do not affect the cached entry
+    cacheTest.getEntityClientCache().invalidate(TEST_URN, Set.of(Constants.OWNERSHIP_ASPECT_NAME));
+    mockResponse(mockRestliClient, responseStatusFalse);
+    assertEquals(
+        cacheTest.getV2(
+            TestOperationContexts.systemContextNoSearchAuthorization(),
+            TEST_URN.getEntityType(),
+            TEST_URN,
+            Set.of(Constants.STATUS_ASPECT_NAME)),
+        responseStatusTrue,
+        "Expected CACHED Status.removed=true result");
+
+    cacheTest.getEntityClientCache().invalidate(TEST_URN, Set.of(Constants.STATUS_ASPECT_NAME));
+    assertEquals(
+        cacheTest.getV2(
+            TestOperationContexts.systemContextNoSearchAuthorization(),
+            TEST_URN.getEntityType(),
+            TEST_URN,
+            Set.of(Constants.STATUS_ASPECT_NAME)),
+        responseStatusFalse,
+        "Expected re-fetched Status.removed=false result after invalidation");
+
+    verify(mockRestliClient, times(2)).sendRequest(any(Request.class));
+  }
+
+  @Test
+  public void testCacheInvalidationAcrossContexts()
+      throws RemoteInvocationException, URISyntaxException {
+    Client mockRestliClient = mock(Client.class);
+
+    EntityClientCacheConfig cacheConfig = new EntityClientCacheConfig();
+    cacheConfig.setEnabled(true);
+    cacheConfig.setMaxBytes(10000);
+    cacheConfig.setEntityAspectTTLSeconds(
+        Map.of(TEST_URN.getEntityType(), Map.of(Constants.STATUS_ASPECT_NAME, 60)));
+
+    SystemRestliEntityClient cacheTest =
+        new SystemRestliEntityClient(mockRestliClient, new ConstantBackoff(0), 0, cacheConfig, 1);
+    // Aspects are cached per actor
+    OperationContext firstActor =
+        TestOperationContexts.userContextNoSearchAuthorization(
+            UrnUtils.getUrn("urn:li:corpuser:first"));
+    OperationContext secondActor =
+        TestOperationContexts.userContextNoSearchAuthorization(
+            UrnUtils.getUrn("urn:li:corpuser:second"));
+
+    mockResponse(mockRestliClient, buildStatusResponse(true));
+    cacheTest.getV2(
+        firstActor, TEST_URN.getEntityType(), TEST_URN, Set.of(Constants.STATUS_ASPECT_NAME));
+    cacheTest.getV2(
+        secondActor, TEST_URN.getEntityType(), TEST_URN, Set.of(Constants.STATUS_ASPECT_NAME));
+    verify(mockRestliClient, times(2)).sendRequest(any(Request.class));
+
+    com.linkedin.entity.EntityResponse responseStatusFalse = buildStatusResponse(false);
+    mockResponse(mockRestliClient, responseStatusFalse);
+    cacheTest
+        .getEntityClientCache()
+        .invalidate(Map.of(TEST_URN, Set.of(Constants.STATUS_ASPECT_NAME)));
+
+    assertEquals(
+        cacheTest.getV2(
+            firstActor, TEST_URN.getEntityType(), TEST_URN, Set.of(Constants.STATUS_ASPECT_NAME)),
+        responseStatusFalse);
+    assertEquals(
+        cacheTest.getV2(
+            secondActor, TEST_URN.getEntityType(), TEST_URN, Set.of(Constants.STATUS_ASPECT_NAME)),
+        responseStatusFalse);
+    verify(mockRestliClient, times(4)).sendRequest(any(Request.class));
+  }
+
   private static com.linkedin.entity.EntityResponse buildStatusResponse(boolean value) {
     EnvelopedAspectMap aspects = new EnvelopedAspectMap();
     aspects.put(
@@ -19,6 +19,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.aspect.GetTimeseriesAspectValuesResponse;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringArray;
 import com.linkedin.metadata.aspect.EnvelopedAspectArray;
 import com.linkedin.metadata.aspect.VersionedAspect;
 import com.linkedin.metadata.authorization.Disjunctive;
@@ -27,6 +28,7 @@ import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.IngestResult;
 import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
 import com.linkedin.metadata.aspect.batch.AspectsBatch;
+import com.linkedin.metadata.aspect.batch.MCPItem;
 import com.linkedin.metadata.entity.validation.ValidationException;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
@@ -53,7 +55,10 @@ import io.datahubproject.metadata.context.RequestContext;
 import io.opentelemetry.extension.annotations.WithSpan;
 import java.net.URISyntaxException;
 import java.time.Clock;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -69,10 +74,12 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
 
   private static final String ACTION_GET_TIMESERIES_ASPECT = "getTimeseriesAspectValues";
   private static final String ACTION_INGEST_PROPOSAL = "ingestProposal";
+  private static final String ACTION_INGEST_PROPOSAL_BATCH = "ingestProposalBatch";
   private static final String ACTION_GET_COUNT = "getCount";
   private static final String PARAM_ENTITY = "entity";
   private static final String PARAM_ASPECT = "aspect";
   private static final String PARAM_PROPOSAL = "proposal";
+  private static final String PARAM_PROPOSALS = "proposals";
   private static final String PARAM_START_TIME_MILLIS = "startTimeMillis";
   private static final String PARAM_END_TIME_MILLIS = "endTimeMillis";
   private static final String PARAM_LATEST_VALUE = "latestValue";
@@ -279,8 +286,9 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
             java.util.Optional<IngestResult> one = results.stream().findFirst();
 
             // Update runIds, only works for existing documents, so ES document must exist
-            Urn resultUrn = one.map(IngestResult::getUrn).orElse(metadataChangeProposal.getEntityUrn());
-            if (one.map(result -> result.isProcessedMCL() || result.isUpdate()).orElse(false)) {
+            // Key based proposals have no entity urn, take it from the item built for the proposal
+            Urn resultUrn = batch.getMCPItems().get(0).getUrn();
+            if (one.map(IngestResult::shouldIndexRunId).orElse(false)) {
               tryIndexRunId(opContext,
                   resultUrn, metadataChangeProposal.getSystemMetadata(), entitySearchService);
             }
@@ -292,6 +300,91 @@ public class AspectResource extends CollectionResourceTaskTemplate<String, Versi
         MetricRegistry.name(this.getClass(), "ingestProposal"));
   }
 
+  /**
+   * Ingests a list of proposals as a single {@link AspectsBatch}, i.e. one transaction instead of
+   * one per proposal. Proposals are applied in list order and the resulting urns are returned in
+   * the same order.
+   */
+  @Action(name = ACTION_INGEST_PROPOSAL_BATCH)
+  @Nonnull
+  @WithSpan
+  public Task<StringArray> ingestProposalBatch(
+      @ActionParam(PARAM_PROPOSALS) @Nonnull MetadataChangeProposal[] metadataChangeProposals,
+      @ActionParam(PARAM_ASYNC) @Optional(UNSET) String async)
+      throws URISyntaxException {
+    log.info("INGEST PROPOSAL BATCH proposals: {}", metadataChangeProposals.length);
+
+    final boolean asyncBool;
+    if (UNSET.equals(async)) {
+      asyncBool = Boolean.parseBoolean(System.getenv(ASYNC_INGEST_DEFAULT_NAME));
+    } else {
+      asyncBool = Boolean.parseBoolean(async);
+    }
+
+    final List<MetadataChangeProposal> proposals = Arrays.asList(metadataChangeProposals);
+
+    Authentication authentication = AuthenticationContext.getAuthentication();
+      final OperationContext opContext = OperationContext.asSession(
+              systemOperationContext, RequestContext.builder().buildRestli(ACTION_INGEST_PROPOSAL_BATCH,
+                      proposals.stream().map(MetadataChangeProposal::getEntityType).collect(Collectors.toList())),
+              _authorizer, authentication, true);
+
+    /*
+      Ingest Authorization Checks
+     */
+     List<Pair<MetadataChangeProposal, Integer>> exceptions = isAPIAuthorized(authentication, _authorizer, ENTITY,
+             opContext.getEntityRegistry(), proposals)
+             .stream().filter(p -> p.getSecond() != HttpStatus.S_200_OK.getCode())
+             .collect(Collectors.toList());
+     if (!exceptions.isEmpty()) {
+         throw new RestLiServiceException(
+                 HttpStatus.S_403_FORBIDDEN, "User is unauthorized to modify entity: " + exceptions.stream()
+                 .map(ex -> String.format("HttpStatus: %s Urn: %s", ex.getSecond(), ex.getFirst().getEntityUrn()))
+                 .collect(Collectors.toList()));
+     }
+
+    String actorUrnStr = authentication.getActor().toUrnStr();
+    final AuditStamp auditStamp =
+        new AuditStamp().setTime(_clock.millis()).setActor(Urn.createFromString(actorUrnStr));
+
+    return RestliUtil.toTask(() -> {
+      try {
+        final AspectsBatch batch = AspectsBatchImpl.builder()
+                .mcps(proposals, auditStamp, opContext.getRetrieverContext().get())
+                .build();
+
+        Set<IngestResult> results =
+                _entityService.ingestProposal(opContext, batch, asyncBool);
+
+        // Key based proposals have no entity urn, take it from the item built for the proposal
+        final Map<MetadataChangeProposal, Urn> urnByProposal = new IdentityHashMap<>();
+        batch.getMCPItems()
+            .forEach(item -> urnByProposal.put(item.getMetadataChangeProposal(), item.getUrn()));
+
+        // Map results back to the proposal which produced them to preserve request order
+        final Map<MetadataChangeProposal, IngestResult> resultByProposal = new IdentityHashMap<>();
+        results.stream()
+            .filter(result -> result.getRequest() instanceof MCPItem)
+            .forEach(result -> resultByProposal.putIfAbsent(
+                ((MCPItem) result.getRequest()).getMetadataChangeProposal(), result));
+
+        final StringArray urns = new StringArray();
+        for (MetadataChangeProposal proposal : proposals) {
+          final Urn resultUrn = urnByProposal.get(proposal);
+          final IngestResult result = resultByProposal.get(proposal);
+          if (result != null && result.shouldIndexRunId()) {
+            tryIndexRunId(opContext, resultUrn, proposal.getSystemMetadata(), entitySearchService);
+          }
+          urns.add(resultUrn.toString());
+        }
+        return urns;
+      } catch (ValidationException e) {
+        throw new RestLiServiceException(HttpStatus.S_422_UNPROCESSABLE_ENTITY, e.getMessage());
+      }
+    },
+    MetricRegistry.name(this.getClass(), "ingestProposalBatch"));
+  }
+
   @Action(name = ACTION_GET_COUNT)
   @Nonnull
   @WithSpan
@@ -36,6 +36,7 @@ import com.linkedin.mxe.SystemMetadata;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import mock.MockEntityRegistry;
+import org.mockito.InOrder;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
@@ -136,4 +137,74 @@ public class AspectResourceTest {
         .produceMetadataChangeLog(eq(urn), any(AspectSpec.class), any(MetadataChangeLog.class));
     verifyNoMoreInteractions(producer);
   }
+
+  @Test
+  public void testIngestProposalBatch() throws URISyntaxException {
+    Urn urn1 = new DatasetUrn(new DataPlatformUrn("platform"), "name1", FabricType.PROD);
+    Urn urn2 = new DatasetUrn(new DataPlatformUrn("platform"), "name2", FabricType.PROD);
+    MetadataChangeProposal mcp1 = datasetPropertiesProposal(urn1, "name1");
+    MetadataChangeProposal mcp2 = datasetPropertiesProposal(urn2, "name2");
+
+    Authentication mockAuthentication = mock(Authentication.class);
+    AuthenticationContext.setAuthentication(mockAuthentication);
+    Actor actor = new Actor(ActorType.USER, "user");
+    when(mockAuthentication.getActor()).thenReturn(actor);
+
+    // Async: every proposal is forwarded in request order, nothing is written
+    reset(producer, aspectDao);
+    aspectResource.ingestProposalBatch(new MetadataChangeProposal[] {mcp1, mcp2}, "true");
+    InOrder inOrder = inOrder(producer);
+    inOrder.verify(producer).produceMetadataChangeProposal(urn1, mcp1);
+    inOrder.verify(producer).produceMetadataChangeProposal(urn2, mcp2);
+    verifyNoMoreInteractions(producer);
+    verifyNoMoreInteractions(aspectDao);
+
+    // Sync: both proposals are written in a single transaction
+    reset(producer, aspectDao);
+    ChangeItemImpl req1 = changeItem(urn1, mcp1);
+    ChangeItemImpl req2 = changeItem(urn2, mcp2);
+    when(aspectDao.runInTransactionWithRetry(any(), any(), anyInt()))
+        .thenReturn(
+            List.of(List.of(
+                UpdateAspectResult.builder()
+                    .urn(urn1)
+                    .newValue(new DatasetProperties().setName("name1"))
+                    .auditStamp(new AuditStamp())
+                    .request(req1)
+                    .build(),
+                UpdateAspectResult.builder()
+                    .urn(urn2)
+                    .newValue(new DatasetProperties().setName("name2"))
+                    .auditStamp(new AuditStamp())
+                    .request(req2)
+                    .build())));
+    aspectResource.ingestProposalBatch(new MetadataChangeProposal[] {mcp1, mcp2}, "false");
+    verify(aspectDao, times(1)).runInTransactionWithRetry(any(), any(), anyInt());
+    verify(producer, times(1))
+        .produceMetadataChangeLog(eq(urn1), any(AspectSpec.class), any(MetadataChangeLog.class));
+    verify(producer, times(1))
+        .produceMetadataChangeLog(eq(urn2), any(AspectSpec.class), any(MetadataChangeLog.class));
+    verifyNoMoreInteractions(producer);
+  }
+
+  private static MetadataChangeProposal datasetPropertiesProposal(Urn urn, String name) {
+    MetadataChangeProposal mcp = new MetadataChangeProposal();
+    mcp.setEntityType(DATASET_ENTITY_NAME);
+    mcp.setEntityUrn(urn);
+    mcp.setAspect(GenericRecordUtils.serializeAspect(new DatasetProperties().setName(name)));
+    mcp.setAspectName(DATASET_PROPERTIES_ASPECT_NAME);
+    mcp.setChangeType(ChangeType.UPSERT);
+    mcp.setSystemMetadata(new SystemMetadata());
+    return mcp;
+  }
+
+  private ChangeItemImpl changeItem(Urn urn, MetadataChangeProposal mcp) {
+    return ChangeItemImpl.builder()
+        .urn(urn)
+        .aspectName(mcp.getAspectName())
+        .recordTemplate(mcp.getAspect())
+        .auditStamp(new AuditStamp())
+        .metadataChangeProposal(mcp)
+        .build(opContext.getRetrieverContext().get().getAspectRetriever());
+  }
 }
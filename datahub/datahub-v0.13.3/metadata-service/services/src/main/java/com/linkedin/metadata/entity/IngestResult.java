@@ -15,4 +15,12 @@ public class IngestResult {
   boolean publishedMCP;
   boolean sqlCommitted;
   boolean isUpdate; // update else insert
+
+  /**
+   * Whether the run id of the proposal should be appended to the search document of the entity,
+   * which only works for existing documents, so ES document must exist.
+   */
+  public boolean shouldIndexRunId() {
+    return processedMCL || isUpdate;
+  }
 }
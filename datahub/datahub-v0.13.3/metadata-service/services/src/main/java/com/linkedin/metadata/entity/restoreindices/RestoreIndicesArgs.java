@@ -1,6 +1,7 @@
 package com.linkedin.metadata.entity.restoreindices;
 
 import java.time.Instant;
+import java.util.List;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
@@ -20,11 +21,15 @@ public class RestoreIndicesArgs implements Cloneable {
   public long gePitEpochMs = DEFAULT_GE_PIT_EPOCH_MS;
   public long lePitEpochMs;
   public String aspectName;
+  // Restricts a scan to any of these aspects, in addition to aspectName
+  public List<String> aspectNames;
   public String urn;
   public String urnLike;
   public Boolean urnBasedPagination = false;
   public String lastUrn = "";
   public String lastAspect = "";
+  // Exclusive upper bound on urn, used to restrict a scan to one range of the urn keyspace
+  public String urnUpperBound;
 
   @Override
   public RestoreIndicesArgs clone() {
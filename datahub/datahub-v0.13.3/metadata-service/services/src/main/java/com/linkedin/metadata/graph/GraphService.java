@@ -11,6 +11,7 @@ import com.linkedin.metadata.query.filter.RelationshipFilter;
 import com.linkedin.metadata.search.utils.QueryUtils;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,34 @@ public interface GraphService extends GraphRetriever {
    */
   void removeEdge(final Edge edge);
 
+  /**
+   * Adds a batch of edges to the graph, see {@link #addEdge(Edge)}. Implementations may write the
+   * whole batch in fewer round trips than adding the edges one at a time.
+   *
+   * @param edges the edges to add
+   */
+  default void addEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::addEdge);
+  }
+
+  /**
+   * Adds or updates a batch of edges, see {@link #upsertEdge(Edge)}.
+   *
+   * @param edges the edges to add or update
+   */
+  default void upsertEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::upsertEdge);
+  }
+
+  /**
+   * Removes a batch of edges from the graph, see {@link #removeEdge(Edge)}.
+   *
+   * @param edges the edges to delete
+   */
+  default void removeEdges(@Nonnull final Collection<Edge> edges) {
+    edges.forEach(this::removeEdge);
+  }
+
   /**
    * Find related entities (nodes) connected to a source entity via edges of given relationship
    * types. Related entities can be filtered by source and destination type (use `null` for any